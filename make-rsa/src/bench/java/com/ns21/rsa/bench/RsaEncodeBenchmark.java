@@ -0,0 +1,191 @@
+package com.ns21.rsa.bench;
+
+import com.ns21.common.enums.j2735.J2735MessageID;
+import com.ns21.common.mist.codec.J2735Encoder;
+import com.ns21.common.mist.codec.JsonToJ2735;
+import com.ns21.common.mist.parser.MetaDataExtracting;
+import com.ns21.common.util.ASN1CoderFactory;
+import com.ns21.common.util.ConvertUtil;
+import com.ns21.common.util.PoseKernels;
+import com.ns21.rsa.creator.RsaBenchMessages;
+import com.ns21.rsa.creator.RsaBerPatcher;
+import com.ns21.rsa.creator.RsaFields;
+import com.ns21.rsa.creator.RsaFrameBuilder;
+import com.ns21.rsa.creator.RsaFrameTemplate;
+import com.ns21.rsa.creator.RsaValueCreator;
+import dsrc.dsrc.MessageFrame;
+import io.vertx.core.json.JsonObject;
+
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * packageName    : com.ns21.rsa.bench
+ * fileName       : RsaEncodeBenchmark.java
+ * author         : kjg08
+ * date           : 2026-10-18
+ * description    :RSA 생성+BER 인코딩 처리량 비교 (JSON 메시지 → JsonObject → OSS JSON 코더 경로 vs MessageFrame 직접 구성 경로 vs 템플릿 재사용 경로 vs 참조 BER 패치 경로(16진수 문자열) vs 참조 BER 패치 경로(ByteBuffer 재사용, 16진수 없음))
+ *                 MessageFrame 구성 단계의 메시지당 할당 바이트(직접 구성 vs 템플릿)도 함께 출력
+ *                 실행: gradle :make-rsa:bench -PbenchMain=com.ns21.rsa.bench.RsaEncodeBenchmark [-PbenchArgs=rounds]
+ *                 경로별 결과가 같은지는 RsaFrameBuilderTest 에서 확인
+ *                 JsonToJ2735 는 메시지마다 INFO 로그를 남기므로 로그 레벨을 WARN 이상으로 두고 측정
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18        kjg08           최초 생성
+ * 2026-10-18        kjg08           템플릿 경로, 구성 단계 할당량 측정 추가
+ * 2026-10-18        kjg08           참조 BER 패치 경로 추가
+ * 2026-10-18        kjg08           coder 재사용 hit/miss 출력
+ * 2026-10-18        kjg08           ByteBuffer 출력 경로 추가
+ * 2026-10-18        kjg08           좌표 변환 캐시 집계 출력
+ * 2026-10-18        kjg08           bench source set 으로 이동
+ * 2026-10-18        kjg08           MessageFrame 경로를 RsaBenchMessages 에서 생성
+ * 2026-10-18        kjg08           공유 msgCnt 경로 대신 firstMsgCnt 0 부터 생성
+ * 2026-10-18        kjg08           좌표 변환 캐시 집계 대신 선택된 pose kernel 출력
+ */
+public class RsaEncodeBenchmark {
+    private static final int DEFAULT_ROUNDS = 5;
+
+    public static void main(String[] args) throws Exception {
+        int rounds = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ROUNDS;
+        new MetaDataExtracting().processFiles().join();
+
+        // 첫 라운드는 워밍업으로 결과에서 제외
+        long[] json = new long[2];
+        long[] direct = new long[2];
+        long[] template = new long[2];
+        long[] patch = new long[2];
+        long[] buffer = new long[2];
+        for (int round = 0; round <= rounds; round++) {
+            long[] jsonRound = runJsonPath();
+            long[] directRound = runFramePath(RsaBenchMessages.frameIterator(0));
+            long[] templateRound = runFramePath(RsaBenchMessages.templateFrameIterator(0));
+            long[] patchRound = runPatchPath();
+            long[] bufferRound = runBufferPath();
+            if (round == 0) {
+                continue;
+            }
+            add(json, jsonRound);
+            add(direct, directRound);
+            add(template, templateRound);
+            add(patch, patchRound);
+            add(buffer, bufferRound);
+            System.out.printf("round %d: json %.0f msg/s, direct %.0f msg/s, template %.0f msg/s, patch %.0f msg/s, buffer %.0f msg/s%n",
+                    round, rate(jsonRound), rate(directRound), rate(templateRound), rate(patchRound), rate(bufferRound));
+        }
+        System.out.printf("json     : %d messages, %.0f msg/s%n", json[0], rate(json));
+        System.out.printf("direct   : %d messages, %.0f msg/s (x%.1f)%n", direct[0], rate(direct), rate(direct) / rate(json));
+        System.out.printf("template : %d messages, %.0f msg/s (x%.1f)%n", template[0], rate(template), rate(template) / rate(json));
+        System.out.printf("patch    : %d messages, %.0f msg/s (x%.1f)%n", patch[0], rate(patch), rate(patch) / rate(json));
+        System.out.printf("buffer   : %d messages, %.0f msg/s (x%.1f)%n", buffer[0], rate(buffer), rate(buffer) / rate(json));
+        RsaBerPatcher patcher = RsaBerPatcher.forCurrentThread();
+        System.out.printf("patch    : patched %d, full encode %d%n", patcher.getPatched(), patcher.getEncoded());
+        System.out.println("coders   : " + ASN1CoderFactory.report());
+        System.out.println("pose     : " + PoseKernels.get().name());
+
+        // MessageFrame 구성 단계만의 메시지당 할당량
+        List<RsaFields> fields = new ArrayList<>();
+        RsaValueCreator.rsaFieldsIterator(0).forEachRemaining(fields::add);
+        for (int i = 0; i < 3; i++) {
+            buildAllocation(fields, false);
+            buildAllocation(fields, true);
+        }
+        System.out.printf("build allocation: direct %.1f B/msg, template %.1f B/msg%n",
+                buildAllocation(fields, false), buildAllocation(fields, true));
+    }
+
+    private static double buildAllocation(List<RsaFields> fields, boolean useTemplate) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        RsaFrameTemplate template = RsaFrameTemplate.forCurrentThread();
+        long checksum = 0;
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (RsaFields f : fields) {
+            MessageFrame frame = useTemplate ? template.fill(f) : RsaFrameBuilder.build(f);
+            checksum += System.identityHashCode(frame) & 1;
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+        if (checksum < 0) {
+            throw new IllegalStateException();
+        }
+        return (double) allocated / Math.max(1, fields.size());
+    }
+
+    private static void add(long[] total, long[] round) {
+        total[0] += round[0];
+        total[1] += round[1];
+    }
+
+    // 기존 경로: Jackson JSON → Vert.x JsonObject 래핑 → OSS JSON 디코딩 → BER
+    private static long[] runJsonPath() throws Exception {
+        long start = System.nanoTime();
+        long count = 0;
+        long checksum = 0;
+        Iterator<String> messages = RsaBenchMessages.jsonIterator(0);
+        while (messages.hasNext()) {
+            JsonObject frame = new JsonObject();
+            frame.put("messageId", J2735MessageID.RSA.getId());
+            frame.put("value", new JsonObject(messages.next()));
+            checksum += JsonToJ2735.convertToJ2735(frame.toString()).length();
+            count++;
+        }
+        return result(count, System.nanoTime() - start, checksum);
+    }
+
+    // 직접 구성/템플릿 경로: MessageFrame → BER
+    private static long[] runFramePath(Iterator<MessageFrame> frames) throws Exception {
+        long start = System.nanoTime();
+        long count = 0;
+        long checksum = 0;
+        while (frames.hasNext()) {
+            checksum += J2735Encoder.encodeToHex(frames.next()).length();
+            count++;
+        }
+        return result(count, System.nanoTime() - start, checksum);
+    }
+
+    // 참조 BER 패치 경로: RsaFields → 참조 바이트 복사 후 값 덮어쓰기 (모양이 다르면 전체 인코딩)
+    private static long[] runPatchPath() throws Exception {
+        long start = System.nanoTime();
+        long count = 0;
+        long checksum = 0;
+        RsaBerPatcher patcher = RsaBerPatcher.forCurrentThread();
+        Iterator<RsaFields> fields = RsaValueCreator.rsaFieldsIterator(0);
+        while (fields.hasNext()) {
+            checksum += ConvertUtil.bytesToHexString(patcher.encode(fields.next())).length();
+            count++;
+        }
+        return result(count, System.nanoTime() - start, checksum);
+    }
+
+    // 참조 BER 패치 경로를 재사용 ByteBuffer 에 바로 기록 (16진수 변환 없음)
+    private static long[] runBufferPath() throws Exception {
+        long start = System.nanoTime();
+        long count = 0;
+        long checksum = 0;
+        RsaBerPatcher patcher = RsaBerPatcher.forCurrentThread();
+        ByteBuffer out = ByteBuffer.allocate(1024);
+        Iterator<RsaFields> fields = RsaValueCreator.rsaFieldsIterator(0);
+        while (fields.hasNext()) {
+            out.clear();
+            checksum += patcher.encode(fields.next(), out);
+            count++;
+        }
+        return result(count, System.nanoTime() - start, checksum);
+    }
+
+    private static long[] result(long count, long nanos, long checksum) {
+        // checksum 을 사용해 인코딩 결과가 최적화로 제거되지 않도록 함
+        if (checksum == 0 && count > 0) {
+            throw new IllegalStateException("empty encoding result");
+        }
+        return new long[]{count, nanos};
+    }
+
+    private static double rate(long[] countAndNanos) {
+        return countAndNanos[0] * 1_000_000_000.0 / Math.max(1, countAndNanos[1]);
+    }
+}
@@ -0,0 +1,102 @@
+package com.ns21.rsa.bench;
+
+import com.ns21.common.mist.parser.MetaDataExtracting;
+import com.ns21.rsa.creator.RsaBerPatcher;
+import com.ns21.rsa.creator.RsaFields;
+import com.ns21.rsa.creator.RsaValueCreator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * packageName    : com.ns21.rsa.bench
+ * fileName       : RsaParallelBenchmark.java
+ * author         : kjg08
+ * date           : 2026-10-18
+ * description    :순차 생성(rsaFieldsIterator + RsaBerPatcher)과 ForkJoinPool 병렬 생성(createRsaFramesParallel)의 처리 시간 비교
+ *                 병렬 결과가 순차 결과와 같은 바이트인지 매 라운드 확인 (두 경로 모두 msgCnt 0 부터 따로 세는 stream 으로 비교)
+ *                 실행: gradle :make-rsa:bench -PbenchMain=com.ns21.rsa.bench.RsaParallelBenchmark [-PbenchArgs="rounds maxThreads"]
+ *                 고정 데이터로 같은 결과인지는 RsaValueCreatorTest 에서 확인
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18        kjg08           최초 생성
+ * 2026-10-18        kjg08           bench source set 으로 이동
+ */
+public class RsaParallelBenchmark {
+    private static final int DEFAULT_ROUNDS = 5;
+
+    public static void main(String[] args) throws Exception {
+        int rounds = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ROUNDS;
+        int maxThreads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        new MetaDataExtracting().processFiles().join();
+
+        List<Integer> threadCounts = new ArrayList<>();
+        for (int threads = 1; threads <= maxThreads; threads *= 2) {
+            threadCounts.add(threads);
+        }
+        if (threadCounts.get(threadCounts.size() - 1) != maxThreads) {
+            threadCounts.add(maxThreads);
+        }
+
+        long sequentialNanos = 0;
+        long[] parallelNanos = new long[threadCounts.size()];
+        // 첫 라운드는 워밍업으로 결과에서 제외
+        for (int round = 0; round <= rounds; round++) {
+            long start = System.nanoTime();
+            List<byte[]> expected = runSequential();
+            long sequential = System.nanoTime() - start;
+
+            StringBuilder line = new StringBuilder(String.format("round %d: sequential %.1f ms", round, sequential / 1e6));
+            for (int i = 0; i < threadCounts.size(); i++) {
+                ForkJoinPool pool = new ForkJoinPool(threadCounts.get(i));
+                try {
+                    start = System.nanoTime();
+                    List<byte[]> actual = RsaValueCreator.createRsaFramesParallel(pool, 0);
+                    long parallel = System.nanoTime() - start;
+                    verify(expected, actual);
+                    if (round > 0) {
+                        parallelNanos[i] += parallel;
+                    }
+                    line.append(String.format(", %d threads %.1f ms", threadCounts.get(i), parallel / 1e6));
+                } finally {
+                    pool.shutdown();
+                }
+            }
+            if (round > 0) {
+                sequentialNanos += sequential;
+                System.out.println(line);
+            }
+        }
+
+        System.out.printf("sequential   : %.1f ms/round%n", sequentialNanos / 1e6 / rounds);
+        for (int i = 0; i < threadCounts.size(); i++) {
+            System.out.printf("%2d threads   : %.1f ms/round (x%.2f)%n", threadCounts.get(i),
+                    parallelNanos[i] / 1e6 / rounds, (double) sequentialNanos / Math.max(1, parallelNanos[i]));
+        }
+    }
+
+    private static List<byte[]> runSequential() throws Exception {
+        List<byte[]> frames = new ArrayList<>();
+        RsaBerPatcher patcher = RsaBerPatcher.forCurrentThread();
+        Iterator<RsaFields> fields = RsaValueCreator.rsaFieldsIterator(0);
+        while (fields.hasNext()) {
+            frames.add(patcher.encode(fields.next()));
+        }
+        return frames;
+    }
+
+    private static void verify(List<byte[]> expected, List<byte[]> actual) {
+        if (expected.size() != actual.size()) {
+            throw new IllegalStateException("message count mismatch: " + expected.size() + " vs " + actual.size());
+        }
+        for (int i = 0; i < expected.size(); i++) {
+            if (!Arrays.equals(expected.get(i), actual.get(i))) {
+                throw new IllegalStateException("message " + i + " differs from sequential output");
+            }
+        }
+    }
+}
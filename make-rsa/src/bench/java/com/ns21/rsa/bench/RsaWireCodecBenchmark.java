@@ -0,0 +1,95 @@
+package com.ns21.rsa.bench;
+
+import com.ns21.common.enums.j2735.CODER_TYPE;
+import com.ns21.common.mist.codec.J2735Codec;
+import com.ns21.common.mist.parser.MetaDataExtracting;
+import com.ns21.rsa.creator.RsaFields;
+import com.ns21.rsa.creator.RsaFrameTemplate;
+import com.ns21.rsa.creator.RsaValueCreator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * packageName    : com.ns21.rsa.bench
+ * fileName       : RsaWireCodecBenchmark.java
+ * author         : kjg08
+ * date           : 2026-10-18
+ * description    :RSA MessageFrame 의 BER/UPER 전송 형식 비교
+ *                 모든 메시지에 대해 UPER → MessageFrame → BER 과 BER → MessageFrame → UPER 왕복 결과가 직접 인코딩한 결과와 같은지 확인하고
+ *                 메시지당 평균 크기와 형식별 인코딩 처리량을 출력
+ *                 실행: gradle :make-rsa:bench -PbenchMain=com.ns21.rsa.bench.RsaWireCodecBenchmark [-PbenchArgs=rounds]
+ *                 고정 데이터로 같은 결과인지는 RsaWireCodecTest 에서 확인
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18        kjg08           최초 생성
+ * 2026-10-18        kjg08           bench source set 으로 이동
+ */
+public class RsaWireCodecBenchmark {
+    private static final int DEFAULT_ROUNDS = 5;
+
+    public static void main(String[] args) throws Exception {
+        int rounds = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ROUNDS;
+        new MetaDataExtracting().processFiles().join();
+
+        List<RsaFields> fields = new ArrayList<>();
+        RsaValueCreator.rsaFieldsIterator(0).forEachRemaining(fields::add);
+
+        // 왕복 확인
+        long berBytes = 0;
+        long uperBytes = 0;
+        RsaFrameTemplate template = RsaFrameTemplate.forCurrentThread();
+        for (int i = 0; i < fields.size(); i++) {
+            byte[] ber = J2735Codec.encode(template.fill(fields.get(i)), CODER_TYPE.BER);
+            byte[] uper = J2735Codec.encode(template.fill(fields.get(i)), CODER_TYPE.UPER);
+            if (!Arrays.equals(ber, J2735Codec.transcode(uper, CODER_TYPE.UPER, CODER_TYPE.BER))) {
+                throw new IllegalStateException("message " + i + ": UPER round trip differs from BER");
+            }
+            if (!Arrays.equals(uper, J2735Codec.transcode(ber, CODER_TYPE.BER, CODER_TYPE.UPER))) {
+                throw new IllegalStateException("message " + i + ": BER round trip differs from UPER");
+            }
+            berBytes += ber.length;
+            uperBytes += uper.length;
+        }
+        System.out.printf("round trip: %d messages OK%n", fields.size());
+        System.out.printf("size      : BER %.1f B/msg, UPER %.1f B/msg (%.0f%%)%n",
+                (double) berBytes / fields.size(), (double) uperBytes / fields.size(), 100.0 * uperBytes / berBytes);
+
+        // 첫 라운드는 워밍업으로 결과에서 제외
+        long berNanos = 0;
+        long uperNanos = 0;
+        for (int round = 0; round <= rounds; round++) {
+            long ber = encodeAll(fields, CODER_TYPE.BER);
+            long uper = encodeAll(fields, CODER_TYPE.UPER);
+            if (round > 0) {
+                berNanos += ber;
+                uperNanos += uper;
+                System.out.printf("round %d: BER %.0f msg/s, UPER %.0f msg/s%n", round,
+                        rate(fields.size(), ber), rate(fields.size(), uper));
+            }
+        }
+        System.out.printf("BER       : %.0f msg/s%n", rate((long) fields.size() * rounds, berNanos));
+        System.out.printf("UPER      : %.0f msg/s%n", rate((long) fields.size() * rounds, uperNanos));
+    }
+
+    private static long encodeAll(List<RsaFields> fields, CODER_TYPE type) throws Exception {
+        RsaFrameTemplate template = RsaFrameTemplate.forCurrentThread();
+        long checksum = 0;
+        long start = System.nanoTime();
+        for (RsaFields f : fields) {
+            checksum += J2735Codec.encode(template.fill(f), type).length;
+        }
+        long nanos = System.nanoTime() - start;
+        // checksum 을 사용해 인코딩 결과가 최적화로 제거되지 않도록 함
+        if (checksum == 0 && !fields.isEmpty()) {
+            throw new IllegalStateException("empty encoding result");
+        }
+        return nanos;
+    }
+
+    private static double rate(long count, long nanos) {
+        return count * 1_000_000_000.0 / Math.max(1, nanos);
+    }
+}
@@ -0,0 +1,81 @@
+package com.ns21.rsa.creator;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dsrc.dsrc.MessageFrame;
+
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+
+/**
+ * packageName    : com.ns21.rsa.creator
+ * fileName       : RsaBenchMessages.java
+ * author         : kjg08
+ * date           : 2026-10-18
+ * description    :처리량 측정용 메시지 생성 경로 (RsaValueCreator.rsaFieldsIterator 의 값을 경로별 형태로 변환)
+ *                 배포 jar 에는 포함되지 않음
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18        kjg08           최초 생성
+ * 2026-10-18        kjg08           RsaValueCreator 에서 옮긴 JSON 메시지 iterator 추가
+ */
+public final class RsaBenchMessages {
+    private RsaBenchMessages() {
+    }
+
+    /**
+     * 이전 전송 경로와 같은 RSA 메시지 JSON 문자열(MessageFrame 의 value)을 하나씩 만드는 iterator 입니다.
+     * 직렬화 실패는 {@link UncheckedIOException} 으로 전달됩니다.
+     */
+    public static Iterator<String> jsonIterator(int firstMsgCnt) {
+        ObjectMapper mapper = new ObjectMapper();
+        Iterator<RsaFields> fields = RsaValueCreator.rsaFieldsIterator(firstMsgCnt);
+        return new Iterator<String>() {
+            @Override
+            public boolean hasNext() {
+                return fields.hasNext();
+            }
+
+            @Override
+            public String next() {
+                try {
+                    return mapper.writeValueAsString(RsaValueCreator.toJsonMap(fields.next()));
+                } catch (JsonProcessingException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
+    }
+
+    /**
+     * JSON 을 거치지 않고 ASN.1 MessageFrame 을 메시지마다 새로 구성하는 iterator 입니다.
+     */
+    public static Iterator<MessageFrame> frameIterator(int firstMsgCnt) {
+        return map(RsaValueCreator.rsaFieldsIterator(firstMsgCnt), false);
+    }
+
+    /**
+     * 현재 스레드의 {@link RsaFrameTemplate} 을 덮어써서 만든 MessageFrame 을 반환하는 iterator 입니다.
+     * 매번 같은 인스턴스를 반환하므로 다음 hasNext/next 호출 전에 인코딩을 끝내야 하며, 한 스레드에서만 소비해야 합니다.
+     */
+    public static Iterator<MessageFrame> templateFrameIterator(int firstMsgCnt) {
+        return map(RsaValueCreator.rsaFieldsIterator(firstMsgCnt), true);
+    }
+
+    private static Iterator<MessageFrame> map(Iterator<RsaFields> fields, boolean useTemplate) {
+        RsaFrameTemplate template = useTemplate ? RsaFrameTemplate.forCurrentThread() : null;
+        return new Iterator<MessageFrame>() {
+            @Override
+            public boolean hasNext() {
+                return fields.hasNext();
+            }
+
+            @Override
+            public MessageFrame next() {
+                RsaFields next = fields.next();
+                return template != null ? template.fill(next) : RsaFrameBuilder.build(next);
+            }
+        };
+    }
+}
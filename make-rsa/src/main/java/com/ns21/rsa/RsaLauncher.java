@@ -11,10 +11,14 @@ import org.slf4j.LoggerFactory;
  * author         : kjg08
  * date           : 2023-11-17
  * description    :Vert.x 프레임워크를 사용하는 런처 클래스(애플리케이션의 진입점)
+ *                 실행: java --add-modules jdk.incubator.vector -cp <classpath> com.ns21.rsa.RsaLauncher
+ *                 --add-modules 를 주면 ego pose 위경도 일괄 변환에 Vector API 구현(VectorPoseKernel)을 사용하고, 없으면 스칼라 구현
+ *                 -Dmsit.vector=false 로 스칼라 구현을 강제 (선택된 구현은 시작 시 "Pose kernel" 로그로 확인)
  * ===========================================================
  * DATE              AUTHOR             NOTE
  * -----------------------------------------------------------
  * 2023-11-17        kjg08           최초 생성
+ * 2026-10-18        kjg08           Vector API 실행 옵션 설명 추가
  */
 public class RsaLauncher {
     private static final Logger logger = LoggerFactory.getLogger(RsaLauncher.class);
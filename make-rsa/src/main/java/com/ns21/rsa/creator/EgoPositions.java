@@ -0,0 +1,82 @@
+package com.ns21.rsa.creator;
+
+import com.ns21.common.mist.parser.PoseTable;
+import com.ns21.common.util.PoseKernel;
+import com.ns21.common.util.PoseKernels;
+import com.ns21.common.util.UtmProjection;
+
+/**
+ * packageName    : com.ns21.rsa.creator
+ * fileName       : EgoPositions.java
+ * author         : kjg08
+ * date           : 2026-10-18
+ * description    :ego pose 행별 위경고도 미리 계산 (translation 열 전체를 PoseKernel 로 한 번에 변환, 메시지마다 다시 변환하지 않음)
+ *                 CoordinateConverter.utmToLatLon 과 같이 x/y 를 mm 로 반올림한 뒤 변환하고 고도는 소수점 이하를 버림
+ *                 스칼라 구현이면 CoordinateConverter 와 같은 값, Vector API 구현은 1e-7 도 버림 경계에서 드물게 1 차이 (VectorPoseKernel)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18        kjg08           최초 생성
+ */
+final class EgoPositions {
+    // CoordinateConverter 와 같은 좌표 반올림 (소수점 3자리, mm)
+    private static final double SCALE = 1000.0;
+
+    private final PoseTable egoPoses;
+    private final long[] lat;
+    private final long[] lon;
+    private final long[] elevation;
+
+    private EgoPositions(PoseTable egoPoses, int zone, PoseKernel kernel) {
+        this.egoPoses = egoPoses;
+        int n = egoPoses.size();
+        double[] x = new double[n];
+        double[] y = new double[n];
+        elevation = new long[n];
+        for (int row = 0; row < n; row++) {
+            if (egoPoses.hasTranslation(row)) {
+                x[row] = Math.round(egoPoses.x(row) * SCALE) / SCALE;
+                y[row] = Math.round(egoPoses.y(row) * SCALE) / SCALE;
+                elevation[row] = (long) egoPoses.z(row);
+            } else {
+                x[row] = Double.NaN;
+                y[row] = Double.NaN;
+            }
+        }
+        lat = new long[n];
+        lon = new long[n];
+        kernel.utmToLatLon(UtmProjection.zone(zone), x, y, n, lat, lon);
+    }
+
+    /**
+     * 시작 시 선택된 PoseKernel ({@link PoseKernels#get()}) 로 변환합니다.
+     */
+    static EgoPositions of(PoseTable egoPoses, int zone) {
+        return new EgoPositions(egoPoses, zone, PoseKernels.get());
+    }
+
+    static EgoPositions of(PoseTable egoPoses, int zone, PoseKernel kernel) {
+        return new EgoPositions(egoPoses, zone, kernel);
+    }
+
+    /**
+     * ego pose uuid 대리키의 행 번호 (PoseTable.rowOf)
+     */
+    int rowOf(int id) {
+        return egoPoses.rowOf(id);
+    }
+
+    /**
+     * translation 이 있는 행인지, row 가 PoseTable.NO_ROW 이면 false
+     */
+    boolean hasPosition(int row) {
+        return row != PoseTable.NO_ROW && egoPoses.hasTranslation(row);
+    }
+
+    /**
+     * [위도, 경도, 고도] (위경도는 1e-7 도 단위, CoordinateConverter.utmToLatLon 과 같은 형식)
+     */
+    long[] latLonElevation(int row) {
+        return new long[]{lat[row], lon[row], elevation[row]};
+    }
+}
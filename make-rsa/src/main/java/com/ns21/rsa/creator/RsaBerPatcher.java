@@ -0,0 +1,381 @@
+package com.ns21.rsa.creator;
+
+import com.ns21.common.exception.JsonToJ2735Exception;
+import com.ns21.common.mist.codec.J2735Encoder;
+import lombok.Getter;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * packageName    : com.ns21.rsa.creator
+ * fileName       : RsaBerPatcher.java
+ * author         : kjg08
+ * date           : 2026-10-18
+ * description    :RSA MessageFrame BER 인코딩 fast path
+ *                 한 번 전체 인코딩한 참조 메시지에서 가변 필드의 내용 위치를 기록해 두고, 이후 메시지는 참조 바이트를 복사해 값만 덮어씀
+ *                 BER 은 INTEGER/문자열 길이가 값에 따라 바뀌므로 모든 가변 필드의 인코딩 길이와 description 개수가 같은 참조가 있을 때만 패치하고,
+ *                 없으면 전체 코더로 인코딩한 뒤 그 결과를 새 참조로 등록 (결과는 항상 전체 코더와 같은 바이트)
+ *                 스레드마다 하나씩 사용 (RsaFrameTemplate 과 같은 방식)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18        kjg08           최초 생성
+ * 2026-10-18        kjg08           호출자 ByteBuffer 출력 추가
+ * 2026-10-18        kjg08           heading 을 문자열 파싱 없이 int 값으로 기록
+ * 2026-10-18        kjg08           문자열 필드를 한 번만 UTF-8 인코딩해 길이 계산과 기록에 같이 사용
+ */
+public final class RsaBerPatcher {
+    // 참조 메시지 보관 개수, 넘으면 오래된 것부터 교체
+    private static final int MAX_REFERENCES = 16;
+
+    private static final ThreadLocal<RsaBerPatcher> PATCHERS = ThreadLocal.withInitial(RsaBerPatcher::new);
+
+    // 가변 필드 순서 (description 코드는 FIELD_COUNT 이후에 순서대로)
+    private static final int MSG_CNT = 0;
+    private static final int TIME_STAMP = 1;
+    private static final int HEADING = 2;
+    private static final int YEAR = 3;
+    private static final int MONTH = 4;
+    private static final int DAY = 5;
+    private static final int HOUR = 6;
+    private static final int MINUTE = 7;
+    private static final int SECOND = 8;
+    private static final int OFFSET = 9;
+    private static final int LONGITUDE = 10;
+    private static final int LATITUDE = 11;
+    private static final int ELEVATION = 12;
+    private static final int STOP_ID = 13;
+    private static final int TEXT = 14;
+    private static final int SEND_UNIQUE_ID = 15;
+    private static final int FIELD_COUNT = 16;
+    // UTF-8 문자열 필드 수 (STOP_ID ~ SEND_UNIQUE_ID)
+    private static final int TEXT_FIELD_COUNT = 3;
+    // surrogate 를 제외한 UTF-16 char 하나의 최대 UTF-8 바이트 수
+    private static final int MAX_UTF8_BYTES_PER_CHAR = 3;
+    // 패치할 수 없는 문자열의 길이 표시 (어떤 참조와도 맞지 않음)
+    private static final int UNPATCHABLE_LENGTH = -1;
+
+    // MessageFrame(30) / value(a1) / RoadSideAlert(30) 기준 BER 식별자 경로
+    private static final String RSA = "30/a1/30/";
+    private static final String UTC_TIME = RSA + "a7/a0/";
+    private static final String CITS = RSA + "a9/30/a1/30/a0/";
+    private static final String DESCRIPTION_CODE = RSA + "a3/02";
+    private static final Map<String, Integer> LEAF_FIELDS = new HashMap<>();
+
+    static {
+        LEAF_FIELDS.put(RSA + "80", MSG_CNT);
+        LEAF_FIELDS.put(RSA + "81", TIME_STAMP);
+        LEAF_FIELDS.put(RSA + "85", HEADING);
+        LEAF_FIELDS.put(UTC_TIME + "80", YEAR);
+        LEAF_FIELDS.put(UTC_TIME + "81", MONTH);
+        LEAF_FIELDS.put(UTC_TIME + "82", DAY);
+        LEAF_FIELDS.put(UTC_TIME + "83", HOUR);
+        LEAF_FIELDS.put(UTC_TIME + "84", MINUTE);
+        LEAF_FIELDS.put(UTC_TIME + "85", SECOND);
+        LEAF_FIELDS.put(UTC_TIME + "86", OFFSET);
+        LEAF_FIELDS.put(RSA + "a7/81", LONGITUDE);
+        LEAF_FIELDS.put(RSA + "a7/82", LATITUDE);
+        LEAF_FIELDS.put(RSA + "a7/83", ELEVATION);
+        LEAF_FIELDS.put(CITS + "87", STOP_ID);
+        LEAF_FIELDS.put(CITS + "88", TEXT);
+        LEAF_FIELDS.put(CITS + "8b", SEND_UNIQUE_ID);
+    }
+
+    private final Reference[] references = new Reference[MAX_REFERENCES];
+    private int referenceCount;
+    private int nextReplace;
+    // 현재 메시지의 필드별 인코딩 길이 (description 개수에 따라 늘어남)
+    private int[] lengths = new int[FIELD_COUNT + 4];
+    // direct ByteBuffer 출력용 패치 버퍼
+    private byte[] scratch = new byte[256];
+    // 현재 메시지의 문자열 필드 UTF-8 바이트와 길이 (measure 에서 한 번 인코딩, write 에서 그대로 복사)
+    private final byte[][] utf8Fields = new byte[TEXT_FIELD_COUNT][64];
+    private final int[] utf8Lengths = new int[TEXT_FIELD_COUNT];
+
+    @Getter
+    private long patched;
+    @Getter
+    private long encoded;
+
+    private RsaBerPatcher() {
+    }
+
+    /**
+     * 현재 스레드의 패처를 반환합니다.
+     */
+    public static RsaBerPatcher forCurrentThread() {
+        return PATCHERS.get();
+    }
+
+    /**
+     * fields 로 만든 RSA MessageFrame 의 BER 바이트를 반환합니다.
+     */
+    public byte[] encode(RsaFields fields) throws JsonToJ2735Exception {
+        Reference reference = lookup(fields);
+        if (reference != null) {
+            byte[] out = reference.bytes.clone();
+            write(out, 0, reference.offsets, fields);
+            patched++;
+            return out;
+        }
+        return encodeFully(fields);
+    }
+
+    /**
+     * fields 로 만든 RSA MessageFrame 의 BER 바이트를 out 의 현재 position 부터 기록하고 position 을 이동합니다.
+     * 남은 공간이 부족하면 position 을 그대로 두고 예외를 던집니다.
+     *
+     * @return 기록한 바이트 수
+     */
+    public int encode(RsaFields fields, ByteBuffer out) throws JsonToJ2735Exception {
+        Reference reference = lookup(fields);
+        byte[] bytes = reference != null ? reference.bytes : encodeFully(fields);
+        if (out.remaining() < bytes.length) {
+            throw new JsonToJ2735Exception("Output buffer too small: " + out.remaining() + " bytes remaining, "
+                    + bytes.length + " required");
+        }
+        if (reference == null) {
+            out.put(bytes);
+            return bytes.length;
+        }
+
+        int start = out.position();
+        if (out.hasArray()) {
+            // 참조 바이트를 복사한 자리에서 바로 패치
+            System.arraycopy(bytes, 0, out.array(), out.arrayOffset() + start, bytes.length);
+            write(out.array(), out.arrayOffset() + start, reference.offsets, fields);
+        } else {
+            if (scratch.length < bytes.length) {
+                scratch = new byte[bytes.length];
+            }
+            System.arraycopy(bytes, 0, scratch, 0, bytes.length);
+            write(scratch, 0, reference.offsets, fields);
+            out.put(scratch, 0, bytes.length);
+        }
+        out.position(start + bytes.length);
+        patched++;
+        return bytes.length;
+    }
+
+    // fields 와 모양이 같은 참조, 없으면 null
+    private Reference lookup(RsaFields fields) {
+        int fieldCount = FIELD_COUNT + fields.getDescription().size();
+        if (lengths.length < fieldCount) {
+            lengths = new int[fieldCount];
+        }
+        measure(fields);
+        return find(fieldCount);
+    }
+
+    // 전체 코더로 인코딩하고 참조로 등록 (lookup 직후 호출)
+    private byte[] encodeFully(RsaFields fields) throws JsonToJ2735Exception {
+        byte[] out = J2735Encoder.encode(RsaFrameTemplate.forCurrentThread().fill(fields));
+        encoded++;
+        register(out, FIELD_COUNT + fields.getDescription().size());
+        return out;
+    }
+
+    private void measure(RsaFields f) {
+        lengths[MSG_CNT] = integerLength(f.getMsgCnt());
+        lengths[TIME_STAMP] = integerLength(f.getTimeStamp());
+        // unused bits 1 byte + 16 bits
+        lengths[HEADING] = 3;
+        lengths[YEAR] = integerLength(f.getYear());
+        lengths[MONTH] = integerLength(f.getMonth());
+        lengths[DAY] = integerLength(f.getDay());
+        lengths[HOUR] = integerLength(f.getHour());
+        lengths[MINUTE] = integerLength(f.getMinute());
+        lengths[SECOND] = integerLength(f.getSecond());
+        lengths[OFFSET] = integerLength(f.getOffset());
+        lengths[LONGITUDE] = integerLength(f.getLongitude());
+        lengths[LATITUDE] = integerLength(f.getLatitude());
+        lengths[ELEVATION] = integerLength(f.getElevation());
+        lengths[STOP_ID] = encodeUtf8(STOP_ID, f.getStopID());
+        lengths[TEXT] = encodeUtf8(TEXT, f.getText());
+        lengths[SEND_UNIQUE_ID] = encodeUtf8(SEND_UNIQUE_ID, f.getSendUniqueId());
+        List<Integer> description = f.getDescription();
+        for (int i = 0; i < description.size(); i++) {
+            lengths[FIELD_COUNT + i] = integerLength(description.get(i));
+        }
+    }
+
+    private Reference find(int fieldCount) {
+        for (int i = 0; i < referenceCount; i++) {
+            Reference reference = references[i];
+            if (reference.lengths.length == fieldCount
+                    && Arrays.equals(reference.lengths, 0, fieldCount, lengths, 0, fieldCount)) {
+                return reference;
+            }
+        }
+        return null;
+    }
+
+    // base: out 안에서 참조 바이트가 시작하는 위치, 문자열 필드는 직전 measure 에서 인코딩한 바이트를 기록
+    private void write(byte[] out, int base, int[] offsets, RsaFields f) {
+        writeInteger(out, base + offsets[MSG_CNT], f.getMsgCnt());
+        writeInteger(out, base + offsets[TIME_STAMP], f.getTimeStamp());
+        int heading = f.getHeading();
+        out[base + offsets[HEADING] + 1] = (byte) (heading >>> 8);
+        out[base + offsets[HEADING] + 2] = (byte) heading;
+        writeInteger(out, base + offsets[YEAR], f.getYear());
+        writeInteger(out, base + offsets[MONTH], f.getMonth());
+        writeInteger(out, base + offsets[DAY], f.getDay());
+        writeInteger(out, base + offsets[HOUR], f.getHour());
+        writeInteger(out, base + offsets[MINUTE], f.getMinute());
+        writeInteger(out, base + offsets[SECOND], f.getSecond());
+        writeInteger(out, base + offsets[OFFSET], f.getOffset());
+        writeInteger(out, base + offsets[LONGITUDE], f.getLongitude());
+        writeInteger(out, base + offsets[LATITUDE], f.getLatitude());
+        writeInteger(out, base + offsets[ELEVATION], f.getElevation());
+        writeUtf8(out, base + offsets[STOP_ID], STOP_ID);
+        writeUtf8(out, base + offsets[TEXT], TEXT);
+        writeUtf8(out, base + offsets[SEND_UNIQUE_ID], SEND_UNIQUE_ID);
+        List<Integer> description = f.getDescription();
+        for (int i = 0; i < description.size(); i++) {
+            writeInteger(out, base + offsets[FIELD_COUNT + i], description.get(i));
+        }
+    }
+
+    // 전체 인코딩 결과에서 가변 필드 위치를 찾아 참조로 등록, 구조가 예상과 다르면 등록하지 않음
+    private void register(byte[] bytes, int fieldCount) {
+        int[] offsets = new int[fieldCount];
+        int[] foundLengths = new int[fieldCount];
+        Arrays.fill(offsets, -1);
+        List<int[]> descriptionCodes = new ArrayList<>();
+        if (!walk(bytes, 0, bytes.length, "", offsets, foundLengths, descriptionCodes)
+                || descriptionCodes.size() != fieldCount - FIELD_COUNT) {
+            return;
+        }
+        for (int i = 0; i < descriptionCodes.size(); i++) {
+            offsets[FIELD_COUNT + i] = descriptionCodes.get(i)[0];
+            foundLengths[FIELD_COUNT + i] = descriptionCodes.get(i)[1];
+        }
+        for (int i = 0; i < fieldCount; i++) {
+            if (offsets[i] < 0 || foundLengths[i] != lengths[i]) {
+                return;
+            }
+        }
+
+        Reference reference = new Reference(bytes.clone(), offsets, Arrays.copyOf(lengths, fieldCount));
+        if (referenceCount < MAX_REFERENCES) {
+            references[referenceCount++] = reference;
+        } else {
+            references[nextReplace] = reference;
+            nextReplace = (nextReplace + 1) % MAX_REFERENCES;
+        }
+    }
+
+    // BER TLV 를 따라가며 가변 필드의 내용 위치/길이를 기록 (단일 바이트 식별자만 지원)
+    private static boolean walk(byte[] buf, int from, int to, String path, int[] offsets, int[] foundLengths,
+                                List<int[]> descriptionCodes) {
+        int pos = from;
+        while (pos < to) {
+            int identifier = buf[pos++] & 0xFF;
+            if ((identifier & 0x1F) == 0x1F || pos >= to) {
+                return false;
+            }
+            int length = buf[pos++] & 0xFF;
+            if (length == 0x80) {
+                return false;
+            }
+            if (length > 0x80) {
+                int octets = length & 0x7F;
+                length = 0;
+                for (int i = 0; i < octets; i++) {
+                    if (pos >= to) {
+                        return false;
+                    }
+                    length = (length << 8) | (buf[pos++] & 0xFF);
+                }
+            }
+            if (pos + length > to) {
+                return false;
+            }
+            String leafPath = path + String.format("%02x", identifier);
+            if ((identifier & 0x20) != 0) {
+                if (!walk(buf, pos, pos + length, leafPath + "/", offsets, foundLengths, descriptionCodes)) {
+                    return false;
+                }
+            } else if (leafPath.equals(DESCRIPTION_CODE)) {
+                descriptionCodes.add(new int[]{pos, length});
+            } else {
+                Integer field = LEAF_FIELDS.get(leafPath);
+                if (field != null) {
+                    offsets[field] = pos;
+                    foundLengths[field] = length;
+                }
+            }
+            pos += length;
+        }
+        return true;
+    }
+
+    // BER INTEGER 최소 길이 (2의 보수)
+    private static int integerLength(long value) {
+        int length = 1;
+        while (value > 127 || value < -128) {
+            value >>= 8;
+            length++;
+        }
+        return length;
+    }
+
+    private static void writeInteger(byte[] out, int offset, long value) {
+        int length = integerLength(value);
+        for (int i = length - 1; i >= 0; i--) {
+            out[offset + i] = (byte) value;
+            value >>= 8;
+        }
+    }
+
+    // field 의 UTF-8 바이트를 버퍼에 인코딩하고 길이를 반환
+    // CITSText/StopID 는 UTF8String16 (BMP 문자만) 이라 전체 코더가 surrogate 를 인코딩 오류로 처리하므로,
+    // surrogate 가 있으면 UNPATCHABLE_LENGTH 를 반환해 전체 코더가 같은 오류를 보고하도록 함
+    private int encodeUtf8(int field, String s) {
+        int slot = field - STOP_ID;
+        byte[] buf = utf8Fields[slot];
+        if (buf.length < s.length() * MAX_UTF8_BYTES_PER_CHAR) {
+            buf = new byte[s.length() * MAX_UTF8_BYTES_PER_CHAR];
+            utf8Fields[slot] = buf;
+        }
+        int length = 0;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c < 0x80) {
+                buf[length++] = (byte) c;
+            } else if (c < 0x800) {
+                buf[length++] = (byte) (0xC0 | (c >> 6));
+                buf[length++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                return utf8Lengths[slot] = UNPATCHABLE_LENGTH;
+            } else {
+                buf[length++] = (byte) (0xE0 | (c >> 12));
+                buf[length++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buf[length++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        return utf8Lengths[slot] = length;
+    }
+
+    private void writeUtf8(byte[] out, int offset, int field) {
+        int slot = field - STOP_ID;
+        System.arraycopy(utf8Fields[slot], 0, out, offset, utf8Lengths[slot]);
+    }
+
+    private static final class Reference {
+        private final byte[] bytes;
+        private final int[] offsets;
+        private final int[] lengths;
+
+        private Reference(byte[] bytes, int[] offsets, int[] lengths) {
+            this.bytes = bytes;
+            this.offsets = offsets;
+            this.lengths = lengths;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.ns21.rsa.creator;
+
+import com.ns21.common.util.EpochTime;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * packageName    : com.ns21.rsa.creator
+ * fileName       : RsaFields.java
+ * author         : kjg08
+ * date           : 2026-10-18
+ * description    :조인 행 하나에서 계산한 RSA 메시지 값 - JSON 메시지와 ASN.1 MessageFrame 생성에 공통으로 사용
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18        kjg08           최초 생성
+ * 2026-10-18        kjg08           병렬 생성용 msgCnt 재지정 복사 추가
+ * 2026-10-18        kjg08           utcTime 을 Map 대신 EpochTime 에서 복사
+ * 2026-10-18        kjg08           heading 을 int 값으로 보관, JSON 문자열은 headingText 로 분리
+ */
+@Getter
+public final class RsaFields {
+    private final int msgCnt;
+    private final int timeStamp;
+    private final List<Integer> description;
+    // 16bit HeadingSlice 값 (ex 360)
+    private final int heading;
+    // JSON 메시지의 heading 16진수 문자열 (ex "0168")
+    private final String headingText;
+
+    // utcTime
+    private final int year;
+    private final int month;
+    private final int day;
+    private final int hour;
+    private final int minute;
+    private final int second;
+    private final int offset;
+
+    // 1/10 마이크로도, 미터
+    private final long longitude;
+    private final long latitude;
+    private final long elevation;
+
+    // regional cits
+    private final String stopID;
+    private final String text;
+    private final String sendUniqueId;
+
+    RsaFields(int msgCnt, int timeStamp, List<Integer> description, int heading, String headingText, EpochTime utcTime,
+              long[] latLonElevation, String stopID, String text, String sendUniqueId) {
+        this.msgCnt = msgCnt;
+        this.timeStamp = timeStamp;
+        this.description = description;
+        this.heading = heading;
+        this.headingText = headingText;
+        this.year = utcTime.getYear();
+        this.month = utcTime.getMonth();
+        this.day = utcTime.getDay();
+        this.hour = utcTime.getHour();
+        this.minute = utcTime.getMinute();
+        this.second = utcTime.getSecond();
+        this.offset = utcTime.getOffset();
+        this.latitude = latLonElevation[0];
+        this.longitude = latLonElevation[1];
+        this.elevation = latLonElevation[2];
+        this.stopID = stopID;
+        this.text = text;
+        this.sendUniqueId = sendUniqueId;
+    }
+
+    private RsaFields(RsaFields source, int msgCnt) {
+        this.msgCnt = msgCnt;
+        this.timeStamp = source.timeStamp;
+        this.description = source.description;
+        this.heading = source.heading;
+        this.headingText = source.headingText;
+        this.year = source.year;
+        this.month = source.month;
+        this.day = source.day;
+        this.hour = source.hour;
+        this.minute = source.minute;
+        this.second = source.second;
+        this.offset = source.offset;
+        this.longitude = source.longitude;
+        this.latitude = source.latitude;
+        this.elevation = source.elevation;
+        this.stopID = source.stopID;
+        this.text = source.text;
+        this.sendUniqueId = source.sendUniqueId;
+    }
+
+    // msgCnt 만 바꾼 복사본 (병렬 생성에서 순서 병합 후 msgCnt 를 지정할 때 사용)
+    RsaFields withMsgCnt(int msgCnt) {
+        return new RsaFields(this, msgCnt);
+    }
+}
@@ -0,0 +1,90 @@
+package com.ns21.rsa.creator;
+
+import com.ns21.common.enums.j2735.J2735MessageID;
+import com.oss.asn1.OpenType;
+import dsrc.addgrpd.CITSRSA;
+import dsrc.addgrpd.CITSText;
+import dsrc.addgrpd.RSA_addGrpD;
+import dsrc.addgrpd.StopID;
+import dsrc.dsrc.*;
+import dsrc.itis.ITIScodes;
+
+import java.util.List;
+
+/**
+ * packageName    : com.ns21.rsa.creator
+ * fileName       : RsaFrameBuilder.java
+ * author         : kjg08
+ * date           : 2026-10-18
+ * description    :RsaFields 로 RoadSideAlert 를 담은 MessageFrame 을 직접 구성 (JSON 변환/OSS JSON 코더를 거치지 않음)
+ *                 결과는 RsaValueCreator 의 JSON 메시지를 JSON 코더로 디코딩한 MessageFrame 과 같은 값
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18        kjg08           최초 생성
+ * 2026-10-18        kjg08           heading 을 문자열 파싱 없이 int 값으로 변환
+ */
+public final class RsaFrameBuilder {
+    // RSA 고정값 (RsaFrameTemplate 과 공유)
+    static final int TYPE_EVENT = 0;
+    static final byte[] PRIORITY = {0x01};
+    static final int REGION_ID = 4;
+    static final int HEADING_SLICE_BITS = 16;
+
+    private RsaFrameBuilder() {
+    }
+
+    public static MessageFrame build(RsaFields fields) {
+        RoadSideAlert rsa = new RoadSideAlert();
+        rsa.setMsgCnt(new MsgCount(fields.getMsgCnt()));
+        rsa.setTimeStamp(new MinuteOfTheYear(fields.getTimeStamp()));
+        rsa.setTypeEvent(new ITIScodes(TYPE_EVENT));
+        rsa.setDescription(description(fields.getDescription()));
+        rsa.setPriority(new Priority(PRIORITY.clone()));
+        rsa.setHeading(headingSlice(fields.getHeading()));
+        rsa.setPosition(position(fields));
+        rsa.setRegional(regional(fields));
+
+        return new MessageFrame(new DSRCmsgID(J2735MessageID.RSA.getId()), new OpenType(rsa));
+    }
+
+    private static RoadSideAlert.Description description(List<Integer> codes) {
+        ITIScodes[] elements = new ITIScodes[codes.size()];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = new ITIScodes(codes.get(i));
+        }
+        return new RoadSideAlert.Description(elements);
+    }
+
+    // heading 값(JSON 의 "0168" = 360)을 16bit BIT STRING 으로 변환
+    private static HeadingSlice headingSlice(int value) {
+        return new HeadingSlice(new byte[]{(byte) (value >>> 8), (byte) value}, HEADING_SLICE_BITS);
+    }
+
+    private static FullPositionVector position(RsaFields fields) {
+        DDateTime utcTime = new DDateTime();
+        utcTime.setYear(new DYear(fields.getYear()));
+        utcTime.setMonth(new DMonth(fields.getMonth()));
+        utcTime.setDay(new DDay(fields.getDay()));
+        utcTime.setHour(new DHour(fields.getHour()));
+        utcTime.setMinute(new DMinute(fields.getMinute()));
+        utcTime.setSecond(new DSecond(fields.getSecond()));
+        utcTime.setOffset(new DOffset(fields.getOffset()));
+
+        FullPositionVector position = new FullPositionVector(new Longitude(fields.getLongitude()), new Latitude(fields.getLatitude()));
+        position.setUtcTime(utcTime);
+        position.setElevation(new Elevation(fields.getElevation()));
+        return position;
+    }
+
+    private static RoadSideAlert.Regional regional(RsaFields fields) {
+        CITSRSA cits = new CITSRSA();
+        cits.setStopID(new StopID(fields.getStopID()));
+        cits.setText(new CITSText(fields.getText()));
+        cits.setSendUniqueId(new CITSText(fields.getSendUniqueId()));
+
+        RoadSideAlert.Regional.Sequence_ item = new RoadSideAlert.Regional.Sequence_(
+                new RegionId(REGION_ID), new OpenType(new RSA_addGrpD(cits)));
+        return new RoadSideAlert.Regional(new RoadSideAlert.Regional.Sequence_[]{item});
+    }
+}
@@ -0,0 +1,156 @@
+package com.ns21.rsa.creator;
+
+import com.ns21.common.enums.j2735.J2735MessageID;
+import com.oss.asn1.OpenType;
+import dsrc.addgrpd.CITSRSA;
+import dsrc.addgrpd.CITSText;
+import dsrc.addgrpd.RSA_addGrpD;
+import dsrc.addgrpd.StopID;
+import dsrc.dsrc.*;
+import dsrc.itis.ITIScodes;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static com.ns21.rsa.creator.RsaFrameBuilder.*;
+
+/**
+ * packageName    : com.ns21.rsa.creator
+ * fileName       : RsaFrameTemplate.java
+ * author         : kjg08
+ * date           : 2026-10-18
+ * description    :고정값(typeEvent, priority, regionId, regional/cits 구조)을 미리 채운 MessageFrame 골격을 스레드마다 하나씩 두고
+ *                 메시지마다 바뀌는 값만 제자리에서 덮어씀 (RsaFrameBuilder 와 같은 값, 메시지 트리 할당 없음)
+ *                 fill 이 반환한 MessageFrame 은 같은 스레드의 다음 fill 호출 전까지만 유효
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18        kjg08           최초 생성
+ * 2026-10-18        kjg08           heading 을 문자열 파싱 없이 int 값으로 기록
+ * 2026-10-18        kjg08           regional(RSA_addGrpD) OpenType 도 fill 마다 디코딩 값을 다시 지정
+ */
+public final class RsaFrameTemplate {
+    private static final ThreadLocal<RsaFrameTemplate> TEMPLATES = ThreadLocal.withInitial(RsaFrameTemplate::new);
+
+    private final MessageFrame frame;
+    private final OpenType value;
+    private final RoadSideAlert rsa;
+    // regional 확장 (stopID / text / sendUniqueId 가 들어 있음)
+    private final OpenType regionalValue;
+    private final RSA_addGrpD regional;
+
+    private final MsgCount msgCnt = new MsgCount();
+    private final MinuteOfTheYear timeStamp = new MinuteOfTheYear();
+    private final RoadSideAlert.Description description = new RoadSideAlert.Description();
+    // description 요소 재사용 풀, 필요한 만큼 늘어남
+    private ITIScodes[] descriptionPool = new ITIScodes[4];
+    private final byte[] headingBits = new byte[2];
+    private final HeadingSlice heading = new HeadingSlice(headingBits, HEADING_SLICE_BITS);
+
+    private final DYear year = new DYear();
+    private final DMonth month = new DMonth();
+    private final DDay day = new DDay();
+    private final DHour hour = new DHour();
+    private final DMinute minute = new DMinute();
+    private final DSecond second = new DSecond();
+    private final DOffset offset = new DOffset();
+    private final Longitude longitude = new Longitude();
+    private final Latitude latitude = new Latitude();
+    private final Elevation elevation = new Elevation();
+
+    private final StopID stopID = new StopID();
+    private final CITSText text = new CITSText();
+    private final CITSText sendUniqueId = new CITSText();
+
+    private RsaFrameTemplate() {
+        for (int i = 0; i < descriptionPool.length; i++) {
+            descriptionPool[i] = new ITIScodes();
+        }
+
+        rsa = new RoadSideAlert();
+        rsa.setMsgCnt(msgCnt);
+        rsa.setTimeStamp(timeStamp);
+        rsa.setTypeEvent(new ITIScodes(TYPE_EVENT));
+        rsa.setDescription(description);
+        rsa.setPriority(new Priority(PRIORITY.clone()));
+        rsa.setHeading(heading);
+
+        DDateTime utcTime = new DDateTime(year, month, day, hour, minute, second, offset);
+        FullPositionVector position = new FullPositionVector(longitude, latitude);
+        position.setUtcTime(utcTime);
+        position.setElevation(elevation);
+        rsa.setPosition(position);
+
+        CITSRSA cits = new CITSRSA();
+        cits.setStopID(stopID);
+        cits.setText(text);
+        cits.setSendUniqueId(sendUniqueId);
+        regional = new RSA_addGrpD(cits);
+        regionalValue = new OpenType(regional);
+        RoadSideAlert.Regional.Sequence_ item = new RoadSideAlert.Regional.Sequence_(
+                new RegionId(REGION_ID), regionalValue);
+        rsa.setRegional(new RoadSideAlert.Regional(new RoadSideAlert.Regional.Sequence_[]{item}));
+
+        value = new OpenType(rsa);
+        frame = new MessageFrame(new DSRCmsgID(J2735MessageID.RSA.getId()), value);
+    }
+
+    /**
+     * 현재 스레드의 템플릿을 반환합니다.
+     */
+    public static RsaFrameTemplate forCurrentThread() {
+        return TEMPLATES.get();
+    }
+
+    /**
+     * 템플릿의 가변 필드를 fields 값으로 덮어쓰고 템플릿 MessageFrame 을 반환합니다.
+     * 반환값은 다음 fill 호출 시 다시 덮어쓰이므로 그 전에 인코딩해야 합니다.
+     */
+    public MessageFrame fill(RsaFields fields) {
+        msgCnt.setValue(fields.getMsgCnt());
+        timeStamp.setValue(fields.getTimeStamp());
+        fillDescription(fields.getDescription());
+
+        int headingValue = fields.getHeading();
+        headingBits[0] = (byte) (headingValue >>> 8);
+        headingBits[1] = (byte) headingValue;
+        heading.setValue(headingBits, HEADING_SLICE_BITS);
+
+        year.setValue(fields.getYear());
+        month.setValue(fields.getMonth());
+        day.setValue(fields.getDay());
+        hour.setValue(fields.getHour());
+        minute.setValue(fields.getMinute());
+        second.setValue(fields.getSecond());
+        offset.setValue(fields.getOffset());
+        longitude.setValue(fields.getLongitude());
+        latitude.setValue(fields.getLatitude());
+        elevation.setValue(fields.getElevation());
+
+        stopID.setValue(fields.getStopID());
+        text.setValue(fields.getText());
+        sendUniqueId.setValue(fields.getSendUniqueId());
+
+        // 이전 메시지의 인코딩 결과가 남아 있지 않도록 중첩된 OpenType 모두 디코딩 값을 다시 지정
+        regionalValue.setDecodedValue(regional);
+        value.setDecodedValue(rsa);
+        return frame;
+    }
+
+    private void fillDescription(List<Integer> codes) {
+        int size = codes.size();
+        if (size > descriptionPool.length) {
+            int old = descriptionPool.length;
+            descriptionPool = Arrays.copyOf(descriptionPool, Math.max(size, old * 2));
+            for (int i = old; i < descriptionPool.length; i++) {
+                descriptionPool[i] = new ITIScodes();
+            }
+        }
+        description.removeAllElements();
+        for (int i = 0; i < size; i++) {
+            ITIScodes code = descriptionPool[i];
+            code.setValue(codes.get(i));
+            description.addElement(code);
+        }
+    }
+}
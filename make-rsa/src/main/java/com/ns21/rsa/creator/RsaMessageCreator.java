@@ -1,17 +1,19 @@
 package com.ns21.rsa.creator;
 
-import com.ns21.common.enums.j2735.J2735MessageID;
+import com.ns21.common.enums.j2735.CODER_TYPE;
 import com.ns21.common.itis.ItisCodeMapper;
+import com.ns21.common.mist.codec.J2735Codec;
 import com.ns21.common.mist.codec.J2735ToJson;
-import com.ns21.common.mist.codec.JsonToJ2735;
 import com.ns21.common.mist.parser.MetaDataExtracting;
+import com.ns21.common.util.ConvertUtil;
+import com.ns21.common.util.PoseKernels;
 import io.vertx.core.AbstractVerticle;
-import io.vertx.core.json.JsonObject;
+import io.vertx.core.Promise;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -24,12 +26,24 @@ import java.util.List;
  * DATE              AUTHOR             NOTE
  * -----------------------------------------------------------
  * 2023-11-24        kjg08           최초 생성
+ * 2026-10-18        kjg08           메시지를 미리 모두 만들지 않고 전송 주기마다 iterator 에서 하나씩 생성
+ * 2026-10-18        kjg08           JSON 변환 없이 MessageFrame 을 직접 BER 인코딩
+ * 2026-10-18        kjg08           템플릿 MessageFrame 재사용
+ * 2026-10-18        kjg08           참조 BER 인코딩 패치(RsaBerPatcher) 사용
+ * 2026-10-18        kjg08           currentIndex 를 인스턴스 필드로 변경
+ * 2026-10-18        kjg08           전송 형식(BER/UPER) 설정 추가 (config wireFormat)
+ * 2026-10-18        kjg08           좌표 변환 캐시 크기 설정 추가 (config coordinateCacheSize)
+ * 2026-10-18        kjg08           msgCnt 를 verticle 마다 따로 세도록 변경 (config firstMsgCnt)
+ * 2026-10-18        kjg08           좌표 변환 캐시 설정/집계 제거 (EgoPositions 일괄 변환), 선택된 pose kernel 로그
  */
 public class RsaMessageCreator extends AbstractVerticle {
     private static final Logger logger = LoggerFactory.getLogger(RsaMessageCreator.class);
-    private static int currentIndex = 0;
-    private List<String> jsonMessages;
+    // verticle 마다 따로 세는 전송 순번
+    private int currentIndex = 0;
+    private Iterator<RsaFields> messages;
     private long timerId; // 클래스 레벨 변수로 선언
+    // 전송 형식, config 의 wireFormat (BER 기본, UPER)
+    private CODER_TYPE wireFormat;
 
     public static List<Integer> ITISRSACodeGen(String categoryName, String vehicleState) {
         List<Integer> itisCodes = new ArrayList<>();
@@ -53,53 +67,70 @@ public class RsaMessageCreator extends AbstractVerticle {
 
 
     @Override
-    public void start() {
-        // 메타데이터 추출 및 처리
+    public void start(Promise<Void> startPromise) {
+        String wireFormatName = config().getString("wireFormat", CODER_TYPE.BER.name());
+        try {
+            wireFormat = CODER_TYPE.valueOf(wireFormatName.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            wireFormat = null;
+        }
+        if (wireFormat != CODER_TYPE.BER && wireFormat != CODER_TYPE.UPER) {
+            startPromise.fail("Unsupported wireFormat: " + wireFormatName);
+            return;
+        }
+        logger.info("RSA wire format: {}", wireFormat);
+
+        // 위경고도는 ego pose 행별로 한 번에 변환 (EgoPositions), JVM 을 --add-modules jdk.incubator.vector 로 실행하면 Vector API 구현
+        logger.info("Pose kernel: {}", PoseKernels.get().name());
+
+        // 첫 msgCnt, config 의 firstMsgCnt (verticle 마다 따로 세므로 여러 verticle 을 배포해도 섞이지 않음)
+        int firstMsgCnt = config().getInteger("firstMsgCnt", 0);
+
+        // 메타데이터 추출 및 처리, 파일 로딩이 하나라도 실패하면 verticle 배포를 실패로 처리
         MetaDataExtracting extractor = new MetaDataExtracting();
         extractor.processFiles().thenRun(() -> {
             logger.info("----------------------  Reading and parsing metadata Please wait . . .  ----------------------");
-            // 메시지 목록은 한 번만 생성
-            try {
-                jsonMessages = RsaValueCreator.createRsaMessage();
-            } catch (IOException e) {
-                throw new RuntimeException(e);
-            }
+            // 메시지는 전송 시점에 조인 행 하나씩 생성 (전체 목록을 미리 만들지 않음)
+            // 인코딩은 스레드별 RsaBerPatcher 가 참조 BER 바이트에 값만 덮어써서 수행
+            messages = RsaValueCreator.rsaFieldsIterator(firstMsgCnt);
             logger.info("----------------------  The task is complete  ----------------------");
-            logger.info("Total messages generated: {}", jsonMessages.size());
 
             // 모든 메시지 처리 후 타이머 중지를 위한 핸들러 ID 저장
             timerId = vertx.setPeriodic(1000, id -> {
-                if (!jsonMessages.isEmpty() && currentIndex < jsonMessages.size()) {
-                    // 현재 인덱스에 따라 하나의 메시지를 선택합니다.
-                    String jsonMessage = jsonMessages.get(currentIndex);
+                if (messages.hasNext()) {
+                    // 다음 메시지를 하나 가져옵니다.
+                    RsaFields message = messages.next();
                     logger.info("Sending message at index: {}", currentIndex);
 
                     // 메시지 처리 로직
-                    processMessage(jsonMessage);
-
-                    // 현재 인덱스를 증가시키고, 모든 메시지 처리 시 타이머 중지
+                    processMessage(message);
                     currentIndex++;
-                    if (currentIndex >= jsonMessages.size()) {
-                        logger.info("All messages sent. Stopping timer.");
-                        vertx.cancelTimer(timerId);
-                    }
+                }
+                // 모든 메시지 처리 시 타이머 중지
+                if (!messages.hasNext()) {
+                    logger.info("All messages sent. Total messages generated: {}. Stopping timer.", currentIndex);
+                    vertx.cancelTimer(timerId);
                 }
             });
+        }).whenComplete((v, e) -> {
+            if (e != null) {
+                logger.error("Failed to load metadata", e);
+                startPromise.fail(e);
+            } else {
+                startPromise.complete();
+            }
         });
     }
 
-    private void processMessage(String jsonMessage) {
+    private void processMessage(RsaFields message) {
         try {
-            // 메시지 아이디 추가 및 변환 로직
-            JsonObject originalJsonObject = new JsonObject(jsonMessage);
-            JsonObject newJsonObject = new JsonObject();
-            newJsonObject.put("messageId", J2735MessageID.RSA.getId());
-            newJsonObject.put("value", originalJsonObject);
-            jsonMessage = newJsonObject.toString();
-
-            // JSON을 J2735 형식으로 변환하고 다시 JSON으로 변환
-            String j2735Result = JsonToJ2735.convertToJ2735(jsonMessage);
-            String jsonResult = J2735ToJson.convertToJSON(j2735Result);
+            // RSA 값을 J2735(BER/UPER) 로 인코딩하고 확인용으로 다시 JSON 으로 변환
+            // BER 은 참조 인코딩 패치, UPER 는 템플릿 MessageFrame 을 UPER coder 로 인코딩
+            byte[] encoded = wireFormat == CODER_TYPE.BER ?
+                    RsaBerPatcher.forCurrentThread().encode(message) :
+                    J2735Codec.encode(RsaFrameTemplate.forCurrentThread().fill(message), wireFormat);
+            String j2735Result = ConvertUtil.bytesToHexString(encoded);
+            String jsonResult = J2735ToJson.convertToJSON(encoded, wireFormat);
 
             // 로그 출력
             logger.info("------------------------------------- convert to J2735 -------------------------------------");
@@ -1,13 +1,20 @@
 package com.ns21.rsa.creator;
 
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ns21.common.exception.JsonToJ2735Exception;
+import com.ns21.common.mist.parser.DataStorage;
+import com.ns21.common.mist.parser.JoinedAnnotationRecord;
 import com.ns21.common.mist.parser.UuidMatching;
-import com.ns21.common.util.MetaDataConvertUtil;
+import com.ns21.common.util.EpochTime;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
-import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.IntSupplier;
 
 import static com.ns21.common.util.MetaDataConvertUtil.*;
 import static com.ns21.rsa.creator.RsaMessageCreator.ITISRSACodeGen;
@@ -22,104 +29,271 @@ import static com.ns21.rsa.creator.RsaMessageCreator.ITISRSACodeGen;
  * DATE              AUTHOR             NOTE
  * -----------------------------------------------------------
  * 2023-11-24        kjg08           최초 생성
+ * 2026-10-18        kjg08           좌표/방향을 PoseTable primitive 열에서 조회
+ * 2026-10-18        kjg08           조인 결과를 JSON 문자열 대신 JoinedAnnotationRecord 로 직접 사용
+ * 2026-10-18        kjg08           메시지를 하나씩 생성하는 Iterator/Flowable 추가
+ * 2026-10-18        kjg08           값 계산을 RsaFields 로 분리, JSON 을 거치지 않는 MessageFrame 생성 추가
+ * 2026-10-18        kjg08           템플릿 MessageFrame 재사용 iterator 추가
+ * 2026-10-18        kjg08           ForkJoinPool 병렬 생성 추가, msgCnt 를 AtomicInteger 로 변경
+ * 2026-10-18        kjg08           timestamp 변환을 EpochTime 으로 변경
+ * 2026-10-18        kjg08           heading 을 SensorHeadings 에서 센서별 미리 계산한 값으로 조회
+ * 2026-10-18        kjg08           RsaMessageCreator 는 공유 msgCnt 대신 verticle 별 stream 사용
+ * 2026-10-18        kjg08           호출처가 없는 Flowable 제거, 측정용 MessageFrame iterator 를 bench 로 이동
+ * 2026-10-18        kjg08           값 생성 실패를 printStackTrace 대신 logger 로 기록
+ * 2026-10-18        kjg08           공유 msgCnt 와 이를 쓰는 생성 경로 제거, msgCnt 는 호출자가 firstMsgCnt 로 지정
+ * 2026-10-18        kjg08           위경고도를 EgoPositions 에서 ego pose 행별 미리 계산한 값으로 조회 (PoseKernel 일괄 변환)
  */
 public class RsaValueCreator {
+    private static final Logger logger = LoggerFactory.getLogger(RsaValueCreator.class);
     private static final int UTM_ZONE = 52; // Assuming this is a constant
-    private static int msgCnt = 0;
+    // 병렬 생성 시 조인 행 분할 최소 크기
+    private static final int MIN_PARTITION_SIZE = 256;
 
-    public static List<String> createRsaMessage() throws IOException {
-        ObjectMapper mapper = new ObjectMapper();
-        List<String> messages = new ArrayList<>();
-        // UuidMatching 클래스를 사용하여 관련된 데이터의 JSON 문자열을 가져옵니다.
-        List<String> relatedUuids = UuidMatching.UuidPut();
+    /**
+     * 메시지로 만들 수 있는 조인 행의 RSA 값만 순서대로 반환하는 iterator 입니다. 조인 결과와 메시지 목록을 메모리에 쌓아 두지 않습니다.
+     * msgCnt 는 firstMsgCnt 부터 iterator 마다 따로 세므로 같은 입력이면 항상 같은 결과입니다.
+     */
+    public static Iterator<RsaFields> rsaFieldsIterator(int firstMsgCnt) {
+        return new RsaIterator(UuidMatching.iterator(), new StreamCounter(firstMsgCnt));
+    }
+
+    /**
+     * 조인 결과를 pool 에서 나누어 RSA 메시지를 만들고 BER 인코딩한 결과를 순서대로 반환합니다.
+     * 조각마다 값 계산과 인코딩을 따로 수행하고, msgCnt 는 조각 순서대로 병합한 뒤 firstMsgCnt 부터 지정하므로
+     * 결과는 {@link #rsaFieldsIterator(int)} + {@link RsaBerPatcher} 와 같은 바이트입니다.
+     */
+    public static List<byte[]> createRsaFramesParallel(ForkJoinPool pool, int firstMsgCnt) throws JsonToJ2735Exception {
+        List<JoinedAnnotationRecord> records = UuidMatching.join();
+        EgoPositions positions = EgoPositions.of(DataStorage.getInstance().getEgoPoseTable(), UTM_ZONE);
+        SensorHeadings headings = SensorHeadings.of(DataStorage.getInstance().getSensorTable());
+
+        // 1단계: 조각별 값 계산, msgCnt 에는 조각 안에서의 순번을 임시로 넣어 둠
+        int partitionSize = Math.max(MIN_PARTITION_SIZE, records.size() / (pool.getParallelism() * 4) + 1);
+        List<ForkJoinTask<Partition>> computeTasks = new ArrayList<>();
+        for (int from = 0; from < records.size(); from += partitionSize) {
+            List<JoinedAnnotationRecord> slice = records.subList(from, Math.min(records.size(), from + partitionSize));
+            computeTasks.add(pool.submit(() -> Partition.compute(slice, positions, headings)));
+        }
+        List<Partition> partitions = new ArrayList<>(computeTasks.size());
+        int counted = 0;
+        for (ForkJoinTask<Partition> task : computeTasks) {
+            Partition partition = await(task);
+            // 순서 병합: 앞 조각들에서 msgCnt 를 증가시킨 행 수가 이 조각의 시작 순번
+            partition.firstCount = counted;
+            counted += partition.counted;
+            partitions.add(partition);
+        }
+
+        int start = Math.floorMod(firstMsgCnt, 128);
+
+        // 2단계: 조각별 msgCnt 지정 및 인코딩
+        List<ForkJoinTask<List<byte[]>>> encodeTasks = new ArrayList<>(partitions.size());
+        for (Partition partition : partitions) {
+            encodeTasks.add(pool.submit(() -> partition.encode(start)));
+        }
+        List<byte[]> frames = new ArrayList<>();
+        for (ForkJoinTask<List<byte[]>> task : encodeTasks) {
+            frames.addAll(await(task));
+        }
+        return frames;
+    }
+
+    private static <T> T await(ForkJoinTask<T> task) throws JsonToJ2735Exception {
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JsonToJ2735Exception("Interrupted while generating RSA messages", e);
+        } catch (ExecutionException e) {
+            for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+                if (cause instanceof JsonToJ2735Exception) {
+                    throw (JsonToJ2735Exception) cause;
+                }
+            }
+            throw new JsonToJ2735Exception("RSA message generation failed", e.getCause());
+        }
+    }
+
+    // 조인 행 하나로 RSA 메시지 값을 계산, 메시지를 만들 수 없는 행이면 null
+    // counter 는 msgCnt 를 증가시키는 행에서만 호출됨
+    private static RsaFields createRsaFields(JoinedAnnotationRecord record, EgoPositions positions, SensorHeadings headings,
+                                             IntSupplier counter) {
+        try {
+            // EgoPoseDto 객체에서 타임스탬프 가져와서 타임스탬프를 연도와 시간으로 변환
+            String timestampStr = orZero(record.getEgoPose().getTimestamp());
+            // timestamp 를 한 번만 파싱해 분 단위(527040 범위 안) 값과 utcTime 필드를 정수 연산으로 계산
+            EpochTime utcTime = EpochTime.parse(timestampStr);
+            int minutesOfYear = utcTime.getMinuteOfTheYear();
+
+            // ego pose 행별로 미리 변환해 둔 위경고도 (translation ex) 326865.278, 4147694.510, 49.126)
+            int poseRow = positions.rowOf(record.getEgoPose().getUuid());
+            if (!positions.hasPosition(poseRow)) {
+                return null;
+            }
+            long[] utmToLatLon = positions.latLonElevation(poseRow);
+
+            // sensor.json 의 rotation 값을 센서별로 미리 변환해 둔 heading (ffff), rotation 이 없으면 기본값
+            int sensorRow = headings.rowOf(record.getSensor().getUuid());
+
+            // msgCnt 는 description 이 없어 건너뛰는 행에서도 증가
+            int count = counter.getAsInt();
+
+            // ITIScode: instance.json 의 category_name , frame_annotation.json 의  vehicle_state
+            String categoryName = orZero(record.getInstance().getCategoryName());
+            Map<String, String> attribute = record.getFrameAnnotation().getAttribute();
+            String vehicleState = attribute != null ? attribute.get("vehicle_state") : "0";
+            List<Integer> descriptionValues = getDescriptionValuesFromSomeSource(categoryName, vehicleState);
+
+            // categoryName 와 vehicleState가 둘다 유효하지 않은 경우 이 메시지를 건너뛰거나 생략함. "description"
+            if (descriptionValues.isEmpty()) {
+                return null; // 현재 생성을 건너뛰고 다음 메세지를 생성합니다.
+            }
+
+            return new RsaFields(count, minutesOfYear, descriptionValues,
+                    headings.value(sensorRow), headings.text(sensorRow),  //sensor.json 의 rotation
+                    utcTime,
+                    utmToLatLon,  // ego_pose.json 파일의 translation
+                    orZero(record.getLog().getLocation()),  //log.json 의 location 로그가 캡처된 위치/명칭
+                    record.frameDataUuid(),  //frameData.json 의 uuid
+                    orZero(record.getSensor().getName()));  //sensor.json 의 name // 어떤 장비로 인지 하였는지
+        } catch (ClassCastException | NullPointerException e) {
+            // 값이 빠진 행은 건너뛰고 다음 메시지를 생성
+            logger.error("Failed to create RSA fields for frameData {}", record.frameDataUuid(), e);
+        }
+        return null;
+    }
+
+    // RSA 메시지 JSON 구조 (MessageFrame 의 value), 테스트와 bench 에서 JSON 경로와 직접 구성 경로 비교에 사용
+    static Map<String, Object> toJsonMap(RsaFields fields) {
+        Map<String, Object> rsaMessage = new LinkedHashMap<>();
+
+        // 공통 필드를 추가합니다.
+        rsaMessage.put("msgCnt", fields.getMsgCnt());
+        rsaMessage.put("timeStamp", fields.getTimeStamp());
+        rsaMessage.put("typeEvent", 0);
+        rsaMessage.put("description", fields.getDescription());
+        rsaMessage.put("priority", "01");
+        rsaMessage.put("heading", fields.getHeadingText());   //sensor.json 의 rotation
+
+        // 위치 및 방향 정보를 추가합니다.
+        Map<String, Object> utcTime = new LinkedHashMap<>();
+        utcTime.put("year", fields.getYear());
+        utcTime.put("month", fields.getMonth());
+        utcTime.put("day", fields.getDay());
+        utcTime.put("hour", fields.getHour());
+        utcTime.put("minute", fields.getMinute());
+        utcTime.put("second", fields.getSecond());
+        utcTime.put("offset", fields.getOffset());
 
-        //  relatedUuids에는 연관된 데이터의 JSON 문자열이 포함되어 있습니다.
-        for (String uuidJson : relatedUuids) {
+        Map<String, Object> position = new LinkedHashMap<>();
+        position.put("utcTime", utcTime);
+        position.put("long", fields.getLongitude());
+        position.put("lat", fields.getLatitude());
+        position.put("elevation", fields.getElevation());
+        rsaMessage.put("position", position);
+
+        Map<String, Object> cits = new LinkedHashMap<>();
+        cits.put("stopID", fields.getStopID());
+        cits.put("text", fields.getText());
+        cits.put("sendUniqueId", fields.getSendUniqueId());
+        Map<String, Object> regExtValue = new LinkedHashMap<>();
+        regExtValue.put("cits", cits);
+
+        Map<String, Object> regionalItem = new LinkedHashMap<>();
+        regionalItem.put("regionId", 4);
+        regionalItem.put("regExtValue", regExtValue);
+        List<Map<String, Object>> regional = new ArrayList<>();
+        regional.add(regionalItem);
+        rsaMessage.put("regional", regional);
+
+        return rsaMessage;
+    }
+
+    // 조인 행을 당겨와 메시지를 만들 수 있는 행의 값만 반환하는 iterator
+    private static final class RsaIterator implements Iterator<RsaFields> {
+        private final Iterator<JoinedAnnotationRecord> records;
+        private final IntSupplier counter;
+        private final EgoPositions positions = EgoPositions.of(DataStorage.getInstance().getEgoPoseTable(), UTM_ZONE);
+        private final SensorHeadings headings = SensorHeadings.of(DataStorage.getInstance().getSensorTable());
+        private RsaFields next;
+
+        private RsaIterator(Iterator<JoinedAnnotationRecord> records, IntSupplier counter) {
+            this.records = records;
+            this.counter = counter;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null && records.hasNext()) {
+                next = createRsaFields(records.next(), positions, headings, counter);
+            }
+            return next != null;
+        }
+
+        @Override
+        public RsaFields next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            RsaFields fields = next;
+            next = null;
+            return fields;
+        }
+    }
+
+    // iterator 하나에서만 쓰는 msgCnt
+    private static final class StreamCounter implements IntSupplier {
+        private int next;
+
+        private StreamCounter(int first) {
+            this.next = Math.floorMod(first, 128);
+        }
+
+        @Override
+        public int getAsInt() {
+            int count = next;
+            next = (next + 1) % 128;
+            return count;
+        }
+    }
+
+    // 병렬 생성의 조인 행 조각
+    private static final class Partition {
+        private final List<RsaFields> fields = new ArrayList<>();
+        // 이 조각에서 msgCnt 를 증가시킨 행 수 (description 이 없어 건너뛴 행 포함)
+        private int counted;
+        // 앞 조각들의 counted 합
+        private int firstCount;
+
+        private static Partition compute(List<JoinedAnnotationRecord> records, EgoPositions positions, SensorHeadings headings) {
+            Partition partition = new Partition();
+            for (JoinedAnnotationRecord record : records) {
+                RsaFields fields = createRsaFields(record, positions, headings, () -> partition.counted++);
+                if (fields != null) {
+                    partition.fields.add(fields);
+                }
+            }
+            return partition;
+        }
+
+        private List<byte[]> encode(int start) {
+            RsaBerPatcher patcher = RsaBerPatcher.forCurrentThread();
+            List<byte[]> frames = new ArrayList<>(fields.size());
             try {
-                // JSON 문자열을 Map 객체로 변환합니다.
-                Map<String, Object> uuidMap = mapper.readValue(uuidJson, new TypeReference<>() {
-                });
-                // Construct the JSON message
-                Map<String, Object> rsaMessage = new LinkedHashMap<>();
-
-                // Double 형태로 변환한 후 longValue() 메소드를 사용 EgoPoseDto 객체에서 타임스탬프 가져와서 타임스탬프를 연도와 시간으로 변환
-                String timestampStr = String.valueOf(uuidMap.get("egoPose_timestamp"));
-                long timestamp = (timestampStr != null && !timestampStr.isEmpty()) ? (long) Double.parseDouble(timestampStr) : 0;
-                //timestamp 값 분 단위,integer 타입, 527040 범위 안으로 변경하여 가져오기
-                int minutesOfYear = minuteOfTheYear(Long.toString(timestamp));
-
-                // EgoPoseDto 객체에서 translation 가져와서  위경고도로 변환
-                // 위치 및 방향 정보를 추가하는 부분에서의 타입 안전성 확인
-                if (uuidMap.get("egoPose_translation") instanceof List) {
-                    @SuppressWarnings("unchecked")
-                    List<Double> translation = (List<Double>) uuidMap.get("egoPose_translation");
-                    double utmX = translation.get(0); // ex)326865.27824246883
-                    double utmY = translation.get(1); // ex)4147694.5101196766
-                    double elevation = translation.get(2); // ex)49.126053147017956
-                    long[] utmToLatLon = MetaDataConvertUtil.CoordinateConverter.utmToLatLon(utmX, utmY, UTM_ZONE, elevation);
-
-                    // sensor.json 의 rotation 값을 quaternionToHeading 를 통해 변환함 (ffff)
-                    Object sensorRotationObj = uuidMap.get("sensor_rotation");
-                    String heading = (sensorRotationObj instanceof List) ?
-                            MetaDataConvertUtil.quaternionToHeading((List<Double>) sensorRotationObj) :
-                            "0";  //  기본값
-
-                    // 위치 및 방향 정보를 추가합니다.
-                    Map<String, Object> position = new LinkedHashMap<>();
-
-                    // 공통 필드를 추가합니다.
-                    rsaMessage.put("msgCnt", msgCnt);
-                    msgCnt = (msgCnt + 1) % 128;  // msgCnt가 127을 넘지 않도록 함
-                    rsaMessage.put("timeStamp", minutesOfYear);
-
-                    // "description" 필드에 ITIScode 값을 할당합니다. 주의할 차량과 차량의 이동상태,가시성 낮음 추가해야함 itis 코드를 이용하여 로직 추가해야함 instance.json 의 category_name , frame_annotation.json 의  vehicle_state
-                    rsaMessage.put("typeEvent", 0);
-                    // Determine ITIS codes for the message
-                    String categoryName = uuidMap.containsKey("instance_categoryName") ? (String) uuidMap.get("instance_categoryName") : "0";
-                    String vehicleState = uuidMap.containsKey("frameAnnotation_attribute") && uuidMap.get("frameAnnotation_attribute") != null
-                            ? (String) ((Map<String, Object>) uuidMap.get("frameAnnotation_attribute")).get("vehicle_state") : "0";
-                    List<Integer> descriptionValues = getDescriptionValuesFromSomeSource(categoryName, vehicleState);
-
-                    // categoryName 와 vehicleState가 둘다 유효하지 않은 경우 이 메시지를 건너뛰거나 생략함. "description"
-                    if (descriptionValues.isEmpty()) {
-                        continue; // 현재 생성을 건너뛰고 다음 메세지를 생성합니다.
-                    }
-                    rsaMessage.put("description", descriptionValues);
-                    // 여기까지 ITIS 코드 추가 로직
-
-                    rsaMessage.put("priority", "01");
-                    rsaMessage.put("heading", heading);   //sensor.json 의 rotation
-
-                    // convertTimestampToUtcMap에는 문자열 형태의 타임스탬프를 전달
-                    position.put("utcTime", convertTimestampToUtcMap(Long.toString(timestamp)));
-                    position.put("long", utmToLatLon[1]);  // ego_pose.json 파일의 translation,
-                    position.put("lat", utmToLatLon[0]);  // ego_pose.json 파일의 translation,
-                    position.put("elevation", utmToLatLon[2]);  // ego_pose.json 파일의 translation,
-                    rsaMessage.put("position", position);
-                    List<Map<String, Object>> regional = new ArrayList<>();
-                    Map<String, Object> regionalItem = new LinkedHashMap<>();
-                    regionalItem.put("regionId", 4);
-
-                    Map<String, Object> regExtValue = new LinkedHashMap<>();
-                    Map<String, Object> cits = new LinkedHashMap<>();
-                    cits.put("stopID", uuidMap.get("log_location"));//log.json 의 location 로그가 캡처된 위치/명칭
-                    cits.put("text", uuidMap.get("frameData_uuid"));  //frameData.json 의 uuid
-                    cits.put("sendUniqueId", uuidMap.get("sensor_name")); //sensor.json 의 name // 어떤 장비로 인지 하였는지
-                    regExtValue.put("cits", cits);
-
-                    regionalItem.put("regExtValue", regExtValue);
-                    regional.add(regionalItem);
-
-                    rsaMessage.put("regional", regional);
-
-                    // 최종적인 RSA 메시지를 구성합니다.
-                    messages.add(mapper.writeValueAsString(rsaMessage));
+                for (RsaFields local : fields) {
+                    int count = (int) (((long) start + firstCount + local.getMsgCnt()) % 128);
+                    frames.add(patcher.encode(local.withMsgCnt(count)));
                 }
-            } catch (ClassCastException | NullPointerException e) {
-                e.printStackTrace();
+            } catch (JsonToJ2735Exception e) {
+                throw new CompletionException(e);
             }
+            return frames;
         }
-        return messages; // 여러 메시지를 리스트로 반환
+    }
+
+    // 값이 없는 문자열 필드는 "0" 으로 채움
+    private static String orZero(String value) {
+        return value == null || value.isEmpty() ? "0" : value;
     }
 
     public static List<Integer> getDescriptionValuesFromSomeSource(String categoryName, String vehicleState) {
@@ -0,0 +1,66 @@
+package com.ns21.rsa.creator;
+
+import com.ns21.common.mist.parser.PoseTable;
+import com.ns21.common.util.MetaDataConvertUtil;
+
+/**
+ * packageName    : com.ns21.rsa.creator
+ * fileName       : SensorHeadings.java
+ * author         : kjg08
+ * date           : 2026-10-18
+ * description    :sensor 행별 heading 미리 계산 (sensor rotation 은 센서마다 고정이므로 메시지마다 다시 계산하지 않음)
+ *                 HeadingSlice 값과 JSON 의 16진수 문자열을 함께 보관, rotation 이 없는 센서는 이전과 같이 0 / "0"
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18        kjg08           최초 생성
+ */
+final class SensorHeadings {
+    static final int DEFAULT_VALUE = 0;
+    static final String DEFAULT_TEXT = "0";
+
+    private final PoseTable sensors;
+    private final int[] values;
+    private final String[] texts;
+
+    private SensorHeadings(PoseTable sensors) {
+        this.sensors = sensors;
+        values = new int[sensors.size()];
+        texts = new String[sensors.size()];
+        for (int row = 0; row < values.length; row++) {
+            if (sensors.hasRotation(row)) {
+                values[row] = MetaDataConvertUtil.quaternionToHeadingValue(sensors.qw(row), sensors.qx(row),
+                        sensors.qy(row), sensors.qz(row));
+                texts[row] = MetaDataConvertUtil.headingToHex(values[row]);
+            } else {
+                values[row] = DEFAULT_VALUE;
+                texts[row] = DEFAULT_TEXT;
+            }
+        }
+    }
+
+    static SensorHeadings of(PoseTable sensors) {
+        return new SensorHeadings(sensors);
+    }
+
+    /**
+     * sensor uuid 대리키의 행 번호 (PoseTable.rowOf)
+     */
+    int rowOf(int id) {
+        return sensors.rowOf(id);
+    }
+
+    /**
+     * HeadingSlice 값, row 가 PoseTable.NO_ROW 이면 기본값
+     */
+    int value(int row) {
+        return row == PoseTable.NO_ROW ? DEFAULT_VALUE : values[row];
+    }
+
+    /**
+     * JSON 의 heading 문자열 (ex "0168"), row 가 PoseTable.NO_ROW 이면 기본값
+     */
+    String text(int row) {
+        return row == PoseTable.NO_ROW ? DEFAULT_TEXT : texts[row];
+    }
+}
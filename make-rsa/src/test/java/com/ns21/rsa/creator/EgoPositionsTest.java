@@ -0,0 +1,74 @@
+package com.ns21.rsa.creator;
+
+import com.ns21.common.mist.dto.EgoPoseDto;
+import com.ns21.common.mist.dto.UuidTable;
+import com.ns21.common.mist.parser.DataStorage;
+import com.ns21.common.mist.parser.PoseTable;
+import com.ns21.common.util.MetaDataConvertUtil;
+import com.ns21.common.util.PoseKernels;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * packageName    : com.ns21.rsa.creator
+ * fileName       : EgoPositionsTest.java
+ * author         : kjg08
+ * date           : 2026-10-18
+ * description    :EgoPositions 를 스칼라 PoseKernel 로 일괄 변환한 값이 행마다 CoordinateConverter.utmToLatLon 과 같은지 확인
+ *                 mm 반올림 경계/음수 고도/translation 이 없는 행 포함
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18        kjg08           최초 생성
+ */
+public class EgoPositionsTest {
+    private static final int ZONE = 52;
+
+    @Test
+    public void scalarKernelMatchesCoordinateConverter() {
+        Random random = new Random(52);
+        UuidTable uuids = UuidTable.getInstance();
+        uuids.clear();
+        List<EgoPoseDto> egoPoses = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            EgoPoseDto pose = new EgoPoseDto();
+            pose.setUuid(uuids.intern(String.format("00000000-0000-4000-8000-%012x", i)));
+            double x = 300_000 + random.nextDouble() * 100_000;
+            double y = 4_100_000 + random.nextDouble() * 100_000;
+            if (i % 7 == 0) {
+                // mm 반올림 경계 (0.0005)
+                x = Math.floor(x) + 0.0005;
+                y = Math.floor(y) + 0.0015;
+            }
+            double z = random.nextDouble() * 200 - 20;
+            // translation 이 없는 행
+            pose.setTranslation(i % 97 == 0 ? null : new double[]{x, y, z});
+            egoPoses.add(pose);
+        }
+        DataStorage storage = DataStorage.getInstance();
+        storage.storeEgoPoses(egoPoses);
+        storage.buildIndexes();
+        PoseTable table = storage.getEgoPoseTable();
+
+        EgoPositions positions = EgoPositions.of(table, ZONE, PoseKernels.scalar());
+        for (EgoPoseDto pose : egoPoses) {
+            int row = positions.rowOf(pose.getUuid());
+            double[] t = pose.getTranslation();
+            if (t == null) {
+                assertFalse(positions.hasPosition(row));
+                continue;
+            }
+            assertTrue(positions.hasPosition(row));
+            assertArrayEquals(MetaDataConvertUtil.CoordinateConverter.utmToLatLon(t[0], t[1], ZONE, t[2]),
+                    positions.latLonElevation(row));
+        }
+        assertFalse(positions.hasPosition(PoseTable.NO_ROW));
+    }
+}
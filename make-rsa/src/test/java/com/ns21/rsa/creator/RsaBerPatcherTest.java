@@ -0,0 +1,99 @@
+package com.ns21.rsa.creator;
+
+import com.ns21.common.exception.JsonToJ2735Exception;
+import com.ns21.common.mist.codec.J2735Encoder;
+import com.ns21.common.util.EpochTime;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+/**
+ * packageName    : com.ns21.rsa.creator
+ * fileName       : RsaBerPatcherTest.java
+ * author         : kjg08
+ * date           : 2026-10-18
+ * description    :참조 BER 패치 결과가 전체 코더로 인코딩한 바이트와 같은지 확인 (UTF-8 문자열 필드 포함)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18        kjg08           최초 생성
+ */
+public class RsaBerPatcherTest {
+    private final RsaBerPatcher patcher = RsaBerPatcher.forCurrentThread();
+
+    @Test
+    public void patchesAsciiText() throws JsonToJ2735Exception {
+        assertPatchedEqualsFull(fields(1, "stop-01", "left lane", "id-0001"),
+                fields(2, "stop-02", "right lan", "id-0002"));
+    }
+
+    @Test
+    public void patchesMultiByteText() throws JsonToJ2735Exception {
+        // "정지선" 은 UTF-8 9 바이트로 참조("crosswalk")와 길이가 같음
+        assertPatchedEqualsFull(fields(3, "stop-01", "crosswalk", "id-0001"),
+                fields(4, "stop-01", "정지선", "id-0001"));
+    }
+
+    @Test
+    public void surrogatesFailLikeFullCoder() throws JsonToJ2735Exception {
+        // UTF8String16 은 BMP 문자만 허용, '?' 로 대체하거나 4 바이트로 인코딩하면 참조("abcd")와 길이가 같아질 수 있지만
+        // 패치하지 않고 전체 코더와 같이 실패해야 함
+        for (String text : new String[]{"ab\uD800c", "abc\uDC00", "\uD83D\uDE97"}) {
+            patcher.encode(fields(5, "stop-01", "abcd", "id-0001"));
+            RsaFields malformed = fields(6, "stop-01", text, "id-0001");
+            assertThrows(JsonToJ2735Exception.class,
+                    () -> J2735Encoder.encode(RsaFrameTemplate.forCurrentThread().fill(malformed)));
+            assertThrows(JsonToJ2735Exception.class, () -> patcher.encode(malformed));
+            assertThrows(JsonToJ2735Exception.class, () -> patcher.encode(malformed, ByteBuffer.allocate(512)));
+        }
+    }
+
+    @Test
+    public void patchesMixedWidthText() throws JsonToJ2735Exception {
+        // 1 / 2 / 3 바이트 문자 혼합 ("aé정" = 6 바이트)
+        assertPatchedEqualsFull(fields(7, "stop-01", "abcdef", "id-0001"),
+                fields(8, "stop-01", "a\u00e9\uc815", "id-0001"));
+    }
+
+    @Test
+    public void patchesIntoByteBuffer() throws JsonToJ2735Exception {
+        RsaFields reference = fields(9, "stop-01", "정지선", "id-0001");
+        RsaFields next = fields(10, "stop-01", "횡단보도", "id-0001");
+        patcher.encode(reference);
+        byte[] expected = J2735Encoder.encode(RsaFrameTemplate.forCurrentThread().fill(next));
+
+        ByteBuffer heap = ByteBuffer.allocate(expected.length + 8);
+        heap.position(3);
+        assertEquals(expected.length, patcher.encode(next, heap));
+        byte[] actual = new byte[expected.length];
+        heap.position(3);
+        heap.get(actual);
+        assertArrayEquals(expected, actual);
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(expected.length);
+        patcher.encode(next, direct);
+        direct.flip();
+        direct.get(actual);
+        assertArrayEquals(expected, actual);
+    }
+
+    // reference 로 참조를 등록한 뒤 next 가 패치 경로로 인코딩되고 전체 코더 결과와 같은지 확인
+    private void assertPatchedEqualsFull(RsaFields reference, RsaFields next) throws JsonToJ2735Exception {
+        patcher.encode(reference);
+        long patchedBefore = patcher.getPatched();
+        byte[] actual = patcher.encode(next);
+        assertEquals("expected the reference to be reused", patchedBefore + 1, patcher.getPatched());
+        assertArrayEquals(J2735Encoder.encode(RsaFrameTemplate.forCurrentThread().fill(next)), actual);
+    }
+
+    static RsaFields fields(int msgCnt, String stopID, String text, String sendUniqueId) {
+        return new RsaFields(msgCnt, 355_000 + msgCnt, List.of(268, 7186), 0x0168, "0168",
+                EpochTime.parse("1662014357.85"), new long[]{375_012_345L, 1_270_123_456L, 49},
+                stopID, text, sendUniqueId);
+    }
+}
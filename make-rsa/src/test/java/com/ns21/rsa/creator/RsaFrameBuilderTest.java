@@ -0,0 +1,49 @@
+package com.ns21.rsa.creator;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ns21.common.enums.j2735.CODER_TYPE;
+import com.ns21.common.enums.j2735.J2735MessageID;
+import com.ns21.common.exception.JsonToJ2735Exception;
+import com.ns21.common.mist.codec.J2735Codec;
+import com.ns21.common.mist.codec.JsonToJ2735;
+import org.junit.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.ns21.rsa.creator.RsaBerPatcherTest.fields;
+import static org.junit.Assert.assertArrayEquals;
+
+/**
+ * packageName    : com.ns21.rsa.creator
+ * fileName       : RsaFrameBuilderTest.java
+ * author         : kjg08
+ * date           : 2026-10-18
+ * description    :MessageFrame 직접 구성(RsaFrameBuilder) 결과가 기존 JSON 메시지 → OSS JSON 코더 경로와 같은 바이트인지 확인
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18        kjg08           최초 생성
+ */
+public class RsaFrameBuilderTest {
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    public void matchesJsonPath() throws JsonToJ2735Exception, JsonProcessingException {
+        List<RsaFields> samples = List.of(
+                fields(0, "stop-01", "left lane", "id-0001"),
+                fields(64, "stop-0002", "정지선", "id-0002"),
+                fields(127, "s", "pedestrian crossing ahead", "unique-0003"));
+        for (RsaFields f : samples) {
+            Map<String, Object> frame = new LinkedHashMap<>();
+            frame.put("messageId", J2735MessageID.RSA.getId());
+            frame.put("value", RsaValueCreator.toJsonMap(f));
+            String json = mapper.writeValueAsString(frame);
+            for (CODER_TYPE type : new CODER_TYPE[]{CODER_TYPE.BER, CODER_TYPE.UPER}) {
+                assertArrayEquals(JsonToJ2735.convertToBytes(json, type), J2735Codec.encode(RsaFrameBuilder.build(f), type));
+            }
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.ns21.rsa.creator;
+
+import com.ns21.common.mist.dto.*;
+import com.ns21.common.mist.parser.DataStorage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * packageName    : com.ns21.rsa.creator
+ * fileName       : RsaTestData.java
+ * author         : kjg08
+ * date           : 2026-10-18
+ * description    :메타데이터 파일 없이 조인/메시지 생성을 확인하기 위한 합성 DataStorage 데이터
+ *                 frameData 마다 annotation 3 건, 그중 일부는 ITIS 코드가 없어 메시지를 만들지 않는 행 (msgCnt 는 증가)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18        kjg08           최초 생성
+ */
+final class RsaTestData {
+    private static final String[] CATEGORIES = {
+            "dynamic_object.vehicle.truck", "dynamic_object.human.pedestrian", "static_object.unknown",
+            "movable_object.traffic_cone", "dynamic_object.vehicle.ambulance"};
+    private static final String[] VEHICLE_STATES = {"moving", "stopped", "parked"};
+    private static final int INSTANCES = 40;
+    private static final int ANNOTATIONS_PER_FRAME_DATA = 3;
+
+    private RsaTestData() {
+    }
+
+    /**
+     * frameData 를 frameDataCount 건 만들어 DataStorage 에 저장하고 인덱스를 생성
+     */
+    static void populate(int frameDataCount) {
+        UuidTable uuids = UuidTable.getInstance();
+        uuids.clear();
+        int[] next = {0};
+
+        LogDto log = new LogDto();
+        log.setUuid(uuids.intern(uuid(next)));
+        log.setLocation("Pangyo");
+
+        DatasetDto dataset = new DatasetDto();
+        dataset.setUuid(uuids.intern(uuid(next)));
+        dataset.setLogUuid(log.getUuid());
+
+        List<SensorDto> sensors = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            SensorDto sensor = new SensorDto();
+            sensor.setUuid(uuids.intern(uuid(next)));
+            sensor.setName("camera-" + i);
+            double half = Math.toRadians(30 + 90 * i) / 2;
+            sensor.setRotation(new double[]{Math.cos(half), 0, 0, Math.sin(half)});
+            sensors.add(sensor);
+        }
+
+        List<InstanceDto> instances = new ArrayList<>();
+        for (int i = 0; i < INSTANCES; i++) {
+            InstanceDto instance = new InstanceDto();
+            instance.setUuid(uuids.intern(uuid(next)));
+            instance.setCategoryName(CATEGORIES[i % CATEGORIES.length]);
+            instances.add(instance);
+        }
+
+        List<FrameDto> frames = new ArrayList<>();
+        List<EgoPoseDto> egoPoses = new ArrayList<>();
+        List<FrameDataDto> frameData = new ArrayList<>();
+        List<FrameAnnotationDto> annotations = new ArrayList<>();
+        for (int i = 0; i < frameDataCount; i++) {
+            FrameDto frame = new FrameDto();
+            frame.setUuid(uuids.intern(uuid(next)));
+            frame.setDatasetUuid(dataset.getUuid());
+            frames.add(frame);
+
+            EgoPoseDto egoPose = new EgoPoseDto();
+            egoPose.setUuid(uuids.intern(uuid(next)));
+            egoPose.setTimestamp((1_662_014_357L + i / 10) + "." + (i % 10) + "5");
+            egoPose.setTranslation(new double[]{326_865.27 + i * 0.37, 4_147_694.51 + i * 0.53, 49.12});
+            egoPoses.add(egoPose);
+
+            FrameDataDto data = new FrameDataDto();
+            data.setUuid(uuids.intern(uuid(next)));
+            data.setFrameUuid(frame.getUuid());
+            data.setEgoPoseUuid(egoPose.getUuid());
+            data.setSensorUuid(sensors.get(i % sensors.size()).getUuid());
+            frameData.add(data);
+
+            for (int a = 0; a < ANNOTATIONS_PER_FRAME_DATA; a++) {
+                int n = i * ANNOTATIONS_PER_FRAME_DATA + a;
+                FrameAnnotationDto annotation = new FrameAnnotationDto();
+                annotation.setUuid(uuids.intern(uuid(next)));
+                annotation.setFrameDataUuid(data.getUuid());
+                annotation.setInstanceUuid(instances.get(n % INSTANCES).getUuid());
+                annotation.setAttribute(Map.of("vehicle_state", VEHICLE_STATES[n % VEHICLE_STATES.length]));
+                annotations.add(annotation);
+            }
+        }
+
+        DataStorage storage = DataStorage.getInstance();
+        storage.storeLogs(List.of(log));
+        storage.storeDatasets(List.of(dataset));
+        storage.storeSensors(sensors);
+        storage.storeInstances(instances);
+        storage.storeFrames(frames);
+        storage.storeEgoPoses(egoPoses);
+        storage.storeFrameDatas(frameData);
+        storage.storeFrameAnnotations(annotations);
+        storage.buildIndexes();
+        uuids.freeze();
+    }
+
+    private static String uuid(int[] next) {
+        return String.format("00000000-0000-4000-8000-%012x", next[0]++);
+    }
+}
@@ -0,0 +1,89 @@
+package com.ns21.rsa.creator;
+
+import com.ns21.common.exception.JsonToJ2735Exception;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * packageName    : com.ns21.rsa.creator
+ * fileName       : RsaValueCreatorTest.java
+ * author         : kjg08
+ * date           : 2026-10-18
+ * description    :firstMsgCnt stream 이 서로 섞이지 않는지, ForkJoinPool 병렬 생성이 순차 생성과 같은 바이트인지 확인
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18        kjg08           최초 생성
+ */
+public class RsaValueCreatorTest {
+    // 병렬 생성이 여러 조각(MIN_PARTITION_SIZE 256)으로 나뉘도록 조인 행 600 건
+    private static final int FRAME_DATA = 200;
+
+    private static ForkJoinPool pool;
+
+    @BeforeClass
+    public static void setUp() {
+        RsaTestData.populate(FRAME_DATA);
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    public void interleavedStreamsCountIndependently() {
+        List<RsaFields> first = drain(RsaValueCreator.rsaFieldsIterator(0));
+        List<RsaFields> second = drain(RsaValueCreator.rsaFieldsIterator(100));
+        assertFalse(first.isEmpty());
+
+        // 두 verticle 이 번갈아 전송하는 경우
+        Iterator<RsaFields> a = RsaValueCreator.rsaFieldsIterator(0);
+        Iterator<RsaFields> b = RsaValueCreator.rsaFieldsIterator(100);
+        for (int i = 0; i < first.size(); i++) {
+            assertEquals(first.get(i).getMsgCnt(), a.next().getMsgCnt());
+            assertEquals(second.get(i).getMsgCnt(), b.next().getMsgCnt());
+        }
+        assertFalse(a.hasNext());
+        assertFalse(b.hasNext());
+        assertEquals(0, first.get(0).getMsgCnt());
+        assertEquals(100, second.get(0).getMsgCnt());
+        for (RsaFields f : first) {
+            assertTrue(f.getMsgCnt() >= 0 && f.getMsgCnt() < 128);
+        }
+    }
+
+    @Test
+    public void parallelMatchesSequential() throws JsonToJ2735Exception {
+        for (int firstMsgCnt : new int[]{0, 100, -1}) {
+            List<byte[]> expected = new ArrayList<>();
+            RsaBerPatcher patcher = RsaBerPatcher.forCurrentThread();
+            for (RsaFields f : drain(RsaValueCreator.rsaFieldsIterator(firstMsgCnt))) {
+                expected.add(patcher.encode(f));
+            }
+            List<byte[]> actual = RsaValueCreator.createRsaFramesParallel(pool, firstMsgCnt);
+            assertEquals(expected.size(), actual.size());
+            for (int i = 0; i < expected.size(); i++) {
+                assertArrayEquals("message " + i, expected.get(i), actual.get(i));
+            }
+        }
+    }
+
+    private static List<RsaFields> drain(Iterator<RsaFields> fields) {
+        List<RsaFields> list = new ArrayList<>();
+        fields.forEachRemaining(list::add);
+        return list;
+    }
+}
@@ -0,0 +1,191 @@
+package com.ns21.rsa.creator;
+
+import com.ns21.common.enums.j2735.CODER_TYPE;
+import com.ns21.common.exception.JsonToJ2735Exception;
+import com.ns21.common.mist.codec.J2735Codec;
+import dsrc.addgrpd.CITSRSA;
+import dsrc.addgrpd.RSA_addGrpD;
+import dsrc.dsrc.MessageFrame;
+import dsrc.dsrc.RoadSideAlert;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.buffer.Buffer;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.ns21.rsa.creator.RsaBerPatcherTest.fields;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+/**
+ * packageName    : com.ns21.rsa.creator
+ * fileName       : RsaWireCodecTest.java
+ * author         : kjg08
+ * date           : 2026-10-18
+ * description    :RSA MessageFrame 의 BER/UPER 왕복, RsaFrameTemplate / RsaBerPatcher 결과가 RsaFrameBuilder 와 같은지 확인
+ *                 J2735Codec 의 ByteBuffer / Vert.x Buffer / offset·length 입출력과 실패 시 버퍼 상태 확인
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18        kjg08           최초 생성
+ * 2026-10-18        kjg08           ByteBuffer / Vert.x Buffer / slice 입출력 테스트 추가
+ */
+public class RsaWireCodecTest {
+    private static final List<RsaFields> FIELDS = List.of(
+            fields(0, "stop-01", "left lane", "id-0001"),
+            fields(1, "stop-0002", "정지선", "id-0002"),
+            fields(127, "s", "pedestrian crossing ahead", "unique-0003"));
+
+    @Test
+    public void berAndUperRoundTrip() throws JsonToJ2735Exception {
+        RsaFrameTemplate template = RsaFrameTemplate.forCurrentThread();
+        for (RsaFields f : FIELDS) {
+            byte[] ber = J2735Codec.encode(template.fill(f), CODER_TYPE.BER);
+            byte[] uper = J2735Codec.encode(template.fill(f), CODER_TYPE.UPER);
+            assertArrayEquals(ber, J2735Codec.transcode(uper, CODER_TYPE.UPER, CODER_TYPE.BER));
+            assertArrayEquals(uper, J2735Codec.transcode(ber, CODER_TYPE.BER, CODER_TYPE.UPER));
+        }
+    }
+
+    @Test
+    public void templateAndPatcherMatchBuilder() throws JsonToJ2735Exception {
+        RsaFrameTemplate template = RsaFrameTemplate.forCurrentThread();
+        RsaBerPatcher patcher = RsaBerPatcher.forCurrentThread();
+        for (RsaFields f : FIELDS) {
+            for (CODER_TYPE type : new CODER_TYPE[]{CODER_TYPE.BER, CODER_TYPE.UPER}) {
+                assertArrayEquals(J2735Codec.encode(RsaFrameBuilder.build(f), type),
+                        J2735Codec.encode(template.fill(f), type));
+            }
+            assertArrayEquals(J2735Codec.encode(RsaFrameBuilder.build(f), CODER_TYPE.BER), patcher.encode(f));
+        }
+    }
+
+    @Test
+    public void refillReplacesRegionalText() throws JsonToJ2735Exception {
+        // 같은 템플릿을 인코딩한 뒤 다시 채워도 regional 확장에 이전 메시지 값이 남지 않아야 함
+        RsaFrameTemplate template = RsaFrameTemplate.forCurrentThread();
+        RsaFields first = fields(10, "stop-01", "first message", "id-0001");
+        RsaFields second = fields(11, "stop-99", "두 번째 메시지", "id-0099");
+        for (CODER_TYPE type : new CODER_TYPE[]{CODER_TYPE.UPER, CODER_TYPE.BER}) {
+            byte[] firstBytes = J2735Codec.encode(template.fill(first), type);
+            byte[] secondBytes = J2735Codec.encode(template.fill(second), type);
+
+            assertCits(first, J2735Codec.decode(firstBytes, type));
+            assertCits(second, J2735Codec.decode(secondBytes, type));
+            assertArrayEquals(J2735Codec.encode(RsaFrameBuilder.build(second), type), secondBytes);
+        }
+    }
+
+    @Test
+    public void byteBufferMatchesByteArray() throws JsonToJ2735Exception {
+        for (RsaFields f : FIELDS) {
+            MessageFrame frame = RsaFrameBuilder.build(f);
+            for (CODER_TYPE type : new CODER_TYPE[]{CODER_TYPE.BER, CODER_TYPE.UPER}) {
+                byte[] expected = J2735Codec.encode(frame, type);
+                for (ByteBuffer out : new ByteBuffer[]{ByteBuffer.allocate(1024), ByteBuffer.allocateDirect(1024)}) {
+                    // position 부터 기록하고 그만큼 이동
+                    out.position(3);
+                    assertEquals(expected.length, J2735Codec.encode(frame, type, out));
+                    assertEquals(3 + expected.length, out.position());
+
+                    out.flip().position(3);
+                    ByteBuffer copy = out.duplicate();
+                    byte[] written = new byte[copy.remaining()];
+                    copy.get(written);
+                    assertArrayEquals(expected, written);
+
+                    // decode 는 limit 까지 읽고 position 을 limit 으로 이동
+                    if (type == CODER_TYPE.BER) {
+                        assertCits(f, J2735Codec.decode(out, type));
+                        assertEquals(out.limit(), out.position());
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void byteBufferOverflowKeepsPosition() {
+        MessageFrame frame = RsaFrameBuilder.build(FIELDS.get(2));
+        for (CODER_TYPE type : new CODER_TYPE[]{CODER_TYPE.BER, CODER_TYPE.UPER}) {
+            int length = encodedLength(frame, type);
+            ByteBuffer out = ByteBuffer.allocate(2 + length - 1);
+            out.position(2);
+            assertThrows(JsonToJ2735Exception.class, () -> J2735Codec.encode(frame, type, out));
+            assertEquals(2, out.position());
+        }
+    }
+
+    @Test
+    public void vertxBufferAppendsAndDecodesSlice() throws JsonToJ2735Exception {
+        Buffer out = Buffer.buffer().appendString("hd");
+        int[] offsets = new int[FIELDS.size()];
+        int[] lengths = new int[FIELDS.size()];
+        for (int i = 0; i < FIELDS.size(); i++) {
+            offsets[i] = out.length();
+            lengths[i] = J2735Codec.encode(RsaFrameBuilder.build(FIELDS.get(i)), CODER_TYPE.BER, out);
+            assertEquals(offsets[i] + lengths[i], out.length());
+        }
+        // 이어 붙인 메시지를 각각 복사 없이 디코딩
+        for (int i = FIELDS.size() - 1; i >= 0; i--) {
+            assertCits(FIELDS.get(i), J2735Codec.decode(out, offsets[i], lengths[i], CODER_TYPE.BER));
+        }
+        assertThrows(JsonToJ2735Exception.class, () -> J2735Codec.decode(out, out.length() - 1, 2, CODER_TYPE.BER));
+        assertThrows(JsonToJ2735Exception.class, () -> J2735Codec.decode(out, -1, 2, CODER_TYPE.BER));
+        // offset + length 가 int 범위를 넘어도 범위 밖으로 처리
+        assertThrows(JsonToJ2735Exception.class, () -> J2735Codec.decode(out, 1, Integer.MAX_VALUE, CODER_TYPE.BER));
+    }
+
+    @Test
+    public void vertxBufferKeepsLengthOnFailure() {
+        // 필수 값이 없는 MessageFrame 은 인코딩 실패
+        Buffer invalid = Buffer.buffer().appendString("hd");
+        assertThrows(JsonToJ2735Exception.class, () -> J2735Codec.encode(new MessageFrame(), CODER_TYPE.BER, invalid));
+        assertEquals("hd", invalid.toString());
+
+        // 최대 크기가 1 byte 모자란 Buffer 는 실패, 일부 바이트도 남지 않아야 함 (UPER coder 는 여러 번 나누어 기록)
+        MessageFrame frame = RsaFrameBuilder.build(FIELDS.get(2));
+        for (CODER_TYPE type : new CODER_TYPE[]{CODER_TYPE.BER, CODER_TYPE.UPER}) {
+            Buffer full = Buffer.buffer(Unpooled.buffer(2, 2 + encodedLength(frame, type) - 1)).appendString("hd");
+            assertThrows(JsonToJ2735Exception.class, () -> J2735Codec.encode(frame, type, full));
+            assertEquals("hd", full.toString());
+        }
+    }
+
+    @Test
+    public void byteArraySliceDecodes() throws JsonToJ2735Exception {
+        RsaFields f = FIELDS.get(1);
+        for (CODER_TYPE type : new CODER_TYPE[]{CODER_TYPE.BER, CODER_TYPE.UPER}) {
+            byte[] encoded = J2735Codec.encode(RsaFrameBuilder.build(f), type);
+            byte[] padded = new byte[encoded.length + 5];
+            Arrays.fill(padded, (byte) 0x7F);
+            System.arraycopy(encoded, 0, padded, 2, encoded.length);
+
+            assertCits(f, J2735Codec.decode(padded, 2, encoded.length, type));
+            assertThrows(JsonToJ2735Exception.class, () -> J2735Codec.decode(padded, 4, padded.length, type));
+            assertThrows(JsonToJ2735Exception.class, () -> J2735Codec.decode(padded, 1, Integer.MAX_VALUE, type));
+            assertThrows(JsonToJ2735Exception.class, () -> J2735Codec.decode(padded, 0, 0, type));
+        }
+    }
+
+    private static int encodedLength(MessageFrame frame, CODER_TYPE type) {
+        try {
+            return J2735Codec.encode(frame, type).length;
+        } catch (JsonToJ2735Exception e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private static void assertCits(RsaFields expected, MessageFrame frame) {
+        RoadSideAlert rsa = (RoadSideAlert) frame.getValue().getDecodedValue();
+        RSA_addGrpD regional = (RSA_addGrpD) rsa.getRegional().get(0).getRegExtValue().getDecodedValue();
+        CITSRSA cits = regional.getCits();
+        assertEquals(expected.getMsgCnt(), rsa.getMsgCnt().intValue());
+        assertEquals(expected.getStopID(), cits.getStopID().stringValue());
+        assertEquals(expected.getText(), cits.getText().stringValue());
+        assertEquals(expected.getSendUniqueId(), cits.getSendUniqueId().stringValue());
+    }
+}
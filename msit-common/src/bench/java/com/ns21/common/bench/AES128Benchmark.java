@@ -0,0 +1,169 @@
+package com.ns21.common.bench;
+
+import com.ns21.common.util.AES128;
+import com.ns21.common.util.AES128Engine;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * packageName    : com.ns21.common.bench
+ * fileName       : AES128Benchmark.java
+ * author         : kjg08
+ * date           : 2026-10-18
+ * description    :AES128 암호화 처리량 비교 (호출마다 Cipher 를 만드는 이전 구현 vs AES128Engine 배열/ByteBuffer 제자리 배치)
+ *                 측정 전에 임의 평문으로 이전 구현과 암호문, 복호화/padding 제거 결과가 같은지 확인
+ *                 실행: gradle :msit-common:bench -PbenchMain=com.ns21.common.bench.AES128Benchmark [-PbenchArgs="rounds messageBytes"], 기본 메시지 크기는 RSA BER 평균 크기 정도
+ *                 padding 길이별, 16진수 문자열, buffer 부족까지 포함한 비교는 AES128EngineTest 에서 확인
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18        kjg08           최초 생성
+ * 2026-10-18        kjg08           bench source set 으로 이동
+ */
+public class AES128Benchmark {
+    private static final int DEFAULT_ROUNDS = 5;
+    private static final int DEFAULT_MESSAGE_BYTES = 170;
+    private static final int MESSAGES = 5_000;
+    // AES128 의 KEYNAME 과 같은 값 (이전 구현 재현용)
+    private static final byte[] KEY = {(byte) 0x2b, (byte) 0x7e, (byte) 0x15, (byte) 0x16, (byte) 0x28, (byte) 0xae, (byte) 0xd2, (byte) 0xa6,
+            (byte) 0xab, (byte) 0xf7, (byte) 0x15, (byte) 0x88, (byte) 0x09, (byte) 0xcf, (byte) 0x4f, (byte) 0x3c};
+
+    public static void main(String[] args) throws Exception {
+        int rounds = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ROUNDS;
+        int messageBytes = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_MESSAGE_BYTES;
+
+        Random random = new Random(42);
+        byte[][] messages = new byte[MESSAGES][];
+        for (int i = 0; i < MESSAGES; i++) {
+            // 길이를 섞어서 padding 1~16 바이트 경우를 모두 확인
+            messages[i] = new byte[Math.max(6, messageBytes + random.nextInt(33) - 16)];
+            random.nextBytes(messages[i]);
+        }
+        List<ByteBuffer> buffers = new ArrayList<>();
+        for (byte[] m : messages) {
+            buffers.add(ByteBuffer.allocateDirect(AES128Engine.paddedLength(m.length)));
+        }
+        verify(messages, buffers);
+
+        // 첫 라운드는 워밍업으로 결과에서 제외
+        long[] totals = new long[3];
+        AES128Engine engine = AES128Engine.forCurrentThread();
+        for (int round = 0; round <= rounds; round++) {
+            long[] nanos = {
+                    time(() -> { long c = 0; for (byte[] m : messages) c += legacyEncrypt(m, true).length; return c; }),
+                    time(() -> { long c = 0; for (byte[] m : messages) c += AES128.encryptReverse(m).length; return c; }),
+                    time(() -> { fill(buffers, messages); return engine.encryptAll(buffers, true); }),
+            };
+            if (round == 0) {
+                continue;
+            }
+            for (int i = 0; i < totals.length; i++) {
+                totals[i] += nanos[i];
+            }
+        }
+        long count = (long) MESSAGES * rounds;
+        System.out.printf("legacy          : %.0f ns/op%n", (double) totals[0] / count);
+        System.out.printf("AES128 (engine) : %.0f ns/op (x%.1f)%n", (double) totals[1] / count, (double) totals[0] / Math.max(1, totals[1]));
+        System.out.printf("buffer batch    : %.0f ns/op (x%.1f)%n", (double) totals[2] / count, (double) totals[0] / Math.max(1, totals[2]));
+    }
+
+    private static void verify(byte[][] messages, List<ByteBuffer> buffers) throws Exception {
+        AES128Engine engine = AES128Engine.forCurrentThread();
+        for (boolean reverse : new boolean[]{false, true}) {
+            fill(buffers, messages);
+            engine.encryptAll(buffers, reverse);
+            for (int i = 0; i < messages.length; i++) {
+                byte[] expected = legacyEncrypt(messages[i], reverse);
+                byte[] viaAes128 = reverse ? AES128.encryptReverse(messages[i]) : AES128.encrypt(messages[i]);
+                byte[] viaBuffer = new byte[buffers.get(i).remaining()];
+                buffers.get(i).get(buffers.get(i).position(), viaBuffer);
+                if (!Arrays.equals(expected, viaAes128) || !Arrays.equals(expected, viaBuffer)) {
+                    throw new IllegalStateException("message " + i + " encrypts differently (reverse " + reverse + ")");
+                }
+                byte[] decrypted = reverse ? AES128.decryptReverse(expected, messages[i].length) : AES128.decrypt(expected);
+                byte[] legacyDecrypted = legacyDecrypt(expected, reverse, messages[i].length);
+                if (!Arrays.equals(legacyDecrypted, decrypted)) {
+                    throw new IllegalStateException("message " + i + " decrypts differently (reverse " + reverse + ")");
+                }
+            }
+            engine.decryptAll(buffers);
+            for (int i = 0; i < messages.length; i++) {
+                ByteBuffer buffer = buffers.get(i);
+                byte[] plain = new byte[messages[i].length];
+                buffer.get(buffer.position(), plain);
+                if (!Arrays.equals(messages[i], plain)) {
+                    throw new IllegalStateException("message " + i + " buffer round trip differs (reverse " + reverse + ")");
+                }
+            }
+        }
+        System.out.printf("verify: %d messages OK%n", messages.length);
+    }
+
+    // 평문을 다시 채우고 limit 을 평문 끝으로 맞춤
+    private static void fill(List<ByteBuffer> buffers, byte[][] messages) {
+        for (int i = 0; i < messages.length; i++) {
+            buffers.get(i).clear().put(messages[i]).flip();
+        }
+    }
+
+    private interface Task {
+        long run() throws Exception;
+    }
+
+    private static long time(Task task) throws Exception {
+        long start = System.nanoTime();
+        long checksum = task.run();
+        long nanos = System.nanoTime() - start;
+        // checksum 을 사용해 결과가 최적화로 제거되지 않도록 함
+        if (checksum == Long.MIN_VALUE) {
+            System.out.println(checksum);
+        }
+        return nanos;
+    }
+
+    // ---- 이전 구현 (비교용) ----
+
+    private static byte[] legacyEncrypt(byte[] source, boolean reverse) throws Exception {
+        SecretKeySpec skeySpec = new SecretKeySpec(KEY, "AES");
+        Cipher cipher = Cipher.getInstance(AES128.AES_CBC_NOPADDING);
+        cipher.init(Cipher.ENCRYPT_MODE, skeySpec, new IvParameterSpec(AES128.IV));
+        int pCount = source.length;
+        int tCount = pCount + (16 - (pCount % 16));
+        byte[] tBytes = new byte[tCount];
+        System.arraycopy(source, 0, tBytes, 0, pCount);
+        for (int rIndex = pCount; rIndex < tCount; rIndex++) {
+            tBytes[rIndex] = reverse ? (byte) 0xFF : 0x00;
+        }
+        return cipher.doFinal(tBytes);
+    }
+
+    private static byte[] legacyDecrypt(byte[] source, boolean reverse, int len) throws Exception {
+        Cipher cipher = Cipher.getInstance(AES128.AES_CBC_NOPADDING);
+        cipher.init(Cipher.DECRYPT_MODE, new SecretKeySpec(KEY, "AES"), new IvParameterSpec(AES128.IV));
+        byte[] pBytes = cipher.doFinal(source);
+        int pCount = pBytes.length;
+        int index = 0;
+        if (reverse) {
+            while (true) {
+                if (index == pCount || pBytes[index] == (byte) 0xFF) {
+                    if (index != 5 && index >= len) {
+                        break;
+                    }
+                }
+                index++;
+            }
+        } else {
+            while (index < pCount && pBytes[index] != 0x00) {
+                index++;
+            }
+        }
+        return Arrays.copyOf(pBytes, index);
+    }
+}
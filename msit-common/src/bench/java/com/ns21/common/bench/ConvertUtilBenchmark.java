@@ -0,0 +1,165 @@
+package com.ns21.common.bench;
+
+import com.ns21.common.util.ConvertUtil;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * packageName    : com.ns21.common.bench
+ * fileName       : ConvertUtilBenchmark.java
+ * author         : kjg08
+ * date           : 2026-10-18
+ * description    :ConvertUtil 16진수/primitive 변환 처리량 비교 (이전 StringBuffer/ByteBuffer 구현 vs 현재 테이블/VarHandle 구현)
+ *                 측정 전에 임의 데이터로 두 구현의 결과가 같은지 확인
+ *                 실행: gradle :msit-common:bench -PbenchMain=com.ns21.common.bench.ConvertUtilBenchmark [-PbenchArgs="rounds messageBytes"], 기본 메시지 크기는 RSA BER 평균 크기 정도
+ *                 길이/offset/오류 입력까지 포함한 비교는 ConvertUtilTest 에서 확인
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18        kjg08           최초 생성
+ * 2026-10-18        kjg08           bench source set 으로 이동
+ */
+public class ConvertUtilBenchmark {
+    private static final int DEFAULT_ROUNDS = 5;
+    private static final int DEFAULT_MESSAGE_BYTES = 170;
+    private static final int MESSAGES = 20_000;
+
+    public static void main(String[] args) {
+        int rounds = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ROUNDS;
+        int messageBytes = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_MESSAGE_BYTES;
+
+        Random random = new Random(42);
+        byte[][] messages = new byte[MESSAGES][messageBytes];
+        String[] hex = new String[MESSAGES];
+        for (int i = 0; i < MESSAGES; i++) {
+            random.nextBytes(messages[i]);
+            hex[i] = legacyBytesToHexString(messages[i]);
+        }
+        verify(messages, hex, random);
+
+        // 첫 라운드는 워밍업으로 결과에서 제외
+        long[] totals = new long[6];
+        for (int round = 0; round <= rounds; round++) {
+            long[] nanos = {
+                    time(() -> { long c = 0; for (byte[] m : messages) c += legacyBytesToHexString(m).length(); return c; }),
+                    time(() -> { long c = 0; for (byte[] m : messages) c += ConvertUtil.bytesToHexString(m).length(); return c; }),
+                    time(() -> { long c = 0; for (String h : hex) c += legacyHexStringToBytes(h).length; return c; }),
+                    time(() -> { long c = 0; for (String h : hex) c += ConvertUtil.hexStringToBytes(h).length; return c; }),
+                    time(() -> primitives(messages, true)),
+                    time(() -> primitives(messages, false)),
+            };
+            if (round == 0) {
+                continue;
+            }
+            for (int i = 0; i < totals.length; i++) {
+                totals[i] += nanos[i];
+            }
+        }
+
+        long count = (long) MESSAGES * rounds;
+        print("bytes->hex", count, totals[0], totals[1]);
+        print("hex->bytes", count, totals[2], totals[3]);
+        print("int/long  ", count, totals[4], totals[5]);
+    }
+
+    private static void verify(byte[][] messages, String[] hex, Random random) {
+        for (int i = 0; i < messages.length; i++) {
+            if (!hex[i].equals(ConvertUtil.bytesToHexString(messages[i]))) {
+                throw new IllegalStateException("bytesToHexString differs at " + i);
+            }
+            if (!Arrays.equals(legacyHexStringToBytes(hex[i].toUpperCase()), ConvertUtil.hexStringToBytes(hex[i].toUpperCase()))) {
+                throw new IllegalStateException("hexStringToBytes differs at " + i);
+            }
+        }
+        for (int i = 0; i < 100_000; i++) {
+            long value = random.nextLong();
+            byte[] bytes = ConvertUtil.longToBytes(value);
+            if (legacyBytesToLong(bytes) != ConvertUtil.bytesToLong(bytes)
+                    || legacyBytesToInt(Arrays.copyOf(bytes, 4)) != ConvertUtil.bytesToInt(Arrays.copyOf(bytes, 4))
+                    || legacyBytesToShort(Arrays.copyOf(bytes, 2)) != ConvertUtil.bytesToShort(Arrays.copyOf(bytes, 2))) {
+                throw new IllegalStateException("primitive conversion differs for " + value);
+            }
+        }
+    }
+
+    // 메시지의 앞 12 바이트를 int/long 으로 읽음
+    // 이전 구현은 조각 배열을 만들어 ByteBuffer 로 읽고, 현재 구현은 offset 으로 바로 읽음
+    private static long primitives(byte[][] messages, boolean legacy) {
+        long checksum = 0;
+        for (byte[] m : messages) {
+            if (legacy) {
+                checksum += legacyBytesToInt(Arrays.copyOfRange(m, 0, 4)) + legacyBytesToLong(Arrays.copyOfRange(m, 4, 12));
+            } else {
+                checksum += ConvertUtil.getInt(m, 0) + ConvertUtil.getLong(m, 4);
+            }
+        }
+        return checksum;
+    }
+
+    private interface Task {
+        long run();
+    }
+
+    private static long time(Task task) {
+        long start = System.nanoTime();
+        long checksum = task.run();
+        long nanos = System.nanoTime() - start;
+        // checksum 을 사용해 결과가 최적화로 제거되지 않도록 함
+        if (checksum == Long.MIN_VALUE) {
+            System.out.println(checksum);
+        }
+        return nanos;
+    }
+
+    private static void print(String name, long count, long legacyNanos, long currentNanos) {
+        System.out.printf("%s: legacy %.0f ns/op, current %.0f ns/op (x%.1f)%n", name,
+                (double) legacyNanos / count, (double) currentNanos / count, (double) legacyNanos / Math.max(1, currentNanos));
+    }
+
+    // ---- 이전 구현 (비교용) ----
+
+    private static String legacyBytesToHexString(byte[] bytes) {
+        int pCount = bytes.length;
+        StringBuffer buff = new StringBuffer(pCount * 2);
+        for (int pIndex = 0; pIndex < pCount; pIndex++) {
+            if (((int) bytes[pIndex] & 0xff) < 0x10) {
+                buff.append(0);
+            }
+            buff.append(Long.toString((int) bytes[pIndex] & 0xff, 16));
+        }
+        return buff.toString();
+    }
+
+    private static byte[] legacyHexStringToBytes(String pSource) {
+        StringBuffer buff = new StringBuffer(pSource);
+        int bCount = buff.length() / 2;
+        byte[] bArr = new byte[bCount];
+        for (int bIndex = 0; bIndex < bCount; bIndex++) {
+            bArr[bIndex] = (byte) Long.parseLong(buff.substring(2 * bIndex, (2 * bIndex) + 2), 16);
+        }
+        return bArr;
+    }
+
+    private static short legacyBytesToShort(byte[] bytes) {
+        ByteBuffer byteBuffer = ByteBuffer.allocate(Short.BYTES);
+        byteBuffer.put(bytes);
+        byteBuffer.flip();
+        return byteBuffer.getShort();
+    }
+
+    private static int legacyBytesToInt(byte[] bytes) {
+        ByteBuffer byteBuffer = ByteBuffer.allocate(Integer.BYTES);
+        byteBuffer.put(bytes);
+        byteBuffer.flip();
+        return byteBuffer.getInt();
+    }
+
+    private static long legacyBytesToLong(byte[] bytes) {
+        ByteBuffer byteBuffer = ByteBuffer.allocate(Long.BYTES);
+        byteBuffer.put(bytes);
+        byteBuffer.flip();
+        return byteBuffer.getLong();
+    }
+}
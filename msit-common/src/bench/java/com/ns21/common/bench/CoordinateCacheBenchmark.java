@@ -0,0 +1,132 @@
+package com.ns21.common.bench;
+
+import com.ns21.common.util.CoordinateCache;
+import com.ns21.common.util.MetaDataConvertUtil;
+import com.ns21.common.util.UtmProjection;
+
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * packageName    : com.ns21.common.bench
+ * fileName       : CoordinateCacheBenchmark.java
+ * author         : kjg08
+ * date           : 2026-10-18
+ * description    :CoordinateConverter 캐시 비교 (이전 문자열 키 무제한 ConcurrentHashMap vs CoordinateCache)
+ *                 여러 주행을 이어서 재생하는 것처럼 주행마다 새 좌표 구간을 지나고 일부 좌표를 반복하는 입력으로
+ *                 처리량, 캐시 항목 수, 사용 heap, hit/miss/eviction 을 출력
+ *                 측정 전에 캐시를 거친 결과가 UtmProjection 직접 변환 결과와 같은지 확인
+ *                 실행: gradle :msit-common:bench -PbenchMain=com.ns21.common.bench.CoordinateCacheBenchmark [-PbenchArgs="drives cacheSize"]
+ *                 교체 순서, hit/miss 집계는 CoordinateCacheTest 에서 확인
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18        kjg08           최초 생성
+ * 2026-10-18        kjg08           bench source set 으로 이동
+ */
+public class CoordinateCacheBenchmark {
+    private static final int DEFAULT_DRIVES = 20;
+    private static final int POSES_PER_DRIVE = 50_000;
+    private static final int ZONE = 52;
+
+    public static void main(String[] args) {
+        int drives = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_DRIVES;
+        int cacheSize = args.length > 1 ? Integer.parseInt(args[1]) : MetaDataConvertUtil.CoordinateConverter.DEFAULT_CACHE_SIZE;
+        MetaDataConvertUtil.CoordinateConverter.setCacheSize(cacheSize);
+        verify();
+
+        MetaDataConvertUtil.CoordinateConverter.setCacheSize(cacheSize);
+        ConcurrentHashMap<String, long[]> legacy = new ConcurrentHashMap<>();
+        long legacyNanos = 0;
+        long currentNanos = 0;
+        Random random = new Random(42);
+        for (int drive = 0; drive < drives; drive++) {
+            // 주행마다 시작 위치가 다르고, 센서 여러 개가 같은 ego pose 를 참조하므로 같은 좌표가 몇 번씩 반복됨
+            double startX = 300_000 + random.nextDouble() * 100_000;
+            double startY = 4_100_000 + random.nextDouble() * 100_000;
+            double[] x = new double[POSES_PER_DRIVE];
+            double[] y = new double[POSES_PER_DRIVE];
+            double[] z = new double[POSES_PER_DRIVE];
+            for (int i = 0; i < POSES_PER_DRIVE; i++) {
+                int pose = i / 4;
+                x[i] = startX + pose * 0.37;
+                y[i] = startY + pose * 0.21;
+                z[i] = 40 + pose * 0.001;
+            }
+
+            long start = System.nanoTime();
+            long checksum = 0;
+            for (int i = 0; i < POSES_PER_DRIVE; i++) {
+                checksum += legacyUtmToLatLon(legacy, x[i], y[i], z[i])[0];
+            }
+            legacyNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int i = 0; i < POSES_PER_DRIVE; i++) {
+                checksum += MetaDataConvertUtil.CoordinateConverter.utmToLatLon(x[i], y[i], ZONE, z[i])[0];
+            }
+            currentNanos += System.nanoTime() - start;
+            // checksum 을 사용해 결과가 최적화로 제거되지 않도록 함
+            if (checksum == Long.MIN_VALUE) {
+                System.out.println(checksum);
+            }
+        }
+
+        long count = (long) drives * POSES_PER_DRIVE;
+        System.out.printf("legacy : %.0f ns/op, %d entries (unbounded)%n", (double) legacyNanos / count, legacy.size());
+        System.out.printf("current: %.0f ns/op, %s%n", (double) currentNanos / count,
+                MetaDataConvertUtil.CoordinateConverter.getCache().report());
+        System.out.printf("heap   : legacy map ~%d KB, current cache ~%d KB%n",
+                retained(legacy::clear) / 1024, retained(() -> MetaDataConvertUtil.CoordinateConverter.setCacheSize(1)) / 1024);
+    }
+
+    // 캐시를 거친 결과와 직접 변환 결과 비교 (교체가 일어나도록 작은 캐시로 확인)
+    private static void verify() {
+        MetaDataConvertUtil.CoordinateConverter.setCacheSize(256);
+        Random random = new Random(7);
+        long[] expected = new long[2];
+        for (int i = 0; i < 100_000; i++) {
+            double x = 300_000 + random.nextInt(2_000) * 0.5;
+            double y = 4_100_000 + random.nextInt(2_000) * 0.5;
+            double z = random.nextInt(100) * 0.7;
+            long[] actual = MetaDataConvertUtil.CoordinateConverter.utmToLatLon(x, y, ZONE, z);
+            UtmProjection.zone(ZONE).toLatLon(Math.round(x * 1000) / 1000.0, Math.round(y * 1000) / 1000.0, expected, 0);
+            if (actual[0] != expected[0] || actual[1] != expected[1] || actual[2] != (long) z) {
+                throw new IllegalStateException("cached value differs at " + x + ", " + y + ", " + z);
+            }
+        }
+        CoordinateCache cache = MetaDataConvertUtil.CoordinateConverter.getCache();
+        if (cache.size() > cache.getMaxEntries() || cache.getEvictions() == 0) {
+            throw new IllegalStateException("cache is not bounded: " + cache.report());
+        }
+        System.out.println("verify: OK (" + cache.report() + ")");
+    }
+
+    // 이전 구현 (비교용)
+    private static long[] legacyUtmToLatLon(ConcurrentHashMap<String, long[]> cache, double utmX, double utmY, double elevation) {
+        double roundedUtmX = Math.round(utmX * 1000) / 1000.0;
+        double roundedUtmY = Math.round(utmY * 1000) / 1000.0;
+        String key = roundedUtmX + "-" + roundedUtmY + "-" + ZONE + "-" + elevation;
+        return cache.computeIfAbsent(key, k -> {
+            long[] latLon = new long[3];
+            UtmProjection.zone(ZONE).toLatLon(roundedUtmX, roundedUtmY, latLon, 0);
+            latLon[2] = (long) elevation;
+            return latLon;
+        });
+    }
+
+    // release 실행 전후 사용 heap 차이
+    private static long retained(Runnable release) {
+        long before = usedHeap();
+        release.run();
+        return Math.max(0, before - usedHeap());
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,192 @@
+package com.ns21.common.bench;
+
+import com.ns21.common.util.CRC16IBM;
+
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
+
+/**
+ * packageName    : com.ns21.common.bench
+ * fileName       : Crc16Benchmark.java
+ * author         : kjg08
+ * date           : 2026-10-18
+ * description    :CRC16IBM 처리량 비교 (이전 한 바이트씩 계산 vs slicing-by-8), payload 64~1500 바이트
+ *                 측정 전에 임의 데이터로 normal/reflected/CCITT 세 종류가 이전 계산과 같은지 확인
+ *                 (배열 구간, heap/direct/little endian ByteBuffer, 임의로 나눈 조각의 incremental 계산 포함)
+ *                 실행: gradle :msit-common:bench -PbenchMain=com.ns21.common.bench.Crc16Benchmark [-PbenchArgs=rounds]
+ *                 테이블 없는 비트 단위 계산과의 비교는 CRC16IBMTest 에서 확인
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18        kjg08           최초 생성
+ * 2026-10-18        kjg08           bench source set 으로 이동
+ */
+public class Crc16Benchmark {
+    private static final int DEFAULT_ROUNDS = 5;
+    private static final int[] PAYLOAD_BYTES = {64, 128, 256, 512, 1024, 1500};
+    private static final int TOTAL_BYTES = 8 * 1024 * 1024;
+
+    private static int[] lookUpNormal;
+    private static int[] lookUpReflected;
+    private static int[] lookupTable;
+
+    public static void main(String[] args) throws Exception {
+        int rounds = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ROUNDS;
+        lookUpNormal = table("LOOK_UP_NORMAL");
+        lookUpReflected = table("LOOK_UP_REFLECTED");
+        lookupTable = table("LOOKUP_TABLE");
+
+        Random random = new Random(42);
+        verify(random);
+
+        for (int size : PAYLOAD_BYTES) {
+            byte[][] payloads = new byte[TOTAL_BYTES / size][size];
+            for (byte[] p : payloads) {
+                random.nextBytes(p);
+            }
+            // 첫 라운드는 워밍업으로 결과에서 제외
+            long[] totals = new long[6];
+            for (int round = 0; round <= rounds; round++) {
+                long[] nanos = {
+                        time(() -> { long c = 0; for (byte[] p : payloads) c += legacyNormal(p, 0, p.length); return c; }),
+                        time(() -> { long c = 0; for (byte[] p : payloads) c += CRC16IBM.computeCRC16(p, false); return c; }),
+                        time(() -> { long c = 0; for (byte[] p : payloads) c += legacyReflected(p, 0, p.length); return c; }),
+                        time(() -> { long c = 0; for (byte[] p : payloads) c += CRC16IBM.computeCRC16(p, true); return c; }),
+                        time(() -> { long c = 0; for (byte[] p : payloads) c += legacyCcitt(p, 0, p.length); return c; }),
+                        time(() -> { long c = 0; for (byte[] p : payloads) c += CRC16IBM.crc16(p); return c; }),
+                };
+                if (round == 0) {
+                    continue;
+                }
+                for (int i = 0; i < totals.length; i++) {
+                    totals[i] += nanos[i];
+                }
+            }
+            long bytes = (long) payloads.length * size * rounds;
+            System.out.printf("%4d B: normal %s, reflected %s, ccitt %s%n", size,
+                    rate(bytes, totals[0], totals[1]), rate(bytes, totals[2], totals[3]), rate(bytes, totals[4], totals[5]));
+        }
+    }
+
+    private static void verify(Random random) {
+        byte[] data = new byte[4096];
+        ByteBuffer direct = ByteBuffer.allocateDirect(data.length);
+        ByteBuffer little = ByteBuffer.allocateDirect(data.length).order(ByteOrder.LITTLE_ENDIAN);
+        for (int n = 0; n < 20_000; n++) {
+            random.nextBytes(data);
+            direct.clear();
+            direct.put(data);
+            little.clear();
+            little.put(data);
+            int offset = random.nextInt(64);
+            int length = random.nextInt(n % 10 == 0 ? data.length - offset : 40);
+            check(legacyNormal(data, offset, length), n, "normal",
+                    CRC16IBM.computeCRC16(data, offset, length, false),
+                    CRC16IBM.computeCRC16(direct, offset, length, false),
+                    CRC16IBM.computeCRC16(little, offset, length, false),
+                    CRC16IBM.computeCRC16(ByteBuffer.wrap(data), offset, length, false),
+                    incremental(CRC16IBM.Variant.NORMAL, data, offset, length, random));
+            check(legacyReflected(data, offset, length), n, "reflected",
+                    CRC16IBM.computeCRC16(data, offset, length, true),
+                    CRC16IBM.computeCRC16(direct, offset, length, true),
+                    CRC16IBM.computeCRC16(little, offset, length, true),
+                    CRC16IBM.computeCRC16(ByteBuffer.wrap(data), offset, length, true),
+                    incremental(CRC16IBM.Variant.REFLECTED, data, offset, length, random));
+            check(legacyCcitt(data, offset, length), n, "ccitt",
+                    CRC16IBM.crc16(data, offset, length),
+                    CRC16IBM.crc16(direct, offset, length),
+                    CRC16IBM.crc16(little, offset, length),
+                    CRC16IBM.crc16(ByteBuffer.wrap(data), offset, length),
+                    incremental(CRC16IBM.Variant.CCITT, data, offset, length, random));
+        }
+        System.out.println("verify: OK");
+    }
+
+    // 임의 길이 조각으로 나눠 byte/배열/ByteBuffer update 를 섞어서 계산
+    private static int incremental(CRC16IBM.Variant variant, byte[] data, int offset, int length, Random random) {
+        CRC16IBM.Incremental crc = CRC16IBM.incremental(variant);
+        int i = offset;
+        int end = offset + length;
+        while (i < end) {
+            int chunk = Math.min(end - i, random.nextInt(20));
+            switch (random.nextInt(3)) {
+                case 0:
+                    for (int j = 0; j < chunk; j++) {
+                        crc.update(data[i + j]);
+                    }
+                    break;
+                case 1:
+                    crc.update(data, i, chunk);
+                    break;
+                default:
+                    crc.update(ByteBuffer.wrap(data, i, chunk));
+            }
+            i += chunk;
+        }
+        return crc.finish();
+    }
+
+    private static void check(int expected, int n, String variant, int... actual) {
+        for (int i = 0; i < actual.length; i++) {
+            if (actual[i] != expected) {
+                throw new IllegalStateException(variant + " differs at sample " + n + " (path " + i + "): "
+                        + Integer.toHexString(expected) + " != " + Integer.toHexString(actual[i]));
+            }
+        }
+    }
+
+    private static String rate(long bytes, long legacyNanos, long currentNanos) {
+        return String.format("%.0f -> %.0f MB/s (x%.1f)", bytes * 1000.0 / Math.max(1, legacyNanos),
+                bytes * 1000.0 / Math.max(1, currentNanos), (double) legacyNanos / Math.max(1, currentNanos));
+    }
+
+    private interface Task {
+        long run();
+    }
+
+    private static long time(Task task) {
+        long start = System.nanoTime();
+        long checksum = task.run();
+        long nanos = System.nanoTime() - start;
+        // checksum 을 사용해 결과가 최적화로 제거되지 않도록 함
+        if (checksum == Long.MIN_VALUE) {
+            System.out.println(checksum);
+        }
+        return nanos;
+    }
+
+    // 비교용 이전 구현에서 CRC16IBM 의 기본 테이블을 그대로 사용
+    private static int[] table(String name) throws ReflectiveOperationException {
+        Field field = CRC16IBM.class.getDeclaredField(name);
+        field.setAccessible(true);
+        return (int[]) field.get(null);
+    }
+
+    // ---- 이전 구현 (비교용) ----
+
+    private static int legacyNormal(byte[] bytes, int offset, int length) {
+        int crc = 0;
+        for (int i = offset; i < offset + length; i++) {
+            crc = (crc << 8) ^ lookUpNormal[((crc ^ bytes[i]) & 0xFF)];
+        }
+        return crc & 0xFFFF;
+    }
+
+    private static int legacyReflected(byte[] bytes, int offset, int length) {
+        int crc = 0;
+        for (int i = offset; i < offset + length; i++) {
+            crc = lookUpReflected[((crc ^ bytes[i]) & 0xff)] ^ (crc >> 8);
+        }
+        return crc & 0xFFFF;
+    }
+
+    private static int legacyCcitt(byte[] bytes, int offset, int length) {
+        int crc = 0x0000;
+        for (int i = offset; i < offset + length; i++) {
+            crc = ((crc << 8) ^ lookupTable[((crc >>> 8) ^ (bytes[i] & 0xFF)) & 0xFF]);
+        }
+        return crc & 0xFFFF;
+    }
+}
@@ -0,0 +1,149 @@
+package com.ns21.common.bench;
+
+import com.ns21.common.util.EpochTime;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Random;
+
+/**
+ * packageName    : com.ns21.common.bench
+ * fileName       : EpochTimeBenchmark.java
+ * author         : kjg08
+ * date           : 2026-10-18
+ * description    :timestamp 변환 비교 (이전 Double.parseDouble + ZonedDateTime 구현 vs EpochTime)
+ *                 측정 전에 임의 timestamp 와 연도/윤일 경계, 지수 표기 등에서 minuteOfTheYear 와 utcTime 필드가 같은지 확인
+ *                 실행: gradle :msit-common:bench -PbenchMain=com.ns21.common.bench.EpochTimeBenchmark [-PbenchArgs=rounds]
+ *                 음수 timestamp, 잘못된 형식까지 포함한 비교는 EpochTimeTest 에서 확인
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18        kjg08           최초 생성
+ * 2026-10-18        kjg08           bench source set 으로 이동
+ */
+public class EpochTimeBenchmark {
+    private static final int DEFAULT_ROUNDS = 5;
+    private static final int TIMESTAMPS = 200_000;
+    private static final long MAX_SECONDS = 1L << 32;
+    // 실제 ego_pose 처럼 같은 주행 안의 가까운 시각이 이어지는 입력
+    private static final long DRIVE_START = 1_662_014_357L;
+
+    public static void main(String[] args) {
+        int rounds = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ROUNDS;
+        verify();
+
+        Random random = new Random(42);
+        String[] timestamps = new String[TIMESTAMPS];
+        for (int i = 0; i < TIMESTAMPS; i++) {
+            timestamps[i] = (DRIVE_START + i / 30) + "." + String.format("%04d", random.nextInt(10_000));
+        }
+
+        long legacyNanos = 0;
+        long currentNanos = 0;
+        long checksum = 0;
+        // 첫 라운드는 워밍업으로 결과에서 제외
+        for (int round = 0; round <= rounds; round++) {
+            long start = System.nanoTime();
+            for (String timestamp : timestamps) {
+                // 이전 RsaValueCreator: 한 번 파싱 후 문자열로 되돌려 두 메서드에 전달
+                String seconds = Long.toString((long) Double.parseDouble(timestamp));
+                int[] fields = legacyUtcFields(seconds);
+                checksum += legacyMinuteOfTheYear(seconds) + fields[5];
+            }
+            long legacy = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (String timestamp : timestamps) {
+                EpochTime time = EpochTime.parse(timestamp);
+                checksum += time.getMinuteOfTheYear() + time.getSecond();
+            }
+            long current = System.nanoTime() - start;
+            if (round > 0) {
+                legacyNanos += legacy;
+                currentNanos += current;
+            }
+        }
+        // checksum 을 사용해 결과가 최적화로 제거되지 않도록 함
+        if (checksum == Long.MIN_VALUE) {
+            System.out.println(checksum);
+        }
+
+        long count = (long) rounds * TIMESTAMPS;
+        System.out.printf("legacy : %.0f ns/op%n", (double) legacyNanos / count);
+        System.out.printf("current: %.0f ns/op (%.1fx)%n", (double) currentNanos / count, (double) legacyNanos / currentNanos);
+    }
+
+    private static void verify() {
+        Random random = new Random(7);
+        int checked = 0;
+        for (int i = 0; i < TIMESTAMPS; i++) {
+            long seconds = (long) (random.nextDouble() * MAX_SECONDS);
+            check(seconds + fraction(random));
+            checked++;
+        }
+        // 연도 시작 전후, 윤일 전후
+        for (int year = 1970; year < 2106; year++) {
+            long yearStart = ZonedDateTime.of(year, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC).toEpochSecond();
+            long leapDay = ZonedDateTime.of(year, 2, 28, 23, 59, 59, 0, ZoneOffset.UTC).toEpochSecond();
+            for (long seconds : new long[]{yearStart - 61, yearStart - 1, yearStart, yearStart + 59, leapDay, leapDay + 1}) {
+                if (seconds >= 0) {
+                    check(Long.toString(seconds));
+                    check(seconds + ".999999");
+                    checked += 2;
+                }
+            }
+        }
+        // 직접 파싱하지 않는 형식
+        for (String timestamp : new String[]{"1662014357.", "1.6620143578876E9", "1662014357.99999999999",
+                "+1662014357.5", "1662014357.1234567", "4294967296.25", "99999999999"}) {
+            check(timestamp);
+            checked++;
+        }
+        System.out.println("verify: OK (" + checked + " timestamps)");
+    }
+
+    private static String fraction(Random random) {
+        int digits = random.nextInt(10);
+        if (digits == 0) {
+            return "";
+        }
+        StringBuilder fraction = new StringBuilder(".");
+        for (int i = 0; i < digits; i++) {
+            fraction.append((char) ('0' + random.nextInt(10)));
+        }
+        return fraction.toString();
+    }
+
+    private static void check(String timestamp) {
+        String seconds = Long.toString((long) Double.parseDouble(timestamp));
+        int[] expected = legacyUtcFields(seconds);
+        int expectedMinute = legacyMinuteOfTheYear(seconds);
+        EpochTime actual = EpochTime.parse(timestamp);
+        if (actual.getYear() != expected[0] || actual.getMonth() != expected[1] || actual.getDay() != expected[2]
+                || actual.getHour() != expected[3] || actual.getMinute() != expected[4] || actual.getSecond() != expected[5]
+                || actual.getOffset() != expected[6] || actual.getMinuteOfTheYear() != expectedMinute) {
+            throw new IllegalStateException("EpochTime differs for " + timestamp);
+        }
+    }
+
+    // 이전 MetaDataConvertUtil.minuteOfTheYear (비교용)
+    private static int legacyMinuteOfTheYear(String timestampString) {
+        double timestampDouble = Double.parseDouble(timestampString);
+        Instant instant = Instant.ofEpochSecond((long) timestampDouble);
+        ZonedDateTime zdt = instant.atZone(ZoneId.of("UTC"));
+        ZonedDateTime startOfYear = ZonedDateTime.of(zdt.getYear(), 1, 1, 0, 0, 0, 0, ZoneId.of("UTC"));
+        return (int) (Duration.between(startOfYear, zdt).toMinutes() % 527041);
+    }
+
+    // 이전 MetaDataConvertUtil.convertTimestampToUtcMap 의 값 (비교용, Map 대신 배열)
+    private static int[] legacyUtcFields(String timestampString) {
+        long seconds = (long) Double.parseDouble(timestampString);
+        int nanoSeconds = (int) ((Double.parseDouble(timestampString) - seconds) * 1_000_000_000);
+        ZonedDateTime dateTime = Instant.ofEpochSecond(seconds, nanoSeconds).atZone(ZoneOffset.UTC);
+        return new int[]{dateTime.getYear(), dateTime.getMonthValue(), dateTime.getDayOfMonth(), dateTime.getHour(),
+                dateTime.getMinute(), dateTime.getSecond(), dateTime.getOffset().getTotalSeconds()};
+    }
+}
@@ -0,0 +1,133 @@
+package com.ns21.common.bench;
+
+import com.ns21.common.util.MetaDataConvertUtil;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * packageName    : com.ns21.common.bench
+ * fileName       : HeadingBenchmark.java
+ * author         : kjg08
+ * date           : 2026-10-18
+ * description    :quaternion → heading 변환 비교 (이전 String.format("%04x").toUpperCase() vs quaternionToHeadingValue / headingToHex)
+ *                 측정 전에 임의 quaternion 과 0 ~ 360 도 전체에서 heading 문자열, quaternionToFormattedString 결과가 이전 구현과 같은지 확인
+ *                 실행: gradle :msit-common:bench -PbenchMain=com.ns21.common.bench.HeadingBenchmark [-PbenchArgs=rounds]
+ *                 반올림 경계(359.5 → 360 등)는 MetaDataConvertUtilTest 에서 확인
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18        kjg08           최초 생성
+ * 2026-10-18        kjg08           bench source set 으로 이동
+ */
+public class HeadingBenchmark {
+    private static final int DEFAULT_ROUNDS = 5;
+    private static final int QUATERNIONS = 200_000;
+
+    public static void main(String[] args) {
+        int rounds = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ROUNDS;
+        Random random = new Random(42);
+        double[][] quaternions = new double[QUATERNIONS][];
+        for (int i = 0; i < QUATERNIONS; i++) {
+            quaternions[i] = randomQuaternion(random);
+        }
+        verify(quaternions);
+
+        long legacyNanos = 0;
+        long textNanos = 0;
+        long valueNanos = 0;
+        long checksum = 0;
+        // 첫 라운드는 워밍업으로 결과에서 제외
+        for (int round = 0; round <= rounds; round++) {
+            long start = System.nanoTime();
+            for (double[] q : quaternions) {
+                // 이전 구현은 문자열을 만든 뒤 인코딩 시 다시 16진수로 파싱
+                checksum += Integer.parseInt(legacyQuaternionToHeading(q[0], q[1], q[2], q[3]), 16);
+            }
+            long legacy = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (double[] q : quaternions) {
+                checksum += MetaDataConvertUtil.quaternionToHeading(q[0], q[1], q[2], q[3]).length();
+            }
+            long text = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (double[] q : quaternions) {
+                checksum += MetaDataConvertUtil.quaternionToHeadingValue(q[0], q[1], q[2], q[3]);
+            }
+            long value = System.nanoTime() - start;
+            if (round > 0) {
+                legacyNanos += legacy;
+                textNanos += text;
+                valueNanos += value;
+            }
+        }
+        // checksum 을 사용해 결과가 최적화로 제거되지 않도록 함
+        if (checksum == Long.MIN_VALUE) {
+            System.out.println(checksum);
+        }
+
+        long count = (long) rounds * QUATERNIONS;
+        System.out.printf("legacy (format + parse): %.0f ns/op%n", (double) legacyNanos / count);
+        System.out.printf("headingToHex           : %.0f ns/op%n", (double) textNanos / count);
+        System.out.printf("int value              : %.0f ns/op%n", (double) valueNanos / count);
+    }
+
+    private static double[] randomQuaternion(Random random) {
+        double w = random.nextGaussian();
+        double x = random.nextGaussian();
+        double y = random.nextGaussian();
+        double z = random.nextGaussian();
+        double norm = Math.sqrt(w * w + x * x + y * y + z * z);
+        return new double[]{w / norm, x / norm, y / norm, z / norm};
+    }
+
+    private static void verify(double[][] quaternions) {
+        for (double[] q : quaternions) {
+            check(q);
+        }
+        // 0 ~ 360 도 전체와 반올림 경계(x.5 도) 부근의 z 축 회전
+        for (int tenths = -1800; tenths <= 1800; tenths++) {
+            for (double offset : new double[]{0, 1e-9, -1e-9}) {
+                double half = Math.toRadians(tenths / 10.0 + offset) / 2;
+                check(new double[]{Math.cos(half), 0, 0, Math.sin(half)});
+            }
+        }
+        System.out.println("verify: OK");
+    }
+
+    private static void check(double[] q) {
+        String expected = legacyQuaternionToHeading(q[0], q[1], q[2], q[3]);
+        String actual = MetaDataConvertUtil.quaternionToHeading(q[0], q[1], q[2], q[3]);
+        int value = MetaDataConvertUtil.quaternionToHeadingValue(q[0], q[1], q[2], q[3]);
+        if (!expected.equals(actual) || value != Integer.parseInt(expected, 16)) {
+            throw new IllegalStateException("heading differs for " + Arrays.toString(q) + ": " + expected + " vs " + actual);
+        }
+        List<Double> euler = List.of(q[1], q[2], q[3], q[0]);
+        String expectedFormatted = legacyQuaternionToFormattedString(euler);
+        if (!expectedFormatted.equals(MetaDataConvertUtil.quaternionToFormattedString(euler))) {
+            throw new IllegalStateException("formatted yaw differs for " + Arrays.toString(q) + ": " + expectedFormatted);
+        }
+    }
+
+    // 이전 MetaDataConvertUtil.quaternionToHeading (비교용)
+    private static String legacyQuaternionToHeading(double w, double x, double y, double z) {
+        double t0 = 2.0 * (w * z + x * y);
+        double t1 = 1.0 - 2.0 * (y * y + z * z);
+        double yawDegrees = Math.toDegrees(Math.atan2(t0, t1));
+        if (yawDegrees < 0) yawDegrees += 360.0;
+        return String.format("%04x", (int) Math.round(yawDegrees)).toUpperCase();
+    }
+
+    // 이전 MetaDataConvertUtil.quaternionToFormattedString 의 yaw 계산과 포매팅 (비교용, [x, y, z, w] 순서)
+    private static String legacyQuaternionToFormattedString(List<Double> quaternion) {
+        double x = quaternion.get(0);
+        double y = quaternion.get(1);
+        double z = quaternion.get(2);
+        double w = quaternion.get(3);
+        double yaw = Math.toDegrees(Math.atan2(2.0 * (w * z + x * y), 1.0 - 2.0 * (y * y + z * z)));
+        return String.format("%04.0f", (yaw + 360) % 360);
+    }
+}
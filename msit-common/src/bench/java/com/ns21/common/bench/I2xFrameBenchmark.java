@@ -0,0 +1,131 @@
+package com.ns21.common.bench;
+
+import com.ns21.common.util.AES128;
+import com.ns21.common.util.CRC16IBM;
+import com.ns21.common.util.ConvertUtil;
+import com.ns21.common.util.I2xFrameWriter;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * packageName    : com.ns21.common.bench
+ * fileName       : I2xFrameBenchmark.java
+ * author         : kjg08
+ * date           : 2026-10-18
+ * description    :I2X 프레임 조립 처리량 비교 (bytesConcat + CRC16IBM + AES128.encryptReverse 조합 vs I2xFrameWriter)
+ *                 측정 전에 임의 payload 로 두 방식의 프레임이 같은지, 복호화/padding 제거 후 원래 평문이 나오는지 확인
+ *                 실행: gradle :msit-common:bench -PbenchMain=com.ns21.common.bench.I2xFrameBenchmark [-PbenchArgs="rounds payloadBytes"], 기본 payload 크기는 RSA BER 평균 크기 정도
+ *                 CRC reversed, seqNo 순환, 버퍼 부족까지 포함한 비교는 I2xFrameWriterTest 에서 확인
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18        kjg08           최초 생성
+ * 2026-10-18        kjg08           bench source set 으로 이동
+ */
+public class I2xFrameBenchmark {
+    private static final int DEFAULT_ROUNDS = 5;
+    private static final int DEFAULT_PAYLOAD_BYTES = 170;
+    private static final int FRAMES = 2_000;
+    private static final int BATCH = 64;
+    private static final byte[] HEADER = {0x49, 0x32, 0x58, 0x01, 0x00};
+    private static final boolean REVERSED = false;
+
+    public static void main(String[] args) throws Exception {
+        int rounds = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ROUNDS;
+        int payloadBytes = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_PAYLOAD_BYTES;
+
+        Random random = new Random(42);
+        List<byte[]> payloads = new ArrayList<>();
+        for (int i = 0; i < FRAMES; i++) {
+            // 길이가 다른 payload 도 섞어서 padding 1~16 바이트 경우를 모두 확인
+            byte[] payload = new byte[Math.max(0, payloadBytes + random.nextInt(33) - 16)];
+            random.nextBytes(payload);
+            payloads.add(payload);
+        }
+        I2xFrameWriter writer = new I2xFrameWriter(HEADER, REVERSED, BATCH * I2xFrameWriter.frameLength(HEADER.length, payloadBytes + 16));
+        verify(payloads, writer);
+
+        // 첫 라운드는 워밍업으로 결과에서 제외
+        long legacyNanos = 0;
+        long writerNanos = 0;
+        for (int round = 0; round <= rounds; round++) {
+            long legacy = time(() -> legacy(payloads));
+            long current = time(() -> batched(payloads, writer));
+            if (round > 0) {
+                legacyNanos += legacy;
+                writerNanos += current;
+            }
+        }
+        long count = (long) FRAMES * rounds;
+        System.out.printf("i2x frame: legacy %.0f ns/op, writer %.0f ns/op (x%.1f)%n",
+                (double) legacyNanos / count, (double) writerNanos / count, (double) legacyNanos / Math.max(1, writerNanos));
+    }
+
+    private static void verify(List<byte[]> payloads, I2xFrameWriter writer) throws Exception {
+        writer.setSeqNo(0);
+        for (int from = 0; from < payloads.size(); from += BATCH) {
+            List<byte[]> batch = payloads.subList(from, Math.min(payloads.size(), from + BATCH));
+            writer.writeAll(batch);
+            ByteBuffer frames = writer.frames();
+            for (int i = 0; i < batch.size(); i++) {
+                int seqNo = (from + i) & 0xFF;
+                byte[] expected = legacyFrame(batch.get(i), seqNo);
+                byte[] actual = new byte[writer.lengthOf(i)];
+                frames.get(writer.offsetOf(i), actual);
+                if (!Arrays.equals(expected, actual)) {
+                    throw new IllegalStateException("frame " + (from + i) + " differs from legacy composition");
+                }
+                byte[] plain = ConvertUtil.bytesConcat(HEADER, new byte[]{(byte) seqNo}, batch.get(i));
+                byte[] decrypted = AES128.decryptReverse(actual, plain.length + 2);
+                if (!Arrays.equals(ConvertUtil.bytesConcat(plain, CRC16IBM.computeCRC16_short(plain, REVERSED)), decrypted)) {
+                    throw new IllegalStateException("frame " + (from + i) + " does not decrypt to its plain text");
+                }
+            }
+        }
+        System.out.printf("verify: %d frames OK%n", payloads.size());
+    }
+
+    private static long legacy(List<byte[]> payloads) throws Exception {
+        long checksum = 0;
+        int seqNo = 0;
+        for (byte[] payload : payloads) {
+            checksum += legacyFrame(payload, seqNo).length;
+            seqNo = (seqNo + 1) & 0xFF;
+        }
+        return checksum;
+    }
+
+    private static long batched(List<byte[]> payloads, I2xFrameWriter writer) throws Exception {
+        long checksum = 0;
+        for (int from = 0; from < payloads.size(); from += BATCH) {
+            writer.writeAll(payloads.subList(from, Math.min(payloads.size(), from + BATCH)));
+            checksum += writer.frames().remaining();
+        }
+        return checksum;
+    }
+
+    // 기존 유틸리티 조합으로 만든 프레임
+    private static byte[] legacyFrame(byte[] payload, int seqNo) throws Exception {
+        byte[] plain = ConvertUtil.bytesConcat(HEADER, new byte[]{(byte) seqNo}, payload);
+        return AES128.encryptReverse(ConvertUtil.bytesConcat(plain, CRC16IBM.computeCRC16_short(plain, REVERSED)));
+    }
+
+    private interface Task {
+        long run() throws Exception;
+    }
+
+    private static long time(Task task) throws Exception {
+        long start = System.nanoTime();
+        long checksum = task.run();
+        long nanos = System.nanoTime() - start;
+        // checksum 을 사용해 결과가 최적화로 제거되지 않도록 함
+        if (checksum == Long.MIN_VALUE) {
+            System.out.println(checksum);
+        }
+        return nanos;
+    }
+}
@@ -0,0 +1,119 @@
+package com.ns21.common.bench;
+
+import com.ns21.common.mist.parser.DataStorage;
+import com.ns21.common.mist.parser.MetaDataExtracting;
+import com.ns21.common.mist.parser.PoseTable;
+import com.ns21.common.util.PoseKernel;
+import com.ns21.common.util.PoseKernels;
+import com.ns21.common.util.UtmProjection;
+
+/**
+ * packageName    : com.ns21.common.bench
+ * fileName       : PoseKernelBenchmark.java
+ * author         : kjg08
+ * date           : 2026-10-18
+ * description    :PoseKernel 스칼라 / Vector API 구현 비교 (ego_pose 열을 반복해 LANES 행으로 늘린 입력)
+ *                 구현별 UTM → 위경도, quaternion → yaw 처리량(lanes/s)과 스칼라 결과와 다른 행 수를 출력
+ *                 Vector API 구현은 --add-modules jdk.incubator.vector 로 실행할 때만 측정 (bench task 는 모듈을 추가해 실행)
+ *                 실행: gradle :msit-common:bench -PbenchMain=com.ns21.common.bench.PoseKernelBenchmark [-PbenchArgs=rounds], 메타데이터 경로는 MetaDataExtracting 기본 경로
+ *                 두 구현의 결과 비교는 PoseKernelTest 에서 확인
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18        kjg08           최초 생성
+ * 2026-10-18        kjg08           bench source set 으로 이동
+ */
+public class PoseKernelBenchmark {
+    private static final int DEFAULT_ROUNDS = 10;
+    // Vector API 는 C2 컴파일 전(인터프리터/C1)에는 스칼라보다 느리므로 충분히 워밍업
+    private static final int WARMUP_ROUNDS = 10;
+    private static final int LANES = 1 << 20;
+    private static final int UTM_ZONE = 52;
+    private static final double YAW_TOLERANCE = 1e-9;
+
+    public static void main(String[] args) {
+        int rounds = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ROUNDS;
+        new MetaDataExtracting().processFiles().join();
+        PoseTable egoPoses = DataStorage.getInstance().getEgoPoseTable();
+        if (egoPoses.size() == 0) {
+            throw new IllegalStateException("no ego poses loaded");
+        }
+
+        // translation / rotation 이 있는 행만 모아 LANES 길이가 될 때까지 반복
+        double[] x = new double[LANES];
+        double[] y = new double[LANES];
+        double[] qw = new double[LANES];
+        double[] qx = new double[LANES];
+        double[] qy = new double[LANES];
+        double[] qz = new double[LANES];
+        int rows = 0;
+        for (int i = 0, row = 0; i < LANES; row = (row + 1) % egoPoses.size()) {
+            if (egoPoses.hasTranslation(row) && egoPoses.hasRotation(row)) {
+                x[i] = egoPoses.x(row);
+                y[i] = egoPoses.y(row);
+                qw[i] = egoPoses.qw(row);
+                qx[i] = egoPoses.qx(row);
+                qy[i] = egoPoses.qy(row);
+                qz[i] = egoPoses.qz(row);
+                i++;
+                rows = Math.max(rows, row + 1);
+            } else if (row == egoPoses.size() - 1 && i == 0) {
+                throw new IllegalStateException("no ego pose has both translation and rotation");
+            }
+        }
+        System.out.printf("ego_pose rows %d, lanes %d, selected kernel %s%n", rows, LANES, PoseKernels.get().name());
+
+        UtmProjection projection = UtmProjection.zone(UTM_ZONE);
+        long[] expectedLat = new long[LANES];
+        long[] expectedLon = new long[LANES];
+        double[] expectedYaw = new double[LANES];
+        PoseKernels.scalar().utmToLatLon(projection, x, y, LANES, expectedLat, expectedLon);
+        PoseKernels.scalar().yawDegrees(qw, qx, qy, qz, LANES, expectedYaw);
+
+        PoseKernel[] kernels = PoseKernels.vector() == null
+                ? new PoseKernel[]{PoseKernels.scalar()}
+                : new PoseKernel[]{PoseKernels.scalar(), PoseKernels.vector()};
+        long[] lat = new long[LANES];
+        long[] lon = new long[LANES];
+        double[] yaw = new double[LANES];
+        for (PoseKernel kernel : kernels) {
+            long utmNanos = 0;
+            long yawNanos = 0;
+            for (int round = 0; round < WARMUP_ROUNDS + rounds; round++) {
+                long start = System.nanoTime();
+                kernel.utmToLatLon(projection, x, y, LANES, lat, lon);
+                long utm = System.nanoTime() - start;
+                start = System.nanoTime();
+                kernel.yawDegrees(qw, qx, qy, qz, LANES, yaw);
+                long yawElapsed = System.nanoTime() - start;
+                if (round >= WARMUP_ROUNDS) {
+                    utmNanos += utm;
+                    yawNanos += yawElapsed;
+                }
+            }
+
+            int latLonMismatches = 0;
+            long maxE7Difference = 0;
+            int yawMismatches = 0;
+            for (int i = 0; i < LANES; i++) {
+                long difference = Math.max(Math.abs(lat[i] - expectedLat[i]), Math.abs(lon[i] - expectedLon[i]));
+                if (difference != 0) {
+                    latLonMismatches++;
+                    maxE7Difference = Math.max(maxE7Difference, difference);
+                }
+                if (Math.abs(yaw[i] - expectedYaw[i]) > YAW_TOLERANCE) {
+                    yawMismatches++;
+                }
+            }
+            // 1e-7 도 버림 경계에서 1 차이는 허용, 그 이상은 계산 오류
+            if (maxE7Difference > 1 || yawMismatches > 0) {
+                throw new IllegalStateException(kernel.name() + " differs from scalar kernel: max e7 "
+                        + maxE7Difference + ", yaw " + yawMismatches);
+            }
+
+            long lanes = (long) rounds * LANES;
+            System.out.printf("%-18s utm %7.1f M lanes/s (%d lanes off by 1e-7 deg), yaw %7.1f M lanes/s%n",
+                    kernel.name(), lanes * 1e3 / utmNanos, latLonMismatches, lanes * 1e3 / yawNanos);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.ns21.common.bench;
+
+import com.ns21.common.util.UtmProjection;
+import org.osgeo.proj4j.BasicCoordinateTransform;
+import org.osgeo.proj4j.CRSFactory;
+import org.osgeo.proj4j.CoordinateReferenceSystem;
+import org.osgeo.proj4j.ProjCoordinate;
+
+import java.util.Random;
+
+/**
+ * packageName    : com.ns21.common.bench
+ * fileName       : UtmProjectionBenchmark.java
+ * author         : kjg08
+ * date           : 2026-10-18
+ * description    :UtmProjection 정확도/처리량 확인 (proj4j EPSG:326xx → EPSG:4326 기준)
+ *                 한국 51/52 zone 범위(북위 33~39도, 중앙 경선 ±3.5도)의 임의 좌표에서 최대 오차(m)와
+ *                 1e-7 도 단위로 버림한 값이 proj4j 와 다른 비율을 출력, 최대 오차가 1cm 를 넘으면 실패
+ *                 실행: gradle :msit-common:bench -PbenchMain=com.ns21.common.bench.UtmProjectionBenchmark [-PbenchArgs=rounds]
+ *                 정확도/E7 경계 허용 범위는 UtmProjectionTest 에서 확인
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18        kjg08           최초 생성
+ * 2026-10-18        kjg08           bench source set 으로 이동
+ */
+public class UtmProjectionBenchmark {
+    private static final int DEFAULT_ROUNDS = 5;
+    private static final int[] KOREAN_ZONES = {51, 52};
+    private static final int SAMPLES = 200_000;
+    private static final double METERS_PER_DEGREE = 111_320.0;
+    private static final double TOLERANCE_METERS = 0.01;
+
+    public static void main(String[] args) {
+        int rounds = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ROUNDS;
+        CRSFactory crsFactory = new CRSFactory();
+        CoordinateReferenceSystem latLon = crsFactory.createFromName("EPSG:4326");
+        Random random = new Random(42);
+
+        for (int zone : KOREAN_ZONES) {
+            CoordinateReferenceSystem utm = crsFactory.createFromName("EPSG:326" + zone);
+            BasicCoordinateTransform transform = new BasicCoordinateTransform(utm, latLon);
+            UtmProjection projection = UtmProjection.zone(zone);
+
+            double[] x = new double[SAMPLES];
+            double[] y = new double[SAMPLES];
+            for (int i = 0; i < SAMPLES; i++) {
+                x[i] = 180_000 + random.nextDouble() * 640_000;
+                y[i] = 3_650_000 + random.nextDouble() * 680_000;
+            }
+
+            // 정확도
+            double maxError = 0;
+            int e7Mismatch = 0;
+            double[] degrees = new double[2];
+            long[] e7 = new long[2];
+            ProjCoordinate source = new ProjCoordinate();
+            ProjCoordinate target = new ProjCoordinate();
+            for (int i = 0; i < SAMPLES; i++) {
+                source.x = x[i];
+                source.y = y[i];
+                transform.transform(source, target);
+                projection.toLatLon(x[i], y[i], degrees, 0);
+                projection.toLatLon(x[i], y[i], e7, 0);
+                double dLat = (degrees[0] - target.y) * METERS_PER_DEGREE;
+                double dLon = (degrees[1] - target.x) * METERS_PER_DEGREE * Math.cos(Math.toRadians(target.y));
+                maxError = Math.max(maxError, Math.hypot(dLat, dLon));
+                if (e7[0] != (long) (target.y * 10_000_000) || e7[1] != (long) (target.x * 10_000_000)) {
+                    e7Mismatch++;
+                }
+            }
+            System.out.printf("zone %d: max error %.6f m, 1e-7 deg truncation differs in %.3f%% of %d samples%n",
+                    zone, maxError, 100.0 * e7Mismatch / SAMPLES, SAMPLES);
+            if (maxError > TOLERANCE_METERS) {
+                throw new IllegalStateException("zone " + zone + " error exceeds " + TOLERANCE_METERS + " m");
+            }
+
+            // 처리량 (첫 라운드는 워밍업으로 결과에서 제외)
+            long[] lat = new long[SAMPLES];
+            long[] lon = new long[SAMPLES];
+            long proj4jNanos = 0;
+            long singleNanos = 0;
+            long bulkNanos = 0;
+            for (int round = 0; round <= rounds; round++) {
+                long start = System.nanoTime();
+                long checksum = 0;
+                for (int i = 0; i < SAMPLES; i++) {
+                    // CoordinateConverter 의 이전 변환과 같이 호출마다 transform/좌표 객체 생성
+                    BasicCoordinateTransform t = new BasicCoordinateTransform(utm, latLon);
+                    ProjCoordinate out = new ProjCoordinate();
+                    t.transform(new ProjCoordinate(x[i], y[i]), out);
+                    checksum += (long) (out.y * 10_000_000);
+                }
+                long proj4j = System.nanoTime() - start;
+
+                start = System.nanoTime();
+                for (int i = 0; i < SAMPLES; i++) {
+                    projection.toLatLon(x[i], y[i], e7, 0);
+                    checksum += e7[0];
+                }
+                long single = System.nanoTime() - start;
+
+                start = System.nanoTime();
+                projection.toLatLon(x, y, SAMPLES, lat, lon);
+                long bulk = System.nanoTime() - start;
+                checksum += lat[SAMPLES - 1];
+
+                // checksum 을 사용해 결과가 최적화로 제거되지 않도록 함
+                if (checksum == Long.MIN_VALUE) {
+                    System.out.println(checksum);
+                }
+                if (round > 0) {
+                    proj4jNanos += proj4j;
+                    singleNanos += single;
+                    bulkNanos += bulk;
+                }
+            }
+            long count = (long) SAMPLES * rounds;
+            System.out.printf("zone %d: proj4j %.0f ns/op, single %.0f ns/op, bulk %.0f ns/op%n", zone,
+                    (double) proj4jNanos / count, (double) singleNanos / count, (double) bulkNanos / count);
+        }
+    }
+}
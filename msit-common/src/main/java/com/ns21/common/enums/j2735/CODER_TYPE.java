@@ -5,7 +5,8 @@ import lombok.Getter;
 @Getter
 public enum CODER_TYPE {
     JSON(" asn1 json"),
-    BER(" asn1 ber")
+    BER(" asn1 ber"),
+    UPER(" asn1 uper")
         ;
     private String desc;
     CODER_TYPE(String desc) {
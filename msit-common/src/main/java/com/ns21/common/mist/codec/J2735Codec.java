@@ -0,0 +1,288 @@
+package com.ns21.common.mist.codec;
+
+import com.ns21.common.enums.j2735.CODER_TYPE;
+import com.ns21.common.exception.JsonToJ2735Exception;
+import com.ns21.common.util.ASN1CoderFactory;
+import com.oss.asn1.AbstractData;
+import com.oss.asn1.Coder;
+import dsrc.dsrc.MessageFrame;
+import io.vertx.core.buffer.Buffer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * packageName    : com.ns21.common.mist.codec
+ * fileName       : J2735Codec.java
+ * author         : kjg08
+ * date           : 2026-10-18
+ * description    :J2735 전송 형식(BER/UPER) 바이트 인코딩/디코딩
+ *                 RSU/무선 구간은 UPER 를 사용하므로 BER 외에 UPER 를 같은 방식(byte[] 입출력)으로 제공
+ *                 coder 는 ASN1CoderFactory 의 스레드별 coder 사용
+ *                 호출자가 준 ByteBuffer 에 바로 인코딩(Vert.x Buffer 는 인코딩을 마친 뒤 한 번에 이어 붙임)하고, 버퍼의 일부(offset/length)를 복사 없이 디코딩 (16진수 문자열은 로그/도구용)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18        kjg08           최초 생성
+ * 2026-10-18        kjg08           ByteBuffer/Vert.x Buffer 입출력 추가
+ * 2026-10-18        kjg08           Vert.x Buffer 인코딩을 임시 버퍼에 끝낸 뒤 이어 붙여 실패 시 Buffer 유지, slice 범위 검사를 checkFromIndexSize 로 변경
+ */
+public class J2735Codec {
+    private static final Logger logger = LoggerFactory.getLogger(J2735Codec.class);
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    /**
+     * ASN.1 객체를 지정한 전송 형식으로 인코딩합니다.
+     *
+     * @param data 인코딩할 ASN.1 객체
+     * @param type 전송 형식 (BER, UPER)
+     * @return 인코딩된 바이트
+     * @throws JsonToJ2735Exception 인코딩 과정에서 오류가 발생한 경우
+     */
+    public static byte[] encode(AbstractData data, CODER_TYPE type) throws JsonToJ2735Exception {
+        if (data == null) {
+            throw new JsonToJ2735Exception("Input data is null");
+        }
+        try {
+            Coder coder = ASN1CoderFactory.getCoder(type);
+            // UPER 는 BER 보다 작으므로 같은 초기 크기로 충분
+            ByteArrayOutputStream bao = new ByteArrayOutputStream(256);
+            coder.encode(data, bao);
+            return bao.toByteArray();
+        } catch (Exception e) {
+            logger.error("Exception occurred during J2735 {} encoding: {}", type, e.getMessage(), e);
+            throw new JsonToJ2735Exception("Encoding Exception occurred", e);
+        }
+    }
+
+    /**
+     * ASN.1 객체를 out 의 현재 position 부터 인코딩하고 position 을 인코딩한 길이만큼 이동합니다.
+     * 남은 공간이 부족하면 position 을 원래대로 두고 예외를 던집니다.
+     *
+     * @return 인코딩한 바이트 수
+     */
+    public static int encode(AbstractData data, CODER_TYPE type, ByteBuffer out) throws JsonToJ2735Exception {
+        if (data == null) {
+            throw new JsonToJ2735Exception("Input data is null");
+        }
+        int start = out.position();
+        ByteBufferOutput output = new ByteBufferOutput(out);
+        try {
+            ASN1CoderFactory.getCoder(type).encode(data, output);
+            return out.position() - start;
+        } catch (Exception e) {
+            out.position(start);
+            // OSS coder 는 BufferOverflowException 을 cause 없이 감싸므로 출력 쪽에서 직접 확인
+            if (output.overflowed) {
+                throw new JsonToJ2735Exception("Output buffer too small: " + out.remaining() + " bytes remaining", e);
+            }
+            logger.error("Exception occurred during J2735 {} encoding: {}", type, e.getMessage(), e);
+            throw new JsonToJ2735Exception("Encoding Exception occurred", e);
+        }
+    }
+
+    /**
+     * ASN.1 객체를 인코딩해 Vert.x Buffer 끝에 이어 붙입니다.
+     * 스레드별 임시 버퍼에 인코딩을 끝낸 뒤 한 번에 이어 붙이므로 실패하면 Buffer 는 바뀌지 않습니다.
+     *
+     * @return 인코딩한 바이트 수
+     */
+    public static int encode(AbstractData data, CODER_TYPE type, Buffer out) throws JsonToJ2735Exception {
+        if (data == null) {
+            throw new JsonToJ2735Exception("Input data is null");
+        }
+        Scratch scratch = SCRATCH.get();
+        scratch.reset();
+        try {
+            ASN1CoderFactory.getCoder(type).encode(data, scratch);
+        } catch (Exception e) {
+            logger.error("Exception occurred during J2735 {} encoding: {}", type, e.getMessage(), e);
+            throw new JsonToJ2735Exception("Encoding Exception occurred", e);
+        }
+        // coder 는 UPER 출력을 여러 번 나누어 기록하므로 Buffer 에 바로 쓰면 실패 시 일부가 남음
+        // (Vert.x 4 의 getByteBuf() 는 slice 를 반환해 writerIndex 로 되돌릴 수 없음)
+        try {
+            out.appendBytes(scratch.bytes(), 0, scratch.size());
+        } catch (IndexOutOfBoundsException e) {
+            // 최대 크기가 정해진 ByteBuf 로 만든 Buffer 는 늘어나지 못하고 아무것도 쓰지 않은 채 실패
+            throw new JsonToJ2735Exception("Output buffer too small: " + scratch.size() + " bytes required", e);
+        }
+        return scratch.size();
+    }
+
+    /**
+     * 지정한 전송 형식의 바이트를 MessageFrame 으로 디코딩합니다.
+     */
+    public static MessageFrame decode(byte[] data, CODER_TYPE type) throws JsonToJ2735Exception {
+        return decode(data, new MessageFrame(), type);
+    }
+
+    /**
+     * 지정한 전송 형식의 바이트를 target 형식으로 디코딩합니다.
+     *
+     * @param data   인코딩된 바이트
+     * @param target 디코딩할 ASN.1 형식의 빈 객체
+     * @param type   전송 형식 (BER, UPER)
+     * @return 디코딩된 객체
+     * @throws JsonToJ2735Exception 디코딩 과정에서 오류가 발생한 경우
+     */
+    public static <T extends AbstractData> T decode(byte[] data, T target, CODER_TYPE type) throws JsonToJ2735Exception {
+        if (data == null) {
+            throw new JsonToJ2735Exception("Input data is null or empty");
+        }
+        return decode(data, 0, data.length, target, type);
+    }
+
+    /**
+     * data[offset, offset + length) 를 MessageFrame 으로 디코딩합니다.
+     */
+    public static MessageFrame decode(byte[] data, int offset, int length, CODER_TYPE type) throws JsonToJ2735Exception {
+        return decode(data, offset, length, new MessageFrame(), type);
+    }
+
+    /**
+     * data[offset, offset + length) 를 target 형식으로 디코딩합니다. (복사 없음)
+     */
+    public static <T extends AbstractData> T decode(byte[] data, int offset, int length, T target, CODER_TYPE type)
+            throws JsonToJ2735Exception {
+        if (data == null || length <= 0) {
+            throw new JsonToJ2735Exception("Input data is null or empty");
+        }
+        checkSlice(offset, length, data.length);
+        return decode(new ByteArrayInputStream(data, offset, length), target, type);
+    }
+
+    /**
+     * in 의 position 부터 limit 까지를 MessageFrame 하나로 디코딩하고 position 을 limit 으로 이동합니다.
+     */
+    public static MessageFrame decode(ByteBuffer in, CODER_TYPE type) throws JsonToJ2735Exception {
+        if (in == null || !in.hasRemaining()) {
+            throw new JsonToJ2735Exception("Input data is null or empty");
+        }
+        InputStream stream = in.hasArray() ?
+                new ByteArrayInputStream(in.array(), in.arrayOffset() + in.position(), in.remaining()) :
+                new ByteBufferInput(in.slice());
+        MessageFrame frame = decode(stream, new MessageFrame(), type);
+        in.position(in.limit());
+        return frame;
+    }
+
+    /**
+     * Vert.x Buffer 의 [offset, offset + length) 를 MessageFrame 으로 디코딩합니다. (복사 없음)
+     */
+    public static MessageFrame decode(Buffer in, int offset, int length, CODER_TYPE type) throws JsonToJ2735Exception {
+        if (in == null || length <= 0) {
+            throw new JsonToJ2735Exception("Input data is null or empty");
+        }
+        checkSlice(offset, length, in.length());
+        return decode(in.getByteBuf().nioBuffer(offset, length), type);
+    }
+
+    // offset + length 가 int 범위를 넘는 경우도 범위 밖으로 처리
+    private static void checkSlice(int offset, int length, int size) throws JsonToJ2735Exception {
+        try {
+            Objects.checkFromIndexSize(offset, length, size);
+        } catch (IndexOutOfBoundsException e) {
+            throw new JsonToJ2735Exception("Invalid slice: offset " + offset + ", length " + length + ", size " + size, e);
+        }
+    }
+
+    private static <T extends AbstractData> T decode(InputStream in, T target, CODER_TYPE type) throws JsonToJ2735Exception {
+        try {
+            Coder coder = ASN1CoderFactory.getCoder(type);
+            return coder.decode(in, target);
+        } catch (Exception e) {
+            logger.error("Exception occurred during J2735 {} decoding: {}", type, e.getMessage(), e);
+            throw new JsonToJ2735Exception("Decoding Exception occurred", e);
+        }
+    }
+
+    /**
+     * MessageFrame 바이트를 다른 전송 형식으로 변환합니다. (ex BER → UPER)
+     */
+    public static byte[] transcode(byte[] data, CODER_TYPE from, CODER_TYPE to) throws JsonToJ2735Exception {
+        if (from == to) {
+            return data;
+        }
+        return encode(decode(data, from), to);
+    }
+
+    // coder 출력을 ByteBuffer 에 바로 기록
+    private static final class ByteBufferOutput extends OutputStream {
+        private final ByteBuffer out;
+        private boolean overflowed;
+
+        private ByteBufferOutput(ByteBuffer out) {
+            this.out = out;
+        }
+
+        @Override
+        public void write(int b) {
+            ensure(1);
+            out.put((byte) b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            ensure(len);
+            out.put(b, off, len);
+        }
+
+        private void ensure(int len) {
+            if (out.remaining() < len) {
+                overflowed = true;
+                throw new BufferOverflowException();
+            }
+        }
+    }
+
+    // Vert.x Buffer 인코딩용 스레드별 임시 출력 (내부 배열을 복사 없이 노출)
+    private static final class Scratch extends ByteArrayOutputStream {
+        private Scratch() {
+            super(256);
+        }
+
+        private byte[] bytes() {
+            return buf;
+        }
+    }
+
+    // direct ByteBuffer 입력용
+    private static final class ByteBufferInput extends InputStream {
+        private final ByteBuffer in;
+
+        private ByteBufferInput(ByteBuffer in) {
+            this.in = in;
+        }
+
+        @Override
+        public int read() {
+            return in.hasRemaining() ? in.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!in.hasRemaining()) {
+                return -1;
+            }
+            int n = Math.min(len, in.remaining());
+            in.get(b, off, n);
+            return n;
+        }
+
+        @Override
+        public int available() {
+            return in.remaining();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.ns21.common.mist.codec;
+
+import com.ns21.common.enums.j2735.CODER_TYPE;
+import com.ns21.common.exception.JsonToJ2735Exception;
+import com.ns21.common.util.ConvertUtil;
+import com.oss.asn1.AbstractData;
+
+/**
+ * packageName    : com.ns21.common.mist.codec
+ * fileName       : J2735Encoder.java
+ * author         : kjg08
+ * date           : 2026-10-18
+ * description    :직접 구성한 ASN.1 객체(MessageFrame 등)를 JSON 을 거치지 않고 BER 로 인코딩
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18        kjg08           최초 생성
+ * 2026-10-18        kjg08           스레드별 재사용 coder(ASN1CoderFactory.getCoder) 사용
+ * 2026-10-18        kjg08           J2735Codec 으로 위임
+ */
+public class J2735Encoder {
+    /**
+     * ASN.1 객체를 BER 로 인코딩합니다.
+     *
+     * @param data 인코딩할 ASN.1 객체
+     * @return BER 바이트
+     * @throws JsonToJ2735Exception 인코딩 과정에서 오류가 발생한 경우
+     */
+    public static byte[] encode(AbstractData data) throws JsonToJ2735Exception {
+        return J2735Codec.encode(data, CODER_TYPE.BER);
+    }
+
+    /**
+     * ASN.1 객체를 BER 로 인코딩한 16진수 문자열을 반환합니다. ({@link JsonToJ2735#convertToJ2735} 와 같은 형식)
+     */
+    public static String encodeToHex(AbstractData data) throws JsonToJ2735Exception {
+        return ConvertUtil.bytesToHexString(encode(data));
+    }
+}
@@ -1,15 +1,13 @@
 package com.ns21.common.mist.codec;
 import com.ns21.common.enums.j2735.CODER_TYPE;
-import com.ns21.common.enums.j2735.ASN1CodeFactory;
+import com.ns21.common.util.ASN1CoderFactory;
 import com.ns21.common.util.ConvertUtil;
 import com.ns21.common.exception.JsonToJ2735Exception;
 import com.oss.asn1.AbstractData;
 import com.oss.asn1.Coder;
-import dsrc.dsrc.MessageFrame;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 
@@ -22,6 +20,9 @@ import java.io.IOException;
  * DATE              AUTHOR             NOTE
  * -----------------------------------------------------------
  * 2023-11-17        kjg08           최초 생성
+ * 2026-10-18        kjg08           스레드별 재사용 coder(ASN1CoderFactory.getCoder) 사용
+ * 2026-10-18        kjg08           BER/UPER 바이트 입력 추가
+ * 2026-10-18        kjg08           바이트 구간(offset/length) 입력 추가
  */
 /**
  * j2735ToJson 클래스는 J2735 형식의 데이터를 JSON 형식으로 변환합니다.
@@ -41,16 +42,32 @@ public class J2735ToJson {
         if (data == null || data.isEmpty()) {
             throw new JsonToJ2735Exception("Input data is null or empty");
         }
+        return convertToJSON(ConvertUtil.hexStringToBytes(data), CODER_TYPE.BER);
+    }
 
-        try (ByteArrayInputStream bai = new ByteArrayInputStream(ConvertUtil.hexStringToBytes(data));
-             ByteArrayOutputStream bao = new ByteArrayOutputStream()) {
-
-            Coder berCoder = ASN1CodeFactory.createCoder(CODER_TYPE.BER);
-            Coder jsonCoder = ASN1CodeFactory.createCoder(CODER_TYPE.JSON);
+    /**
+     * 지정한 전송 형식(BER/UPER)의 MessageFrame 바이트를 JSON 형식으로 변환합니다.
+     *
+     * @param data 변환할 MessageFrame 바이트
+     * @param type 전송 형식
+     * @return JSON 형식의 문자열
+     * @throws JsonToJ2735Exception 변환 과정에서 오류가 발생한 경우
+     */
+    public static String convertToJSON(byte[] data, CODER_TYPE type) throws JsonToJ2735Exception {
+        if (data == null) {
+            throw new JsonToJ2735Exception("Input data is null or empty");
+        }
+        return convertToJSON(data, 0, data.length, type);
+    }
 
-            AbstractData messageFrame = new MessageFrame();
-            messageFrame = berCoder.decode(bai, messageFrame);
+    /**
+     * data[offset, offset + length) 의 MessageFrame 을 JSON 형식으로 변환합니다. (복사 없음)
+     */
+    public static String convertToJSON(byte[] data, int offset, int length, CODER_TYPE type) throws JsonToJ2735Exception {
+        AbstractData messageFrame = J2735Codec.decode(data, offset, length, type);
+        try (ByteArrayOutputStream bao = new ByteArrayOutputStream()) {
 
+            Coder jsonCoder = ASN1CoderFactory.getCoder(CODER_TYPE.JSON);
             jsonCoder.encode(messageFrame, bao);
 
             return bao.toString();
@@ -1,7 +1,7 @@
 package com.ns21.common.mist.codec;
 
 import com.ns21.common.enums.j2735.CODER_TYPE;
-import com.ns21.common.enums.j2735.ASN1CodeFactory;
+import com.ns21.common.util.ASN1CoderFactory;
 import com.ns21.common.util.ConvertUtil;
 import com.ns21.common.exception.JsonToJ2735Exception;
 import com.oss.asn1.AbstractData;
@@ -12,8 +12,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
 /**
  * jsonToJ2735 클래스는 JSON 데이터를 J2735 형식으로 변환합니다.
@@ -26,28 +26,48 @@ public class JsonToJ2735 {
      * JSON 문자열을 J2735 형식으로 변환합니다.
      *
      * @param data 변환할 JSON 문자열
-     * @return J2735 형식의 문자열
+     * @return J2735 형식의 문자열 (BER 16진수)
      * @throws JsonToJ2735Exception 변환 과정에서 오류가 발생한 경우
      */
     public static String convertToJ2735(String data) throws JsonToJ2735Exception {
+        return ConvertUtil.bytesToHexString(convertToBytes(data, CODER_TYPE.BER));
+    }
+
+    /**
+     * JSON 문자열을 지정한 전송 형식(BER/UPER)의 바이트로 변환합니다. (16진수 문자열을 거치지 않음)
+     *
+     * @param data 변환할 JSON 문자열
+     * @param type 전송 형식
+     * @return 인코딩된 바이트
+     * @throws JsonToJ2735Exception 변환 과정에서 오류가 발생한 경우
+     */
+    public static byte[] convertToBytes(String data, CODER_TYPE type) throws JsonToJ2735Exception {
+        return J2735Codec.encode(decodeJson(data), type);
+    }
+
+    /**
+     * JSON 문자열을 지정한 전송 형식으로 out 의 현재 position 부터 인코딩합니다.
+     *
+     * @return 인코딩한 바이트 수
+     * @throws JsonToJ2735Exception 변환 과정에서 오류가 발생하거나 out 의 공간이 부족한 경우
+     */
+    public static int convertTo(String data, CODER_TYPE type, ByteBuffer out) throws JsonToJ2735Exception {
+        return J2735Codec.encode(decodeJson(data), type, out);
+    }
+
+    // JSON 문자열 → MessageFrame
+    private static AbstractData decodeJson(String data) throws JsonToJ2735Exception {
         if (data == null || data.isEmpty()) {
             throw new JsonToJ2735Exception("Input data is null or empty");
         }
 
         logger.info("Input Meta_JSON data: {}", data);
-        try (ByteArrayInputStream bai = new ByteArrayInputStream(data.getBytes());
-             ByteArrayOutputStream bao = new ByteArrayOutputStream()) {
+        try (ByteArrayInputStream bai = new ByteArrayInputStream(data.getBytes())) {
             logger.info("{}", CODER_TYPE.JSON.getDesc());
-            Coder jsonCoder = ASN1CodeFactory.createCoder(CODER_TYPE.JSON);
-            Coder berCoder = ASN1CodeFactory.createCoder(CODER_TYPE.BER);
+            Coder jsonCoder = ASN1CoderFactory.getCoder(CODER_TYPE.JSON);
 
             AbstractData messageFrame = new MessageFrame();
-            messageFrame = jsonCoder.decode(bai, messageFrame);
-            berCoder.encode(messageFrame, bao);
-
-            String jMsg = ConvertUtil.bytesToHexString(bao.toByteArray());
-
-            return jMsg;
+            return jsonCoder.decode(bai, messageFrame);
 
         } catch (IOException e) {
             logger.error("IO Exception occurred during JSON to J2735 conversion: {}", e.getMessage(), e);
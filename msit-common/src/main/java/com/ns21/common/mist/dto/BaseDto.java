@@ -1,5 +1,6 @@
 package com.ns21.common.mist.dto;
 
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
@@ -14,10 +15,19 @@ import lombok.ToString;
  * DATE              AUTHOR             NOTE
  * -----------------------------------------------------------
  * 2023-11-30        kjg08           최초 생성
+ * 2026-10-18        kjg08           uuid 를 UuidTable 대리키(int)로 변경
+ * 2026-10-18        kjg08           로더 로컬 id 를 전역 대리키로 바꾸는 remapUuids 추가
  */
 @Getter
 @Setter
 @ToString
 public abstract class BaseDto {
-    protected String uuid; // 공통 속성
+    // 공통 속성, UuidTable 대리키 (원문은 UuidTable.getInstance().uuidOf(uuid)), JSON 에 키가 없으면 UuidTable.NONE
+    @JsonDeserialize(using = UuidIdDeserializer.class)
+    protected int uuid = UuidTable.NONE;
+
+    // 로더 로컬 id 를 전역 대리키로 변환 (ids 는 UuidTable.merge 결과), 외래키가 있는 하위 클래스는 함께 변환
+    public void remapUuids(int[] ids) {
+        uuid = UuidTable.remap(ids, uuid);
+    }
 }
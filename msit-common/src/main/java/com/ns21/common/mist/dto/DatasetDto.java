@@ -1,6 +1,7 @@
 package com.ns21.common.mist.dto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
@@ -21,9 +22,9 @@ import java.util.List;
 @Setter
 @ToString
 public class DatasetDto extends BaseDto {
-    private String uuid;
     @JsonProperty("log_uuid")
-    private String logUuid;
+    @JsonDeserialize(using = UuidIdDeserializer.class)
+    private int logUuid = UuidTable.NONE;
     @JsonProperty("scenario_names")
     private List<String> scenarioNames;
     private String name;
@@ -33,8 +34,17 @@ public class DatasetDto extends BaseDto {
     @JsonProperty("num_frames")
     private int numFrames;
     @JsonProperty("first_frame_uuid")
-    private String firstFrameUuid;
+    @JsonDeserialize(using = UuidIdDeserializer.class)
+    private int firstFrameUuid = UuidTable.NONE;
     @JsonProperty("last_frame_uuid")
-    private String lastFrameUuid;
+    @JsonDeserialize(using = UuidIdDeserializer.class)
+    private int lastFrameUuid = UuidTable.NONE;
 
+    @Override
+    public void remapUuids(int[] ids) {
+        super.remapUuids(ids);
+        logUuid = UuidTable.remap(ids, logUuid);
+        firstFrameUuid = UuidTable.remap(ids, firstFrameUuid);
+        lastFrameUuid = UuidTable.remap(ids, lastFrameUuid);
+    }
 }
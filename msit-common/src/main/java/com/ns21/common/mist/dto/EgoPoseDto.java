@@ -5,8 +5,6 @@ import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
 
-import java.util.List;
-
 
 /* packageName    : com.ns21.common.mist.dto
  * fileName       : DataSetDto.java
@@ -23,10 +21,11 @@ import java.util.List;
 @Setter
 @ToString
 public class EgoPoseDto extends BaseDto {
-    private String uuid;
     private String timestamp;
-    private List<Double> translation;
-    private List<Double> rotation;
+    // [x, y, z], 박싱 없이 primitive 배열로 바인딩
+    private double[] translation;
+    // [w, x, y, z]
+    private double[] rotation;
     @JsonProperty("coordinate_system")
     private CoordinateSystem coordinateSystem;
 
@@ -1,6 +1,7 @@
 package com.ns21.common.mist.dto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
@@ -23,11 +24,12 @@ import java.util.Map;
 @Setter
 @ToString
 public class FrameAnnotationDto extends BaseDto{
-    private String uuid;
     @JsonProperty("frame_data_uuid")
-    private String frameDataUuid;
+    @JsonDeserialize(using = UuidIdDeserializer.class)
+    private int frameDataUuid = UuidTable.NONE;
     @JsonProperty("instance_uuid")
-    private String instanceUuid;
+    @JsonDeserialize(using = UuidIdDeserializer.class)
+    private int instanceUuid = UuidTable.NONE;
     @JsonProperty("visibility_level")
     private Integer visibilityLevel;
     @JsonProperty("annotation_type_name")
@@ -39,8 +41,19 @@ public class FrameAnnotationDto extends BaseDto{
     private Integer numPts;
     private Map<String, String> attribute;
     private String description;
-    private String prev;
-    private String next;
+    @JsonDeserialize(using = UuidIdDeserializer.class)
+    private int prev = UuidTable.NONE;
+    @JsonDeserialize(using = UuidIdDeserializer.class)
+    private int next = UuidTable.NONE;
+
+    @Override
+    public void remapUuids(int[] ids) {
+        super.remapUuids(ids);
+        frameDataUuid = UuidTable.remap(ids, frameDataUuid);
+        instanceUuid = UuidTable.remap(ids, instanceUuid);
+        prev = UuidTable.remap(ids, prev);
+        next = UuidTable.remap(ids, next);
+    }
 
     @Getter
     @Setter
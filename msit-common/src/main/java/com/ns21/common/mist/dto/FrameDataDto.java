@@ -1,6 +1,7 @@
 package com.ns21.common.mist.dto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
@@ -20,13 +21,15 @@ import lombok.ToString;
 @Setter
 @ToString
 public class FrameDataDto extends BaseDto {
-    private String uuid;
     @JsonProperty("frame_uuid")
-    private String frameUuid;
+    @JsonDeserialize(using = UuidIdDeserializer.class)
+    private int frameUuid = UuidTable.NONE;
     @JsonProperty("ego_pose_uuid")
-    private String egoPoseUuid;
+    @JsonDeserialize(using = UuidIdDeserializer.class)
+    private int egoPoseUuid = UuidTable.NONE;
     @JsonProperty("sensor_uuid")
-    private String sensorUuid;
+    @JsonDeserialize(using = UuidIdDeserializer.class)
+    private int sensorUuid = UuidTable.NONE;
     private String timestamp;
     @JsonProperty("is_key_frame")
     private Boolean isKeyFrame;
@@ -36,10 +39,26 @@ public class FrameDataDto extends BaseDto {
     private String fileName;
     @JsonProperty("file_format")
     private String fileFormat;
-    private String prev;
-    private String next;
+    @JsonDeserialize(using = UuidIdDeserializer.class)
+    private int prev = UuidTable.NONE;
+    @JsonDeserialize(using = UuidIdDeserializer.class)
+    private int next = UuidTable.NONE;
     @JsonProperty("prev_key_frame_data")
-    private String prevKeyFrameData;
+    @JsonDeserialize(using = UuidIdDeserializer.class)
+    private int prevKeyFrameData = UuidTable.NONE;
     @JsonProperty("next_key_frame_data")
-    private String nextKeyFrameData;
+    @JsonDeserialize(using = UuidIdDeserializer.class)
+    private int nextKeyFrameData = UuidTable.NONE;
+
+    @Override
+    public void remapUuids(int[] ids) {
+        super.remapUuids(ids);
+        frameUuid = UuidTable.remap(ids, frameUuid);
+        egoPoseUuid = UuidTable.remap(ids, egoPoseUuid);
+        sensorUuid = UuidTable.remap(ids, sensorUuid);
+        prev = UuidTable.remap(ids, prev);
+        next = UuidTable.remap(ids, next);
+        prevKeyFrameData = UuidTable.remap(ids, prevKeyFrameData);
+        nextKeyFrameData = UuidTable.remap(ids, nextKeyFrameData);
+    }
 }
@@ -1,6 +1,7 @@
 package com.ns21.common.mist.dto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
@@ -20,10 +21,20 @@ import lombok.ToString;
 @Setter
 @ToString
 public class FrameDto extends BaseDto {
-    private String uuid;
     private String timestamp;
     @JsonProperty("dataset_uuid")
-    private String datasetUuid;
-    private String prev;
-    private String next;
+    @JsonDeserialize(using = UuidIdDeserializer.class)
+    private int datasetUuid = UuidTable.NONE;
+    @JsonDeserialize(using = UuidIdDeserializer.class)
+    private int prev = UuidTable.NONE;
+    @JsonDeserialize(using = UuidIdDeserializer.class)
+    private int next = UuidTable.NONE;
+
+    @Override
+    public void remapUuids(int[] ids) {
+        super.remapUuids(ids);
+        datasetUuid = UuidTable.remap(ids, datasetUuid);
+        prev = UuidTable.remap(ids, prev);
+        next = UuidTable.remap(ids, next);
+    }
 }
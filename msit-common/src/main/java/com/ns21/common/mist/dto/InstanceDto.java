@@ -1,6 +1,7 @@
 package com.ns21.common.mist.dto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
@@ -20,14 +21,22 @@ import lombok.ToString;
 @Setter
 @ToString
 public class InstanceDto extends BaseDto {
-    private String uuid;
     @JsonProperty("category_name")
     private String categoryName;
     @JsonProperty("first_frame_annotation_uuid")
-    private String firstFrameAnnotationUuid;
+    @JsonDeserialize(using = UuidIdDeserializer.class)
+    private int firstFrameAnnotationUuid = UuidTable.NONE;
     @JsonProperty("last_frame_annotation_uuid")
-    private String lastFrameAnnotationUuid;
+    @JsonDeserialize(using = UuidIdDeserializer.class)
+    private int lastFrameAnnotationUuid = UuidTable.NONE;
     @JsonProperty("num_annotations")
     private Integer numAnnotations;
     private String description;
+
+    @Override
+    public void remapUuids(int[] ids) {
+        super.remapUuids(ids);
+        firstFrameAnnotationUuid = UuidTable.remap(ids, firstFrameAnnotationUuid);
+        lastFrameAnnotationUuid = UuidTable.remap(ids, lastFrameAnnotationUuid);
+    }
 }
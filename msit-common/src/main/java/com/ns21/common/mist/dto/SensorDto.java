@@ -22,11 +22,12 @@ import java.util.List;
 @Setter
 @ToString
 public class SensorDto extends BaseDto {
-    private String uuid;
     private String name;
     private String type;
-    private List<Double> translation;
-    private List<Double> rotation;
+    // [x, y, z], 박싱 없이 primitive 배열로 바인딩
+    private double[] translation;
+    // [w, x, y, z]
+    private double[] rotation;
     private Intrinsic intrinsic;
     @JsonProperty("height_from_ground")
     private Double heightFromGround;
@@ -0,0 +1,44 @@
+package com.ns21.common.mist.dto;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+
+import java.io.IOException;
+
+/**
+ * packageName    : com.ns21.common.mist.dto
+ * fileName       : UuidIdDeserializer.java
+ * author         : kjg08
+ * date           : 2026-10-18
+ * description    :JSON uuid 문자열을 UuidTable 대리키(int)로 바인딩, null/빈 문자열은 UuidTable.NONE
+ *                 UuidIdModule 을 등록한 ObjectMapper 에서는 이 deserializer 가 붙은 속성을 박싱 없이 int 로 설정
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18        kjg08           최초 생성
+ * 2026-10-18        kjg08           파일 로더의 로컬 테이블에 할당 (UuidTable.internCurrent), int 반환 readId 추가
+ */
+public class UuidIdDeserializer extends JsonDeserializer<Integer> {
+
+    @Override
+    public Integer deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        return readId(p);
+    }
+
+    @Override
+    public Integer getNullValue(DeserializationContext ctxt) {
+        return UuidTable.NONE;
+    }
+
+    /**
+     * 현재 토큰의 uuid 를 대리키로 변환합니다. (현재 스레드에 로더 테이블이 연결되어 있으면 로컬 id)
+     */
+    static int readId(JsonParser p) throws IOException {
+        if (p.hasToken(JsonToken.VALUE_NULL)) {
+            return UuidTable.NONE;
+        }
+        return UuidTable.internCurrent(p.getValueAsString());
+    }
+}
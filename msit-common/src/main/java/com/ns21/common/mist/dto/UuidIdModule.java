@@ -0,0 +1,109 @@
+package com.ns21.common.mist.dto;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerBuilder;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMethod;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * packageName    : com.ns21.common.mist.dto
+ * fileName       : UuidIdModule.java
+ * author         : kjg08
+ * date           : 2026-10-18
+ * description    :UuidIdDeserializer 가 붙은 int 속성을 Integer 박싱 없이 setter(MethodHandle)로 설정하는 Jackson 모듈
+ *                 기본 바인딩은 deserializer 결과(Integer)를 리플렉션으로 설정하므로 uuid/외래키 필드마다 박싱이 발생함
+ *                 setter 를 찾지 못한 속성은 기본 바인딩을 그대로 사용
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18        kjg08           최초 생성
+ */
+public class UuidIdModule extends SimpleModule {
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, int.class);
+
+    public UuidIdModule() {
+        super("UuidIdModule");
+        setDeserializerModifier(new BeanDeserializerModifier() {
+            @Override
+            public BeanDeserializerBuilder updateBuilder(DeserializationConfig config, BeanDescription beanDesc,
+                                                         BeanDeserializerBuilder builder) {
+                List<SettableBeanProperty> replaced = new ArrayList<>();
+                for (Iterator<SettableBeanProperty> it = builder.getProperties(); it.hasNext(); ) {
+                    SettableBeanProperty prop = it.next();
+                    Object deserializer = prop.getValueDeserializer();
+                    MethodHandle setter = deserializer instanceof UuidIdDeserializer ? intSetter(prop.getMember()) : null;
+                    if (setter != null) {
+                        replaced.add(new IdProperty(prop, setter));
+                    }
+                }
+                for (SettableBeanProperty prop : replaced) {
+                    builder.addOrReplaceProperty(prop, true);
+                }
+                return builder;
+            }
+        });
+    }
+
+    // setXxx(int) 이면 (Object, int)void 형태의 MethodHandle, 아니면 null
+    private static MethodHandle intSetter(AnnotatedMember member) {
+        if (!(member instanceof AnnotatedMethod)) {
+            return null;
+        }
+        Method method = ((AnnotatedMethod) member).getAnnotated();
+        if (method.getParameterCount() != 1 || method.getParameterTypes()[0] != int.class) {
+            return null;
+        }
+        try {
+            return MethodHandles.publicLookup().unreflect(method).asType(SETTER_TYPE);
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private static final class IdProperty extends SettableBeanProperty.Delegating {
+        private final MethodHandle setter;
+
+        private IdProperty(SettableBeanProperty delegate, MethodHandle setter) {
+            super(delegate);
+            this.setter = setter;
+        }
+
+        @Override
+        protected SettableBeanProperty withDelegate(SettableBeanProperty d) {
+            return new IdProperty(d, setter);
+        }
+
+        @Override
+        public void deserializeAndSet(JsonParser p, DeserializationContext ctxt, Object instance) throws IOException {
+            int id = UuidIdDeserializer.readId(p);
+            try {
+                setter.invokeExact(instance, id);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IOException("Failed to set uuid id: " + getName(), e);
+            }
+        }
+
+        @Override
+        public Object deserializeSetAndReturn(JsonParser p, DeserializationContext ctxt, Object instance) throws IOException {
+            deserializeAndSet(p, ctxt, instance);
+            return instance;
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package com.ns21.common.mist.dto;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * packageName    : com.ns21.common.mist.dto
+ * fileName       : UuidInterner.java
+ * author         : kjg08
+ * date           : 2026-10-18
+ * description    :uuid 문자열 <-> 0부터 시작하는 조밀한 int id 테이블 (잠금 없음, 한 스레드에서만 사용)
+ *                 표준 형식(소문자 36자) uuid 는 long 두 개로만 저장하고, 그 외 형식은 원문 문자열을 별도로 보관
+ *                 파일 로더마다 하나씩 만들어 적재한 뒤 UuidTable.merge 로 전역 대리키에 합침 (UuidTable 내부 저장소로도 사용)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18        kjg08           최초 생성
+ */
+public final class UuidInterner {
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final int INITIAL_CAPACITY = 1024;
+
+    // id -> uuid 상위/하위 64bit
+    private long[] msb = new long[INITIAL_CAPACITY];
+    private long[] lsb = new long[INITIAL_CAPACITY];
+    // 표준 uuid 용 open addressing 해시 테이블, 값은 id + 1 (0 은 빈 슬롯)
+    private int[] slots = new int[INITIAL_CAPACITY * 2];
+    private int size;
+
+    // 표준 형식이 아닌 uuid 원문 <-> id
+    private final Map<String, Integer> irregularIds = new HashMap<>();
+    private final Map<Integer, String> irregularText = new HashMap<>();
+
+    /**
+     * uuid 문자열의 id 를 반환하며, 처음 보는 uuid 이면 새 id 를 할당합니다.
+     *
+     * @return id, null 또는 빈 문자열이면 {@link UuidTable#NONE}
+     */
+    public int intern(String uuid) {
+        if (uuid == null || uuid.isEmpty()) {
+            return UuidTable.NONE;
+        }
+        if (isCanonical(uuid)) {
+            return internBits(mostSigBits(uuid), leastSigBits(uuid));
+        }
+        return internIrregular(uuid);
+    }
+
+    /**
+     * 상위/하위 64bit 로 표현된 표준 uuid 의 id 를 반환하며, 없으면 새 id 를 할당합니다.
+     */
+    public int internBits(long mostSigBits, long leastSigBits) {
+        int mask = slots.length - 1;
+        int slot = hash(mostSigBits, leastSigBits) & mask;
+        while (slots[slot] != 0) {
+            int id = slots[slot] - 1;
+            if (msb[id] == mostSigBits && lsb[id] == leastSigBits) {
+                return id;
+            }
+            slot = (slot + 1) & mask;
+        }
+        int id = append(mostSigBits, leastSigBits);
+        slots[slot] = id + 1;
+        if (size * 2 > slots.length) {
+            rehash(slots.length * 2);
+        }
+        return id;
+    }
+
+    // 표준 형식이 아닌 uuid 원문의 id
+    int internIrregular(String uuid) {
+        Integer id = irregularIds.get(uuid);
+        if (id == null) {
+            id = append(0L, 0L);
+            irregularIds.put(uuid, id);
+            irregularText.put(id, uuid);
+        }
+        return id;
+    }
+
+    /**
+     * 새 id 를 할당하지 않고 조회만 합니다.
+     *
+     * @return id, 등록되지 않은 uuid 이면 {@link UuidTable#NONE}
+     */
+    public int idOf(String uuid) {
+        if (uuid == null || uuid.isEmpty()) {
+            return UuidTable.NONE;
+        }
+        if (!isCanonical(uuid)) {
+            return irregularIds.getOrDefault(uuid, UuidTable.NONE);
+        }
+        long hi = mostSigBits(uuid);
+        long lo = leastSigBits(uuid);
+        int mask = slots.length - 1;
+        int slot = hash(hi, lo) & mask;
+        while (slots[slot] != 0) {
+            int id = slots[slot] - 1;
+            if (msb[id] == hi && lsb[id] == lo) {
+                return id;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return UuidTable.NONE;
+    }
+
+    /**
+     * id 를 원래 uuid 문자열로 변환합니다.
+     *
+     * @return uuid 문자열, {@link UuidTable#NONE} 이면 빈 문자열
+     */
+    public String uuidOf(int id) {
+        if (id == UuidTable.NONE) {
+            return "";
+        }
+        if (id < 0 || id >= size) {
+            throw new IllegalArgumentException("Unknown uuid id: " + id);
+        }
+        String irregular = irregularText.get(id);
+        return irregular != null ? irregular : format(msb[id], lsb[id]);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long mostSigBits(int id) {
+        return msb[id];
+    }
+
+    public long leastSigBits(int id) {
+        return lsb[id];
+    }
+
+    // 표준 형식이 아닌 uuid 이면 원문, 표준 형식이면 null
+    public String irregularText(int id) {
+        return irregularText.get(id);
+    }
+
+    public void clear() {
+        msb = new long[INITIAL_CAPACITY];
+        lsb = new long[INITIAL_CAPACITY];
+        slots = new int[INITIAL_CAPACITY * 2];
+        size = 0;
+        irregularIds.clear();
+        irregularText.clear();
+    }
+
+    // freeze 용 복사본
+    long[] copyMostSigBits() {
+        return Arrays.copyOf(msb, size);
+    }
+
+    long[] copyLeastSigBits() {
+        return Arrays.copyOf(lsb, size);
+    }
+
+    Map<Integer, String> copyIrregularText() {
+        return new HashMap<>(irregularText);
+    }
+
+    private int append(long hi, long lo) {
+        if (size == msb.length) {
+            msb = Arrays.copyOf(msb, size * 2);
+            lsb = Arrays.copyOf(lsb, size * 2);
+        }
+        msb[size] = hi;
+        lsb[size] = lo;
+        return size++;
+    }
+
+    private void rehash(int capacity) {
+        int[] rehashed = new int[capacity];
+        int mask = capacity - 1;
+        for (int id = 0; id < size; id++) {
+            if (irregularText.containsKey(id)) {
+                continue;
+            }
+            int slot = hash(msb[id], lsb[id]) & mask;
+            while (rehashed[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            rehashed[slot] = id + 1;
+        }
+        slots = rehashed;
+    }
+
+    private static int hash(long hi, long lo) {
+        long h = (hi ^ lo) * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    static String format(long hi, long lo) {
+        char[] out = new char[36];
+        writeHex(out, 0, hi >>> 32, 8);
+        out[8] = '-';
+        writeHex(out, 9, hi >>> 16, 4);
+        out[13] = '-';
+        writeHex(out, 14, hi, 4);
+        out[18] = '-';
+        writeHex(out, 19, lo >>> 48, 4);
+        out[23] = '-';
+        writeHex(out, 24, lo, 12);
+        return new String(out);
+    }
+
+    // 8-4-4-4-12 소문자 16진수 형식만 표준으로 취급 (역변환 시 원문과 동일하게 복원되는 형식)
+    static boolean isCanonical(String s) {
+        if (s.length() != 36) {
+            return false;
+        }
+        for (int i = 0; i < 36; i++) {
+            char c = s.charAt(i);
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-') {
+                    return false;
+                }
+            } else if (!((c >= '0' && c <= '9') || (c >= 'a' && c <= 'f'))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static long mostSigBits(String uuid) {
+        return parseHex(uuid, 0, 8) << 32 | parseHex(uuid, 9, 13) << 16 | parseHex(uuid, 14, 18);
+    }
+
+    static long leastSigBits(String uuid) {
+        return parseHex(uuid, 19, 23) << 48 | parseHex(uuid, 24, 36);
+    }
+
+    private static long parseHex(String s, int from, int to) {
+        long value = 0;
+        for (int i = from; i < to; i++) {
+            char c = s.charAt(i);
+            value = (value << 4) | (c <= '9' ? c - '0' : c - 'a' + 10);
+        }
+        return value;
+    }
+
+    private static void writeHex(char[] out, int offset, long value, int digits) {
+        for (int i = digits - 1; i >= 0; i--) {
+            out[offset + i] = HEX[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.ns21.common.mist.dto;
+
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * packageName    : com.ns21.common.mist.dto
+ * fileName       : UuidTable.java
+ * author         : kjg08
+ * date           : 2026-10-18
+ * description    :uuid 문자열을 적재 시점에 0부터 시작하는 조밀한 int 대리키로 변환하고 역변환 테이블을 유지
+ *                 표준 형식(소문자 36자) uuid 는 long 두 개로만 저장하고, 그 외 형식은 원문 문자열을 별도로 보관
+ *                 적재가 끝나면 freeze 로 역변환 테이블을 고정해 uuidOf 가 잠금 없이 동작
+ *                 병렬 적재 시 파일 로더는 bindLoader 로 연결한 로컬 UuidInterner 에 잠금 없이 할당하고,
+ *                 적재가 끝난 뒤 파일 순서대로 merge 해서 실행마다 같은 대리키가 되도록 함
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18        kjg08           최초 생성
+ * 2026-10-18        kjg08           freeze 후 uuidOf 잠금 없이 조회
+ * 2026-10-18        kjg08           저장소를 UuidInterner 로 분리, 로더별 로컬 테이블 연결/병합 추가, uuid 파싱을 잠금 밖에서 수행
+ */
+public final class UuidTable {
+    // 빈 문자열/null uuid 에 대응하는 대리키
+    public static final int NONE = -1;
+
+    @Getter
+    private static final UuidTable instance = new UuidTable();
+
+    // 현재 스레드에서 적재 중인 파일의 로컬 테이블 (없으면 전역 테이블에 할당)
+    private static final ThreadLocal<UuidInterner> LOADER = new ThreadLocal<>();
+
+    private final UuidInterner table = new UuidInterner();
+
+    // freeze 시점의 역변환 테이블 (불변), 이후 할당된 id 는 잠금 경로로 조회
+    private volatile Frozen frozen;
+
+    private UuidTable() {
+    }
+
+    /**
+     * 현재 스레드에서 읽는 uuid 를 local 에 할당하도록 연결합니다. 파일 하나를 다 읽으면 {@link #unbindLoader()} 로 해제합니다.
+     */
+    public static void bindLoader(UuidInterner local) {
+        LOADER.set(local);
+    }
+
+    public static void unbindLoader() {
+        LOADER.remove();
+    }
+
+    /**
+     * JSON 바인딩용 - 현재 스레드에 연결된 로컬 테이블이 있으면 그 테이블의 id, 없으면 전역 대리키를 반환합니다.
+     */
+    public static int internCurrent(String uuid) {
+        UuidInterner local = LOADER.get();
+        return local != null ? local.intern(uuid) : instance.intern(uuid);
+    }
+
+    /**
+     * merge 가 반환한 변환표로 로컬 id 를 전역 대리키로 바꿉니다.
+     */
+    public static int remap(int[] ids, int localId) {
+        return localId == NONE ? NONE : ids[localId];
+    }
+
+    /**
+     * uuid 문자열의 대리키를 반환하며, 처음 보는 uuid 이면 새 id 를 할당합니다.
+     *
+     * @param uuid uuid 문자열
+     * @return 대리키, null 또는 빈 문자열이면 {@link #NONE}
+     */
+    public int intern(String uuid) {
+        if (uuid == null || uuid.isEmpty()) {
+            return NONE;
+        }
+        if (UuidInterner.isCanonical(uuid)) {
+            // 문자열 파싱은 잠금 밖에서 수행
+            long hi = UuidInterner.mostSigBits(uuid);
+            long lo = UuidInterner.leastSigBits(uuid);
+            return internBits(hi, lo);
+        }
+        synchronized (this) {
+            return table.internIrregular(uuid);
+        }
+    }
+
+    /**
+     * 상위/하위 64bit 로 표현된 표준 uuid 의 대리키를 반환하며, 없으면 새 id 를 할당합니다.
+     */
+    public synchronized int internBits(long mostSigBits, long leastSigBits) {
+        return table.internBits(mostSigBits, leastSigBits);
+    }
+
+    /**
+     * 로컬 테이블의 uuid 를 id 순서대로 전역 테이블에 할당합니다.
+     *
+     * @return 로컬 id -> 전역 대리키 변환표 ({@link #remap(int[], int)} 에 사용)
+     */
+    public synchronized int[] merge(UuidInterner local) {
+        int[] ids = new int[local.size()];
+        for (int id = 0; id < ids.length; id++) {
+            String irregular = local.irregularText(id);
+            ids[id] = irregular != null ? table.internIrregular(irregular)
+                    : table.internBits(local.mostSigBits(id), local.leastSigBits(id));
+        }
+        return ids;
+    }
+
+    /**
+     * 새 id 를 할당하지 않고 조회만 합니다.
+     *
+     * @return 대리키, 등록되지 않은 uuid 이면 {@link #NONE}
+     */
+    public synchronized int idOf(String uuid) {
+        return table.idOf(uuid);
+    }
+
+    /**
+     * 대리키를 원래 uuid 문자열로 변환합니다.
+     *
+     * @return uuid 문자열, {@link #NONE} 이면 빈 문자열
+     */
+    public String uuidOf(int id) {
+        if (id == NONE) {
+            return "";
+        }
+        Frozen snapshot = frozen;
+        if (snapshot != null && id >= 0 && id < snapshot.msb.length) {
+            String irregular = snapshot.irregularText.get(id);
+            return irregular != null ? irregular : UuidInterner.format(snapshot.msb[id], snapshot.lsb[id]);
+        }
+        return uuidOfLocked(id);
+    }
+
+    /**
+     * 현재까지 할당된 id 의 역변환 테이블을 고정합니다. 모든 파일 적재가 끝난 뒤 한 번 호출합니다.
+     */
+    public synchronized void freeze() {
+        frozen = new Frozen(table.copyMostSigBits(), table.copyLeastSigBits(), table.copyIrregularText());
+    }
+
+    private synchronized String uuidOfLocked(int id) {
+        return table.uuidOf(id);
+    }
+
+    public synchronized int size() {
+        return table.size();
+    }
+
+    // 스냅샷 기록용 접근자
+    public synchronized long mostSigBits(int id) {
+        return table.mostSigBits(id);
+    }
+
+    public synchronized long leastSigBits(int id) {
+        return table.leastSigBits(id);
+    }
+
+    // 표준 형식이 아닌 uuid 이면 원문, 표준 형식이면 null
+    public synchronized String irregularText(int id) {
+        return table.irregularText(id);
+    }
+
+    public synchronized void clear() {
+        table.clear();
+        frozen = null;
+    }
+
+    private static final class Frozen {
+        private final long[] msb;
+        private final long[] lsb;
+        private final Map<Integer, String> irregularText;
+
+        private Frozen(long[] msb, long[] lsb, Map<Integer, String> irregularText) {
+            this.msb = msb;
+            this.lsb = lsb;
+            this.irregularText = irregularText;
+        }
+    }
+}
@@ -3,114 +3,351 @@ package com.ns21.common.mist.parser;
 import com.ns21.common.mist.dto.*;
 import lombok.Getter;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
 /**
  * fileName       : DataStorage.java
  * author         : kjg08
  * date           : 2023-11-23
- * description    :데이터 저장소를 관리하고, 데이터를 저장하기 위해 ConcurrentHashMap을 사용하며, 스레드 안전에 중점
+ * description    :데이터 저장소를 관리하고, 목록별 타입 필드와 적재 시 한 번 생성하는 uuid/외래키 인덱스를 제공
  * ===========================================================
  * DATE              AUTHOR             NOTE
  * -----------------------------------------------------------
  * 2023-11-23        kjg08           최초 생성
+ * 2026-10-18        kjg08           문자열 키 맵을 타입 필드로 교체, uuid/외래키 인덱스 추가
+ * 2026-10-18        kjg08           인덱스 키를 UuidTable 대리키로 변경
+ * 2026-10-18        kjg08           ego pose / sensor 열 테이블(PoseTable) 추가
+ * 2026-10-18        kjg08           인덱스 생성 시간 기록 (조인 통계)
+ * 2026-10-18        kjg08           인덱스 크기를 전체 uuid 수 대신 목록 행 수로 정함
+ * 2026-10-18        kjg08           스트리밍 add* 에서 건마다 하던 인덱스 초기화 제거
  */
 public class DataStorage {
     @Getter
     private static final DataStorage instance = new DataStorage();
-    private final ConcurrentHashMap<String, Object> dataMap;
+
+    // 목록 참조는 적재 스레드에서 교체되고 조회 스레드에서 읽으므로 volatile
+    private volatile List<DatasetDto> datasets;
+    private volatile List<EgoPoseDto> egoPoses;
+    private volatile List<FrameAnnotationDto> frameAnnotations;
+    private volatile List<FrameDataDto> frameData;
+    private volatile List<FrameDto> frames;
+    private volatile List<InstanceDto> instances;
+    private volatile List<LogDto> logs;
+    private volatile PresetDto preset;
+    private volatile List<SensorDto> sensors;
+
+    // 목록이 바뀌면 null 로 초기화되고 다음 조회(또는 buildIndexes) 시 한 번 생성
+    // add* 로 한 건씩 추가할 때는 초기화하지 않음 (파일 시작 시 store* 가 한 번 초기화하고, 적재가 끝나면 buildIndexes 호출)
+    private volatile Indexes indexes;
 
     private DataStorage() {
-        dataMap = new ConcurrentHashMap<>();
     }
 
 
     // DatasetDto 저장 및 조회
     public void storeDatasets(List<DatasetDto> datasets) {
-        dataMap.put("datasets", datasets);
+        this.datasets = datasets;
+        indexes = null;
     }
 
-    @SuppressWarnings("unchecked")
     public List<DatasetDto> getDatasets() {
-        return (List<DatasetDto>) dataMap.get("datasets");
+        return datasets;
     }
 
     // EgoPoseDto 저장 및 조회
     public void storeEgoPoses(List<EgoPoseDto> egoPoses) {
-        dataMap.put("egoPoses", egoPoses);
+        this.egoPoses = egoPoses;
+        indexes = null;
     }
-    @SuppressWarnings("unchecked")
+
     public List<EgoPoseDto> getEgoPoses() {
-        return (List<EgoPoseDto>) dataMap.get("egoPoses");
+        return egoPoses;
+    }
 
+    // 스트리밍 적재 시 EgoPoseDto 한 건씩 추가 (인덱스는 초기화하지 않음, 적재 후 buildIndexes 호출)
+    public void addEgoPose(EgoPoseDto egoPose) {
+        List<EgoPoseDto> list = egoPoses;
+        if (list == null) {
+            list = new ArrayList<>();
+            egoPoses = list;
+        }
+        list.add(egoPose);
     }
 
     // FrameAnnotationDto 저장 및 조회
     public void storeFrameAnnotations(List<FrameAnnotationDto> annotations) {
-        dataMap.put("frameAnnotations", annotations);
+        this.frameAnnotations = annotations;
+        indexes = null;
     }
 
-    @SuppressWarnings("unchecked")
     public List<FrameAnnotationDto> getFrameAnnotations() {
-        return (List<FrameAnnotationDto>) dataMap.get("frameAnnotations");
+        return frameAnnotations;
+    }
+
+    // 스트리밍 적재 시 FrameAnnotationDto 한 건씩 추가 (인덱스는 초기화하지 않음, 적재 후 buildIndexes 호출)
+    public void addFrameAnnotation(FrameAnnotationDto annotation) {
+        List<FrameAnnotationDto> list = frameAnnotations;
+        if (list == null) {
+            list = new ArrayList<>();
+            frameAnnotations = list;
+        }
+        list.add(annotation);
     }
 
     // FrameDataDto 저장 및 조회
     public void storeFrameDatas(List<FrameDataDto> frameData) {
-        dataMap.put("frameData", frameData);
+        this.frameData = frameData;
+        indexes = null;
     }
 
-    @SuppressWarnings("unchecked")
     public List<FrameDataDto> getFrameData() {
-        return (List<FrameDataDto>) dataMap.get("frameData");
+        return frameData;
+    }
+
+    // 스트리밍 적재 시 FrameDataDto 한 건씩 추가 (인덱스는 초기화하지 않음, 적재 후 buildIndexes 호출)
+    public void addFrameData(FrameDataDto frameData) {
+        List<FrameDataDto> list = this.frameData;
+        if (list == null) {
+            list = new ArrayList<>();
+            this.frameData = list;
+        }
+        list.add(frameData);
     }
 
     // FrameDto 저장 및 조회
     public void storeFrames(List<FrameDto> frames) {
-        dataMap.put("frames", frames);
+        this.frames = frames;
+        indexes = null;
     }
 
-    @SuppressWarnings("unchecked")
     public List<FrameDto> getFrames() {
-        return (List<FrameDto>) dataMap.get("frames");
+        return frames;
     }
 
     // InstanceDto 저장 및 조회
     public void storeInstances(List<InstanceDto> instances) {
-        dataMap.put("instances", instances);
+        this.instances = instances;
+        indexes = null;
     }
 
-    @SuppressWarnings("unchecked")
     public List<InstanceDto> getInstances() {
-        return (List<InstanceDto>) dataMap.get("instances");
+        return instances;
     }
 
     // LogDto 저장 및 조회
     public void storeLogs(List<LogDto> logs) {
-        dataMap.put("logs", logs);
+        this.logs = logs;
+        indexes = null;
     }
 
-    @SuppressWarnings("unchecked")
     public List<LogDto> getLogs() {
-        return (List<LogDto>) dataMap.get("logs");
+        return logs;
     }
 
     // PresetDto 저장 및 조회
     public void storePresets(PresetDto preset) {
-        dataMap.put("preset", preset);
+        this.preset = preset;
     }
 
-   // public PresetDto getPreset() {
-   //     return (PresetDto) dataMap.get("preset");
-   // }
+    public PresetDto getPreset() {
+        return preset;
+    }
 
     // SensorDto 저장 및 조회
     public void storeSensors(List<SensorDto> sensors) {
-        dataMap.put("sensors", sensors);
+        this.sensors = sensors;
+        indexes = null;
     }
 
-    @SuppressWarnings("unchecked")
     public List<SensorDto> getSensors() {
-        return (List<SensorDto>) dataMap.get("sensors");
+        return sensors;
+    }
+
+    // ---------------------------------------------------------------- 인덱스
+
+    /**
+     * 현재 저장된 목록으로 uuid/외래키 인덱스를 생성합니다. 모든 파일 적재가 끝난 뒤 한 번 호출합니다.
+     */
+    public synchronized void buildIndexes() {
+        indexes = new Indexes(this);
+    }
+
+    private Indexes indexes() {
+        Indexes current = indexes;
+        if (current == null) {
+            synchronized (this) {
+                current = indexes;
+                if (current == null) {
+                    current = new Indexes(this);
+                    indexes = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    // uuid 대리키 -> record (읽기 전용)
+    public UuidIndex<DatasetDto> getDatasetIndex() {
+        return indexes().datasetByUuid;
+    }
+
+    public UuidIndex<EgoPoseDto> getEgoPoseIndex() {
+        return indexes().egoPoseByUuid;
+    }
+
+    public UuidIndex<FrameAnnotationDto> getFrameAnnotationIndex() {
+        return indexes().frameAnnotationByUuid;
+    }
+
+    public UuidIndex<FrameDataDto> getFrameDataIndex() {
+        return indexes().frameDataByUuid;
+    }
+
+    public UuidIndex<FrameDto> getFrameIndex() {
+        return indexes().frameByUuid;
+    }
+
+    public UuidIndex<InstanceDto> getInstanceIndex() {
+        return indexes().instanceByUuid;
+    }
+
+    public UuidIndex<LogDto> getLogIndex() {
+        return indexes().logByUuid;
+    }
+
+    public UuidIndex<SensorDto> getSensorIndex() {
+        return indexes().sensorByUuid;
+    }
+
+    // 외래키 대리키 -> records (읽기 전용)
+    public UuidIndex<List<FrameAnnotationDto>> getFrameAnnotationsByFrameData() {
+        return indexes().frameAnnotationsByFrameData;
+    }
+
+    public UuidIndex<List<FrameDto>> getFramesByDataset() {
+        return indexes().framesByDataset;
+    }
+
+    public UuidIndex<List<DatasetDto>> getDatasetsByLog() {
+        return indexes().datasetsByLog;
+    }
+
+    /**
+     * 인덱스(조인 build side) 생성 시간이 기록된 새 조인 통계를 반환합니다.
+     */
+    public JoinStats newJoinStats() {
+        return indexes().buildStats.copyBuild();
+    }
+
+    // ego pose / sensor 외부 파라미터 열 테이블 (uuid 대리키로 행 조회)
+    public PoseTable getEgoPoseTable() {
+        return indexes().egoPoseTable;
+    }
+
+    public PoseTable getSensorTable() {
+        return indexes().sensorTable;
+    }
+
+    /**
+     * 적재 시점의 목록으로 만든 불변 인덱스 묶음
+     */
+    private static final class Indexes {
+        private final UuidIndex<DatasetDto> datasetByUuid;
+        private final UuidIndex<EgoPoseDto> egoPoseByUuid;
+        private final UuidIndex<FrameAnnotationDto> frameAnnotationByUuid;
+        private final UuidIndex<FrameDataDto> frameDataByUuid;
+        private final UuidIndex<FrameDto> frameByUuid;
+        private final UuidIndex<InstanceDto> instanceByUuid;
+        private final UuidIndex<LogDto> logByUuid;
+        private final UuidIndex<SensorDto> sensorByUuid;
+
+        private final UuidIndex<List<FrameAnnotationDto>> frameAnnotationsByFrameData;
+        private final UuidIndex<List<FrameDto>> framesByDataset;
+        private final UuidIndex<List<DatasetDto>> datasetsByLog;
+
+        private final PoseTable egoPoseTable;
+        private final PoseTable sensorTable;
+
+        // 인덱스별 생성 시간/행 수
+        private final JoinStats buildStats = new JoinStats();
+
+        // 인덱스마다 해당 목록의 행 수로 크기를 정함
+        private Indexes(DataStorage storage) {
+            datasetByUuid = timed("dataset", storage.datasets, () -> primary(storage.datasets));
+            egoPoseByUuid = timed("egoPose", storage.egoPoses, () -> primary(storage.egoPoses));
+            frameAnnotationByUuid = timed("frameAnnotation", storage.frameAnnotations, () -> primary(storage.frameAnnotations));
+            frameDataByUuid = timed("frameData", storage.frameData, () -> primary(storage.frameData));
+            frameByUuid = timed("frame", storage.frames, () -> primary(storage.frames));
+            instanceByUuid = timed("instance", storage.instances, () -> primary(storage.instances));
+            logByUuid = timed("log", storage.logs, () -> primary(storage.logs));
+            sensorByUuid = timed("sensor", storage.sensors, () -> primary(storage.sensors));
+
+            frameAnnotationsByFrameData = timed("frameAnnotation.frameData", storage.frameAnnotations,
+                    () -> foreign(storage.frameAnnotations, FrameAnnotationDto::getFrameDataUuid));
+            framesByDataset = timed("frame.dataset", storage.frames,
+                    () -> foreign(storage.frames, FrameDto::getDatasetUuid));
+            datasetsByLog = timed("dataset.log", storage.datasets,
+                    () -> foreign(storage.datasets, DatasetDto::getLogUuid));
+
+            egoPoseTable = PoseTable.fromEgoPoses(storage.egoPoses);
+            sensorTable = PoseTable.fromSensors(storage.sensors);
+        }
+
+        private <T> T timed(String relation, List<?> source, Supplier<T> builder) {
+            long start = System.nanoTime();
+            T index = builder.get();
+            buildStats.relation(relation).build(System.nanoTime() - start, source == null ? 0 : source.size());
+            return index;
+        }
+
+        // uuid 가 중복되면 먼저 나온 record 를 유지
+        private static <T extends BaseDto> UuidIndex<T> primary(List<T> list) {
+            if (list == null) {
+                return new UuidIndex<>(IdSlots.EMPTY, new Object[IdSlots.EMPTY.capacity()]);
+            }
+            IdSlots slots = new IdSlots(list.size());
+            Object[] values = new Object[slots.capacity()];
+            for (T item : list) {
+                int id = item.getUuid();
+                if (id != UuidTable.NONE) {
+                    int slot = slots.add(id);
+                    if (values[slot] == null) {
+                        values[slot] = item;
+                    }
+                }
+            }
+            return new UuidIndex<>(slots, values);
+        }
+
+        // 외래키별 record 목록, 원본 목록 순서를 유지
+        @SuppressWarnings("unchecked")
+        private static <T> UuidIndex<List<T>> foreign(List<T> list, ToIntFunction<T> key) {
+            if (list == null) {
+                return new UuidIndex<>(IdSlots.EMPTY, new Object[IdSlots.EMPTY.capacity()]);
+            }
+            // 서로 다른 외래키 수는 행 수 이하
+            IdSlots slots = new IdSlots(list.size());
+            Object[] values = new Object[slots.capacity()];
+            for (T item : list) {
+                int id = key.applyAsInt(item);
+                if (id == UuidTable.NONE) {
+                    continue;
+                }
+                int slot = slots.add(id);
+                if (values[slot] == null) {
+                    values[slot] = new ArrayList<T>();
+                }
+                ((List<T>) values[slot]).add(item);
+            }
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] != null) {
+                    values[i] = Collections.unmodifiableList((List<T>) values[i]);
+                }
+            }
+            return new UuidIndex<>(slots, values);
+        }
     }
 }
@@ -0,0 +1,90 @@
+package com.ns21.common.mist.parser;
+
+import com.ns21.common.mist.dto.UuidTable;
+
+/**
+ * fileName       : IdSlots.java
+ * author         : kjg08
+ * date           : 2026-10-18
+ * description    :uuid 대리키 -> 슬롯 번호 open addressing 해시 테이블 (UuidIndex / PoseTable 의 키 부분)
+ *                 용량은 관계(목록)의 행 수로 정하므로 전체 uuid 수와 관계없이 행 수에 비례하는 메모리만 사용
+ *                 생성 시 넣을 수 있는 키 수(maxKeys)를 정하고 이후 늘어나지 않음
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18        kjg08           최초 생성
+ */
+final class IdSlots {
+    static final int NO_SLOT = -1;
+    // 빈 테이블
+    static final IdSlots EMPTY = new IdSlots(0);
+
+    // 키는 id + 1 로 저장 (0 은 빈 슬롯)
+    private final int[] keys;
+    private final int mask;
+    private final int maxKeys;
+    private int size;
+
+    IdSlots(int maxKeys) {
+        // 채움률 2/3 이하
+        int capacity = Integer.highestOneBit(Math.max(2, maxKeys + (maxKeys >> 1)) * 2 - 1);
+        this.keys = new int[capacity];
+        this.mask = capacity - 1;
+        this.maxKeys = maxKeys;
+    }
+
+    /**
+     * @return id 의 슬롯 번호, 없거나 {@link UuidTable#NONE} 이면 {@link #NO_SLOT}
+     */
+    int slotOf(int id) {
+        if (id < 0) {
+            return NO_SLOT;
+        }
+        int slot = hash(id) & mask;
+        int key;
+        while ((key = keys[slot]) != 0) {
+            if (key == id + 1) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return NO_SLOT;
+    }
+
+    /**
+     * id 의 슬롯 번호를 반환하며, 없으면 새로 등록합니다.
+     */
+    int add(int id) {
+        if (id < 0) {
+            throw new IllegalArgumentException("Invalid uuid id: " + id);
+        }
+        int slot = hash(id) & mask;
+        int key;
+        while ((key = keys[slot]) != 0) {
+            if (key == id + 1) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        if (size == maxKeys) {
+            throw new IllegalStateException("IdSlots is full: " + maxKeys);
+        }
+        keys[slot] = id + 1;
+        size++;
+        return slot;
+    }
+
+    // 슬롯 배열 길이 (값 배열 크기)
+    int capacity() {
+        return keys.length;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private static int hash(int id) {
+        int h = id * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
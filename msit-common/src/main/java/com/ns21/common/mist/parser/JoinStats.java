@@ -0,0 +1,100 @@
+package com.ns21.common.mist.parser;
+
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * fileName       : JoinStats.java
+ * author         : kjg08
+ * date           : 2026-10-18
+ * description    :UuidMatching 조인의 관계(relation)별 통계 - build 시간/행 수, probe 횟수, 매칭되지 않은 키 수
+ *                 한 번의 조인을 한 스레드에서 수행하며 기록하므로 동기화하지 않음
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18        kjg08           최초 생성
+ * 2026-10-18        kjg08           report 를 기본 locale 과 관계없이 '.' 소수점으로 출력
+ */
+public final class JoinStats {
+    private final Map<String, Relation> relations = new LinkedHashMap<>();
+    @Getter
+    private long joinedRows;
+    @Getter
+    private long joinNanos;
+
+    public Relation relation(String name) {
+        return relations.computeIfAbsent(name, Relation::new);
+    }
+
+    public Collection<Relation> getRelations() {
+        return Collections.unmodifiableCollection(relations.values());
+    }
+
+    // build 통계만 복사한 새 통계 (조인마다 probe 통계를 새로 기록)
+    JoinStats copyBuild() {
+        JoinStats copy = new JoinStats();
+        for (Relation r : relations.values()) {
+            copy.relation(r.name).build(r.buildNanos, r.buildRows);
+        }
+        return copy;
+    }
+
+    void addJoinedRow() {
+        joinedRows++;
+    }
+
+    void setJoinNanos(long joinNanos) {
+        this.joinNanos = joinNanos;
+    }
+
+    /**
+     * 관계별 통계를 사람이 읽을 수 있는 표 형태로 반환합니다. (로그용, 기본 locale 과 관계없이 같은 형식)
+     */
+    public String report() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format(Locale.ROOT, "join: %d rows in %.1f ms%n", joinedRows, joinNanos / 1_000_000.0));
+        sb.append(String.format(Locale.ROOT, "%-26s %10s %10s %10s %10s%n", "relation", "build(ms)", "rows", "probes", "unmatched"));
+        for (Relation r : relations.values()) {
+            sb.append(String.format(Locale.ROOT, "%-26s %10.2f %10d %10d %10d%n",
+                    r.name, r.buildNanos / 1_000_000.0, r.buildRows, r.probes, r.unmatched));
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        return report();
+    }
+
+    @Getter
+    public static final class Relation {
+        private final String name;
+        private long buildNanos;
+        private int buildRows;
+        private long probes;
+        private long unmatched;
+
+        private Relation(String name) {
+            this.name = name;
+        }
+
+        void build(long nanos, int rows) {
+            buildNanos = nanos;
+            buildRows = rows;
+        }
+
+        // probe 결과를 기록하고 그대로 반환
+        <T> T probe(T match) {
+            probes++;
+            if (match == null) {
+                unmatched++;
+            }
+            return match;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.ns21.common.mist.parser;
+
+import com.ns21.common.mist.dto.*;
+import lombok.Getter;
+
+/**
+ * fileName       : JoinedAnnotationRecord.java
+ * author         : kjg08
+ * date           : 2026-10-18
+ * description    :UuidMatching 조인 결과 한 행 - frame annotation 한 건과 연관된 원본 DTO 를 그대로 참조
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18        kjg08           최초 생성
+ */
+@Getter
+public final class JoinedAnnotationRecord {
+    private final DatasetDto dataset;
+    private final EgoPoseDto egoPose;
+    private final SensorDto sensor;
+    private final FrameDto frame;
+    private final FrameDataDto frameData;
+    private final FrameAnnotationDto frameAnnotation;
+    private final InstanceDto instance;
+    private final LogDto log;
+
+    JoinedAnnotationRecord(DatasetDto dataset, EgoPoseDto egoPose, SensorDto sensor, FrameDto frame,
+                           FrameDataDto frameData, FrameAnnotationDto frameAnnotation, InstanceDto instance, LogDto log) {
+        this.dataset = dataset;
+        this.egoPose = egoPose;
+        this.sensor = sensor;
+        this.frame = frame;
+        this.frameData = frameData;
+        this.frameAnnotation = frameAnnotation;
+        this.instance = instance;
+        this.log = log;
+    }
+
+    // frameData 의 uuid 원문 (cits text 에 사용)
+    public String frameDataUuid() {
+        return UuidTable.getInstance().uuidOf(frameData.getUuid());
+    }
+}
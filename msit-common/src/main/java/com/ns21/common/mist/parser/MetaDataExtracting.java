@@ -1,5 +1,7 @@
 package com.ns21.common.mist.parser;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ns21.common.mist.dto.*;
@@ -8,9 +10,22 @@ import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * fileName       : MetaDataExtracting.java
@@ -24,26 +39,173 @@ import java.util.concurrent.CompletableFuture;
  */
 public class MetaDataExtracting {
     private static final Logger logger = LoggerFactory.getLogger(MetaDataExtracting.class);
-    private static final ObjectMapper objectMapper = new ObjectMapper();
+    // uuid 필드를 박싱 없이 대리키로 바인딩
+    private static final ObjectMapper objectMapper = new ObjectMapper().registerModule(new UuidIdModule());
+    private static final List<String> METADATA_FILES = List.of(
+            "dataset.json", "ego_pose.json", "frame_annotation.json", "frame_data.json", "frame.json",
+            "instance.json", "log.json", "preset.json", "sensor.json");
+    private static final int METADATA_FILE_COUNT = METADATA_FILES.size();
+    private static final String SNAPSHOT_FILE = "metadata.snapshot";
+    private static final String DEFAULT_PATH = "msit-common/src/main/resources/metadata/";
 
-    // 파일 처리 메서드
+    // true 이면 대용량 파일(ego_pose, frame_data, frame_annotation)을 JsonParser 로 요소 단위 스트리밍 처리
+    private final boolean streaming;
+    // 파일별 로딩에 사용할 스레드 수 (executor 를 외부에서 받지 않은 경우에만 사용)
+    private final int loaderThreads;
+    // 외부에서 주입한 executor, null 이면 processFiles 호출 시 전용 풀을 만들고 완료 후 종료
+    private final ExecutorService executor;
+    // true 이면 바이너리 스냅샷(metadata.snapshot)으로 복원을 먼저 시도하고, JSON 로딩 성공 후 스냅샷을 갱신
+    private boolean snapshotEnabled = true;
+
+    public MetaDataExtracting() {
+        this(true);
+    }
+
+    public MetaDataExtracting(boolean streaming) {
+        this(streaming, Math.min(METADATA_FILE_COUNT, Runtime.getRuntime().availableProcessors()));
+    }
+
+    public MetaDataExtracting(boolean streaming, int loaderThreads) {
+        if (loaderThreads < 1) {
+            throw new IllegalArgumentException("loaderThreads must be positive: " + loaderThreads);
+        }
+        this.streaming = streaming;
+        this.loaderThreads = loaderThreads;
+        this.executor = null;
+    }
+
+    public MetaDataExtracting(boolean streaming, ExecutorService executor) {
+        this.streaming = streaming;
+        this.loaderThreads = 0;
+        this.executor = Objects.requireNonNull(executor, "executor");
+    }
+
+    public MetaDataExtracting snapshotEnabled(boolean snapshotEnabled) {
+        this.snapshotEnabled = snapshotEnabled;
+        return this;
+    }
+
+    // 파일 처리 메서드, 유효한 스냅샷이 있으면 스냅샷으로 복원하고 없으면 파일마다 별도 future 로 병렬 로딩
+    // 하나라도 실패하면 반환 future 가 예외로 완료됨
     public CompletableFuture<Void> processFiles() {
-        String path = "msit-common/src/main/resources/metadata/";
-        return CompletableFuture.runAsync(() -> {
-            processDatasets(path + "dataset.json");
-            processEgoPoses(path + "ego_pose.json");
-            processFrameAnnotations(path + "frame_annotation.json");
-            processFrameDatas(path + "frame_data.json");
-            processFrames(path + "frame.json");
-            processInstances(path + "instance.json");
-            processLogs(path + "log.json");
-            processPresets(path + "preset.json");
-            processSensors(path + "sensor.json");
+        return processFiles(DEFAULT_PATH);
+    }
+
+    // path 디렉터리의 메타데이터 파일을 처리
+    public CompletableFuture<Void> processFiles(String path) {
+        ExecutorService pool = executor != null ? executor : newLoaderExecutor(loaderThreads);
+        long start = System.nanoTime();
+        MetaDataSnapshot snapshot = snapshotEnabled ? new MetaDataSnapshot(Paths.get(path, SNAPSHOT_FILE),
+                METADATA_FILES.stream().map(name -> Paths.get(path, name)).collect(Collectors.toList())) : null;
+
+        CompletableFuture<Boolean> restored = snapshot == null
+                ? CompletableFuture.completedFuture(false)
+                : CompletableFuture.supplyAsync(() -> snapshot.load(DataStorage.getInstance()), pool);
+
+        return restored.thenCompose(hit -> {
+            if (hit) {
+                logger.info("metadata restored from snapshot in {} ms", elapsedMillis(start));
+                return CompletableFuture.<Void>completedFuture(null);
+            }
+            // 대리키는 적재 시점에 새로 할당
+            UuidTable.getInstance().clear();
+            return loadAll(pool, path).thenRun(() -> {
+                logger.info("all metadata files loaded in {} ms", elapsedMillis(start));
+                if (snapshot != null) {
+                    writeSnapshot(snapshot);
+                }
+            });
+        }).thenRun(() -> {
+            // 조회 단계에서 맵을 다시 만들지 않도록 적재 완료 시점에 인덱스를 한 번 생성
+            long indexStart = System.nanoTime();
+            DataStorage.getInstance().buildIndexes();
+            // 출력 단계의 uuidOf 가 잠금 없이 동작하도록 역변환 테이블 고정
+            UuidTable.getInstance().freeze();
+            logger.info("metadata indexes built in {} ms", elapsedMillis(indexStart));
+        }).whenComplete((v, e) -> {
+            if (pool != executor) {
+                pool.shutdown();
+            }
+        });
+    }
+
+    private CompletableFuture<Void> loadAll(Executor pool, String path) {
+        DataStorage storage = DataStorage.getInstance();
+        List<CompletableFuture<Runnable>> loads = List.of(
+                load(pool, path, "dataset.json", this::processDatasets, storage::getDatasets),
+                load(pool, path, "ego_pose.json", this::processEgoPoses, storage::getEgoPoses),
+                load(pool, path, "frame_annotation.json", this::processFrameAnnotations, storage::getFrameAnnotations),
+                load(pool, path, "frame_data.json", this::processFrameDatas, storage::getFrameData),
+                load(pool, path, "frame.json", this::processFrames, storage::getFrames),
+                load(pool, path, "instance.json", this::processInstances, storage::getInstances),
+                load(pool, path, "log.json", this::processLogs, storage::getLogs),
+                load(pool, path, "preset.json", this::processPresets, List::of),
+                load(pool, path, "sensor.json", this::processSensors, storage::getSensors));
+        // 모든 파일 적재가 끝난 뒤 파일 순서대로 로컬 id 를 전역 대리키로 합침 (스레드 실행 순서와 관계없이 같은 대리키)
+        return CompletableFuture.allOf(loads.toArray(new CompletableFuture<?>[0]))
+                .thenRun(() -> loads.forEach(load -> load.join().run()));
+    }
+
+    // 스냅샷 기록 실패는 다음 기동 시 JSON 을 다시 읽으면 되므로 경고만 남김
+    private void writeSnapshot(MetaDataSnapshot snapshot) {
+        long start = System.nanoTime();
+        try {
+            snapshot.write(DataStorage.getInstance());
+            logger.info("metadata snapshot written in {} ms", elapsedMillis(start));
+        } catch (IOException e) {
+            logger.warn("Error writing metadata snapshot", e);
+        }
+    }
+
+    // 파일 하나를 로더 전용 UuidInterner 에 잠금 없이 적재하고, 전역 대리키로 합치는 작업을 반환
+    private CompletableFuture<Runnable> load(Executor pool, String path, String fileName, FileLoader loader,
+                                             Supplier<List<? extends BaseDto>> records) {
+        return CompletableFuture.supplyAsync(() -> {
+            long start = System.nanoTime();
+            UuidInterner local = new UuidInterner();
+            UuidTable.bindLoader(local);
+            try {
+                loader.load(Paths.get(path, fileName).toString());
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to load metadata file: " + fileName, e);
+            } finally {
+                UuidTable.unbindLoader();
+            }
+            logger.info("{} loaded in {} ms", fileName, elapsedMillis(start));
+            return () -> remap(local, records.get());
+        }, pool);
+    }
+
+    private static void remap(UuidInterner local, List<? extends BaseDto> records) {
+        if (local.size() == 0) {
+            return;
+        }
+        int[] ids = UuidTable.getInstance().merge(local);
+        for (BaseDto record : records) {
+            record.remapUuids(ids);
+        }
+    }
+
+    private static ExecutorService newLoaderExecutor(int threads) {
+        AtomicInteger seq = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "metadata-loader-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
         });
     }
 
+    private static long elapsedMillis(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    @FunctionalInterface
+    private interface FileLoader {
+        void load(String filePath) throws IOException;
+    }
+
 
-    public void processDatasets(String filePath) {
+    public void processDatasets(String filePath) throws IOException {
         try {
             List<DatasetDto> datasets = readDataFromFile(filePath, new TypeReference<>() {
             });
@@ -51,43 +213,65 @@ public class MetaDataExtracting {
             logger.info("reading  dataset.json file .... : " + filePath);
         } catch (IOException e) {
             logger.error("Error reading or parsing Datasets file: " + filePath, e);
+            throw e;
         }
     }
 
-    public void processEgoPoses(String filePath) {
+    public void processEgoPoses(String filePath) throws IOException {
         try {
+            if (streaming) {
+                DataStorage.getInstance().storeEgoPoses(new ArrayList<>());
+                int count = streamDataFromFile(filePath, EgoPoseDto.class, DataStorage.getInstance()::addEgoPose);
+                logger.info("streaming ego_pose.json file .... : " + filePath + " (" + count + " records)");
+                return;
+            }
             List<EgoPoseDto> egoPoses = readDataFromFile(filePath, new TypeReference<>() {
             });
             DataStorage.getInstance().storeEgoPoses(egoPoses);
             logger.info("reading  ego_pose.json file .... : " + filePath);
         } catch (IOException e) {
             logger.error("Error reading or parsing EgoPoses file: " + filePath, e);
+            throw e;
         }
     }
 
-    public void processFrameAnnotations(String filePath) {
+    public void processFrameAnnotations(String filePath) throws IOException {
         try {
+            if (streaming) {
+                DataStorage.getInstance().storeFrameAnnotations(new ArrayList<>());
+                int count = streamDataFromFile(filePath, FrameAnnotationDto.class, DataStorage.getInstance()::addFrameAnnotation);
+                logger.info("streaming frame_annotation.json file .... : " + filePath + " (" + count + " records)");
+                return;
+            }
             List<FrameAnnotationDto> frameAnnotations = readDataFromFile(filePath, new TypeReference<>() {
             });
             DataStorage.getInstance().storeFrameAnnotations(frameAnnotations);
             logger.info("reading  frame_annotation.json file .... : " + filePath);
         } catch (IOException e) {
             logger.error("Error reading or parsing FrameAnnotations file: " + filePath, e);
+            throw e;
         }
     }
 
-    public void processFrameDatas(String filePath) {
+    public void processFrameDatas(String filePath) throws IOException {
         try {
+            if (streaming) {
+                DataStorage.getInstance().storeFrameDatas(new ArrayList<>());
+                int count = streamDataFromFile(filePath, FrameDataDto.class, DataStorage.getInstance()::addFrameData);
+                logger.info("streaming frame_data.json file .... : " + filePath + " (" + count + " records)");
+                return;
+            }
             List<FrameDataDto> frameDatas = readDataFromFile(filePath, new TypeReference<>() {
             });
             DataStorage.getInstance().storeFrameDatas(frameDatas);
             logger.info("reading  frame_data.json file .... : " + filePath);
         } catch (IOException e) {
             logger.error("Error reading or parsing FrameDatas file: " + filePath, e);
+            throw e;
         }
     }
 
-    public void processFrames(String filePath) {
+    public void processFrames(String filePath) throws IOException {
         try {
             List<FrameDto> frames = readDataFromFile(filePath, new TypeReference<>() {
             });
@@ -95,10 +279,11 @@ public class MetaDataExtracting {
             logger.info("reading  frame.json file .... : " + filePath);
         } catch (IOException e) {
             logger.error("Error reading or parsing Frames file: " + filePath, e);
+            throw e;
         }
     }
 
-    public void processInstances(String filePath) {
+    public void processInstances(String filePath) throws IOException {
         try {
             List<InstanceDto> instances = readDataFromFile(filePath, new TypeReference<>() {
             });
@@ -106,10 +291,11 @@ public class MetaDataExtracting {
             logger.info("reading  instance.json file .... : " + filePath);
         } catch (IOException e) {
             logger.error("Error reading or parsing Instances file: " + filePath, e);
+            throw e;
         }
     }
 
-    public void processLogs(String filePath) {
+    public void processLogs(String filePath) throws IOException {
         try {
             List<LogDto> logs = readDataFromFile(filePath, new TypeReference<>() {
             });
@@ -117,10 +303,11 @@ public class MetaDataExtracting {
             logger.info("reading  log.json file .... : " + filePath);
         } catch (IOException e) {
             logger.error("Error reading or parsing Logs file: " + filePath, e);
+            throw e;
         }
     }
 
-    public void processPresets(String filePath) {
+    public void processPresets(String filePath) throws IOException {
         try {
             PresetDto presets = readDataFromFile(filePath, new TypeReference<>() {
             });
@@ -128,10 +315,11 @@ public class MetaDataExtracting {
             logger.info("reading  preset.json file .... : " + filePath);
         } catch (IOException e) {
             logger.error("Error reading or parsing Presets file: " + filePath, e);
+            throw e;
         }
     }
 
-    public void processSensors(String filePath) {
+    public void processSensors(String filePath) throws IOException {
         try {
             List<SensorDto> sensors = readDataFromFile(filePath, new TypeReference<>() {
             });
@@ -139,6 +327,7 @@ public class MetaDataExtracting {
             logger.info("reading  sensor.json file .... : " + filePath);
         } catch (IOException e) {
             logger.error("Error reading or parsing Sensors file: " + filePath, e);
+            throw e;
         }
     }
 
@@ -147,4 +336,26 @@ public class MetaDataExtracting {
         String fileContent = new String(Files.readAllBytes(new File(filePath).toPath()));
         return objectMapper.readValue(fileContent, typeReference);
     }
+
+    // 최상위 배열을 요소 단위로 읽어 consumer 에 전달, 파일 전체를 메모리에 올리지 않음
+    private <T> int streamDataFromFile(String filePath, Class<T> type, Consumer<T> consumer) throws IOException {
+        int count = 0;
+        try (InputStream in = Files.newInputStream(new File(filePath).toPath());
+             JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IOException("Expected top-level JSON array: " + filePath);
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) == JsonToken.START_OBJECT) {
+                consumer.accept(objectMapper.readValue(parser, type));
+                count++;
+            }
+            // null / 객체가 아닌 요소나 잘린 파일에서 일부만 적재된 채로 끝나지 않도록 배열 끝을 확인
+            if (token != JsonToken.END_ARRAY) {
+                throw new IOException("Expected JSON object or end of array at element " + count + " but got " + token
+                        + ": " + filePath);
+            }
+        }
+        return count;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,774 @@
+package com.ns21.common.mist.parser;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ns21.common.mist.dto.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * fileName       : MetaDataSnapshot.java
+ * author         : kjg08
+ * date           : 2026-10-18
+ * description    :DataStorage 전체를 바이너리 스냅샷으로 저장하고 재시작 시 메모리 매핑으로 복원
+ *                 원본 JSON 파일의 크기/수정시간/내용 CRC32C 와 스냅샷 본문의 CRC32C 로 유효성 검사
+ *                 2 GiB 를 넘는 파일도 읽을 수 있도록 chunk 단위로 나누어 매핑
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18        kjg08           최초 생성
+ * 2026-10-18        kjg08           chunk 단위 매핑, 원본 파일 CRC32C 추가, double 목록의 null 을 별도 표시
+ */
+public class MetaDataSnapshot {
+    private static final Logger logger = LoggerFactory.getLogger(MetaDataSnapshot.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static final int MAGIC = 0x4D534E50; // "MSNP"
+    private static final int FORMAT_VERSION = 4;
+    private static final int NULL_LENGTH = -1;
+    // 한 번에 매핑하는 최대 크기 (MappedByteBuffer 는 2 GiB 미만만 가능)
+    private static final int DEFAULT_CHUNK_SIZE = 1 << 30;
+
+    private final Path snapshotFile;
+    private final List<Path> sourceFiles;
+    private final int chunkSize;
+
+    public MetaDataSnapshot(Path snapshotFile, List<Path> sourceFiles) {
+        this(snapshotFile, sourceFiles, DEFAULT_CHUNK_SIZE);
+    }
+
+    // chunk 경계 처리를 작은 chunkSize 로 확인할 때 사용
+    MetaDataSnapshot(Path snapshotFile, List<Path> sourceFiles, int chunkSize) {
+        if (chunkSize < Long.BYTES) {
+            throw new IllegalArgumentException("chunkSize must be at least " + Long.BYTES + ": " + chunkSize);
+        }
+        this.snapshotFile = snapshotFile;
+        this.sourceFiles = sourceFiles;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 스냅샷이 원본 파일과 일치하면 DataStorage 에 복원합니다.
+     *
+     * @param storage 복원 대상 저장소
+     * @return 복원에 성공하면 true, 스냅샷이 없거나 오래되었거나 손상된 경우 false
+     */
+    public boolean load(DataStorage storage) {
+        if (!Files.isRegularFile(snapshotFile)) {
+            return false;
+        }
+        try (FileChannel channel = FileChannel.open(snapshotFile, StandardOpenOption.READ)) {
+            ChunkedInput buf = new ChunkedInput(channel, chunkSize);
+            if (buf.getInt() != MAGIC || buf.getInt() != FORMAT_VERSION) {
+                logger.info("snapshot format mismatch, ignoring: {}", snapshotFile);
+                return false;
+            }
+            long payloadLength = buf.getLong();
+            long payloadCrc = buf.getLong();
+            if (!readFingerprint(buf)) {
+                logger.info("metadata files changed since snapshot, ignoring: {}", snapshotFile);
+                return false;
+            }
+            if (buf.remaining() != payloadLength) {
+                logger.warn("snapshot truncated, ignoring: {}", snapshotFile);
+                return false;
+            }
+            if (buf.checksumRemaining() != payloadCrc) {
+                logger.warn("snapshot checksum mismatch, ignoring: {}", snapshotFile);
+                return false;
+            }
+            readPayload(buf, storage);
+            return true;
+        } catch (IOException | BufferUnderflowException e) {
+            logger.warn("Error reading metadata snapshot: " + snapshotFile, e);
+            return false;
+        }
+    }
+
+    /**
+     * 현재 DataStorage 내용을 스냅샷으로 기록합니다. 임시 파일에 쓴 뒤 원자적으로 교체합니다.
+     *
+     * @param storage 저장할 저장소
+     * @throws IOException 기록 중 오류가 발생한 경우
+     */
+    public void write(DataStorage storage) throws IOException {
+        Path parent = snapshotFile.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path tmp = Files.createTempFile(parent, snapshotFile.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+                DataOutputStream header = new DataOutputStream(Channels.newOutputStream(channel));
+                header.writeInt(MAGIC);
+                header.writeInt(FORMAT_VERSION);
+                header.writeLong(0L); // payload length, 본문 기록 후 갱신
+                header.writeLong(0L); // payload CRC32C, 본문 기록 후 갱신
+                writeFingerprint(header);
+                header.flush();
+                long payloadStart = channel.position();
+
+                CRC32C crc = new CRC32C();
+                DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                        new CheckedOutputStream(Channels.newOutputStream(channel), crc), 1 << 16));
+                writePayload(out, storage);
+                out.flush();
+
+                ByteBuffer lengthAndCrc = ByteBuffer.allocate(2 * Long.BYTES);
+                lengthAndCrc.putLong(channel.position() - payloadStart).putLong(crc.getValue()).flip();
+                channel.write(lengthAndCrc, 2 * Integer.BYTES);
+                channel.force(false);
+            }
+            Files.move(tmp, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    // 원본 파일별 이름, 크기, 수정시간, 내용 CRC32C
+    private void writeFingerprint(DataOutputStream out) throws IOException {
+        out.writeInt(sourceFiles.size());
+        for (Path source : sourceFiles) {
+            writeString(out, source.getFileName().toString());
+            out.writeLong(Files.size(source));
+            out.writeLong(Files.getLastModifiedTime(source).toMillis());
+            out.writeLong(checksum(source));
+        }
+    }
+
+    private boolean readFingerprint(ChunkedInput buf) throws IOException {
+        int count = buf.getInt();
+        if (count != sourceFiles.size()) {
+            return false;
+        }
+        long[] checksums = new long[count];
+        boolean matches = true;
+        for (int i = 0; i < count; i++) {
+            Path source = sourceFiles.get(i);
+            String name = readString(buf);
+            long size = buf.getLong();
+            long mtime = buf.getLong();
+            checksums[i] = buf.getLong();
+            try {
+                matches &= source.getFileName().toString().equals(name)
+                        && Files.size(source) == size
+                        && Files.getLastModifiedTime(source).toMillis() == mtime;
+            } catch (NoSuchFileException e) {
+                return false;
+            }
+        }
+        // 크기/수정시간이 모두 같을 때만 내용을 읽어 비교 (수정시간이 보존된 복사, 같은 크기 덮어쓰기 등)
+        for (int i = 0; matches && i < count; i++) {
+            matches = checksum(sourceFiles.get(i)) == checksums[i];
+        }
+        return matches;
+    }
+
+    // 파일 내용 CRC32C, chunk 단위로 매핑해 읽음
+    private long checksum(Path file) throws IOException {
+        CRC32C crc = new CRC32C();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            for (long start = 0; start < size; start += chunkSize) {
+                crc.update(channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(chunkSize, size - start)));
+            }
+        }
+        return crc.getValue();
+    }
+
+    private void writePayload(DataOutputStream out, DataStorage storage) throws IOException {
+        // uuid 대리키 테이블을 id 순서대로 기록해 복원 시 같은 id 가 할당되도록 함
+        UuidTable uuids = UuidTable.getInstance();
+        int uuidCount = uuids.size();
+        out.writeInt(uuidCount);
+        for (int id = 0; id < uuidCount; id++) {
+            String irregular = uuids.irregularText(id);
+            out.writeBoolean(irregular != null);
+            if (irregular != null) {
+                writeString(out, irregular);
+            } else {
+                out.writeLong(uuids.mostSigBits(id));
+                out.writeLong(uuids.leastSigBits(id));
+            }
+        }
+
+        List<DatasetDto> datasets = storage.getDatasets();
+        out.writeInt(datasets.size());
+        for (DatasetDto d : datasets) {
+            out.writeInt(d.getUuid());
+            out.writeInt(d.getLogUuid());
+            writeStringList(out, d.getScenarioNames());
+            writeString(out, d.getName());
+            writeString(out, d.getDescription());
+            writeString(out, d.getBasePath());
+            out.writeInt(d.getNumFrames());
+            out.writeInt(d.getFirstFrameUuid());
+            out.writeInt(d.getLastFrameUuid());
+        }
+
+        List<EgoPoseDto> egoPoses = storage.getEgoPoses();
+        out.writeInt(egoPoses.size());
+        for (EgoPoseDto e : egoPoses) {
+            out.writeInt(e.getUuid());
+            writeString(out, e.getTimestamp());
+            writeDoubleArray(out, e.getTranslation());
+            writeDoubleArray(out, e.getRotation());
+            EgoPoseDto.CoordinateSystem cs = e.getCoordinateSystem();
+            out.writeBoolean(cs != null);
+            if (cs != null) {
+                out.writeInt(cs.getEpsg());
+                writeString(out, cs.getEllipsoid());
+                writeString(out, cs.getGeoid());
+            }
+        }
+
+        List<FrameDto> frames = storage.getFrames();
+        out.writeInt(frames.size());
+        for (FrameDto f : frames) {
+            out.writeInt(f.getUuid());
+            writeString(out, f.getTimestamp());
+            out.writeInt(f.getDatasetUuid());
+            out.writeInt(f.getPrev());
+            out.writeInt(f.getNext());
+        }
+
+        List<FrameDataDto> frameData = storage.getFrameData();
+        out.writeInt(frameData.size());
+        for (FrameDataDto f : frameData) {
+            out.writeInt(f.getUuid());
+            out.writeInt(f.getFrameUuid());
+            out.writeInt(f.getEgoPoseUuid());
+            out.writeInt(f.getSensorUuid());
+            writeString(out, f.getTimestamp());
+            writeBoolean(out, f.getIsKeyFrame());
+            writeInteger(out, f.getHeight());
+            writeInteger(out, f.getWidth());
+            writeString(out, f.getFileName());
+            writeString(out, f.getFileFormat());
+            out.writeInt(f.getPrev());
+            out.writeInt(f.getNext());
+            out.writeInt(f.getPrevKeyFrameData());
+            out.writeInt(f.getNextKeyFrameData());
+        }
+
+        List<FrameAnnotationDto> annotations = storage.getFrameAnnotations();
+        out.writeInt(annotations.size());
+        for (FrameAnnotationDto a : annotations) {
+            out.writeInt(a.getUuid());
+            out.writeInt(a.getFrameDataUuid());
+            out.writeInt(a.getInstanceUuid());
+            writeInteger(out, a.getVisibilityLevel());
+            writeString(out, a.getAnnotationTypeName());
+            writeBoolean(out, a.getIsLidarSynced());
+            FrameAnnotationDto.Geometry g = a.getGeometry();
+            out.writeBoolean(g != null);
+            if (g != null) {
+                writeDoubleList(out, g.getWlh());
+                writeDoubleList(out, g.getCenter());
+                writeDoubleList(out, g.getOrientation());
+                writeBoolean(out, g.getIsVisible());
+                writeDoubleMatrix(out, g.getBboxImage3d());
+            }
+            writeInteger(out, a.getNumPts());
+            writeStringMap(out, a.getAttribute());
+            writeString(out, a.getDescription());
+            out.writeInt(a.getPrev());
+            out.writeInt(a.getNext());
+        }
+
+        List<InstanceDto> instances = storage.getInstances();
+        out.writeInt(instances.size());
+        for (InstanceDto i : instances) {
+            out.writeInt(i.getUuid());
+            writeString(out, i.getCategoryName());
+            out.writeInt(i.getFirstFrameAnnotationUuid());
+            out.writeInt(i.getLastFrameAnnotationUuid());
+            writeInteger(out, i.getNumAnnotations());
+            writeString(out, i.getDescription());
+        }
+
+        List<LogDto> logs = storage.getLogs();
+        out.writeInt(logs.size());
+        for (LogDto l : logs) {
+            out.writeInt(l.getUuid());
+            writeString(out, l.getMapUuids());
+            writeString(out, l.getDevice());
+            writeString(out, l.getDateCaptured());
+            writeString(out, l.getLocation());
+            writeDouble(out, l.getDrivingDistance());
+        }
+
+        List<SensorDto> sensors = storage.getSensors();
+        out.writeInt(sensors.size());
+        for (SensorDto s : sensors) {
+            out.writeInt(s.getUuid());
+            writeString(out, s.getName());
+            writeString(out, s.getType());
+            writeDoubleArray(out, s.getTranslation());
+            writeDoubleArray(out, s.getRotation());
+            SensorDto.Intrinsic intrinsic = s.getIntrinsic();
+            out.writeBoolean(intrinsic != null);
+            if (intrinsic != null) {
+                writeString(out, intrinsic.getModel());
+                writeDoubleMatrix(out, intrinsic.getParameter());
+            }
+            writeDouble(out, s.getHeightFromGround());
+        }
+
+        // preset 은 단일 객체이고 중첩이 깊어 JSON 바이트 그대로 보관
+        PresetDto preset = storage.getPreset();
+        writeString(out, preset != null ? objectMapper.writeValueAsString(preset) : null);
+    }
+
+    private void readPayload(ChunkedInput buf, DataStorage storage) throws IOException {
+        UuidTable uuids = UuidTable.getInstance();
+        uuids.clear();
+        int uuidCount = buf.getInt();
+        for (int id = 0; id < uuidCount; id++) {
+            int assigned = buf.get() != 0 ? uuids.intern(readString(buf)) : uuids.internBits(buf.getLong(), buf.getLong());
+            if (assigned != id) {
+                throw new IOException("snapshot uuid table is inconsistent at id " + id);
+            }
+        }
+
+        int count = buf.getInt();
+        List<DatasetDto> datasets = new ArrayList<>(count);
+        for (int n = 0; n < count; n++) {
+            DatasetDto d = new DatasetDto();
+            d.setUuid(buf.getInt());
+            d.setLogUuid(buf.getInt());
+            d.setScenarioNames(readStringList(buf));
+            d.setName(readString(buf));
+            d.setDescription(readString(buf));
+            d.setBasePath(readString(buf));
+            d.setNumFrames(buf.getInt());
+            d.setFirstFrameUuid(buf.getInt());
+            d.setLastFrameUuid(buf.getInt());
+            datasets.add(d);
+        }
+
+        count = buf.getInt();
+        List<EgoPoseDto> egoPoses = new ArrayList<>(count);
+        for (int n = 0; n < count; n++) {
+            EgoPoseDto e = new EgoPoseDto();
+            e.setUuid(buf.getInt());
+            e.setTimestamp(readString(buf));
+            e.setTranslation(readDoubleArray(buf));
+            e.setRotation(readDoubleArray(buf));
+            if (buf.get() != 0) {
+                EgoPoseDto.CoordinateSystem cs = new EgoPoseDto.CoordinateSystem();
+                cs.setEpsg(buf.getInt());
+                cs.setEllipsoid(readString(buf));
+                cs.setGeoid(readString(buf));
+                e.setCoordinateSystem(cs);
+            }
+            egoPoses.add(e);
+        }
+
+        count = buf.getInt();
+        List<FrameDto> frames = new ArrayList<>(count);
+        for (int n = 0; n < count; n++) {
+            FrameDto f = new FrameDto();
+            f.setUuid(buf.getInt());
+            f.setTimestamp(readString(buf));
+            f.setDatasetUuid(buf.getInt());
+            f.setPrev(buf.getInt());
+            f.setNext(buf.getInt());
+            frames.add(f);
+        }
+
+        count = buf.getInt();
+        List<FrameDataDto> frameData = new ArrayList<>(count);
+        for (int n = 0; n < count; n++) {
+            FrameDataDto f = new FrameDataDto();
+            f.setUuid(buf.getInt());
+            f.setFrameUuid(buf.getInt());
+            f.setEgoPoseUuid(buf.getInt());
+            f.setSensorUuid(buf.getInt());
+            f.setTimestamp(readString(buf));
+            f.setIsKeyFrame(readBoolean(buf));
+            f.setHeight(readInteger(buf));
+            f.setWidth(readInteger(buf));
+            f.setFileName(readString(buf));
+            f.setFileFormat(readString(buf));
+            f.setPrev(buf.getInt());
+            f.setNext(buf.getInt());
+            f.setPrevKeyFrameData(buf.getInt());
+            f.setNextKeyFrameData(buf.getInt());
+            frameData.add(f);
+        }
+
+        count = buf.getInt();
+        List<FrameAnnotationDto> annotations = new ArrayList<>(count);
+        for (int n = 0; n < count; n++) {
+            FrameAnnotationDto a = new FrameAnnotationDto();
+            a.setUuid(buf.getInt());
+            a.setFrameDataUuid(buf.getInt());
+            a.setInstanceUuid(buf.getInt());
+            a.setVisibilityLevel(readInteger(buf));
+            a.setAnnotationTypeName(readString(buf));
+            a.setIsLidarSynced(readBoolean(buf));
+            if (buf.get() != 0) {
+                FrameAnnotationDto.Geometry g = new FrameAnnotationDto.Geometry();
+                g.setWlh(readDoubleList(buf));
+                g.setCenter(readDoubleList(buf));
+                g.setOrientation(readDoubleList(buf));
+                g.setIsVisible(readBoolean(buf));
+                g.setBboxImage3d(readDoubleMatrix(buf));
+                a.setGeometry(g);
+            }
+            a.setNumPts(readInteger(buf));
+            a.setAttribute(readStringMap(buf));
+            a.setDescription(readString(buf));
+            a.setPrev(buf.getInt());
+            a.setNext(buf.getInt());
+            annotations.add(a);
+        }
+
+        count = buf.getInt();
+        List<InstanceDto> instances = new ArrayList<>(count);
+        for (int n = 0; n < count; n++) {
+            InstanceDto i = new InstanceDto();
+            i.setUuid(buf.getInt());
+            i.setCategoryName(readString(buf));
+            i.setFirstFrameAnnotationUuid(buf.getInt());
+            i.setLastFrameAnnotationUuid(buf.getInt());
+            i.setNumAnnotations(readInteger(buf));
+            i.setDescription(readString(buf));
+            instances.add(i);
+        }
+
+        count = buf.getInt();
+        List<LogDto> logs = new ArrayList<>(count);
+        for (int n = 0; n < count; n++) {
+            LogDto l = new LogDto();
+            l.setUuid(buf.getInt());
+            l.setMapUuids(readString(buf));
+            l.setDevice(readString(buf));
+            l.setDateCaptured(readString(buf));
+            l.setLocation(readString(buf));
+            l.setDrivingDistance(readDouble(buf));
+            logs.add(l);
+        }
+
+        count = buf.getInt();
+        List<SensorDto> sensors = new ArrayList<>(count);
+        for (int n = 0; n < count; n++) {
+            SensorDto s = new SensorDto();
+            s.setUuid(buf.getInt());
+            s.setName(readString(buf));
+            s.setType(readString(buf));
+            s.setTranslation(readDoubleArray(buf));
+            s.setRotation(readDoubleArray(buf));
+            if (buf.get() != 0) {
+                SensorDto.Intrinsic intrinsic = new SensorDto.Intrinsic();
+                intrinsic.setModel(readString(buf));
+                intrinsic.setParameter(readDoubleMatrix(buf));
+                s.setIntrinsic(intrinsic);
+            }
+            s.setHeightFromGround(readDouble(buf));
+            sensors.add(s);
+        }
+
+        String presetJson = readString(buf);
+        PresetDto preset = presetJson != null ? objectMapper.readValue(presetJson, PresetDto.class) : null;
+
+        storage.storeDatasets(datasets);
+        storage.storeEgoPoses(egoPoses);
+        storage.storeFrames(frames);
+        storage.storeFrameDatas(frameData);
+        storage.storeFrameAnnotations(annotations);
+        storage.storeInstances(instances);
+        storage.storeLogs(logs);
+        storage.storeSensors(sensors);
+        if (preset != null) {
+            storage.storePresets(preset);
+        }
+    }
+
+    // ---------------------------------------------------------------- primitive writers
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static void writeInteger(DataOutputStream out, Integer value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeInt(value);
+        }
+    }
+
+    private static void writeDouble(DataOutputStream out, Double value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeDouble(value);
+        }
+    }
+
+    // null / false / true 를 0 / 1 / 2 로 기록
+    private static void writeBoolean(DataOutputStream out, Boolean value) throws IOException {
+        out.writeByte(value == null ? 0 : (value ? 2 : 1));
+    }
+
+    private static void writeDoubleList(DataOutputStream out, List<Double> values) throws IOException {
+        if (values == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        out.writeInt(values.size());
+        // 값 자체가 NaN 일 수 있으므로 null 여부를 따로 기록
+        for (Double v : values) {
+            writeDouble(out, v);
+        }
+    }
+
+    private static void writeDoubleArray(DataOutputStream out, double[] values) throws IOException {
+        if (values == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        out.writeInt(values.length);
+        for (double v : values) {
+            out.writeDouble(v);
+        }
+    }
+
+    private static void writeDoubleMatrix(DataOutputStream out, List<List<Double>> rows) throws IOException {
+        if (rows == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        out.writeInt(rows.size());
+        for (List<Double> row : rows) {
+            writeDoubleList(out, row);
+        }
+    }
+
+    private static void writeStringList(DataOutputStream out, List<String> values) throws IOException {
+        if (values == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        out.writeInt(values.size());
+        for (String v : values) {
+            writeString(out, v);
+        }
+    }
+
+    private static void writeStringMap(DataOutputStream out, Map<String, String> values) throws IOException {
+        if (values == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        out.writeInt(values.size());
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            writeString(out, entry.getKey());
+            writeString(out, entry.getValue());
+        }
+    }
+
+    // ---------------------------------------------------------------- primitive readers
+
+    private static String readString(ChunkedInput buf) {
+        int length = buf.getInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buf.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static Integer readInteger(ChunkedInput buf) {
+        return buf.get() != 0 ? buf.getInt() : null;
+    }
+
+    private static Double readDouble(ChunkedInput buf) {
+        return buf.get() != 0 ? buf.getDouble() : null;
+    }
+
+    private static Boolean readBoolean(ChunkedInput buf) {
+        byte b = buf.get();
+        return b == 0 ? null : b == 2;
+    }
+
+    private static List<Double> readDoubleList(ChunkedInput buf) {
+        int size = buf.getInt();
+        if (size == NULL_LENGTH) {
+            return null;
+        }
+        List<Double> values = new ArrayList<>(size);
+        for (int n = 0; n < size; n++) {
+            values.add(readDouble(buf));
+        }
+        return values;
+    }
+
+    private static double[] readDoubleArray(ChunkedInput buf) {
+        int size = buf.getInt();
+        if (size == NULL_LENGTH) {
+            return null;
+        }
+        double[] values = new double[size];
+        buf.getDoubles(values);
+        return values;
+    }
+
+    private static List<List<Double>> readDoubleMatrix(ChunkedInput buf) {
+        int size = buf.getInt();
+        if (size == NULL_LENGTH) {
+            return null;
+        }
+        List<List<Double>> rows = new ArrayList<>(size);
+        for (int n = 0; n < size; n++) {
+            rows.add(readDoubleList(buf));
+        }
+        return rows;
+    }
+
+    private static List<String> readStringList(ChunkedInput buf) {
+        int size = buf.getInt();
+        if (size == NULL_LENGTH) {
+            return null;
+        }
+        List<String> values = new ArrayList<>(size);
+        for (int n = 0; n < size; n++) {
+            values.add(readString(buf));
+        }
+        return values;
+    }
+
+    private static Map<String, String> readStringMap(ChunkedInput buf) {
+        int size = buf.getInt();
+        if (size == NULL_LENGTH) {
+            return null;
+        }
+        Map<String, String> values = new LinkedHashMap<>(Math.max(4, size * 2));
+        for (int n = 0; n < size; n++) {
+            values.put(readString(buf), readString(buf));
+        }
+        return values;
+    }
+
+    // 파일을 chunkSize 단위로 나누어 매핑한 읽기 전용 입력, chunk 경계에 걸친 값은 바이트 단위로 조립 (big endian)
+    private static final class ChunkedInput {
+        private final MappedByteBuffer[] chunks;
+        private final long size;
+        private int index;
+        private ByteBuffer current;
+        // 현재 chunk 의 파일 내 시작 위치
+        private long currentStart;
+
+        private ChunkedInput(FileChannel channel, int chunkSize) throws IOException {
+            size = channel.size();
+            int count = (int) Math.max(1, (size + chunkSize - 1) / chunkSize);
+            chunks = new MappedByteBuffer[count];
+            for (int i = 0; i < count; i++) {
+                long start = (long) i * chunkSize;
+                chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(chunkSize, size - start));
+            }
+            current = chunks[0];
+        }
+
+        private long remaining() {
+            return size - (currentStart + current.position());
+        }
+
+        // 현재 chunk 를 다 읽었으면 다음 chunk 로 이동
+        private ByteBuffer current() {
+            while (!current.hasRemaining() && index + 1 < chunks.length) {
+                currentStart += current.limit();
+                current = chunks[++index];
+            }
+            if (!current.hasRemaining()) {
+                throw new BufferUnderflowException();
+            }
+            return current;
+        }
+
+        private byte get() {
+            return current().get();
+        }
+
+        private int getInt() {
+            ByteBuffer buf = current();
+            return buf.remaining() >= Integer.BYTES ? buf.getInt() : (int) getAcrossChunks(Integer.BYTES);
+        }
+
+        private long getLong() {
+            ByteBuffer buf = current();
+            return buf.remaining() >= Long.BYTES ? buf.getLong() : getAcrossChunks(Long.BYTES);
+        }
+
+        private double getDouble() {
+            return Double.longBitsToDouble(getLong());
+        }
+
+        private long getAcrossChunks(int bytes) {
+            long value = 0;
+            for (int i = 0; i < bytes; i++) {
+                value = (value << 8) | (get() & 0xFF);
+            }
+            return value;
+        }
+
+        private void get(byte[] dst) {
+            for (int offset = 0; offset < dst.length; ) {
+                ByteBuffer buf = current();
+                int length = Math.min(buf.remaining(), dst.length - offset);
+                buf.get(dst, offset, length);
+                offset += length;
+            }
+        }
+
+        private void getDoubles(double[] dst) {
+            if (dst.length == 0) {
+                return;
+            }
+            ByteBuffer buf = current();
+            if (buf.remaining() >= (long) dst.length * Double.BYTES) {
+                buf.asDoubleBuffer().get(dst);
+                buf.position(buf.position() + dst.length * Double.BYTES);
+                return;
+            }
+            for (int i = 0; i < dst.length; i++) {
+                dst[i] = getDouble();
+            }
+        }
+
+        // 현재 위치부터 파일 끝까지의 CRC32C (위치는 바뀌지 않음)
+        private long checksumRemaining() {
+            CRC32C crc = new CRC32C();
+            crc.update(current.duplicate());
+            for (int i = index + 1; i < chunks.length; i++) {
+                crc.update(chunks[i].duplicate());
+            }
+            return crc.getValue();
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.ns21.common.mist.parser;
+
+import com.ns21.common.mist.dto.EgoPoseDto;
+import com.ns21.common.mist.dto.SensorDto;
+import com.ns21.common.mist.dto.UuidTable;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * fileName       : PoseTable.java
+ * author         : kjg08
+ * date           : 2026-10-18
+ * description    :ego pose / sensor 외부 파라미터를 열(column) 단위 primitive 배열로 보관하는 읽기 전용 테이블
+ *                 행 번호는 적재 순서이고 uuid 대리키로 행을 찾음, 값이 없는 성분은 NaN
+ *                 rotation 은 [w, x, y, z] 순서로 qw/qx/qy/qz 에 저장
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18        kjg08           최초 생성
+ * 2026-10-18        kjg08           행 조회를 전체 uuid 수 크기 배열 대신 행 수 크기 IdSlots 로 변경
+ */
+public final class PoseTable {
+    public static final int NO_ROW = -1;
+
+    private final double[] ts;
+    private final double[] x;
+    private final double[] y;
+    private final double[] z;
+    private final double[] qw;
+    private final double[] qx;
+    private final double[] qy;
+    private final double[] qz;
+    // uuid 대리키 -> 슬롯, 슬롯 -> 행 번호
+    private final IdSlots slots;
+    private final int[] rowBySlot;
+    private final int size;
+
+    private PoseTable(int size) {
+        this.size = size;
+        ts = new double[size];
+        x = new double[size];
+        y = new double[size];
+        z = new double[size];
+        qw = new double[size];
+        qx = new double[size];
+        qy = new double[size];
+        qz = new double[size];
+        slots = size == 0 ? IdSlots.EMPTY : new IdSlots(size);
+        rowBySlot = new int[slots.capacity()];
+        Arrays.fill(rowBySlot, NO_ROW);
+    }
+
+    static PoseTable fromEgoPoses(List<EgoPoseDto> egoPoses) {
+        if (egoPoses == null) {
+            return new PoseTable(0);
+        }
+        PoseTable table = new PoseTable(egoPoses.size());
+        for (int row = 0; row < egoPoses.size(); row++) {
+            EgoPoseDto pose = egoPoses.get(row);
+            table.set(row, pose.getUuid(), parseTimestamp(pose.getTimestamp()), pose.getTranslation(), pose.getRotation());
+        }
+        return table;
+    }
+
+    static PoseTable fromSensors(List<SensorDto> sensors) {
+        if (sensors == null) {
+            return new PoseTable(0);
+        }
+        PoseTable table = new PoseTable(sensors.size());
+        for (int row = 0; row < sensors.size(); row++) {
+            SensorDto sensor = sensors.get(row);
+            table.set(row, sensor.getUuid(), Double.NaN, sensor.getTranslation(), sensor.getRotation());
+        }
+        return table;
+    }
+
+    private void set(int row, int id, double timestamp, double[] translation, double[] rotation) {
+        // uuid 가 중복되면 먼저 나온 행을 유지 (DataStorage 인덱스와 동일)
+        if (id != UuidTable.NONE) {
+            int slot = slots.add(id);
+            if (rowBySlot[slot] == NO_ROW) {
+                rowBySlot[slot] = row;
+            }
+        }
+        ts[row] = timestamp;
+        boolean hasTranslation = translation != null && translation.length == 3;
+        x[row] = hasTranslation ? translation[0] : Double.NaN;
+        y[row] = hasTranslation ? translation[1] : Double.NaN;
+        z[row] = hasTranslation ? translation[2] : Double.NaN;
+        boolean hasRotation = rotation != null && rotation.length == 4;
+        qw[row] = hasRotation ? rotation[0] : Double.NaN;
+        qx[row] = hasRotation ? rotation[1] : Double.NaN;
+        qy[row] = hasRotation ? rotation[2] : Double.NaN;
+        qz[row] = hasRotation ? rotation[3] : Double.NaN;
+    }
+
+    private static double parseTimestamp(String timestamp) {
+        if (timestamp == null || timestamp.isEmpty()) {
+            return Double.NaN;
+        }
+        try {
+            return Double.parseDouble(timestamp);
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param id uuid 대리키
+     * @return 행 번호, 없으면 {@link #NO_ROW}
+     */
+    public int rowOf(int id) {
+        int slot = slots.slotOf(id);
+        return slot != IdSlots.NO_SLOT ? rowBySlot[slot] : NO_ROW;
+    }
+
+    public boolean hasTranslation(int row) {
+        return !Double.isNaN(x[row]);
+    }
+
+    public boolean hasRotation(int row) {
+        return !Double.isNaN(qw[row]);
+    }
+
+    public double ts(int row) {
+        return ts[row];
+    }
+
+    public double x(int row) {
+        return x[row];
+    }
+
+    public double y(int row) {
+        return y[row];
+    }
+
+    public double z(int row) {
+        return z[row];
+    }
+
+    public double qw(int row) {
+        return qw[row];
+    }
+
+    public double qx(int row) {
+        return qx[row];
+    }
+
+    public double qy(int row) {
+        return qy[row];
+    }
+
+    public double qz(int row) {
+        return qz[row];
+    }
+
+    // 일괄 연산용 열 배열, 읽기 전용으로 사용 (수정 금지)
+    public double[] tsColumn() {
+        return ts;
+    }
+
+    public double[] xColumn() {
+        return x;
+    }
+
+    public double[] yColumn() {
+        return y;
+    }
+
+    public double[] zColumn() {
+        return z;
+    }
+
+    public double[] qwColumn() {
+        return qw;
+    }
+
+    public double[] qxColumn() {
+        return qx;
+    }
+
+    public double[] qyColumn() {
+        return qy;
+    }
+
+    public double[] qzColumn() {
+        return qz;
+    }
+}
@@ -0,0 +1,50 @@
+package com.ns21.common.mist.parser;
+
+import com.ns21.common.mist.dto.UuidTable;
+
+/**
+ * fileName       : UuidIndex.java
+ * author         : kjg08
+ * date           : 2026-10-18
+ * description    :UuidTable 대리키로 값을 찾는 읽기 전용 인덱스 (IdSlots 슬롯 번호 위치에 값 저장)
+ *                 크기는 관계의 행 수에 비례 (전체 uuid 수와 무관)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18        kjg08           최초 생성
+ * 2026-10-18        kjg08           대리키 배열 대신 관계 행 수로 크기를 정하는 IdSlots 사용
+ */
+public final class UuidIndex<V> {
+    private final IdSlots slots;
+    // 슬롯 번호 -> 값
+    private final Object[] values;
+
+    UuidIndex(IdSlots slots, Object[] values) {
+        this.slots = slots;
+        this.values = values;
+    }
+
+    /**
+     * @param id UuidTable 대리키
+     * @return 해당 값, 없거나 {@link UuidTable#NONE} 이면 null
+     */
+    @SuppressWarnings("unchecked")
+    public V get(int id) {
+        int slot = slots.slotOf(id);
+        return slot != IdSlots.NO_SLOT ? (V) values[slot] : null;
+    }
+
+    public V getOrDefault(int id, V defaultValue) {
+        V value = get(id);
+        return value != null ? value : defaultValue;
+    }
+
+    public boolean contains(int id) {
+        return get(id) != null;
+    }
+
+    // 값이 들어있는 키의 수
+    public int size() {
+        return slots.size();
+    }
+}
@@ -1,147 +1,188 @@
 package com.ns21.common.mist.parser;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.ns21.common.exception.JsonToJ2735Exception;
 import com.ns21.common.mist.dto.*;
+import lombok.Getter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
-import java.lang.reflect.Field;
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
-import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.NoSuchElementException;
 
 /**
  * fileName       : UuidMatching.java
  * author         : kjg08
  * date           : 2023-11-23
- * description    :JSON 처리와 관련된 UUID 처리
+ * description    :UUID 기준 메타데이터 조인
  * ===========================================================
  * DATE              AUTHOR             NOTE
  * -----------------------------------------------------------
  * 2023-11-23        kjg08           최초 생성
+ * 2026-10-18        kjg08           egoPose/sensor 대리키 전달 (PoseTable 조회용)
+ * 2026-10-18        kjg08           annotation 선형 탐색을 해시 조인(외래키 멀티맵 probe)으로 교체, 조인 통계 추가
+ * 2026-10-18        kjg08           리플렉션 prefixed map/JSON 문자열 대신 JoinedAnnotationRecord 반환
+ * 2026-10-18        kjg08           행을 필요할 때 하나씩 만드는 Iterator/Flowable 조인 추가
+ * 2026-10-18        kjg08           호출처가 없는 Flowable 제거
  */
 public class UuidMatching {
+    private static final Logger logger = LoggerFactory.getLogger(UuidMatching.class);
 
-    public static List<String> UuidPut() {
-        ObjectMapper mapper = new ObjectMapper();
-        List<String> UuidList = new ArrayList<>();
-
-        // Retrieve data from DataStorage
-        List<DatasetDto> datasetList = DataStorage.getInstance().getDatasets();
-        List<EgoPoseDto> egoPoseList = DataStorage.getInstance().getEgoPoses();
-        List<FrameDto> frameList = DataStorage.getInstance().getFrames();
-        List<FrameAnnotationDto> frameAnnotationList = DataStorage.getInstance().getFrameAnnotations();
-        List<InstanceDto> instanceList = DataStorage.getInstance().getInstances();
-        List<LogDto> logList = DataStorage.getInstance().getLogs();
-        List<SensorDto> sensorList = DataStorage.getInstance().getSensors();
-        List<FrameDataDto> frameDataList = DataStorage.getInstance().getFrameData();
-
-        // Create maps for quick UUID lookup
-        Map<String, DatasetDto> datasetMap = createMapFromList(datasetList);
-        Map<String, EgoPoseDto> egoPoseMap = createMapFromList(egoPoseList);
-        Map<String, FrameDto> frameMap = createMapFromList(frameList);
-        Map<String, InstanceDto> instanceMap = createMapFromList(instanceList);
-        Map<String, LogDto> logMap = createMapFromList(logList);
-        Map<String, SensorDto> sensorMap = createMapFromList(sensorList);
-
-
-        for (FrameDataDto frameData : frameDataList) {
-            FrameDto frame = frameMap.get(frameData.getFrameUuid());
-            EgoPoseDto egoPose = egoPoseMap.get(frameData.getEgoPoseUuid());
-            SensorDto sensor = sensorMap.get(frameData.getSensorUuid());
-
-            if (frame != null && egoPose != null && sensor != null) {
-                DatasetDto dataset = frame != null ? datasetMap.get(frame.getDatasetUuid()) : null;
-                LogDto log = dataset != null ? logMap.get(dataset.getLogUuid()) : null;
-                List<FrameAnnotationDto> relevantFrameAnnotations = frameAnnotationList.stream()
-                        .filter(fa -> fa.getFrameDataUuid().equals(frameData.getUuid()))
-                        .collect(Collectors.toList());
-
-                for (FrameAnnotationDto frameAnnotation : relevantFrameAnnotations) {
-                    InstanceDto instance = instanceMap.get(frameAnnotation.getInstanceUuid());
-                    if (log != null && instance != null) {
-                        Map<String, Object> uuid = new LinkedHashMap<>();
-                        try {
-                            uuid = new LinkedHashMap<>(createPrefixedMap(dataset, "dataset"));
-                        } catch (JsonToJ2735Exception e) {
-                            throw new RuntimeException(e);
-                        }
-                        try {
-                            uuid.putAll(createPrefixedMap(egoPose, "egoPose"));
-                        } catch (JsonToJ2735Exception e) {
-                            throw new RuntimeException(e);
-                        }
-                        try {
-                            uuid.putAll(createPrefixedMap(sensor, "sensor"));
-                        } catch (JsonToJ2735Exception e) {
-                            throw new RuntimeException(e);
-                        }
-                        try {
-                            uuid.putAll(createPrefixedMap(frame, "frame"));
-                        } catch (JsonToJ2735Exception e) {
-                            throw new RuntimeException(e);
-                        }
-                        try {
-                            uuid.putAll(createPrefixedMap(frameData, "frameData"));
-                        } catch (JsonToJ2735Exception e) {
-                            throw new RuntimeException(e);
-                        }
-                        try {
-                            uuid.putAll(createPrefixedMap(frameAnnotation, "frameAnnotation"));
-                        } catch (JsonToJ2735Exception e) {
-                            throw new RuntimeException(e);
-                        }
-                        try {
-                            uuid.putAll(createPrefixedMap(instance, "instance"));
-                        } catch (JsonToJ2735Exception e) {
-                            throw new RuntimeException(e);
-                        }
-                        try {
-                            uuid.putAll(createPrefixedMap(log, "log"));
-                        } catch (JsonToJ2735Exception e) {
-                            throw new RuntimeException(e);
-                        }
-
-                        try {
-                            UuidList.add(mapper.writeValueAsString(uuid));
-                        } catch (JsonProcessingException e) {
-                            throw new RuntimeException(e);
-                        }
-                    }
-                }
-            }
-        };
-        return UuidList;
+    // 마지막 join 조인 통계
+    @Getter
+    private static volatile JoinStats lastJoinStats;
+
+    /**
+     * frameData 를 기준으로 dataset/egoPose/sensor/frame/frameData/annotation/instance/log 를 조인한 전체 목록을 반환합니다.
+     *
+     * @return annotation 한 건당 한 행, frameData 목록 순서 → annotation 목록 순서
+     */
+    public static List<JoinedAnnotationRecord> join() {
+        List<JoinedAnnotationRecord> joined = new ArrayList<>();
+        iterator().forEachRemaining(joined::add);
+        return joined;
     }
 
-    private static <T extends BaseDto> Map<String, T> createMapFromList(List<T> list) {
-        return list.stream().collect(Collectors.toMap(T::getUuid, Function.identity(), (a, b) -> a));
+    /**
+     * {@link #join()} 과 같은 순서의 행을 요청할 때마다 하나씩 만드는 iterator 를 반환합니다.
+     * 조인 결과 전체를 메모리에 올리지 않으며, 끝까지 소비하면 조인 통계가 기록됩니다.
+     */
+    public static Iterator<JoinedAnnotationRecord> iterator() {
+        return new JoinIterator(DataStorage.getInstance());
     }
-//데이터 세트 UUID의 경우 "dataset_uuid"
-    private static Map<String, Object> createPrefixedMap(Object dto, String prefix) throws JsonToJ2735Exception {
-        Map<String, Object> prefixedMap = new LinkedHashMap<>();
-        Field[] fields = dto.getClass().getDeclaredFields();
-        for (Field field : fields) {
-            field.setAccessible(true);
-            try {
-                Object value = field.get(dto);
-                if (value == null || (value instanceof String && ((String) value).isEmpty())) {
-                    // 문자열 필드의 경우 빈 문자열이면 "0"으로 설정
-                    if (field.getType().equals(String.class)) {
-                        value = "0";
-                    } else if (field.getType().equals(int.class) || field.getType().equals(double.class) || field.getType().equals(long.class)) {
-                        // 숫자 필드의 경우 0으로 설정
-                        value = 0;
+
+    /**
+     * frameData 를 probe side 로, DataStorage 적재 시점에 생성된 uuid 인덱스/외래키 멀티맵을 build side 로 사용하는 조인
+     */
+    private static final class JoinIterator implements Iterator<JoinedAnnotationRecord> {
+        private final List<FrameDataDto> frameDataList;
+
+        private final UuidIndex<DatasetDto> datasetMap;
+        private final UuidIndex<EgoPoseDto> egoPoseMap;
+        private final UuidIndex<FrameDto> frameMap;
+        private final UuidIndex<InstanceDto> instanceMap;
+        private final UuidIndex<LogDto> logMap;
+        private final UuidIndex<SensorDto> sensorMap;
+        private final UuidIndex<List<FrameAnnotationDto>> annotationsByFrameData;
+
+        private final JoinStats stats;
+        private final JoinStats.Relation frameJoin;
+        private final JoinStats.Relation egoPoseJoin;
+        private final JoinStats.Relation sensorJoin;
+        private final JoinStats.Relation datasetJoin;
+        private final JoinStats.Relation logJoin;
+        private final JoinStats.Relation annotationJoin;
+        private final JoinStats.Relation instanceJoin;
+        private long joinNanos;
+
+        // 현재 frameData 와 매칭된 레코드
+        private int frameDataIndex;
+        private FrameDataDto frameData;
+        private DatasetDto dataset;
+        private EgoPoseDto egoPose;
+        private SensorDto sensor;
+        private FrameDto frame;
+        private LogDto log;
+        private List<FrameAnnotationDto> annotations;
+        private int annotationIndex;
+
+        private JoinedAnnotationRecord next;
+        private boolean finished;
+
+        private JoinIterator(DataStorage storage) {
+            List<FrameDataDto> list = storage.getFrameData();
+            frameDataList = list != null ? list : List.of();
+            datasetMap = storage.getDatasetIndex();
+            egoPoseMap = storage.getEgoPoseIndex();
+            frameMap = storage.getFrameIndex();
+            instanceMap = storage.getInstanceIndex();
+            logMap = storage.getLogIndex();
+            sensorMap = storage.getSensorIndex();
+            annotationsByFrameData = storage.getFrameAnnotationsByFrameData();
+
+            stats = storage.newJoinStats();
+            frameJoin = stats.relation("frame");
+            egoPoseJoin = stats.relation("egoPose");
+            sensorJoin = stats.relation("sensor");
+            datasetJoin = stats.relation("dataset");
+            logJoin = stats.relation("log");
+            annotationJoin = stats.relation("frameAnnotation.frameData");
+            instanceJoin = stats.relation("instance");
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && !finished) {
+                long start = System.nanoTime();
+                next = advance();
+                joinNanos += System.nanoTime() - start;
+                if (next == null) {
+                    finish();
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public JoinedAnnotationRecord next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            JoinedAnnotationRecord record = next;
+            next = null;
+            return record;
+        }
+
+        private JoinedAnnotationRecord advance() {
+            while (true) {
+                // 현재 frameData 의 annotation 을 순서대로 소비
+                while (annotations != null && annotationIndex < annotations.size()) {
+                    FrameAnnotationDto frameAnnotation = annotations.get(annotationIndex++);
+                    InstanceDto instance = instanceJoin.probe(instanceMap.get(frameAnnotation.getInstanceUuid()));
+                    if (instance != null) {
+                        stats.addJoinedRow();
+                        return new JoinedAnnotationRecord(dataset, egoPose, sensor, frame, frameData, frameAnnotation, instance, log);
                     }
                 }
-                prefixedMap.put(prefix + "_" + field.getName(), value);
-            } catch (IllegalAccessException e) {
-                throw new JsonToJ2735Exception("Error accessing field in DTO: " + prefix, e);
+                if (frameDataIndex >= frameDataList.size()) {
+                    return null;
+                }
+                annotations = probeFrameData(frameDataList.get(frameDataIndex++));
+                annotationIndex = 0;
+            }
+        }
+
+        // frameData 한 건당 각 관계를 한 번씩 조회하고, 조인 가능한 annotation 목록을 반환 (없으면 null)
+        private List<FrameAnnotationDto> probeFrameData(FrameDataDto candidate) {
+            FrameDto candidateFrame = frameJoin.probe(frameMap.get(candidate.getFrameUuid()));
+            EgoPoseDto candidateEgoPose = egoPoseJoin.probe(egoPoseMap.get(candidate.getEgoPoseUuid()));
+            SensorDto candidateSensor = sensorJoin.probe(sensorMap.get(candidate.getSensorUuid()));
+            if (candidateFrame == null || candidateEgoPose == null || candidateSensor == null) {
+                return null;
+            }
+            DatasetDto candidateDataset = datasetJoin.probe(datasetMap.get(candidateFrame.getDatasetUuid()));
+            LogDto candidateLog = candidateDataset != null ? logJoin.probe(logMap.get(candidateDataset.getLogUuid())) : null;
+            // log 가 없으면 이 frameData 로 만들 수 있는 행이 없음
+            if (candidateLog == null) {
+                return null;
+            }
+            frameData = candidate;
+            frame = candidateFrame;
+            egoPose = candidateEgoPose;
+            sensor = candidateSensor;
+            dataset = candidateDataset;
+            log = candidateLog;
+            return annotationJoin.probe(annotationsByFrameData.get(candidate.getUuid()));
+        }
+
+        private void finish() {
+            finished = true;
+            annotations = null;
+            stats.setJoinNanos(joinNanos);
+            lastJoinStats = stats;
+            if (logger.isInfoEnabled()) {
+                logger.info("UuidMatching join stats\n{}", stats.report());
             }
         }
-        return prefixedMap;
     }
 }
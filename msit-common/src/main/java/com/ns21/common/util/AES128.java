@@ -6,6 +6,8 @@ import org.slf4j.LoggerFactory;
 import javax.crypto.Cipher;
 import javax.crypto.spec.IvParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
 
 public class AES128 {
 
@@ -20,124 +22,63 @@ public class AES128 {
     //IV (Initiailzation vector) >> chper init 시 사용 함
 
     public static String encrypt(final String source) throws Exception {
-        byte[] eArr = null;
-        SecretKeySpec skeySpec = new SecretKeySpec(KEYNAME, ALGORITHM);
-        Cipher cipher = Cipher.getInstance(AES_CBC_NOPADDING);
-        cipher.init(Cipher.ENCRYPT_MODE, skeySpec, new IvParameterSpec(IV));
-        eArr = cipher.doFinal(addPadding(ConvertUtil.hexStringToBytes(source)));
+        byte[] eArr = AES128Engine.forCurrentThread().encrypt(ConvertUtil.hexStringToBytes(source), false);
         return ConvertUtil.bytesToHexString(eArr);
     }
 
     public static byte[] encrypt(final byte[] source) throws Exception {
-        SecretKeySpec skeySpec = new SecretKeySpec(KEYNAME, ALGORITHM);
-        Cipher cipher = Cipher.getInstance(AES_CBC_NOPADDING);
-        cipher.init(Cipher.ENCRYPT_MODE, skeySpec, new IvParameterSpec(IV));
-        return cipher.doFinal(addPadding(source));
+        return AES128Engine.forCurrentThread().encrypt(source, false);
     }
 
     public static String decrypt(final String source) throws Exception {
-        Cipher cipher = Cipher.getInstance(AES_CBC_NOPADDING);
-        SecretKeySpec skeySpec = new SecretKeySpec(KEYNAME, ALGORITHM);
-        cipher.init(Cipher.DECRYPT_MODE, skeySpec, new IvParameterSpec(IV));
-        byte[] eArr = removePadding(cipher.doFinal(ConvertUtil.hexStringToBytes(source)));
+        byte[] eArr = removePadding(AES128Engine.forCurrentThread().decrypt(ConvertUtil.hexStringToBytes(source)));
         return ConvertUtil.bytesToHexString(eArr);
     }
 
     public static byte[] decrypt(final byte[] source) throws Exception {
-        Cipher cipher = Cipher.getInstance(AES_CBC_NOPADDING);
-        SecretKeySpec skeySpec = new SecretKeySpec(KEYNAME, ALGORITHM);
-        cipher.init(Cipher.DECRYPT_MODE, skeySpec, new IvParameterSpec(IV));
-        return removePadding(cipher.doFinal(source));
+        return removePadding(AES128Engine.forCurrentThread().decrypt(source));
     }
 
-    private static byte[] addPadding(final byte[] pBytes) {
-        int pCount = pBytes.length;
-        int tCount = pCount + (16 - (pCount % 16));
-        byte[] tBytes = new byte[tCount];
-        System.arraycopy(pBytes, 0, tBytes, 0, pCount);
-        for (int rIndex = pCount; rIndex < tCount; rIndex++) {
-            tBytes[rIndex] = 0x00;
-        }
-        return tBytes;
+    /**
+     * KEYNAME/IV 로 초기화한 AES/CBC/NoPadding cipher (재사용하는 쪽에서 한 번만 생성)
+     * CBC 는 doFinal 후 init 시점의 IV 상태로 돌아가므로 같은 cipher 로 계속 사용할 수 있음
+     */
+    static Cipher initCipher(int mode) throws GeneralSecurityException {
+        Cipher cipher = Cipher.getInstance(AES_CBC_NOPADDING);
+        cipher.init(mode, new SecretKeySpec(KEYNAME, ALGORITHM), new IvParameterSpec(IV));
+        return cipher;
     }
 
     private static byte[] removePadding(final byte[] pBytes) {
-        int pCount = pBytes.length;
-        int index = 0;
-        boolean loop = true;
-        while (loop) {
-            if (index == pCount || pBytes[index] == 0x00) {
-                loop = false;
-                index--;
-            }
-            index++;
-        }
-        byte[] tBytes = new byte[index];
-        System.arraycopy(pBytes, 0, tBytes, 0, index);
-        return tBytes;
+        return Arrays.copyOf(pBytes, AES128Engine.unpaddedLength(pBytes, 0, pBytes.length, false, 0));
     }
 
     //reverse
     public static String encryptReverse(final String source) throws Exception {
-        byte[] eArr = null;
-        SecretKeySpec skeySpec = new SecretKeySpec(KEYNAME, ALGORITHM);
-        Cipher cipher = Cipher.getInstance(AES_CBC_NOPADDING);
-        cipher.init(Cipher.ENCRYPT_MODE, skeySpec, new IvParameterSpec(IV));
-        eArr = cipher.doFinal(addPaddingReverse(ConvertUtil.hexStringToBytes(source)));
+        byte[] eArr = AES128Engine.forCurrentThread().encrypt(ConvertUtil.hexStringToBytes(source), true);
         return ConvertUtil.bytesToHexString(eArr);
     }
 
 
     public static byte[] encryptReverse(final byte[] source) throws Exception {
-        SecretKeySpec skeySpec = new SecretKeySpec(KEYNAME, ALGORITHM);
-        Cipher cipher = Cipher.getInstance(AES_CBC_NOPADDING);
-        cipher.init(Cipher.ENCRYPT_MODE, skeySpec, new IvParameterSpec(IV));
-        return cipher.doFinal(addPaddingReverse(source));
+        return AES128Engine.forCurrentThread().encrypt(source, true);
     }
 
 
     public static String decryptReverse(final String source, int len) throws Exception {
-        Cipher cipher = Cipher.getInstance(AES_CBC_NOPADDING);
-        SecretKeySpec skeySpec = new SecretKeySpec(KEYNAME, ALGORITHM);
-        cipher.init(Cipher.DECRYPT_MODE, skeySpec, new IvParameterSpec(IV));
-        byte[] eArr = removePaddingReverse(cipher.doFinal(ConvertUtil.hexStringToBytes(source)), len);
+        byte[] eArr = removePaddingReverse(AES128Engine.forCurrentThread().decrypt(ConvertUtil.hexStringToBytes(source)), len);
         return ConvertUtil.bytesToHexString(eArr);
     }
 
     public static byte[] decryptReverse(final byte[] source, int len) throws Exception {
-        Cipher cipher = Cipher.getInstance(AES_CBC_NOPADDING);
-        SecretKeySpec skeySpec = new SecretKeySpec(KEYNAME, ALGORITHM);
-        cipher.init(Cipher.DECRYPT_MODE, skeySpec, new IvParameterSpec(IV));
-        return removePaddingReverse(cipher.doFinal(source), len);
-    }
-
-    private static byte[] addPaddingReverse(final byte[] pBytes) {
-        int pCount = pBytes.length;
-        int tCount = pCount + (16 - (pCount % 16));
-        byte[] tBytes = new byte[tCount];
-        System.arraycopy(pBytes, 0, tBytes, 0, pCount);
-        for (int rIndex = pCount; rIndex < tCount; rIndex++) {
-            tBytes[rIndex] = (byte) (0xFF & 0xFF);
-        }
-        return tBytes;
+        return removePaddingReverse(AES128Engine.forCurrentThread().decrypt(source), len);
     }
 
     private static byte[] removePaddingReverse(final byte[] pBytes, int len) throws Exception {
         int pCount = pBytes.length;
-        int index = 0;
-        boolean loop = true;
         if(pCount >= len) {
-            while (loop) {
-                if (index == pCount || pBytes[index] == (byte)0xFF) {
-                    if(index != 5 && index >= len) { //i2x seqNo 255까지 (seqNo 0xff 인것 제외)
-                        break;
-                    }
-                }
-                index++;
-            }
-            byte[] tBytes = new byte[index];
-            System.arraycopy(pBytes, 0, tBytes, 0, index);
-            return tBytes;
+            //i2x seqNo 255까지 (seqNo 0xff 인것 제외)
+            return Arrays.copyOf(pBytes, AES128Engine.unpaddedLength(pBytes, 0, pCount, true, len));
         } else {
             logger.error("Remove Padding ERROR -> source message length is too Small");
             throw new Exception();
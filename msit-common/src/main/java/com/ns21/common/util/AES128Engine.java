@@ -0,0 +1,191 @@
+package com.ns21.common.util;
+
+import javax.crypto.Cipher;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * packageName    : com.ns21.common.util
+ * fileName       : AES128Engine.java
+ * author         : kjg08
+ * date           : 2026-10-18
+ * description    :AES128 (AES/CBC/NoPadding, KEYNAME/IV) 암복호화를 스레드별로 초기화해 둔 Cipher 로 처리
+ *                 호출마다 Cipher.getInstance/SecretKeySpec/IvParameterSpec 을 만들지 않음
+ *                 ByteBuffer 는 [position, limit) 를 제자리에서 암복호화하고 padding 은 limit 뒤의 남는 공간에 바로 기록
+ *                 padding 규칙은 AES128 과 같음 (normal 0x00, reverse 0xFF, 16 바이트 배수까지 항상 1~16 바이트)
+ *                 JCE 는 direct 버퍼나 같은 배열을 입출력으로 주면 내부에서 임시 배열을 만들기 때문에 엔진이 가진 작업 배열 두 개 사이에서 암호화 후 되돌려 씀
+ *                 forCurrentThread() 로 받은 엔진은 받은 스레드에서만 사용
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18        kjg08           최초 생성
+ */
+public class AES128Engine {
+    public static final int BLOCK_SIZE = 16;
+    private static final byte PADDING_NORMAL = 0x00;
+    private static final byte PADDING_REVERSE = (byte) 0xFF;
+    private static final int INITIAL_WORK_SIZE = 1024;
+
+    private static final ThreadLocal<AES128Engine> ENGINES = ThreadLocal.withInitial(() -> {
+        try {
+            return new AES128Engine();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("AES128 cipher initialization failed", e);
+        }
+    });
+
+    private final Cipher encryptCipher;
+    private final Cipher decryptCipher;
+    private byte[] in = new byte[INITIAL_WORK_SIZE];
+    private byte[] out = new byte[INITIAL_WORK_SIZE];
+
+    private AES128Engine() throws GeneralSecurityException {
+        this.encryptCipher = AES128.initCipher(Cipher.ENCRYPT_MODE);
+        this.decryptCipher = AES128.initCipher(Cipher.DECRYPT_MODE);
+    }
+
+    /**
+     * 현재 스레드 전용 엔진
+     */
+    public static AES128Engine forCurrentThread() {
+        return ENGINES.get();
+    }
+
+    /**
+     * 평문 길이에 padding 을 붙인 암호문 길이
+     */
+    public static int paddedLength(int length) {
+        return length + (BLOCK_SIZE - (length % BLOCK_SIZE));
+    }
+
+    /**
+     * source 에 padding 을 붙여 암호화한 새 배열 (AES128.encrypt / encryptReverse 와 같은 결과)
+     */
+    public byte[] encrypt(byte[] source, boolean reverse) throws GeneralSecurityException {
+        int padded = paddedLength(source.length);
+        byte[] work = ensureIn(padded);
+        System.arraycopy(source, 0, work, 0, source.length);
+        Arrays.fill(work, source.length, padded, reverse ? PADDING_REVERSE : PADDING_NORMAL);
+        byte[] result = new byte[padded];
+        encryptCipher.doFinal(work, 0, padded, result, 0);
+        return result;
+    }
+
+    /**
+     * source 를 복호화한 새 배열 (padding 은 제거하지 않음)
+     */
+    public byte[] decrypt(byte[] source) throws GeneralSecurityException {
+        byte[] result = new byte[source.length];
+        decryptCipher.doFinal(source, 0, source.length, result, 0);
+        return result;
+    }
+
+    /**
+     * buffer 의 [position, limit) 평문 뒤에 padding 을 쓰고 제자리에서 암호화합니다.
+     * position 은 그대로 두고 limit 을 암호문 끝으로 옮깁니다.
+     * limit 뒤의 남는 공간이 padding 길이보다 작으면 buffer 를 바꾸지 않고 BufferOverflowException 을 던집니다.
+     *
+     * @return 암호문 길이
+     */
+    public int encrypt(ByteBuffer buffer, boolean reverse) throws GeneralSecurityException {
+        int start = buffer.position();
+        int length = buffer.remaining();
+        int padded = paddedLength(length);
+        if (start + padded > buffer.capacity()) {
+            throw new BufferOverflowException();
+        }
+        byte[] work = ensureIn(padded);
+        buffer.get(start, work, 0, length);
+        Arrays.fill(work, length, padded, reverse ? PADDING_REVERSE : PADDING_NORMAL);
+        buffer.limit(start + padded);
+        crypt(encryptCipher, work, padded, buffer, start);
+        return padded;
+    }
+
+    /**
+     * buffer 의 [position, limit) 암호문을 제자리에서 복호화합니다. padding 은 남겨 둡니다. (길이는 {@link #unpaddedLength} 로 확인)
+     *
+     * @return 복호화한 길이
+     */
+    public int decrypt(ByteBuffer buffer) throws GeneralSecurityException {
+        int start = buffer.position();
+        int length = buffer.remaining();
+        byte[] work = ensureIn(length);
+        buffer.get(start, work, 0, length);
+        crypt(decryptCipher, work, length, buffer, start);
+        return length;
+    }
+
+    /**
+     * 각 buffer 의 [position, limit) 를 {@link #encrypt(ByteBuffer, boolean)} 로 암호화합니다.
+     * 중간에 실패하면 앞의 buffer 들은 이미 암호화된 상태로 남습니다.
+     *
+     * @return 암호문 길이 합
+     */
+    public int encryptAll(List<ByteBuffer> buffers, boolean reverse) throws GeneralSecurityException {
+        int total = 0;
+        for (int i = 0, n = buffers.size(); i < n; i++) {
+            total += encrypt(buffers.get(i), reverse);
+        }
+        return total;
+    }
+
+    /**
+     * 각 buffer 의 [position, limit) 를 {@link #decrypt(ByteBuffer)} 로 복호화합니다.
+     *
+     * @return 복호화한 길이 합
+     */
+    public int decryptAll(List<ByteBuffer> buffers) throws GeneralSecurityException {
+        int total = 0;
+        for (int i = 0, n = buffers.size(); i < n; i++) {
+            total += decrypt(buffers.get(i));
+        }
+        return total;
+    }
+
+    /**
+     * 복호화한 bytes[offset, offset + length) 에서 padding 을 뺀 길이 (복사하지 않음)
+     * normal 은 AES128.removePadding 과 같이 첫 0x00 앞까지,
+     * reverse 는 AES128.removePaddingReverse 와 같이 minLength 이상에서 처음 나오는 0xFF 앞까지 (i2x seqNo 위치 index 5 제외)
+     */
+    public static int unpaddedLength(byte[] bytes, int offset, int length, boolean reverse, int minLength) {
+        if (!reverse) {
+            for (int i = 0; i < length; i++) {
+                if (bytes[offset + i] == PADDING_NORMAL) {
+                    return i;
+                }
+            }
+            return length;
+        }
+        for (int i = Math.max(minLength, 0); i < length; i++) {
+            if (bytes[offset + i] == PADDING_REVERSE && i != 5) {
+                return i;
+            }
+        }
+        return length;
+    }
+
+    // work[0, length) 를 암복호화해 buffer 의 start 부터 기록
+    private void crypt(Cipher cipher, byte[] work, int length, ByteBuffer buffer, int start) throws GeneralSecurityException {
+        byte[] result = ensureOut(length);
+        int written = cipher.doFinal(work, 0, length, result, 0);
+        buffer.put(start, result, 0, written);
+    }
+
+    private byte[] ensureIn(int length) {
+        if (in.length < length) {
+            in = new byte[Integer.highestOneBit(length - 1) << 1];
+        }
+        return in;
+    }
+
+    private byte[] ensureOut(int length) {
+        if (out.length < length) {
+            out = new byte[Integer.highestOneBit(length - 1) << 1];
+        }
+        return out;
+    }
+}
@@ -1,13 +1,18 @@
 package com.ns21.common.util;
 
+import com.ns21.common.enums.j2735.CODER_TYPE;
 import com.oss.asn1.Coder;
 import dsrc.Dsrc;
 
+import java.util.concurrent.atomic.LongAdder;
+
 
 /**
  * ASN.1 Coder 팩토리 메서드
  * <p>
- * NOTE :
+ * NOTE : 설정을 마친 coder 를 스레드마다 CODER_TYPE 별로 하나씩 만들어 두고 재사용 ({@link #getCoder})
+ * OSS Coder 는 스레드 안전하지 않으므로 getCoder 로 받은 coder 는 받은 스레드에서만, 다른 getCoder 호출과 겹치지 않게 사용
+ * Vert.x event loop/worker 스레드 수만큼만 만들어지므로 개수가 제한됨
  *
  * @author htkim
  * @version 1.0
@@ -15,12 +20,37 @@ import dsrc.Dsrc;
  * 수정일        수정자          수정내용
  * ------------ -------------- --------------------------
  * 2019.04.03   htkim          최초 생성
+ * 2026.10.18   kjg08          enums.j2735.ASN1CodeFactory 통합, 스레드별 coder 재사용 및 hit/miss 집계 추가
  * @since 2019.04.03
  */
 public abstract class ASN1CoderFactory {
+    private static final CODER_TYPE[] TYPES = CODER_TYPE.values();
+
+    private static final ThreadLocal<Coder[]> CODERS = ThreadLocal.withInitial(() -> new Coder[TYPES.length]);
+    private static final LongAdder[] HITS = newCounters();
+    private static final LongAdder[] MISSES = newCounters();
+
+    /**
+     * 현재 스레드 전용 coder 를 반환합니다. 처음 요청한 스레드에서만 새로 만듭니다.
+     *
+     * @param type - coder type
+     * @return Coder
+     */
+    public static Coder getCoder(CODER_TYPE type) {
+        Coder[] coders = CODERS.get();
+        Coder coder = coders[type.ordinal()];
+        if (coder != null) {
+            HITS[type.ordinal()].increment();
+            return coder;
+        }
+        MISSES[type.ordinal()].increment();
+        coder = createCoder(type);
+        coders[type.ordinal()] = coder;
+        return coder;
+    }
 
     /**
-     * create coder
+     * create coder (재사용하지 않는 새 coder)
      *
      * @param type - coder type
      * @return Coder
@@ -28,26 +58,47 @@ public abstract class ASN1CoderFactory {
     public static Coder createCoder(CODER_TYPE type) {
         Coder coder;
         switch (type) {
-            case N_ANYANG_BER:
+            case BER:
                 coder = Dsrc.getBERCoder();
-                setCoderConfig(coder);
-                break;
-            case N_ANYANG_UPER:
-                coder = Dsrc.getPERUnalignedCoder();
-                setCoderConfig(coder);
                 break;
-            case N_ANYANG_JSON:
+            case JSON:
                 coder = Dsrc.getJSONCoder();
-                setCoderConfig(coder);
                 break;
+            case UPER:
             default:
                 coder = Dsrc.getPERUnalignedCoder();
-                setCoderConfig(coder);
         }
+        setCoderConfig(coder);
         return coder;
     }
 
+    /**
+     * getCoder 에서 스레드별 coder 를 재사용한 횟수
+     */
+    public static long getHits(CODER_TYPE type) {
+        return HITS[type.ordinal()].sum();
+    }
 
+    /**
+     * getCoder 에서 coder 를 새로 만든 횟수
+     */
+    public static long getMisses(CODER_TYPE type) {
+        return MISSES[type.ordinal()].sum();
+    }
+
+    /**
+     * coder type 별 hit/miss 요약
+     */
+    public static String report() {
+        StringBuilder sb = new StringBuilder();
+        for (CODER_TYPE type : TYPES) {
+            if (sb.length() > 0) {
+                sb.append(", ");
+            }
+            sb.append(type.name()).append(" hit=").append(getHits(type)).append(" miss=").append(getMisses(type));
+        }
+        return sb.toString();
+    }
 
     /**
      * set coder configuration
@@ -61,24 +112,11 @@ public abstract class ASN1CoderFactory {
         coder.enableContainedValueDecoding();
     }
 
-    /**
-     * coder type
-     */
-    public enum CODER_TYPE {
-        N_ANYANG_BER("안양C-ITS 표준 DATEX BER 코더"),
-        N_ANYANG_UPER("안양C-ITS 표준 J2735 UPER 코더"),
-        N_ANYANG_JSON("안양C-ITS 표준 JSON 코더")
-        ;
-
-        private final String description;
-
-        CODER_TYPE(String description) {
-            this.description = description;
+    private static LongAdder[] newCounters() {
+        LongAdder[] counters = new LongAdder[TYPES.length];
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = new LongAdder();
         }
-
-        public String description() {
-            return description;
-        }
-
+        return counters;
     }
 }
@@ -1,5 +1,10 @@
 package com.ns21.common.util;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+import java.util.zip.Checksum;
+
 public class CRC16IBM {
     /**
      * 상위비트를 사용하는 CRC16 테이블
@@ -64,6 +69,40 @@ public class CRC16IBM {
             0x4400, 0x84c1, 0x8581, 0x4540, 0x8701, 0x47c0, 0x4680, 0x8641, 0x8201, 0x42c0, 0x4380, 0x8341, 0x4100, 0x81c1, 0x8081, 0x4040
     };
 
+    /**
+     * slicing-by-8 테이블 ([k] 는 k+1 바이트를 한 번에 넘기는 테이블, [0] 은 위 기본 테이블과 같은 값)
+     * normal 은 기존 계산식이 crc 의 하위 바이트로 테이블을 찾으므로 바이트 사이에 남는 상태가 하위 8비트뿐이라 8비트 테이블 사용
+     */
+    private static final int SLICES = 8;
+    private static final int[][] NORMAL_SLICES = new int[SLICES][256];
+    private static final int[][] REFLECTED_SLICES = new int[SLICES][256];
+    private static final int[][] CCITT_SLICES = new int[SLICES][256];
+
+    static {
+        for (int i = 0; i < 256; i++) {
+            NORMAL_SLICES[0][i] = LOOK_UP_NORMAL[i] & 0xFF;
+            REFLECTED_SLICES[0][i] = LOOK_UP_REFLECTED[i];
+            CCITT_SLICES[0][i] = LOOKUP_TABLE[i];
+        }
+        for (int k = 1; k < SLICES; k++) {
+            for (int i = 0; i < 256; i++) {
+                NORMAL_SLICES[k][i] = NORMAL_SLICES[0][NORMAL_SLICES[k - 1][i]];
+                int r = REFLECTED_SLICES[k - 1][i];
+                REFLECTED_SLICES[k][i] = (r >>> 8) ^ REFLECTED_SLICES[0][r & 0xFF];
+                int c = CCITT_SLICES[k - 1][i];
+                CCITT_SLICES[k][i] = ((c << 8) & 0xFFFF) ^ CCITT_SLICES[0][(c >>> 8) & 0xFF];
+            }
+        }
+    }
+
+    /**
+     * CRC16 테이블 종류
+     * NORMAL : computeCRC16(reversed=false), REFLECTED : computeCRC16(reversed=true), CCITT : crc16
+     */
+    public enum Variant {
+        NORMAL, REFLECTED, CCITT
+    }
+
     /**
      * Create a CRC16 checksum from the bytes.
      *
@@ -71,12 +110,23 @@ public class CRC16IBM {
      * @return CRC16 as interger value
      */
     public static int crc16(byte[] bytes) {
-        int crc = 0x0000;
+        return crc16(bytes, 0, bytes.length);
+    }
 
-        for (byte b : bytes) {
-            crc = ((crc << 8) ^ LOOKUP_TABLE[((crc >>> 8) ^ (b & 0xFF)) & 0xFF]);
-        }
-        return crc & 0xFFFF;
+    /**
+     * bytes[offset, offset + length) 구간의 crc16 (배열을 잘라 복사하지 않음)
+     */
+    public static int crc16(byte[] bytes, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        return update(Variant.CCITT, 0, bytes, offset, length) & 0xFFFF;
+    }
+
+    /**
+     * buffer 의 절대 위치 [offset, offset + length) 구간의 crc16 (position/limit 은 바꾸지 않음)
+     */
+    public static int crc16(ByteBuffer buffer, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, buffer.limit());
+        return update(Variant.CCITT, 0, buffer, offset, length) & 0xFFFF;
     }
 
     /**
@@ -87,29 +137,23 @@ public class CRC16IBM {
      */
     public static int computeCRC16(byte[] bytes, boolean reversed)
     {
-        int crc = 0;
-        if( reversed ) {
-            crc = computeCRC16Reverse(bytes);
-        } else {
-            crc = computeCRC16Normal(bytes);
-        }
-        return crc & 0xFFFF;
+        return computeCRC16(bytes, 0, bytes.length, reversed);
     }
 
-    private static int computeCRC16Normal(byte [] bytes) {
-        int crc = 0;
-        for( byte b: bytes) {
-            crc = (crc << 8) ^ LOOK_UP_NORMAL[((crc ^ b) & 0xFF)];
-        }
-        return crc;
+    /**
+     * bytes[offset, offset + length) 구간의 checksum (배열을 잘라 복사하지 않음)
+     */
+    public static int computeCRC16(byte[] bytes, int offset, int length, boolean reversed) {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        return update(reversed ? Variant.REFLECTED : Variant.NORMAL, 0, bytes, offset, length) & 0xFFFF;
     }
 
-    private static int computeCRC16Reverse(byte [] bytes) {
-        int crc = 0;
-        for( byte b: bytes) {
-            crc = LOOK_UP_REFLECTED[ ((crc ^ b) & 0xff) ] ^ (crc >> 8);
-        }
-        return crc;
+    /**
+     * buffer 의 절대 위치 [offset, offset + length) 구간의 checksum (position/limit 은 바꾸지 않음)
+     */
+    public static int computeCRC16(ByteBuffer buffer, int offset, int length, boolean reversed) {
+        Objects.checkFromIndexSize(offset, length, buffer.limit());
+        return update(reversed ? Variant.REFLECTED : Variant.NORMAL, 0, buffer, offset, length) & 0xFFFF;
     }
 
     /**
@@ -123,5 +167,276 @@ public class CRC16IBM {
         return ConvertUtil.shortToBytes((short)computeCRC16(bytes, reversed));
     }
 
+    /**
+     * 여러 조각으로 나뉜 데이터의 CRC16 을 이어서 계산 (update 를 여러 번 호출한 뒤 finish)
+     * 조각을 모두 이어 붙여 한 번에 계산한 값과 같음
+     */
+    public static Incremental incremental(Variant variant) {
+        return new Incremental(variant);
+    }
+
+    public static final class Incremental implements Checksum {
+        private final Variant variant;
+        private int crc;
+
+        private Incremental(Variant variant) {
+            this.variant = Objects.requireNonNull(variant);
+        }
+
+        @Override
+        public void update(int b) {
+            crc = step(variant, crc, b);
+        }
+
+        @Override
+        public void update(byte[] bytes, int offset, int length) {
+            Objects.checkFromIndexSize(offset, length, bytes.length);
+            crc = CRC16IBM.update(variant, crc, bytes, offset, length);
+        }
+
+        /**
+         * buffer 의 position 부터 limit 까지 반영하고 position 을 limit 으로 이동
+         */
+        @Override
+        public void update(ByteBuffer buffer) {
+            int position = buffer.position();
+            int length = buffer.remaining();
+            crc = CRC16IBM.update(variant, crc, buffer, position, length);
+            buffer.position(position + length);
+        }
+
+        @Override
+        public long getValue() {
+            return crc & 0xFFFF;
+        }
+
+        /**
+         * 지금까지의 CRC16 을 반환하고 처음 상태로 되돌림
+         */
+        public int finish() {
+            int value = crc & 0xFFFF;
+            crc = 0;
+            return value;
+        }
+
+        @Override
+        public void reset() {
+            crc = 0;
+        }
+    }
+
+    // ---- slicing 계산 (crc 는 이전 상태, 반환값은 0xFFFF 로 자르기 전 상태) ----
+
+    private static int update(Variant variant, int crc, byte[] bytes, int offset, int length) {
+        switch (variant) {
+            case NORMAL:
+                return updateNormal(crc, bytes, offset, length);
+            case REFLECTED:
+                return updateReflected(crc, bytes, offset, length);
+            default:
+                return updateCcitt(crc, bytes, offset, length);
+        }
+    }
+
+    private static int update(Variant variant, int crc, ByteBuffer buffer, int offset, int length) {
+        if (buffer.hasArray()) {
+            return update(variant, crc, buffer.array(), buffer.arrayOffset() + offset, length);
+        }
+        switch (variant) {
+            case NORMAL:
+                return updateNormal(crc, buffer, offset, length);
+            case REFLECTED:
+                return updateReflected(crc, buffer, offset, length);
+            default:
+                return updateCcitt(crc, buffer, offset, length);
+        }
+    }
+
+    // 기존 한 바이트 계산식
+    private static int step(Variant variant, int crc, int b) {
+        switch (variant) {
+            case NORMAL:
+                return (crc << 8) ^ LOOK_UP_NORMAL[((crc ^ b) & 0xFF)];
+            case REFLECTED:
+                return LOOK_UP_REFLECTED[((crc ^ b) & 0xff)] ^ (crc >> 8);
+            default:
+                return ((crc << 8) ^ LOOKUP_TABLE[((crc >>> 8) ^ (b & 0xFF)) & 0xFF]) & 0xFFFF;
+        }
+    }
+
+    // normal: 마지막 바이트 전까지는 하위 8비트 상태만 넘기고 마지막 바이트에서 16비트 값을 만듦
+    private static int updateNormal(int crc, byte[] bytes, int offset, int length) {
+        if (length == 0) {
+            return crc;
+        }
+        int last = offset + length - 1;
+        int l = crc & 0xFF;
+        int i = offset;
+        for (; i + 8 <= last; i += 8) {
+            l = normal8(l, ConvertUtil.getLong(bytes, i));
+        }
+        if (i + 4 <= last) {
+            l = normal4(l, ConvertUtil.getInt(bytes, i));
+            i += 4;
+        }
+        for (; i < last; i++) {
+            l = NORMAL_SLICES[0][(l ^ bytes[i]) & 0xFF];
+        }
+        return (l << 8) ^ LOOK_UP_NORMAL[(l ^ bytes[last]) & 0xFF];
+    }
 
+    private static int updateNormal(int crc, ByteBuffer buffer, int offset, int length) {
+        if (length == 0) {
+            return crc;
+        }
+        boolean swap = buffer.order() != ByteOrder.BIG_ENDIAN;
+        int last = offset + length - 1;
+        int l = crc & 0xFF;
+        int i = offset;
+        for (; i + 8 <= last; i += 8) {
+            long w = buffer.getLong(i);
+            l = normal8(l, swap ? Long.reverseBytes(w) : w);
+        }
+        if (i + 4 <= last) {
+            int w = buffer.getInt(i);
+            l = normal4(l, swap ? Integer.reverseBytes(w) : w);
+            i += 4;
+        }
+        for (; i < last; i++) {
+            l = NORMAL_SLICES[0][(l ^ buffer.get(i)) & 0xFF];
+        }
+        return (l << 8) ^ LOOK_UP_NORMAL[(l ^ buffer.get(last)) & 0xFF];
+    }
+
+    private static int normal8(int l, long w) {
+        return NORMAL_SLICES[7][(l ^ (int) (w >>> 56)) & 0xFF]
+                ^ NORMAL_SLICES[6][(int) (w >>> 48) & 0xFF]
+                ^ NORMAL_SLICES[5][(int) (w >>> 40) & 0xFF]
+                ^ NORMAL_SLICES[4][(int) (w >>> 32) & 0xFF]
+                ^ NORMAL_SLICES[3][(int) (w >>> 24) & 0xFF]
+                ^ NORMAL_SLICES[2][(int) (w >>> 16) & 0xFF]
+                ^ NORMAL_SLICES[1][(int) (w >>> 8) & 0xFF]
+                ^ NORMAL_SLICES[0][(int) w & 0xFF];
+    }
+
+    private static int normal4(int l, int w) {
+        return NORMAL_SLICES[3][(l ^ (w >>> 24)) & 0xFF]
+                ^ NORMAL_SLICES[2][(w >>> 16) & 0xFF]
+                ^ NORMAL_SLICES[1][(w >>> 8) & 0xFF]
+                ^ NORMAL_SLICES[0][w & 0xFF];
+    }
+
+    private static int updateReflected(int crc, byte[] bytes, int offset, int length) {
+        int end = offset + length;
+        int i = offset;
+        for (; i + 8 <= end; i += 8) {
+            crc = reflected8(crc, ConvertUtil.getLong(bytes, i));
+        }
+        if (i + 4 <= end) {
+            crc = reflected4(crc, ConvertUtil.getInt(bytes, i));
+            i += 4;
+        }
+        for (; i < end; i++) {
+            crc = LOOK_UP_REFLECTED[((crc ^ bytes[i]) & 0xff)] ^ (crc >> 8);
+        }
+        return crc;
+    }
+
+    private static int updateReflected(int crc, ByteBuffer buffer, int offset, int length) {
+        boolean swap = buffer.order() != ByteOrder.BIG_ENDIAN;
+        int end = offset + length;
+        int i = offset;
+        for (; i + 8 <= end; i += 8) {
+            long w = buffer.getLong(i);
+            crc = reflected8(crc, swap ? Long.reverseBytes(w) : w);
+        }
+        if (i + 4 <= end) {
+            int w = buffer.getInt(i);
+            crc = reflected4(crc, swap ? Integer.reverseBytes(w) : w);
+            i += 4;
+        }
+        for (; i < end; i++) {
+            crc = LOOK_UP_REFLECTED[((crc ^ buffer.get(i)) & 0xff)] ^ (crc >> 8);
+        }
+        return crc;
+    }
+
+    // 첫 두 바이트를 crc 하위/상위 바이트와 합친 뒤 8 바이트를 한 번에 넘김
+    private static int reflected8(int crc, long w) {
+        int x = crc ^ ((int) (w >>> 56) & 0xFF) ^ (((int) (w >>> 48) & 0xFF) << 8);
+        return REFLECTED_SLICES[7][x & 0xFF]
+                ^ REFLECTED_SLICES[6][(x >>> 8) & 0xFF]
+                ^ REFLECTED_SLICES[5][(int) (w >>> 40) & 0xFF]
+                ^ REFLECTED_SLICES[4][(int) (w >>> 32) & 0xFF]
+                ^ REFLECTED_SLICES[3][(int) (w >>> 24) & 0xFF]
+                ^ REFLECTED_SLICES[2][(int) (w >>> 16) & 0xFF]
+                ^ REFLECTED_SLICES[1][(int) (w >>> 8) & 0xFF]
+                ^ REFLECTED_SLICES[0][(int) w & 0xFF];
+    }
+
+    private static int reflected4(int crc, int w) {
+        int x = crc ^ ((w >>> 24) & 0xFF) ^ (((w >>> 16) & 0xFF) << 8);
+        return REFLECTED_SLICES[3][x & 0xFF]
+                ^ REFLECTED_SLICES[2][(x >>> 8) & 0xFF]
+                ^ REFLECTED_SLICES[1][(w >>> 8) & 0xFF]
+                ^ REFLECTED_SLICES[0][w & 0xFF];
+    }
+
+    private static int updateCcitt(int crc, byte[] bytes, int offset, int length) {
+        crc &= 0xFFFF;
+        int end = offset + length;
+        int i = offset;
+        for (; i + 8 <= end; i += 8) {
+            crc = ccitt8(crc, ConvertUtil.getLong(bytes, i));
+        }
+        if (i + 4 <= end) {
+            crc = ccitt4(crc, ConvertUtil.getInt(bytes, i));
+            i += 4;
+        }
+        for (; i < end; i++) {
+            crc = ((crc << 8) ^ LOOKUP_TABLE[((crc >>> 8) ^ (bytes[i] & 0xFF)) & 0xFF]) & 0xFFFF;
+        }
+        return crc;
+    }
+
+    private static int updateCcitt(int crc, ByteBuffer buffer, int offset, int length) {
+        crc &= 0xFFFF;
+        boolean swap = buffer.order() != ByteOrder.BIG_ENDIAN;
+        int end = offset + length;
+        int i = offset;
+        for (; i + 8 <= end; i += 8) {
+            long w = buffer.getLong(i);
+            crc = ccitt8(crc, swap ? Long.reverseBytes(w) : w);
+        }
+        if (i + 4 <= end) {
+            int w = buffer.getInt(i);
+            crc = ccitt4(crc, swap ? Integer.reverseBytes(w) : w);
+            i += 4;
+        }
+        for (; i < end; i++) {
+            crc = ((crc << 8) ^ LOOKUP_TABLE[((crc >>> 8) ^ (buffer.get(i) & 0xFF)) & 0xFF]) & 0xFFFF;
+        }
+        return crc;
+    }
+
+    // 첫 두 바이트를 crc 상위/하위 바이트와 합친 뒤 8 바이트를 한 번에 넘김
+    private static int ccitt8(int crc, long w) {
+        int x = crc ^ ((int) (w >>> 48) & 0xFFFF);
+        return CCITT_SLICES[7][(x >>> 8) & 0xFF]
+                ^ CCITT_SLICES[6][x & 0xFF]
+                ^ CCITT_SLICES[5][(int) (w >>> 40) & 0xFF]
+                ^ CCITT_SLICES[4][(int) (w >>> 32) & 0xFF]
+                ^ CCITT_SLICES[3][(int) (w >>> 24) & 0xFF]
+                ^ CCITT_SLICES[2][(int) (w >>> 16) & 0xFF]
+                ^ CCITT_SLICES[1][(int) (w >>> 8) & 0xFF]
+                ^ CCITT_SLICES[0][(int) w & 0xFF];
+    }
+
+    private static int ccitt4(int crc, int w) {
+        int x = crc ^ ((w >>> 16) & 0xFFFF);
+        return CCITT_SLICES[3][(x >>> 8) & 0xFF]
+                ^ CCITT_SLICES[2][x & 0xFF]
+                ^ CCITT_SLICES[1][(w >>> 8) & 0xFF]
+                ^ CCITT_SLICES[0][w & 0xFF];
+    }
 }
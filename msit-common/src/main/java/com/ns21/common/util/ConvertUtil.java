@@ -1,7 +1,12 @@
 package com.ns21.common.util;
 
 import java.io.ByteArrayOutputStream;
-import java.nio.ByteBuffer;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Objects;
 
@@ -16,94 +21,176 @@ import java.util.Objects;
  * DATE              AUTHOR             NOTE
  * -----------------------------------------------------------
  * 2023-08-08        kimhansol       최초 생성
+ * 2026-10-18        kjg08           16진수 변환을 nibble 테이블로, primitive 변환을 VarHandle 로 변경, offset/length 오버로드 추가
  */
 public class ConvertUtil {
+    // 16진수 출력은 기존과 같이 소문자
+    private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.ISO_8859_1);
+    // 문자 → nibble 값, 16진수 문자가 아니면 -1
+    private static final byte[] HEX_VALUES = new byte[128];
+
+    // big-endian byte[] 뷰
+    private static final VarHandle SHORT_BE = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle INT_BE = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle LONG_BE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+    static {
+        Arrays.fill(HEX_VALUES, (byte) -1);
+        for (int i = 0; i < 10; i++) {
+            HEX_VALUES['0' + i] = (byte) i;
+        }
+        for (int i = 0; i < 6; i++) {
+            HEX_VALUES['a' + i] = (byte) (10 + i);
+            HEX_VALUES['A' + i] = (byte) (10 + i);
+        }
+    }
 
     public static String bytesToHexString(byte[] bytes) {
-        int pCount = bytes.length;
-        StringBuffer buff = new StringBuffer(pCount * 2);
-        for (int pIndex = 0; pIndex < pCount; pIndex++) {
-            if (((int) bytes[pIndex] & 0xff) < 0x10) {
-                buff.append(0);
-            }
-            buff.append(Long.toString((int) bytes[pIndex] & 0xff, 16));
+        return bytesToHexString(bytes, 0, bytes.length);
+    }
+
+    public static String bytesToHexString(byte[] bytes, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        byte[] hex = new byte[length * 2];
+        for (int i = 0; i < length; i++) {
+            int b = bytes[offset + i] & 0xff;
+            hex[2 * i] = HEX_DIGITS[b >>> 4];
+            hex[2 * i + 1] = HEX_DIGITS[b & 0x0f];
         }
-        return buff.toString();
+        // ASCII 만 있으므로 LATIN1 String 으로 바로 생성
+        return new String(hex, StandardCharsets.ISO_8859_1);
     }
 
-    public static String byteToHexString(byte b) {
-        StringBuffer buff = new StringBuffer(2);
-        if(((int) b &0xff) < 0x10 ) {
-            buff.append(0);
+    /**
+     * bytes[offset, offset + length) 를 16진수 문자로 out[outOffset] 부터 기록하고 기록한 문자 수를 반환합니다.
+     */
+    public static int bytesToHexChars(byte[] bytes, int offset, int length, char[] out, int outOffset) {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        Objects.checkFromIndexSize(outOffset, length * 2, out.length);
+        for (int i = 0; i < length; i++) {
+            int b = bytes[offset + i] & 0xff;
+            out[outOffset + 2 * i] = (char) HEX_DIGITS[b >>> 4];
+            out[outOffset + 2 * i + 1] = (char) HEX_DIGITS[b & 0x0f];
         }
-        buff.append(Long.toString((int)b & 0xff, 16));
-        return buff.toString();
+        return length * 2;
+    }
+
+    public static String byteToHexString(byte b) {
+        int v = b & 0xff;
+        return new String(new byte[]{HEX_DIGITS[v >>> 4], HEX_DIGITS[v & 0x0f]}, StandardCharsets.ISO_8859_1);
     }
 
     public static byte[] hexStringToBytes(String pSource) {
-        StringBuffer buff = new StringBuffer(pSource);
-        int bCount = buff.length() / 2;
-        byte[] bArr = new byte[bCount];
-        for (int bIndex = 0; bIndex < bCount; bIndex++) {
-            bArr[bIndex] = (byte) Long.parseLong(buff.substring(2 * bIndex, (2 * bIndex) + 2), 16);
-        }
+        // 홀수 길이면 마지막 문자는 무시 (기존 동작)
+        byte[] bArr = new byte[pSource.length() / 2];
+        hexStringToBytes(pSource, 0, bArr.length * 2, bArr, 0);
         return bArr;
     }
 
+    /**
+     * source[offset, offset + length) 의 16진수 문자를 out[outOffset] 부터 바이트로 기록하고 기록한 바이트 수를 반환합니다.
+     * 홀수 길이면 마지막 문자는 무시합니다.
+     *
+     * @throws NumberFormatException 16진수가 아닌 문자가 있는 경우
+     */
+    public static int hexStringToBytes(CharSequence source, int offset, int length, byte[] out, int outOffset) {
+        Objects.checkFromIndexSize(offset, length, source.length());
+        int count = length / 2;
+        Objects.checkFromIndexSize(outOffset, count, out.length);
+        for (int i = 0; i < count; i++) {
+            int hi = hexValue(source, offset + 2 * i);
+            int lo = hexValue(source, offset + 2 * i + 1);
+            out[outOffset + i] = (byte) ((hi << 4) | lo);
+        }
+        return count;
+    }
+
+    private static int hexValue(CharSequence source, int index) {
+        char c = source.charAt(index);
+        int value = c < 128 ? HEX_VALUES[c] : -1;
+        if (value < 0) {
+            throw new NumberFormatException("Invalid hex character '" + c + "' at index " + index);
+        }
+        return value;
+    }
+
     public static short unsignedByte(byte b) {
         return (short)(b < 0 ? b+256 : b);
     }
 
 
     public static byte[] shortToBytes(short value) {
-        return new byte[] {
-                (byte)((value >> 8) & 0xFF),
-                (byte)((value) & 0xFF )
-        };
+        byte[] bytes = new byte[Short.BYTES];
+        putShort(bytes, 0, value);
+        return bytes;
     }
 
     public static short bytesToShort(byte[] bytes) {
-        ByteBuffer byteBuffer = ByteBuffer.allocate(Short.BYTES);
-        byteBuffer.put(bytes);
-        byteBuffer.flip();
-        return byteBuffer.getShort();
+        checkExactLength(bytes, Short.BYTES);
+        return getShort(bytes, 0);
+    }
+
+    /**
+     * bytes[offset] 부터 big-endian short 를 읽습니다.
+     */
+    public static short getShort(byte[] bytes, int offset) {
+        return (short) SHORT_BE.get(bytes, offset);
+    }
+
+    /**
+     * bytes[offset] 부터 big-endian short 를 기록합니다.
+     */
+    public static void putShort(byte[] bytes, int offset, short value) {
+        SHORT_BE.set(bytes, offset, value);
     }
 
     public static byte[] intToBytes(int value) {
-        return new byte[] {
-                (byte) ((value >> 24) & 0xFF),
-                (byte) ((value >> 16) & 0xFF),
-                (byte) ((value >> 8) & 0xFF),
-                (byte) ((value >> 0) & 0xFF)
-        };
+        byte[] bytes = new byte[Integer.BYTES];
+        putInt(bytes, 0, value);
+        return bytes;
     }
 
     public static int bytesToInt(byte[] bytes) {
-        ByteBuffer byteBuffer = ByteBuffer.allocate(Integer.BYTES);
-        byteBuffer.put(bytes);
-        byteBuffer.flip();
-        return byteBuffer.getInt();
+        checkExactLength(bytes, Integer.BYTES);
+        return getInt(bytes, 0);
+    }
+
+    public static int getInt(byte[] bytes, int offset) {
+        return (int) INT_BE.get(bytes, offset);
+    }
+
+    public static void putInt(byte[] bytes, int offset, int value) {
+        INT_BE.set(bytes, offset, value);
     }
 
 
     public static byte [] longToBytes(long value) {
-        return new byte [] {
-                (byte) ((value >> 56) & 0xFF),
-                (byte) ((value >> 48) & 0xFF),
-                (byte) ((value >> 40) & 0xFF),
-                (byte) ((value >> 32) & 0xFF),
-                (byte) ((value >> 24) & 0xFF),
-                (byte) ((value >> 16) & 0xFF),
-                (byte) ((value >> 8) & 0xFF),
-                (byte) ((value >> 0) & 0xFF)
-        };
+        byte[] bytes = new byte[Long.BYTES];
+        putLong(bytes, 0, value);
+        return bytes;
     }
 
     public static long bytesToLong(byte [] bytes) {
-        ByteBuffer byteBuffer = ByteBuffer.allocate(Long.BYTES);
-        byteBuffer.put(bytes);
-        byteBuffer.flip();
-        return byteBuffer.getLong();
+        checkExactLength(bytes, Long.BYTES);
+        return getLong(bytes, 0);
+    }
+
+    public static long getLong(byte[] bytes, int offset) {
+        return (long) LONG_BE.get(bytes, offset);
+    }
+
+    public static void putLong(byte[] bytes, int offset, long value) {
+        LONG_BE.set(bytes, offset, value);
+    }
+
+    // 기존 ByteBuffer 구현과 같은 예외 (길면 overflow, 짧으면 underflow)
+    private static void checkExactLength(byte[] bytes, int size) {
+        if (bytes.length > size) {
+            throw new BufferOverflowException();
+        }
+        if (bytes.length < size) {
+            throw new BufferUnderflowException();
+        }
     }
 
     public static byte[] getBytesSection(byte[] bytes, int from, int to) {
@@ -0,0 +1,217 @@
+package com.ns21.common.util;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * packageName    : com.ns21.common.util
+ * fileName       : CoordinateCache.java
+ * author         : kjg08
+ * date           : 2026-10-18
+ * description    :long 두 개로 만든 키 → long[] 값의 크기 제한 캐시 (CoordinateConverter 변환 결과용)
+ *                 키를 문자열/객체로 만들지 않고 배열 슬롯에 저장, 최대 개수를 넘으면 CLOCK(second chance) 방식으로 오래 쓰지 않은 항목부터 교체
+ *                 해시로 나눈 segment 마다 따로 잠가서 병렬 생성 스레드끼리 덜 겹치게 함
+ *                 hit/miss/eviction 횟수 집계
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18        kjg08           최초 생성
+ * 2026-10-18        kjg08           report 의 hitRate 를 기본 locale 과 관계없이 '.' 소수점으로 출력
+ */
+public class CoordinateCache {
+    private static final int MAX_SEGMENTS = 16;
+    private static final int MIN_SEGMENT_CAPACITY = 64;
+
+    private final Segment[] segments;
+    private final int segmentShift;
+    private final int maxEntries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param maxEntries 최대 항목 수 (segment 단위로 나누므로 실제 최대값은 조금 클 수 있음)
+     */
+    public CoordinateCache(int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be positive: " + maxEntries);
+        }
+        int segmentCount = Math.max(1, Math.min(MAX_SEGMENTS, Integer.highestOneBit(maxEntries / MIN_SEGMENT_CAPACITY)));
+        int segmentCapacity = (maxEntries + segmentCount - 1) / segmentCount;
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(segmentCapacity);
+        }
+        this.segmentShift = 32 - Integer.numberOfTrailingZeros(segmentCount);
+        this.maxEntries = segmentCapacity * segmentCount;
+    }
+
+    /**
+     * 키에 해당하는 값, 없으면 null (miss 로 집계)
+     */
+    public long[] get(long key1, long key2) {
+        int hash = hash(key1, key2);
+        long[] value = segmentFor(hash).get(key1, key2, hash);
+        if (value != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return value;
+    }
+
+    /**
+     * 값을 저장합니다. 이미 같은 키가 있으면 기존 값을 그대로 두고 반환합니다.
+     *
+     * @return 캐시에 들어 있는 값
+     */
+    public long[] putIfAbsent(long key1, long key2, long[] value) {
+        int hash = hash(key1, key2);
+        return segmentFor(hash).putIfAbsent(key1, key2, hash, value, evictions);
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * 크기/hit/miss/eviction 요약
+     */
+    public String report() {
+        long h = getHits();
+        long m = getMisses();
+        return "size=" + size() + "/" + maxEntries + " hit=" + h + " miss=" + m + " eviction=" + getEvictions()
+                + String.format(Locale.ROOT, " hitRate=%.1f%%", h + m == 0 ? 0.0 : 100.0 * h / (h + m));
+    }
+
+    private Segment segmentFor(int hash) {
+        return segments.length == 1 ? segments[0] : segments[hash >>> segmentShift];
+    }
+
+    private static int hash(long key1, long key2) {
+        long h = key1 * 0x9E3779B97F4A7C15L + key2;
+        h = (h ^ (h >>> 33)) * 0xFF51AFD7ED558CCDL;
+        h = (h ^ (h >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return (int) (h ^ (h >>> 33));
+    }
+
+    // 슬롯 배열 + bucket 체인, 가득 차면 CLOCK 으로 교체할 슬롯 선택
+    private static final class Segment {
+        private static final int NONE = -1;
+
+        private final long[] keys1;
+        private final long[] keys2;
+        private final int[] hashes;
+        private final long[][] values;
+        private final boolean[] referenced;
+        private final int[] next;
+        private final int[] buckets;
+        private int size;
+        private int hand;
+
+        private Segment(int capacity) {
+            keys1 = new long[capacity];
+            keys2 = new long[capacity];
+            hashes = new int[capacity];
+            values = new long[capacity][];
+            referenced = new boolean[capacity];
+            next = new int[capacity];
+            buckets = new int[Integer.highestOneBit(Math.max(1, capacity - 1)) << 1];
+            Arrays.fill(buckets, NONE);
+        }
+
+        private synchronized int size() {
+            return size;
+        }
+
+        private synchronized long[] get(long key1, long key2, int hash) {
+            int slot = find(key1, key2, hash);
+            if (slot == NONE) {
+                return null;
+            }
+            referenced[slot] = true;
+            return values[slot];
+        }
+
+        private synchronized long[] putIfAbsent(long key1, long key2, int hash, long[] value, LongAdder evictions) {
+            int slot = find(key1, key2, hash);
+            if (slot != NONE) {
+                referenced[slot] = true;
+                return values[slot];
+            }
+            if (size < keys1.length) {
+                slot = size++;
+            } else {
+                slot = victim();
+                unlink(slot);
+                evictions.increment();
+            }
+            keys1[slot] = key1;
+            keys2[slot] = key2;
+            hashes[slot] = hash;
+            values[slot] = value;
+            referenced[slot] = false;
+            int bucket = hash & (buckets.length - 1);
+            next[slot] = buckets[bucket];
+            buckets[bucket] = slot;
+            return value;
+        }
+
+        private int find(long key1, long key2, int hash) {
+            for (int slot = buckets[hash & (buckets.length - 1)]; slot != NONE; slot = next[slot]) {
+                if (hashes[slot] == hash && keys1[slot] == key1 && keys2[slot] == key2) {
+                    return slot;
+                }
+            }
+            return NONE;
+        }
+
+        // 최근에 쓰인 슬롯은 한 번 건너뛰고(표시 해제) 쓰이지 않은 슬롯을 교체 대상으로 선택
+        private int victim() {
+            while (true) {
+                int slot = hand;
+                hand = (hand + 1) % keys1.length;
+                if (!referenced[slot]) {
+                    return slot;
+                }
+                referenced[slot] = false;
+            }
+        }
+
+        private void unlink(int slot) {
+            int bucket = hashes[slot] & (buckets.length - 1);
+            if (buckets[bucket] == slot) {
+                buckets[bucket] = next[slot];
+                return;
+            }
+            for (int prev = buckets[bucket]; prev != NONE; prev = next[prev]) {
+                if (next[prev] == slot) {
+                    next[prev] = next[slot];
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -1,11 +1,8 @@
 package com.ns21.common.util;
 
 
-import java.time.Instant;
-import java.time.ZoneId;
-import java.time.ZonedDateTime;
-import java.time.temporal.ChronoUnit;
 import java.util.Calendar;
+import java.util.TimeZone;
 
 /**
  * packageName    : com.ns21.common.util
@@ -17,6 +14,7 @@ import java.util.Calendar;
  * DATE              AUTHOR             NOTE
  * -----------------------------------------------------------
  * 2023-08-22        kimhansol       최초 생성
+ * 2026-10-18        kjg08           minuteOfTheYear 를 EpochTime 정수 연산으로 변경
  */
 public class DateUtil {
 
@@ -28,11 +26,13 @@ public class DateUtil {
     * @return : int
     **/
     public static int minuteOfTheYear() {
-        Instant now = Instant.now();
-        ZoneId zoneId = ZoneId.systemDefault(); //Asia/Seoul
-        ZonedDateTime zdt = now.atZone(zoneId);
-        ZonedDateTime start = ZonedDateTime.of(zdt.getYear(), 1,1,0,0,0,0,zoneId);
-        return (int) ChronoUnit.MINUTES.between(start, zdt);
+        long now = System.currentTimeMillis();
+        TimeZone zone = TimeZone.getDefault(); //Asia/Seoul
+        long localSeconds = Math.floorDiv(now + zone.getOffset(now), 1000);
+        // 현지 1월 1일 0시를 그 시점의 offset 으로 UTC 로 바꿔 실제 경과 분 계산
+        long startMillis = EpochTime.yearStartSeconds(localSeconds) * 1000;
+        startMillis -= zone.getOffset(startMillis - zone.getRawOffset());
+        return (int) ((now - startMillis) / 60_000);
     }
 
     public static int getYear() {
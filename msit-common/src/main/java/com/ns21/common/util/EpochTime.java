@@ -0,0 +1,226 @@
+package com.ns21.common.util;
+
+import lombok.Getter;
+
+/**
+ * packageName    : com.ns21.common.util
+ * fileName       : EpochTime.java
+ * author         : kjg08
+ * date           : 2026-10-18
+ * description    :epoch timestamp 문자열 → MinuteOfTheYear / DDateTime(UTC) / DSecond 변환 (java.time 객체 없이 정수 연산)
+ *                 문자열은 한 번만 epoch 마이크로초로 파싱하고, 최근 사용한 연도의 시작/끝 epoch 초를 캐시해 연도 계산을 생략
+ *                 초는 이전 구현((long) Double.parseDouble)과 같이 소수점 아래를 버림
+ *                 set 으로 값을 바꾸는 가변 객체이므로 스레드 간 공유하지 않음
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18        kjg08           최초 생성
+ * 2026-10-18        kjg08           음수 timestamp 의 dSecond 밀리초를 버린 초 기준으로 수정, floorSeconds 추가, -Infinity 범위 확인
+ */
+@Getter
+public final class EpochTime {
+    // 0 ~ 527040 (윤년 366일 * 1440분)
+    public static final int MINUTE_OF_THE_YEAR_MODULUS = 527041;
+
+    private static final long MICROS_PER_SECOND = 1_000_000L;
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+    private static final long NANOS_PER_MICRO = 1_000L;
+    private static final int SECONDS_PER_DAY = 86_400;
+    private static final int MICROS_DIGITS = 6;
+    // 정수부가 2^32 미만이고 소수 6자리 이하이면 double 로 파싱해도 정수부가 바뀌지 않음
+    private static final long FAST_PARSE_SECONDS_LIMIT = 1L << 32;
+    private static final long MAX_SECONDS = Long.MAX_VALUE / MICROS_PER_SECOND;
+
+    // 월 시작 day-of-year (0 부터), 마지막은 연도 일 수
+    private static final int[] MONTH_START = {0, 31, 59, 90, 120, 151, 181, 212, 243, 273, 304, 334, 365};
+    private static final int[] LEAP_MONTH_START = {0, 31, 60, 91, 121, 152, 182, 213, 244, 274, 305, 335, 366};
+
+    // 마지막으로 계산한 연도 구간 (불변 객체라 동기화 없이 교체)
+    private static volatile YearBounds lastYear = YearBounds.of(1970);
+
+    private long epochMicros;
+    private long epochSeconds;
+    private int year;
+    private int month;
+    private int day;
+    private int hour;
+    private int minute;
+    private int second;
+    // UTC 기준이므로 항상 0
+    private int offset;
+    private int minuteOfTheYear;
+    // 분 내 밀리초 (J2735 DSecond 단위)
+    private int dSecond;
+
+    /**
+     * timestamp 문자열(ex "1662014357.8876")을 파싱해 새 객체로 반환
+     */
+    public static EpochTime parse(CharSequence timestamp) {
+        return new EpochTime().set(parseEpochMicros(timestamp));
+    }
+
+    /**
+     * epoch 마이크로초 기준으로 모든 필드를 다시 계산
+     */
+    public EpochTime set(long epochMicros) {
+        long seconds = toEpochSeconds(epochMicros);
+        YearBounds bounds = boundsOf(seconds);
+        long secondOfYear = seconds - bounds.start;
+        int dayOfYear = (int) (secondOfYear / SECONDS_PER_DAY);
+        int secondOfDay = (int) (secondOfYear - (long) dayOfYear * SECONDS_PER_DAY);
+        int[] monthStart = bounds.monthStart;
+        int monthIndex = 1;
+        while (dayOfYear >= monthStart[monthIndex]) {
+            monthIndex++;
+        }
+
+        this.epochMicros = epochMicros;
+        this.epochSeconds = seconds;
+        this.year = bounds.year;
+        this.month = monthIndex;
+        this.day = dayOfYear - monthStart[monthIndex - 1] + 1;
+        this.hour = secondOfDay / 3600;
+        this.minute = secondOfDay / 60 % 60;
+        this.second = secondOfDay % 60;
+        this.offset = 0;
+        this.minuteOfTheYear = (int) (secondOfYear / 60 % MINUTE_OF_THE_YEAR_MODULUS);
+        // 음수 timestamp 도 초를 0 방향으로 버리므로 밀리초는 문자열의 소수부 그대로 사용 ("-1.25" → 59.250초)
+        this.dSecond = second * 1000 + (int) (Math.abs(epochMicros % MICROS_PER_SECOND) / 1000);
+        return this;
+    }
+
+    /**
+     * 10진 timestamp 문자열을 epoch 마이크로초로 변환
+     * 일반적인 형식([-]정수부[.소수 6자리 이하])은 직접 파싱하고, 그 외(지수 표기, 7자리 이상 소수 등)는 Double.parseDouble 결과를 사용
+     * @throws NumberFormatException 숫자가 아니거나 범위를 벗어난 경우
+     */
+    public static long parseEpochMicros(CharSequence timestamp) {
+        int length = timestamp.length();
+        int i = 0;
+        boolean negative = length > 0 && timestamp.charAt(0) == '-';
+        if (negative) {
+            i++;
+        }
+        int integerStart = i;
+        long seconds = 0;
+        for (; i < length && i - integerStart <= 10; i++) {
+            char c = timestamp.charAt(i);
+            if (c < '0' || c > '9') {
+                break;
+            }
+            seconds = seconds * 10 + (c - '0');
+        }
+        boolean fast = i > integerStart && seconds < FAST_PARSE_SECONDS_LIMIT;
+        long fraction = 0;
+        if (fast && i < length) {
+            fast = timestamp.charAt(i++) == '.' && length - i <= MICROS_DIGITS;
+            for (int digits = 0; fast && digits < MICROS_DIGITS; digits++, i++) {
+                char c = i < length ? timestamp.charAt(i) : '0';
+                fast = c >= '0' && c <= '9';
+                fraction = fraction * 10 + (c - '0');
+            }
+        }
+        if (fast) {
+            long micros = seconds * MICROS_PER_SECOND + fraction;
+            return negative ? -micros : micros;
+        }
+        return parseEpochMicrosSlow(timestamp);
+    }
+
+    /**
+     * epoch 마이크로초 → epoch 초 (소수점 아래 버림)
+     */
+    public static long toEpochSeconds(long epochMicros) {
+        return epochMicros / MICROS_PER_SECOND;
+    }
+
+    /**
+     * epoch 마이크로초 → epoch 초 (음의 무한대 방향 버림, 음수 timestamp 의 실제 시각이 속한 초)
+     */
+    public static long floorSeconds(long epochMicros) {
+        return Math.floorDiv(epochMicros, MICROS_PER_SECOND);
+    }
+
+    /**
+     * epoch 초가 속한 UTC 연도의 시작 epoch 초
+     */
+    public static long yearStartSeconds(long epochSeconds) {
+        return boundsOf(epochSeconds).start;
+    }
+
+    /**
+     * epoch 초의 UTC 연도 시작부터 지난 분 (MetaDataConvertUtil.minuteOfTheYear 와 같은 0 ~ 527040 범위)
+     */
+    public static int minuteOfTheYear(long epochSeconds) {
+        return (int) ((epochSeconds - yearStartSeconds(epochSeconds)) / 60 % MINUTE_OF_THE_YEAR_MODULUS);
+    }
+
+    private static long parseEpochMicrosSlow(CharSequence timestamp) {
+        double value = Double.parseDouble(timestamp.toString());
+        long seconds = (long) value;
+        // -Infinity 는 Long.MIN_VALUE 가 되어 Math.abs 로는 걸러지지 않으므로 양쪽을 비교
+        if (seconds > MAX_SECONDS || seconds < -MAX_SECONDS) {
+            throw new NumberFormatException("timestamp out of range: " + timestamp);
+        }
+        // 이전 구현과 같이 소수부를 나노초로 버린 뒤 마이크로초로 내림 (음수 timestamp 의 floorSeconds 가 같도록)
+        // 소수부 곱셈 반올림으로 초가 바뀌지 않도록 제한
+        long fraction = Math.floorDiv((long) ((value - seconds) * NANOS_PER_SECOND), NANOS_PER_MICRO);
+        fraction = Math.max(1 - MICROS_PER_SECOND, Math.min(MICROS_PER_SECOND - 1, fraction));
+        return seconds * MICROS_PER_SECOND + fraction;
+    }
+
+    private static YearBounds boundsOf(long epochSeconds) {
+        YearBounds bounds = lastYear;
+        if (epochSeconds >= bounds.start && epochSeconds < bounds.end) {
+            return bounds;
+        }
+        bounds = YearBounds.of(yearOfEpochDay(Math.floorDiv(epochSeconds, SECONDS_PER_DAY)));
+        lastYear = bounds;
+        return bounds;
+    }
+
+    // 1970-01-01 부터의 일 수 → 그레고리력 연도 (3월 시작 400년 주기 계산)
+    private static int yearOfEpochDay(long epochDay) {
+        long shifted = epochDay + 719_468;
+        long era = Math.floorDiv(shifted, 146_097);
+        long dayOfEra = shifted - era * 146_097;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long marchMonth = (5 * dayOfYear + 2) / 153;
+        // 3월 시작 연도의 1, 2월은 다음 해
+        return (int) (yearOfEra + era * 400 + (marchMonth >= 10 ? 1 : 0));
+    }
+
+    // 연도 1월 1일의 1970-01-01 부터의 일 수
+    private static long epochDayOfYearStart(int year) {
+        long marchYear = year - 1L;
+        long era = Math.floorDiv(marchYear, 400);
+        long yearOfEra = marchYear - era * 400;
+        // 3월 1일 기준 306 일째가 1월 1일
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + 306;
+        return era * 146_097 + dayOfEra - 719_468;
+    }
+
+    private static boolean isLeapYear(int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    private static final class YearBounds {
+        private final int year;
+        private final long start;
+        private final long end;
+        private final int[] monthStart;
+
+        private YearBounds(int year, long start, long end, int[] monthStart) {
+            this.year = year;
+            this.start = start;
+            this.end = end;
+            this.monthStart = monthStart;
+        }
+
+        private static YearBounds of(int year) {
+            return new YearBounds(year, epochDayOfYearStart(year) * SECONDS_PER_DAY,
+                    epochDayOfYearStart(year + 1) * SECONDS_PER_DAY, isLeapYear(year) ? LEAP_MONTH_START : MONTH_START);
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.ns21.common.util;
+
+import javax.crypto.Cipher;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * packageName    : com.ns21.common.util
+ * fileName       : I2xFrameWriter.java
+ * author         : kjg08
+ * date           : 2026-10-18
+ * description    :인코딩된 J2735 payload 를 I2X 전송 프레임으로 만들어 재사용하는 direct 버퍼에 연속으로 기록
+ *                 프레임 = AES128(header | seqNo(1) | payload | CRC16(2, big endian) | 0xFF padding)
+ *                 CRC16 은 header 부터 payload 까지, padding 은 AES128.encryptReverse 와 같이 16 바이트 배수까지 1~16 바이트
+ *                 즉 AES128.encryptReverse(bytesConcat(header, seqNo, payload, CRC16IBM.computeCRC16_short(...))) 와 같은 결과
+ *                 header 가 5 바이트이면 seqNo 는 AES128.removePaddingReverse 가 건너뛰는 index 5 에 위치
+ *                 한 프레임은 작업 배열에서 한 번에 조립/암호화하고 direct 버퍼로 한 번 복사 (프레임마다 새 배열/Cipher 를 만들지 않음)
+ *                 JCE 는 direct 버퍼 입출력이나 겹치는 배열 입출력을 내부에서 임시 배열로 복사하므로 heap 작업 배열 두 개 사이에서 암호화
+ *                 스레드 안전하지 않음 (송신 스레드/verticle 마다 하나씩 사용)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18        kjg08           최초 생성
+ */
+public class I2xFrameWriter {
+    public static final int BLOCK_SIZE = 16;
+    private static final int SEQ_NO_BYTES = 1;
+    private static final int CRC_BYTES = 2;
+    private static final byte PADDING = (byte) 0xFF;
+    private static final int INITIAL_FRAMES = 64;
+
+    private final byte[] header;
+    private final boolean reversedCrc;
+    private final Cipher cipher;
+    // 송신용 direct 버퍼, [0, position) 에 프레임이 연속으로 기록됨
+    private final ByteBuffer buffer;
+    // frames() 로 돌려주는 읽기용 view (매번 새로 만들지 않음)
+    private final ByteBuffer view;
+    // 프레임 조립(평문)/암호화 결과 작업 배열
+    private final byte[] work;
+    private final byte[] encrypted;
+
+    private int[] offsets = new int[INITIAL_FRAMES];
+    private int[] lengths = new int[INITIAL_FRAMES];
+    private int frameCount;
+    private int seqNo;
+
+    /**
+     * @param header      프레임 앞에 붙는 고정 header
+     * @param reversedCrc CRC16IBM.computeCRC16 의 reversed
+     * @param capacity    direct 버퍼 크기 (한 번에 쌓을 수 있는 프레임 바이트 합)
+     */
+    public I2xFrameWriter(byte[] header, boolean reversedCrc, int capacity) throws GeneralSecurityException {
+        if (capacity < frameLength(header.length, 0)) {
+            throw new IllegalArgumentException("capacity " + capacity + " is smaller than an empty frame");
+        }
+        this.header = header.clone();
+        this.reversedCrc = reversedCrc;
+        this.cipher = AES128.initCipher(Cipher.ENCRYPT_MODE);
+        this.buffer = ByteBuffer.allocateDirect(capacity);
+        this.view = buffer.duplicate();
+        this.work = new byte[capacity];
+        this.encrypted = new byte[capacity];
+    }
+
+    /**
+     * header/payload 길이에 대한 암호화된 프레임 길이
+     */
+    public static int frameLength(int headerLength, int payloadLength) {
+        int plain = headerLength + SEQ_NO_BYTES + payloadLength + CRC_BYTES;
+        return plain + (BLOCK_SIZE - (plain % BLOCK_SIZE));
+    }
+
+    public int write(byte[] payload) throws GeneralSecurityException {
+        return write(payload, 0, payload.length);
+    }
+
+    /**
+     * payload[offset, offset + length) 를 프레임 하나로 만들어 버퍼 끝에 추가합니다.
+     * 공간이 부족하면 버퍼와 seqNo 를 그대로 두고 BufferOverflowException 을 던집니다.
+     *
+     * @return 기록한 프레임 길이
+     */
+    public int write(byte[] payload, int offset, int length) throws GeneralSecurityException {
+        int plain = begin(length);
+        System.arraycopy(payload, offset, work, header.length + SEQ_NO_BYTES, length);
+        return finish(plain);
+    }
+
+    /**
+     * payload 의 position 부터 limit 까지를 프레임 하나로 만들어 버퍼 끝에 추가합니다. payload 의 position 은 바꾸지 않습니다.
+     *
+     * @return 기록한 프레임 길이
+     */
+    public int write(ByteBuffer payload) throws GeneralSecurityException {
+        int length = payload.remaining();
+        int plain = begin(length);
+        payload.get(payload.position(), work, header.length + SEQ_NO_BYTES, length);
+        return finish(plain);
+    }
+
+    /**
+     * 버퍼를 비우고 payloads 를 순서대로 프레임으로 기록합니다. 결과는 {@link #frames()} 로 읽습니다.
+     *
+     * @return 기록한 프레임 수
+     */
+    public int writeAll(List<byte[]> payloads) throws GeneralSecurityException {
+        reset();
+        for (byte[] payload : payloads) {
+            write(payload);
+        }
+        return frameCount;
+    }
+
+    /**
+     * 지금까지 기록한 프레임 [0, 끝) 을 읽는 view. 다음 write/reset 전까지만 유효합니다.
+     */
+    public ByteBuffer frames() {
+        view.limit(buffer.position()).position(0);
+        return view;
+    }
+
+    public int frameCount() {
+        return frameCount;
+    }
+
+    public int offsetOf(int index) {
+        checkIndex(index);
+        return offsets[index];
+    }
+
+    public int lengthOf(int index) {
+        checkIndex(index);
+        return lengths[index];
+    }
+
+    /**
+     * 기록한 프레임을 비웁니다. seqNo 는 이어서 증가합니다.
+     */
+    public void reset() {
+        buffer.clear();
+        frameCount = 0;
+    }
+
+    public int getSeqNo() {
+        return seqNo;
+    }
+
+    public void setSeqNo(int seqNo) {
+        this.seqNo = seqNo & 0xFF;
+    }
+
+    // 작업 배열에 header/seqNo 를 쓰고 payload 를 포함한 평문 길이를 반환
+    private int begin(int payloadLength) {
+        int frameLength = frameLength(header.length, payloadLength);
+        if (frameLength > buffer.remaining()) {
+            throw new BufferOverflowException();
+        }
+        System.arraycopy(header, 0, work, 0, header.length);
+        work[header.length] = (byte) seqNo;
+        return header.length + SEQ_NO_BYTES + payloadLength;
+    }
+
+    // CRC/padding 을 붙여 암호화하고 direct 버퍼에 복사
+    private int finish(int plain) throws GeneralSecurityException {
+        int crc = CRC16IBM.computeCRC16(work, 0, plain, reversedCrc);
+        work[plain] = (byte) (crc >>> 8);
+        work[plain + 1] = (byte) crc;
+        int padded = plain + CRC_BYTES;
+        int frameLength = padded + (BLOCK_SIZE - (padded % BLOCK_SIZE));
+        Arrays.fill(work, padded, frameLength, PADDING);
+
+        int written = cipher.doFinal(work, 0, frameLength, encrypted, 0);
+        int offset = buffer.position();
+        buffer.put(encrypted, 0, written);
+
+        if (frameCount == offsets.length) {
+            offsets = Arrays.copyOf(offsets, frameCount * 2);
+            lengths = Arrays.copyOf(lengths, frameCount * 2);
+        }
+        offsets[frameCount] = offset;
+        lengths[frameCount] = written;
+        frameCount++;
+        seqNo = (seqNo + 1) & 0xFF;
+        return written;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= frameCount) {
+            throw new IndexOutOfBoundsException("frame " + index + " of " + frameCount);
+        }
+    }
+}
@@ -1,16 +1,10 @@
 package com.ns21.common.util;
 
-import org.osgeo.proj4j.BasicCoordinateTransform;
-import org.osgeo.proj4j.CRSFactory;
-import org.osgeo.proj4j.CoordinateReferenceSystem;
-import org.osgeo.proj4j.ProjCoordinate;
-
 import java.time.*;
 import java.time.format.DateTimeFormatter;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * packageName    : com.ns21.common.util
@@ -22,10 +16,17 @@ import java.util.concurrent.ConcurrentHashMap;
  * DATE              AUTHOR             NOTE
  * -----------------------------------------------------------
  * 2023-11-27        kjg08           최초 생성
+ * 2026-10-18        kjg08           quaternionToHeading primitive 오버로드 추가
+ * 2026-10-18        kjg08           UTM 변환을 proj4j 에서 UtmProjection 으로 변경
+ * 2026-10-18        kjg08           CoordinateConverter 캐시를 크기 제한/primitive 키 CoordinateCache 로 변경
+ * 2026-10-18        kjg08           minuteOfTheYear, convertTimestampToUtcMap 을 EpochTime 정수 연산으로 변경
+ * 2026-10-18        kjg08           quaternionToHeadingValue 추가, heading 문자열 변환에서 String.format 제거
+ * 2026-10-18        kjg08           proj4j 비교 위치 주석 수정 (UtmProjectionTest)
+ * 2026-10-18        kjg08           convertTimestampToUtcMap 음수 timestamp 초를 이전 구현과 같이 내림
+ * 2026-10-18        kjg08           yaw 계산을 yawDegrees 로 분리 (ScalarPoseKernel 과 공유)
  */
 public class MetaDataConvertUtil {
-    private static final CRSFactory crsFactory = new CRSFactory();
-    private static final ConcurrentHashMap<String, CoordinateReferenceSystem> crsCache = new ConcurrentHashMap<>();
+    private static final char[] UPPER_HEX_DIGITS = "0123456789ABCDEF".toCharArray();
 
     //timestamp를 시간으로 만들때 에 사용
     public static int[] convertTimestamp(String timestampString) {
@@ -46,37 +47,62 @@ public class MetaDataConvertUtil {
 
 
     public static class CoordinateConverter {
-        private static final ConcurrentHashMap<String, long[]> cache = new ConcurrentHashMap<>();
+        public static final int DEFAULT_CACHE_SIZE = 65536;
         private static final int COORDINATE_PRECISION = 3; // 좌표를 반올림할 소수점 자리수
-
+        private static final double SCALE = Math.pow(10, COORDINATE_PRECISION);
+        // 키 packing 범위: key1 = x(mm) << 8 | zone, key2 = y(mm) << 24 | 고도(m, 24비트)
+        private static final long MAX_X_MM = 1L << 54;
+        private static final long MAX_Y_MM = 1L << 38;
+        private static final long MAX_ELEVATION = 1L << 23;
+
+        private static volatile CoordinateCache cache = new CoordinateCache(DEFAULT_CACHE_SIZE);
+
+        /**
+         * 반환하는 배열은 캐시와 공유하므로 수정하지 않아야 함
+         * 결과 고도는 (long) elevation 이므로 키에도 소수점 이하를 버린 고도를 사용
+         */
         public static long[] utmToLatLon(double utmX, double utmY, int utmZone, double elevation) {
-            double roundedUtmX = roundToPrecision(utmX);
-            double roundedUtmY = roundToPrecision(utmY);
-            String key = roundedUtmX + "-" + roundedUtmY + "-" + utmZone + "-" + elevation;
+            long xMm = Math.round(utmX * SCALE);
+            long yMm = Math.round(utmY * SCALE);
+            long elevationM = (long) elevation;
+            double roundedUtmX = xMm / SCALE;
+            double roundedUtmY = yMm / SCALE;
+            // packing 범위를 벗어나는 값은 캐시 없이 변환
+            if (Math.abs(xMm) >= MAX_X_MM || Math.abs(yMm) >= MAX_Y_MM || Math.abs(elevationM) >= MAX_ELEVATION
+                    || utmZone < 0 || utmZone > 0xFF) {
+                return transformCoordinates(roundedUtmX, roundedUtmY, utmZone, elevation);
+            }
+            long key1 = xMm << 8 | utmZone;
+            long key2 = yMm << 24 | (elevationM & 0xFFFFFF);
+
+            CoordinateCache current = cache;
+            long[] cached = current.get(key1, key2);
+            if (cached != null) {
+                return cached;
+            }
+            return current.putIfAbsent(key1, key2, transformCoordinates(roundedUtmX, roundedUtmY, utmZone, elevation));
+        }
 
-            return cache.computeIfAbsent(key, k -> transformCoordinates(roundedUtmX, roundedUtmY, utmZone, elevation));
+        /**
+         * 캐시 최대 항목 수를 바꿉니다. 기존 캐시 내용과 집계는 버립니다.
+         */
+        public static void setCacheSize(int maxEntries) {
+            cache = new CoordinateCache(maxEntries);
         }
 
-        private static double roundToPrecision(double value) {
-            double scale = Math.pow(10, CoordinateConverter.COORDINATE_PRECISION);
-            return Math.round(value * scale) / scale;
+        /**
+         * 현재 캐시 (크기/hit/miss/eviction 집계 확인용)
+         */
+        public static CoordinateCache getCache() {
+            return cache;
         }
 
+        // EPSG:326xx → EPSG:4326, 위경도는 1e-7 도 단위 (proj4j 와의 차이는 1mm 미만, UtmProjectionTest)
         private static long[] transformCoordinates(double utmX, double utmY, int utmZone, double elevation) {
-            String utmCrs = "EPSG:326" + utmZone;
-            CoordinateReferenceSystem utm = crsCache.computeIfAbsent(utmCrs, k -> crsFactory.createFromName(utmCrs));
-            CoordinateReferenceSystem latLon = crsCache.computeIfAbsent("EPSG:4326", k -> crsFactory.createFromName("EPSG:4326"));
-
-            BasicCoordinateTransform transform = new BasicCoordinateTransform(utm, latLon);
-            ProjCoordinate utmCoord = new ProjCoordinate(utmX, utmY);
-            ProjCoordinate latLonCoord = new ProjCoordinate();
-            transform.transform(utmCoord, latLonCoord);
-
-            long latitudeInMicroDegrees = (long) (latLonCoord.y * 10_000_000);
-            long longitudeInMicroDegrees = (long) (latLonCoord.x * 10_000_000);
-            long elevationInMeters = (long) elevation;
-
-            return new long[]{latitudeInMicroDegrees, longitudeInMicroDegrees, elevationInMeters};
+            long[] latLonElevation = new long[3];
+            UtmProjection.zone(utmZone).toLatLon(utmX, utmY, latLonElevation, 0);
+            latLonElevation[2] = (long) elevation;
+            return latLonElevation;
         }
     }
 
@@ -96,8 +122,12 @@ public class MetaDataConvertUtil {
        // pitch = (pitch + 360) % 360;
         yaw = (yaw + 360) % 360;
 
-        // 문자열 형식으로 포매팅
-        return String.format("%04.0f", yaw);
+        // 문자열 형식으로 포매팅 ("%04.0f" 와 같은 결과, 0 ~ 360 정수라 String.format 없이 반올림 후 0 채움)
+        if (!Double.isFinite(yaw)) {
+            return String.format("%04.0f", yaw);
+        }
+        int rounded = (int) Math.round(yaw);
+        return rounded < 10 ? "000" + rounded : rounded < 100 ? "00" + rounded : rounded < 1000 ? "0" + rounded : Integer.toString(rounded);
     }
 
 
@@ -126,11 +156,21 @@ public class MetaDataConvertUtil {
     //rotation(seneor.json) 헤딩값으로 변환할때 사용 (ffff)
     public static String quaternionToHeading(List<Double> quaternion) {
         // Assuming quaternion is [w, x, y, z]
-        double w = quaternion.get(0);
-        double x = quaternion.get(1);
-        double y = quaternion.get(2);
-        double z = quaternion.get(3);
+        return quaternionToHeading(quaternion.get(0), quaternion.get(1), quaternion.get(2), quaternion.get(3));
+    }
 
+    // PoseTable 열 값을 박싱 없이 그대로 받는 버전
+    public static String quaternionToHeading(double w, double x, double y, double z) {
+        return headingToHex(quaternionToHeadingValue(w, x, y, z));
+    }
+
+    // HeadingSlice 에 들어가는 값 (0 ~ 360 으로 반올림한 yaw 도), 문자열 변환 없이 사용할 때
+    public static int quaternionToHeadingValue(double w, double x, double y, double z) {
+        return (int) Math.round(yawDegrees(w, x, y, z));
+    }
+
+    // [w, x, y, z] quaternion 의 yaw (0 ~ 360 도, 반올림 전), ScalarPoseKernel 도 같은 계산을 사용
+    public static double yawDegrees(double w, double x, double y, double z) {
         // Convert to Euler angles
         double t0 = 2.0 * (w * z + x * y);
         double t1 = 1.0 - 2.0 * (y * y + z * z);
@@ -142,9 +182,17 @@ public class MetaDataConvertUtil {
         // Normalize yaw to 0 - 360 degrees
         if (yawDegrees < 0) yawDegrees += 360.0;
 
-        // Convert to hexadecimal string
-        int headingInt = (int) Math.round(yawDegrees);
-        return String.format("%04x", headingInt).toUpperCase();
+        return yawDegrees;
+    }
+
+    // quaternionToHeadingValue 값을 JSON 의 4자리 대문자 16진수 문자열로 변환 (ex 360 -> "0168")
+    public static String headingToHex(int heading) {
+        char[] hex = new char[4];
+        for (int i = hex.length - 1; i >= 0; i--) {
+            hex[i] = UPPER_HEX_DIGITS[heading & 0x0f];
+            heading >>>= 4;
+        }
+        return new String(hex);
     }
 
     //ego_pose.json 의 timestamp  을 "utcTime":{
@@ -158,33 +206,26 @@ public class MetaDataConvertUtil {
     //    }
     // 형식으로 변경
     public static Map<String, Object> convertTimestampToUtcMap(String timestampString) {
-        long seconds = (long) Double.parseDouble(timestampString);
-        int nanoSeconds = (int) ((Double.parseDouble(timestampString) - seconds) * 1_000_000_000);
-        ZonedDateTime dateTime = Instant.ofEpochSecond(seconds, nanoSeconds).atZone(ZoneOffset.UTC);
+        // 이전 구현(Instant.ofEpochSecond(초, 나노초))과 같이 음수 timestamp 는 실제 시각이 속한 초 ("-1.5" → 23:59:58)
+        long epochMicros = EpochTime.parseEpochMicros(timestampString);
+        EpochTime dateTime = new EpochTime().set(EpochTime.floorSeconds(epochMicros) * 1_000_000L);
 
         Map<String, Object> utcTime = new LinkedHashMap<>();
         utcTime.put("year", dateTime.getYear());
-        utcTime.put("month", dateTime.getMonthValue());
-        utcTime.put("day", dateTime.getDayOfMonth());
+        utcTime.put("month", dateTime.getMonth());
+        utcTime.put("day", dateTime.getDay());
         utcTime.put("hour", dateTime.getHour());
         utcTime.put("minute", dateTime.getMinute());
         utcTime.put("second", dateTime.getSecond());
-        utcTime.put("offset", dateTime.getOffset().getTotalSeconds());
+        utcTime.put("offset", dateTime.getOffset());
 
         return utcTime;
     }
 
     //timestamp 값 분 단위까지만 가져와서 527040의 범위에 맞게 수정. 527040 이 넘어가면 롤오버 됨
     public static int minuteOfTheYear(String timestampString) {
-        double timestampDouble = Double.parseDouble(timestampString);
-        Instant instant = Instant.ofEpochSecond((long) timestampDouble);
-        ZonedDateTime zdt = instant.atZone(ZoneId.of("UTC"));
-        int yearStart = zdt.getYear();
-        ZonedDateTime startOfYear = ZonedDateTime.of(yearStart, 1, 1, 0, 0, 0, 0, ZoneId.of("UTC"));
-        long minutesSinceYearStart = Duration.between(startOfYear, zdt).toMinutes();
-
-        // Ensure it fits within 0 to 527040
-        return (int) (minutesSinceYearStart % 527041); // Using 527041 to include 0 in the range
+        // 0 ~ 527040 범위 (EpochTime.MINUTE_OF_THE_YEAR_MODULUS)
+        return EpochTime.minuteOfTheYear(EpochTime.toEpochSeconds(EpochTime.parseEpochMicros(timestampString)));
     }
 
 }
@@ -0,0 +1,32 @@
+package com.ns21.common.util;
+
+/**
+ * packageName    : com.ns21.common.util
+ * fileName       : PoseKernel.java
+ * author         : kjg08
+ * date           : 2026-10-18
+ * description    :pose 열(column) 일괄 연산 (UTM → 위경도, quaternion → yaw)
+ *                 구현은 스칼라(ScalarPoseKernel) 와 jdk.incubator.vector(VectorPoseKernel) 가 있고 PoseKernels 가 시작 시 선택
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18        kjg08           최초 생성
+ */
+public interface PoseKernel {
+
+    /**
+     * 구현 이름 (로그/벤치마크 출력용)
+     */
+    String name();
+
+    /**
+     * x[0, n), y[0, n) 를 1e-7 도 단위 위경도로 변환 (UtmProjection.toLatLon 과 같은 계산)
+     */
+    void utmToLatLon(UtmProjection projection, double[] x, double[] y, int n, long[] outLat, long[] outLon);
+
+    /**
+     * [w, x, y, z] quaternion 열의 yaw 를 0 ~ 360 도로 변환 (MetaDataConvertUtil.quaternionToHeading 과 같은 계산, 반올림 전)
+     * rotation 이 없는 행(NaN)은 NaN
+     */
+    void yawDegrees(double[] qw, double[] qx, double[] qy, double[] qz, int n, double[] outDegrees);
+}
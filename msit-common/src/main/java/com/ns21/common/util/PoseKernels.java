@@ -0,0 +1,85 @@
+package com.ns21.common.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * packageName    : com.ns21.common.util
+ * fileName       : PoseKernels.java
+ * author         : kjg08
+ * date           : 2026-10-18
+ * description    :pose 열 일괄 연산 진입점, 클래스 로딩 시 한 번 구현을 선택
+ *                 jdk.incubator.vector 모듈이 있으면(--add-modules jdk.incubator.vector) VectorPoseKernel, 없으면 ScalarPoseKernel
+ *                 -Dmsit.vector=false 로 스칼라 구현을 강제할 수 있음
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18        kjg08           최초 생성
+ * 2026-10-18        kjg08           선택 로그를 DEBUG 로 변경 (RsaMessageCreator 가 시작 시 INFO 로 기록)
+ */
+public final class PoseKernels {
+    private static final Logger logger = LoggerFactory.getLogger(PoseKernels.class);
+
+    public static final String VECTOR_PROPERTY = "msit.vector";
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    private static final String VECTOR_KERNEL = "com.ns21.common.util.VectorPoseKernel";
+
+    private static final PoseKernel SCALAR = new ScalarPoseKernel();
+    private static final PoseKernel VECTOR = loadVector();
+    private static final PoseKernel SELECTED = select();
+
+    private PoseKernels() {
+    }
+
+    /**
+     * 선택된 구현
+     */
+    public static PoseKernel get() {
+        return SELECTED;
+    }
+
+    public static PoseKernel scalar() {
+        return SCALAR;
+    }
+
+    /**
+     * Vector API 구현, 모듈이 없으면 null
+     */
+    public static PoseKernel vector() {
+        return VECTOR;
+    }
+
+    /**
+     * x[0, n), y[0, n) 를 zone 의 1e-7 도 단위 위경도로 변환
+     */
+    public static void utmToLatLon(int zone, double[] x, double[] y, int n, long[] outLat, long[] outLon) {
+        SELECTED.utmToLatLon(UtmProjection.zone(zone), x, y, n, outLat, outLon);
+    }
+
+    /**
+     * [w, x, y, z] quaternion 열의 yaw 를 0 ~ 360 도로 변환
+     */
+    public static void yawDegrees(double[] qw, double[] qx, double[] qy, double[] qz, int n, double[] outDegrees) {
+        SELECTED.yawDegrees(qw, qx, qy, qz, n, outDegrees);
+    }
+
+    private static PoseKernel loadVector() {
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+            return null;
+        }
+        try {
+            return (PoseKernel) Class.forName(VECTOR_KERNEL).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            logger.warn("Vector API kernel unavailable, using scalar kernel: {}", e.toString());
+            return null;
+        }
+    }
+
+    private static PoseKernel select() {
+        boolean enabled = Boolean.parseBoolean(System.getProperty(VECTOR_PROPERTY, "true"));
+        PoseKernel kernel = enabled && VECTOR != null ? VECTOR : SCALAR;
+        // 실행 설정은 호출하는 쪽(RsaMessageCreator)에서 INFO 로 남김
+        logger.debug("Pose kernel: {}", kernel.name());
+        return kernel;
+    }
+}
@@ -0,0 +1,34 @@
+package com.ns21.common.util;
+
+/**
+ * packageName    : com.ns21.common.util
+ * fileName       : ScalarPoseKernel.java
+ * author         : kjg08
+ * date           : 2026-10-18
+ * description    :PoseKernel 스칼라 구현 (Vector API 를 쓸 수 없을 때 사용)
+ *                 행마다 UtmProjection / MetaDataConvertUtil.yawDegrees 를 그대로 호출하므로 단건 변환과 같은 값
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18        kjg08           최초 생성
+ * 2026-10-18        kjg08           yaw 계산을 MetaDataConvertUtil.yawDegrees 에 위임
+ */
+final class ScalarPoseKernel implements PoseKernel {
+
+    @Override
+    public String name() {
+        return "scalar";
+    }
+
+    @Override
+    public void utmToLatLon(UtmProjection projection, double[] x, double[] y, int n, long[] outLat, long[] outLon) {
+        projection.toLatLon(x, y, n, outLat, outLon);
+    }
+
+    @Override
+    public void yawDegrees(double[] qw, double[] qx, double[] qy, double[] qz, int n, double[] outDegrees) {
+        for (int i = 0; i < n; i++) {
+            outDegrees[i] = MetaDataConvertUtil.yawDegrees(qw[i], qx[i], qy[i], qz[i]);
+        }
+    }
+}
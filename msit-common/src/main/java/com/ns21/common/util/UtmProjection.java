@@ -0,0 +1,207 @@
+package com.ns21.common.util;
+
+import java.util.Objects;
+
+/**
+ * packageName    : com.ns21.common.util
+ * fileName       : UtmProjection.java
+ * author         : kjg08
+ * date           : 2026-10-18
+ * description    :WGS84 UTM 북반구(EPSG:326xx) 좌표를 위경도로 바꾸는 역투영 (Krüger 급수, 6차)
+ *                 zone 별 상수/급수 계수를 미리 계산해 두고 primitive 입력과 호출자가 준 배열 출력만 사용 (호출마다 객체를 만들지 않음)
+ *                 long 출력은 CoordinateConverter 와 같이 1e-7 도 단위로 소수점 이하를 버림
+ *                 proj4j(EPSG:326xx → EPSG:4326) 와 비교는 UtmProjectionTest 에서 확인 (한국 51/52 zone)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18        kjg08           최초 생성
+ * 2026-10-18        kjg08           VectorPoseKernel 과 계수 공유
+ * 2026-10-18        kjg08           proj4j 비교를 UtmProjectionTest 로 이동
+ */
+public final class UtmProjection {
+    // WGS84 타원체, UTM 상수 (package-private 상수/계수는 VectorPoseKernel 과 공유)
+    private static final double A = 6378137.0;
+    private static final double F = 1 / 298.257223563;
+    private static final double K0 = 0.9996;
+    static final double FALSE_EASTING = 500000.0;
+    static final double FALSE_NORTHING = 0.0;
+    static final double DEGREES_TO_E7 = 10_000_000;
+
+    // 3차 편평률 n 과 정규화 자오선 호 길이 (k0 포함)
+    private static final double N = F / (2 - F);
+    static final double K0_RECTIFYING_RADIUS;
+    // ξ,η → ξ',η' (β) 와 등각위도 χ → 위도 φ (δ) 급수 계수, [0] 은 sin(2χ) 항
+    static final double[] BETA = new double[6];
+    static final double[] DELTA = new double[6];
+
+    private static final UtmProjection[] ZONES = new UtmProjection[61];
+
+    static {
+        double n = N;
+        double n2 = n * n;
+        double n3 = n2 * n;
+        double n4 = n3 * n;
+        double n5 = n4 * n;
+        double n6 = n5 * n;
+        K0_RECTIFYING_RADIUS = K0 * A / (1 + n) * (1 + n2 / 4 + n4 / 64 + n6 / 256);
+
+        BETA[0] = n / 2 - 2 * n2 / 3 + 37 * n3 / 96 - n4 / 360 - 81 * n5 / 512 + 96199 * n6 / 604800;
+        BETA[1] = n2 / 48 + n3 / 15 - 437 * n4 / 1440 + 46 * n5 / 105 - 1118711 * n6 / 3870720;
+        BETA[2] = 17 * n3 / 480 - 37 * n4 / 840 - 209 * n5 / 4480 + 5569 * n6 / 90720;
+        BETA[3] = 4397 * n4 / 161280 - 11 * n5 / 504 - 830251 * n6 / 7257600;
+        BETA[4] = 4583 * n5 / 161280 - 108847 * n6 / 3991680;
+        BETA[5] = 20648693 * n6 / 638668800;
+
+        DELTA[0] = 2 * n - 2 * n2 / 3 - 2 * n3 + 116 * n4 / 45 + 26 * n5 / 45 - 2854 * n6 / 675;
+        DELTA[1] = 7 * n2 / 3 - 8 * n3 / 5 - 227 * n4 / 45 + 2704 * n5 / 315 + 2323 * n6 / 945;
+        DELTA[2] = 56 * n3 / 15 - 136 * n4 / 35 - 1262 * n5 / 105 + 73814 * n6 / 2835;
+        DELTA[3] = 4279 * n4 / 630 - 332 * n5 / 35 - 399572 * n6 / 14175;
+        DELTA[4] = 4174 * n5 / 315 - 144838 * n6 / 6237;
+        DELTA[5] = 601676 * n6 / 22275;
+
+        for (int zone = 1; zone < ZONES.length; zone++) {
+            ZONES[zone] = new UtmProjection(zone);
+        }
+    }
+
+    private final int zone;
+    private final double centralMeridian;
+
+    private UtmProjection(int zone) {
+        this.zone = zone;
+        this.centralMeridian = Math.toRadians(zone * 6.0 - 183.0);
+    }
+
+    /**
+     * UTM zone(1~60) 의 역투영 (미리 만들어 둔 인스턴스, 스레드 안전)
+     */
+    public static UtmProjection zone(int zone) {
+        if (zone < 1 || zone >= ZONES.length) {
+            throw new IllegalArgumentException("UTM zone must be 1..60: " + zone);
+        }
+        return ZONES[zone];
+    }
+
+    /**
+     * EPSG:326xx (WGS84 UTM 북반구) 코드의 역투영
+     */
+    public static UtmProjection epsg(int code) {
+        if (code < 32601 || code > 32660) {
+            throw new IllegalArgumentException("Not a WGS84 UTM north EPSG code: " + code);
+        }
+        return ZONES[code - 32600];
+    }
+
+    public int getZone() {
+        return zone;
+    }
+
+    // 중앙 경선 (라디안)
+    double centralMeridian() {
+        return centralMeridian;
+    }
+
+    /**
+     * 위경도(도)를 out[offset] = 위도, out[offset + 1] = 경도 로 기록
+     */
+    public void toLatLon(double x, double y, double[] out, int offset) {
+        Objects.checkFromIndexSize(offset, 2, out.length);
+        inverse(x, y, out, out, null, null, offset, offset + 1);
+    }
+
+    /**
+     * 1e-7 도 단위 위경도(소수점 이하 버림)를 out[offset] = 위도, out[offset + 1] = 경도 로 기록
+     */
+    public void toLatLon(double x, double y, long[] out, int offset) {
+        Objects.checkFromIndexSize(offset, 2, out.length);
+        inverse(x, y, null, null, out, out, offset, offset + 1);
+    }
+
+    /**
+     * x[0, n), y[0, n) 열 전체를 위경도(도) 열로 변환
+     */
+    public void toLatLon(double[] x, double[] y, int n, double[] outLat, double[] outLon) {
+        checkColumns(x, y, n, outLat.length, outLon.length);
+        for (int i = 0; i < n; i++) {
+            inverse(x[i], y[i], outLat, outLon, null, null, i, i);
+        }
+    }
+
+    /**
+     * x[0, n), y[0, n) 열 전체를 1e-7 도 단위 위경도 열로 변환 (pose 열 테이블을 한 번에 변환)
+     */
+    public void toLatLon(double[] x, double[] y, int n, long[] outLat, long[] outLon) {
+        checkColumns(x, y, n, outLat.length, outLon.length);
+        for (int i = 0; i < n; i++) {
+            inverse(x[i], y[i], null, null, outLat, outLon, i, i);
+        }
+    }
+
+    private static void checkColumns(double[] x, double[] y, int n, int latLength, int lonLength) {
+        int length = Math.min(Math.min(x.length, y.length), Math.min(latLength, lonLength));
+        if (n < 0 || n > length) {
+            throw new IndexOutOfBoundsException("n " + n + " exceeds column length " + length);
+        }
+    }
+
+    // 도 단위는 latDeg/lonDeg, 1e-7 도 단위는 latE7/lonE7 중 null 이 아닌 쪽에 기록
+    void inverse(double x, double y, double[] latDeg, double[] lonDeg, long[] latE7, long[] lonE7,
+                         int latIndex, int lonIndex) {
+        double xi = (y - FALSE_NORTHING) / K0_RECTIFYING_RADIUS;
+        double eta = (x - FALSE_EASTING) / K0_RECTIFYING_RADIUS;
+
+        // ξ' = ξ - Σ β_j sin(2jξ) cosh(2jη), η' = η - Σ β_j cos(2jξ) sinh(2jη)
+        // sin/cos(2jξ), sinh/cosh(2jη) 는 2ξ, 2η 값에서 덧셈 정리로 차례로 구함
+        double sin2 = Math.sin(2 * xi);
+        double cos2 = Math.cos(2 * xi);
+        double exp2 = Math.exp(2 * eta);
+        double sinh2 = (exp2 - 1 / exp2) / 2;
+        double cosh2 = (exp2 + 1 / exp2) / 2;
+        double sin = sin2;
+        double cos = cos2;
+        double sinh = sinh2;
+        double cosh = cosh2;
+        double xiPrime = xi;
+        double etaPrime = eta;
+        for (int j = 0; j < BETA.length; j++) {
+            xiPrime -= BETA[j] * sin * cosh;
+            etaPrime -= BETA[j] * cos * sinh;
+            double nextSin = sin * cos2 + cos * sin2;
+            cos = cos * cos2 - sin * sin2;
+            sin = nextSin;
+            double nextSinh = sinh * cosh2 + cosh * sinh2;
+            cosh = cosh * cosh2 + sinh * sinh2;
+            sinh = nextSinh;
+        }
+
+        // 등각위도 χ 에서 위도 φ = χ + Σ δ_j sin(2jχ)
+        double expEta = Math.exp(etaPrime);
+        double sinhEta = (expEta - 1 / expEta) / 2;
+        double coshEta = (expEta + 1 / expEta) / 2;
+        // sin(2χ), cos(2χ) 는 sin χ 에서 바로 계산 (|χ| <= 90도 이므로 cos χ >= 0)
+        double sinChi = Math.sin(xiPrime) / coshEta;
+        double chi = Math.asin(sinChi);
+        double sinChi2 = 2 * sinChi * Math.sqrt(1 - sinChi * sinChi);
+        double cosChi2 = 1 - 2 * sinChi * sinChi;
+        sin = sinChi2;
+        cos = cosChi2;
+        double latitude = chi;
+        for (int j = 0; j < DELTA.length; j++) {
+            latitude += DELTA[j] * sin;
+            double nextSin = sin * cosChi2 + cos * sinChi2;
+            cos = cos * cosChi2 - sin * sinChi2;
+            sin = nextSin;
+        }
+        double longitude = centralMeridian + Math.atan2(sinhEta, Math.cos(xiPrime));
+
+        double latitudeDegrees = Math.toDegrees(latitude);
+        double longitudeDegrees = Math.toDegrees(longitude);
+        if (latDeg != null) {
+            latDeg[latIndex] = latitudeDegrees;
+            lonDeg[lonIndex] = longitudeDegrees;
+        } else {
+            latE7[latIndex] = (long) (latitudeDegrees * DEGREES_TO_E7);
+            lonE7[lonIndex] = (long) (longitudeDegrees * DEGREES_TO_E7);
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.ns21.common.mist.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerBase;
+import com.fasterxml.jackson.databind.deser.DefaultDeserializationContext;
+import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * packageName    : com.ns21.common.mist.dto
+ * fileName       : UuidTableTest.java
+ * author         : kjg08
+ * date           : 2026-10-18
+ * description    :uuid 대리키 바인딩 (없는 키/null 은 NONE) 과 freeze 전후 역변환 확인
+ *                 로더 로컬 테이블 병합이 적재 순서와 관계없이 같은 대리키를 만드는지, UuidIdModule 이 int setter 로 바인딩하는지 확인
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18        kjg08           최초 생성
+ */
+public class UuidTableTest {
+    private static final String FIRST = "0f8b3c4e-6a1d-4c2b-9e7f-1a2b3c4d5e6f";
+    private static final String SECOND = "7d2e9a10-3b4c-4d5e-8f60-718293a4b5c6";
+    private static final String THIRD = "c1d2e3f4-a5b6-4c7d-8e9f-a0b1c2d3e4f5";
+    private static final String FRAME_DATA = "{\"uuid\":\"" + FIRST + "\",\"frame_uuid\":\"" + SECOND + "\","
+            + "\"ego_pose_uuid\":\"scene-0001\",\"sensor_uuid\":\"\",\"prev\":null,"
+            + "\"next_key_frame_data\":\"" + THIRD + "\"}";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final UuidTable uuids = UuidTable.getInstance();
+
+    @Before
+    public void setUp() {
+        uuids.clear();
+    }
+
+    @After
+    public void tearDown() {
+        UuidTable.unbindLoader();
+    }
+
+    @Test
+    public void absentAndNullKeysAreNone() throws IOException {
+        // 먼저 할당된 id 0 이 있어도 없는 키가 0 으로 연결되지 않아야 함
+        assertEquals(0, uuids.intern(FIRST));
+        FrameDto frame = objectMapper.readValue("{\"uuid\":\"" + SECOND + "\",\"prev\":null}", FrameDto.class);
+
+        assertEquals(1, frame.getUuid());
+        assertEquals(UuidTable.NONE, frame.getPrev());
+        assertEquals(UuidTable.NONE, frame.getNext());
+        assertEquals(UuidTable.NONE, frame.getDatasetUuid());
+        assertEquals(UuidTable.NONE, new FrameDataDto().getUuid());
+    }
+
+    @Test
+    public void uuidOfBeforeAndAfterFreeze() {
+        int first = uuids.intern(FIRST);
+        int irregular = uuids.intern("scene-0001");
+        assertEquals(FIRST, uuids.uuidOf(first));
+
+        uuids.freeze();
+        int second = uuids.intern(SECOND);
+        assertEquals(FIRST, uuids.uuidOf(first));
+        assertEquals("scene-0001", uuids.uuidOf(irregular));
+        // freeze 이후 할당된 id 도 조회 가능
+        assertEquals(SECOND, uuids.uuidOf(second));
+        assertEquals("", uuids.uuidOf(UuidTable.NONE));
+        assertThrows(IllegalArgumentException.class, () -> uuids.uuidOf(second + 1));
+    }
+
+    @Test
+    public void clearDropsFrozenTable() {
+        uuids.intern(FIRST);
+        uuids.freeze();
+        uuids.clear();
+
+        assertEquals(0, uuids.intern(SECOND));
+        assertEquals(SECOND, uuids.uuidOf(0));
+    }
+
+    @Test
+    public void mergeIsIndependentOfLoadOrder() {
+        // 두 로더가 서로 다른 순서로 uuid 를 읽어도 merge 순서가 같으면 같은 대리키
+        int[][] expected = null;
+        for (boolean secondLoaderFirst : new boolean[]{false, true}) {
+            uuids.clear();
+            UuidInterner frames = new UuidInterner();
+            UuidInterner annotations = new UuidInterner();
+            if (secondLoaderFirst) {
+                annotations.intern(THIRD);
+                annotations.intern("scene-0001");
+                annotations.intern(FIRST);
+            }
+            frames.intern(FIRST);
+            frames.intern(SECOND);
+            if (!secondLoaderFirst) {
+                annotations.intern(THIRD);
+                annotations.intern("scene-0001");
+                annotations.intern(FIRST);
+            }
+            int[][] merged = {uuids.merge(frames), uuids.merge(annotations)};
+            if (expected == null) {
+                expected = merged;
+            } else {
+                assertArrayEquals(expected[0], merged[0]);
+                assertArrayEquals(expected[1], merged[1]);
+            }
+            // 두 로더에 모두 있는 uuid 는 같은 대리키
+            assertEquals(uuids.idOf(FIRST), UuidTable.remap(merged[0], frames.idOf(FIRST)));
+            assertEquals(uuids.idOf(FIRST), UuidTable.remap(merged[1], annotations.idOf(FIRST)));
+            assertEquals("scene-0001", uuids.uuidOf(UuidTable.remap(merged[1], annotations.idOf("scene-0001"))));
+            assertEquals(UuidTable.NONE, UuidTable.remap(merged[1], UuidTable.NONE));
+            assertEquals(4, uuids.size());
+        }
+    }
+
+    @Test
+    public void boundLoaderReceivesIds() throws IOException {
+        UuidInterner local = new UuidInterner();
+        UuidTable.bindLoader(local);
+        FrameDataDto frameData = new ObjectMapper().readValue(FRAME_DATA, FrameDataDto.class);
+        UuidTable.unbindLoader();
+
+        // 전역 테이블에는 할당되지 않고 로컬 id 로 바인딩
+        assertEquals(0, uuids.size());
+        assertEquals(4, local.size());
+        assertEquals(FIRST, local.uuidOf(frameData.getUuid()));
+        assertEquals(THIRD, local.uuidOf(frameData.getNextKeyFrameData()));
+
+        uuids.intern(THIRD);
+        frameData.remapUuids(uuids.merge(local));
+        assertEquals(FIRST, uuids.uuidOf(frameData.getUuid()));
+        assertEquals(SECOND, uuids.uuidOf(frameData.getFrameUuid()));
+        assertEquals("scene-0001", uuids.uuidOf(frameData.getEgoPoseUuid()));
+        assertEquals(0, frameData.getNextKeyFrameData());
+        assertEquals(UuidTable.NONE, frameData.getSensorUuid());
+        assertEquals(UuidTable.NONE, frameData.getPrev());
+        assertEquals(UuidTable.NONE, frameData.getNext());
+    }
+
+    @Test
+    public void moduleBindsWithIntSetter() throws Exception {
+        ObjectMapper plain = new ObjectMapper();
+        ObjectMapper module = new ObjectMapper().registerModule(new UuidIdModule());
+        FrameDataDto expected = plain.readValue(FRAME_DATA, FrameDataDto.class);
+        FrameDataDto actual = module.readValue(FRAME_DATA, FrameDataDto.class);
+        assertEquals(expected.toString(), actual.toString());
+
+        // uuid/외래키 속성이 박싱 없는 setter 속성으로 교체되었는지 확인
+        DefaultDeserializationContext ctxt = ((DefaultDeserializationContext) module.getDeserializationContext())
+                .createInstance(module.getDeserializationConfig(), null, null);
+        BeanDeserializerBase deserializer = (BeanDeserializerBase) ctxt.findRootValueDeserializer(
+                module.constructType(FrameDataDto.class));
+        for (String name : new String[]{"uuid", "frame_uuid", "ego_pose_uuid", "sensor_uuid", "prev", "next",
+                "prev_key_frame_data", "next_key_frame_data"}) {
+            SettableBeanProperty property = deserializer.findProperty(name);
+            assertTrue(name, property instanceof SettableBeanProperty.Delegating);
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package com.ns21.common.mist.parser;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * packageName    : com.ns21.common.mist.parser
+ * fileName       : MetaDataExtractingTest.java
+ * author         : kjg08
+ * date           : 2026-10-18
+ * description    :스트리밍 적재가 잘린 파일, 객체가 아닌 요소를 오류로 처리하는지 확인
+ *                 processFiles 가 9 개 파일을 주입한 executor 에서 동시에 적재하고, 파일 하나가 실패하면 반환 future 가 실패하는지 확인
+ *                 로더 스레드 수와 관계없이 파일 순서대로 같은 uuid 대리키가 할당되는지 확인
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18        kjg08           최초 생성
+ */
+public class MetaDataExtractingTest {
+    private static final String POSE = "{\"uuid\":\"p%d\",\"timestamp\":\"1662014357.85\",\"translation\":[1,2,3]}";
+    private static final int METADATA_FILES = 9;
+
+    // 파일별 최소 메타데이터 (log 1, dataset 1, frame 1, frameData 1, egoPose 2, sensor 1, instance 1, annotation 2)
+    private static final Map<String, String> METADATA = Map.of(
+            "log.json", "[{\"uuid\":\"97d8e801-881d-4d02-a98a-39505c290527\",\"location\":\"korea-pankyo\"}]",
+            "dataset.json", "[{\"uuid\":\"1f0c4682-8bed-490d-bcd4-c8a7018ceb7a\","
+                    + "\"log_uuid\":\"97d8e801-881d-4d02-a98a-39505c290527\"}]",
+            "frame.json", "[{\"uuid\":\"64d0eb0b-6f28-48f2-a197-0ed81e277edf\","
+                    + "\"dataset_uuid\":\"1f0c4682-8bed-490d-bcd4-c8a7018ceb7a\",\"prev\":\"\",\"next\":\"\"}]",
+            "frame_data.json", "[{\"uuid\":\"1bfbe81e-e6d2-40ed-8122-2b34cd153257\","
+                    + "\"frame_uuid\":\"64d0eb0b-6f28-48f2-a197-0ed81e277edf\","
+                    + "\"ego_pose_uuid\":\"f65a47d7-2504-4aa4-b1d4-60aad18c3c68\","
+                    + "\"sensor_uuid\":\"47e21b42-122c-44fc-a97b-bfe786ae820b\",\"prev\":\"\",\"next\":\"\"}]",
+            "ego_pose.json", "[{\"uuid\":\"f65a47d7-2504-4aa4-b1d4-60aad18c3c68\",\"timestamp\":\"1662014357.8876\","
+                    + "\"translation\":[326865.27,4147694.51,49.12],\"rotation\":[1,0,0,0]},"
+                    + "{\"uuid\":\"e9b6f3a8-4822-45ce-a1b4-f4ba451445ed\",\"timestamp\":\"\"}]",
+            "sensor.json", "[{\"uuid\":\"47e21b42-122c-44fc-a97b-bfe786ae820b\",\"name\":\"lidar(00)\","
+                    + "\"translation\":[0,1.6,0.4],\"rotation\":[1,0,0,0]}]",
+            "instance.json", "[{\"uuid\":\"04e1e5d2-1a72-42c0-ac3b-7653ed5475a9\","
+                    + "\"category_name\":\"dynamic_object.vehicle.truck\"}]",
+            "frame_annotation.json", "[{\"uuid\":\"a2f91995-2207-4c5b-bfaa-255fd66bbd9a\","
+                    + "\"frame_data_uuid\":\"1bfbe81e-e6d2-40ed-8122-2b34cd153257\","
+                    + "\"instance_uuid\":\"04e1e5d2-1a72-42c0-ac3b-7653ed5475a9\",\"prev\":\"\","
+                    + "\"next\":\"26bcf835-7028-4e70-b6d9-c53e95eb4b09\"},"
+                    + "{\"uuid\":\"26bcf835-7028-4e70-b6d9-c53e95eb4b09\","
+                    + "\"frame_data_uuid\":\"1bfbe81e-e6d2-40ed-8122-2b34cd153257\","
+                    + "\"instance_uuid\":\"04e1e5d2-1a72-42c0-ac3b-7653ed5475a9\","
+                    + "\"prev\":\"a2f91995-2207-4c5b-bfaa-255fd66bbd9a\",\"next\":\"\"}]",
+            "preset.json", "{\"name\":\"km_dynamic_movable_object\",\"version\":\"0.7.3\"}");
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void streamsCompleteArray() throws IOException {
+        String path = write("[" + String.format(POSE, 1) + "," + String.format(POSE, 2) + "]");
+        new MetaDataExtracting(true, 1).processEgoPoses(path);
+        assertEquals(2, DataStorage.getInstance().getEgoPoses().size());
+    }
+
+    @Test
+    public void rejectsTruncatedArray() throws IOException {
+        String path = write("[" + String.format(POSE, 1) + "," + String.format(POSE, 2));
+        assertThrows(IOException.class, () -> new MetaDataExtracting(true, 1).processEgoPoses(path));
+    }
+
+    @Test
+    public void rejectsNullElement() throws IOException {
+        String path = write("[" + String.format(POSE, 1) + ",null," + String.format(POSE, 2) + "]");
+        assertThrows(IOException.class, () -> new MetaDataExtracting(true, 1).processEgoPoses(path));
+    }
+
+    @Test
+    public void rejectsNonObjectElement() throws IOException {
+        String path = write("[" + String.format(POSE, 1) + ",42]");
+        assertThrows(IOException.class, () -> new MetaDataExtracting(true, 1).processEgoPoses(path));
+    }
+
+    @Test
+    public void loadsFilesInParallelOnSuppliedExecutor() throws Exception {
+        File dir = metadataDir(null, null);
+        ExecutorService pool = Executors.newFixedThreadPool(METADATA_FILES);
+        GatedExecutor gated = new GatedExecutor(pool, METADATA_FILES);
+        try {
+            new MetaDataExtracting(true, gated).snapshotEnabled(false).processFiles(dir.getPath())
+                    .get(30, TimeUnit.SECONDS);
+
+            // 파일마다 주입한 executor 에 작업 하나, 9 개가 모두 동시에 실행 중인 시점이 있어야 함
+            assertEquals(METADATA_FILES, gated.executed.get());
+            assertTrue("metadata files were not loaded concurrently", gated.concurrent.get());
+            // 외부에서 주입한 executor 는 종료하지 않음
+            assertFalse(pool.isShutdown());
+
+            DataStorage storage = DataStorage.getInstance();
+            assertEquals(1, storage.getLogs().size());
+            assertEquals(1, storage.getDatasets().size());
+            assertEquals(1, storage.getFrames().size());
+            assertEquals(1, storage.getFrameData().size());
+            assertEquals(2, storage.getEgoPoses().size());
+            assertEquals(1, storage.getSensors().size());
+            assertEquals(1, storage.getInstances().size());
+            assertEquals(2, storage.getFrameAnnotations().size());
+            assertEquals("0.7.3", storage.getPreset().getVersion());
+            assertEquals(2, UuidMatching.join().size());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    public void corruptFileFailsReturnedFuture() throws Exception {
+        for (boolean streaming : new boolean[]{true, false}) {
+            // 스트리밍 대상 파일과 한 번에 읽는 파일 각각
+            for (String corrupt : new String[]{"ego_pose.json", "frame.json"}) {
+                File dir = metadataDir(corrupt, "[{\"uuid\":\"64d0eb0b-6f28-48f2-a197-0ed81e277edf\",");
+                ExecutorService pool = Executors.newFixedThreadPool(3);
+                try {
+                    ExecutionException e = assertThrows(ExecutionException.class,
+                            () -> new MetaDataExtracting(streaming, pool).snapshotEnabled(false)
+                                    .processFiles(dir.getPath()).get(30, TimeUnit.SECONDS));
+                    assertTrue(e.getCause() instanceof UncheckedIOException);
+                    assertEquals("Failed to load metadata file: " + corrupt, e.getCause().getMessage());
+                    assertFalse(pool.isShutdown());
+                } finally {
+                    pool.shutdownNow();
+                }
+            }
+        }
+    }
+
+    @Test
+    public void assignsSameIdsRegardlessOfLoaderThreads() throws Exception {
+        File dir = metadataDir(null, null);
+        String expected = null;
+        for (int threads : new int[]{1, METADATA_FILES, 2}) {
+            new MetaDataExtracting(true, threads).snapshotEnabled(false).processFiles(dir.getPath())
+                    .get(30, TimeUnit.SECONDS);
+            DataStorage storage = DataStorage.getInstance();
+            // dataset.json 이 첫 파일이므로 dataset uuid 가 0, log_uuid 가 1
+            assertEquals(0, storage.getDatasets().get(0).getUuid());
+            assertEquals(1, storage.getDatasets().get(0).getLogUuid());
+            assertEquals(storage.getLogs().get(0).getUuid(), storage.getDatasets().get(0).getLogUuid());
+            assertEquals(storage.getFrames().get(0).getUuid(), storage.getFrameData().get(0).getFrameUuid());
+            assertEquals(storage.getFrameAnnotations().get(1).getUuid(), storage.getFrameAnnotations().get(0).getNext());
+
+            String ids = storage.getDatasets() + "\n" + storage.getEgoPoses() + "\n" + storage.getFrameAnnotations()
+                    + "\n" + storage.getFrameData() + "\n" + storage.getFrames() + "\n" + storage.getInstances()
+                    + "\n" + storage.getLogs() + "\n" + storage.getSensors();
+            if (expected == null) {
+                expected = ids;
+            } else {
+                assertEquals(expected, ids);
+            }
+        }
+    }
+
+    // METADATA 를 새 디렉터리에 기록, corrupt 파일은 content 로 대체
+    private File metadataDir(String corrupt, String content) throws IOException {
+        File dir = folder.newFolder();
+        for (Map.Entry<String, String> file : METADATA.entrySet()) {
+            String json = file.getKey().equals(corrupt) ? content : file.getValue();
+            Files.write(new File(dir, file.getKey()).toPath(), json.getBytes(StandardCharsets.UTF_8));
+        }
+        return dir;
+    }
+
+    // 작업마다 parties 개가 모두 시작될 때까지 기다린 뒤 실행 (동시에 실행되지 않으면 concurrent 가 false)
+    private static final class GatedExecutor extends AbstractExecutorService {
+        private final ExecutorService delegate;
+        private final CountDownLatch started;
+        private final AtomicInteger executed = new AtomicInteger();
+        private final AtomicBoolean concurrent = new AtomicBoolean(true);
+
+        private GatedExecutor(ExecutorService delegate, int parties) {
+            this.delegate = delegate;
+            this.started = new CountDownLatch(parties);
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            executed.incrementAndGet();
+            delegate.execute(() -> {
+                started.countDown();
+                try {
+                    if (!started.await(10, TimeUnit.SECONDS)) {
+                        concurrent.set(false);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    concurrent.set(false);
+                }
+                command.run();
+            });
+        }
+
+        @Override
+        public void shutdown() {
+            delegate.shutdown();
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return delegate.shutdownNow();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return delegate.isShutdown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return delegate.isTerminated();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            return delegate.awaitTermination(timeout, unit);
+        }
+    }
+
+    private String write(String json) throws IOException {
+        File file = folder.newFile();
+        Files.write(file.toPath(), json.getBytes(StandardCharsets.UTF_8));
+        return file.getPath();
+    }
+}
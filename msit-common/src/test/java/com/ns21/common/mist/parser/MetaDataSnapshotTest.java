@@ -0,0 +1,124 @@
+package com.ns21.common.mist.parser;
+
+import com.ns21.common.mist.dto.FrameAnnotationDto;
+import com.ns21.common.mist.dto.UuidTable;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * packageName    : com.ns21.common.mist.parser
+ * fileName       : MetaDataSnapshotTest.java
+ * author         : kjg08
+ * date           : 2026-10-18
+ * description    :스냅샷 기록/복원 확인 (chunk 경계에 걸친 값, double 목록의 NaN 과 null, 원본 파일 내용 변경 감지)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18        kjg08           최초 생성
+ */
+public class MetaDataSnapshotTest {
+    // 모든 long 값이 chunk 경계에 걸칠 수 있도록 작은 chunk 사용
+    private static final int SMALL_CHUNK = 13;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final DataStorage storage = DataStorage.getInstance();
+    private Path source;
+    private Path snapshotFile;
+
+    @Before
+    public void setUp() throws IOException {
+        source = folder.newFile("frame_annotation.json").toPath();
+        Files.write(source, "[{\"uuid\":\"a\"}]".getBytes(StandardCharsets.UTF_8));
+        snapshotFile = folder.getRoot().toPath().resolve("metadata.snapshot");
+
+        UuidTable.getInstance().clear();
+        FrameAnnotationDto.Geometry geometry = new FrameAnnotationDto.Geometry();
+        geometry.setCenter(Arrays.asList(1.5, Double.NaN, null, -0.0));
+        geometry.setWlh(null);
+        geometry.setOrientation(new ArrayList<>());
+        FrameAnnotationDto annotation = new FrameAnnotationDto();
+        annotation.setUuid(UuidTable.getInstance().intern("0f8b3c4e-6a1d-4c2b-9e7f-1a2b3c4d5e6f"));
+        annotation.setFrameDataUuid(UuidTable.NONE);
+        annotation.setInstanceUuid(UuidTable.NONE);
+        annotation.setPrev(UuidTable.NONE);
+        annotation.setNext(UuidTable.NONE);
+        annotation.setGeometry(geometry);
+        annotation.setDescription("설명");
+
+        storage.storeDatasets(new ArrayList<>());
+        storage.storeEgoPoses(new ArrayList<>());
+        storage.storeFrames(new ArrayList<>());
+        storage.storeFrameDatas(new ArrayList<>());
+        storage.storeFrameAnnotations(new ArrayList<>(List.of(annotation)));
+        storage.storeInstances(new ArrayList<>());
+        storage.storeLogs(new ArrayList<>());
+        storage.storeSensors(new ArrayList<>());
+        storage.storePresets(null);
+    }
+
+    @Test
+    public void restoresAcrossChunkBoundaries() throws IOException {
+        new MetaDataSnapshot(snapshotFile, List.of(source)).write(storage);
+        storage.storeFrameAnnotations(new ArrayList<>());
+        UuidTable.getInstance().clear();
+
+        assertTrue(new MetaDataSnapshot(snapshotFile, List.of(source), SMALL_CHUNK).load(storage));
+        FrameAnnotationDto restored = storage.getFrameAnnotations().get(0);
+        assertEquals("0f8b3c4e-6a1d-4c2b-9e7f-1a2b3c4d5e6f", UuidTable.getInstance().uuidOf(restored.getUuid()));
+        assertEquals("설명", restored.getDescription());
+        assertEquals(UuidTable.NONE, restored.getPrev());
+        assertNull(restored.getGeometry().getWlh());
+        assertTrue(restored.getGeometry().getOrientation().isEmpty());
+    }
+
+    @Test
+    public void keepsNaNDistinctFromNull() throws IOException {
+        new MetaDataSnapshot(snapshotFile, List.of(source)).write(storage);
+
+        assertTrue(new MetaDataSnapshot(snapshotFile, List.of(source), SMALL_CHUNK).load(storage));
+        List<Double> center = storage.getFrameAnnotations().get(0).getGeometry().getCenter();
+        assertEquals(4, center.size());
+        assertEquals(1.5, center.get(0), 0.0);
+        assertTrue(Double.isNaN(center.get(1)));
+        assertNull(center.get(2));
+        assertEquals(Double.doubleToRawLongBits(-0.0), Double.doubleToRawLongBits(center.get(3)));
+    }
+
+    @Test
+    public void rejectsChangedSourceWithSameSizeAndMtime() throws IOException {
+        new MetaDataSnapshot(snapshotFile, List.of(source)).write(storage);
+        FileTime mtime = Files.getLastModifiedTime(source);
+        Files.write(source, "[{\"uuid\":\"b\"}]".getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(source, mtime);
+
+        assertFalse(new MetaDataSnapshot(snapshotFile, List.of(source)).load(storage));
+    }
+
+    @Test
+    public void rejectsCorruptedPayload() throws IOException {
+        new MetaDataSnapshot(snapshotFile, List.of(source)).write(storage);
+        byte[] bytes = Files.readAllBytes(snapshotFile);
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(snapshotFile, bytes);
+
+        assertFalse(new MetaDataSnapshot(snapshotFile, List.of(source), SMALL_CHUNK).load(storage));
+    }
+}
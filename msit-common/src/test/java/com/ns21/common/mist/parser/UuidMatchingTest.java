@@ -0,0 +1,339 @@
+package com.ns21.common.mist.parser;
+
+import com.ns21.common.mist.dto.*;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * packageName    : com.ns21.common.mist.parser
+ * fileName       : UuidMatchingTest.java
+ * author         : kjg08
+ * date           : 2026-10-18
+ * description    :해시 조인 결과가 이전 UuidPut(선형 탐색) 조인과 같은 행/순서인지, JoinStats 관계별 probe/unmatched 수 확인
+ *                 egoPose/sensor/frame/dataset/log/instance 가 없는 경우와 중복 uuid(먼저 나온 record 유지) 포함
+ *                 iterator 가 frameData 를 필요한 만큼만 읽는지 확인
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18        kjg08           최초 생성
+ * 2026-10-18        kjg08           iterator hasNext 반복 호출/끝 이후 next/지연 조회 테스트 추가
+ */
+public class UuidMatchingTest {
+    private final UuidTable uuids = UuidTable.getInstance();
+
+    private final List<LogDto> logs = new ArrayList<>();
+    private final List<DatasetDto> datasets = new ArrayList<>();
+    private final List<FrameDto> frames = new ArrayList<>();
+    private final List<EgoPoseDto> egoPoses = new ArrayList<>();
+    private final List<SensorDto> sensors = new ArrayList<>();
+    private final List<InstanceDto> instances = new ArrayList<>();
+    private final List<FrameDataDto> frameData = new ArrayList<>();
+    private final List<FrameAnnotationDto> annotations = new ArrayList<>();
+
+    @Before
+    public void setUp() {
+        uuids.clear();
+        log("log-1");
+        dataset("dataset-1", "log-1");
+        // log 가 없는 dataset
+        dataset("dataset-2", "log-missing");
+        frame("frame-1", "dataset-1");
+        frame("frame-2", "dataset-2");
+        // dataset 이 없는 frame
+        frame("frame-3", "dataset-missing");
+        egoPose("pose-1");
+        egoPose("pose-2");
+        sensor("sensor-1");
+        instance("instance-1");
+        instance("instance-2");
+        // 중복 uuid, 먼저 나온 instance-1 이 조인되어야 함
+        instance("instance-1");
+
+        // 정상: annotation 3 건 중 instance 가 없는 1 건 제외
+        frameData("fd-ok", "frame-1", "pose-1", "sensor-1");
+        // egoPose / sensor / frame 이 없음
+        frameData("fd-no-pose", "frame-1", "pose-missing", "sensor-1");
+        frameData("fd-no-sensor", "frame-1", "pose-2", "sensor-missing");
+        frameData("fd-no-frame", "frame-missing", "pose-1", "sensor-1");
+        // dataset 의 log 가 없음 / frame 의 dataset 이 없음
+        frameData("fd-no-log", "frame-2", "pose-1", "sensor-1");
+        frameData("fd-no-dataset", "frame-3", "pose-1", "sensor-1");
+        // 정상이지만 annotation 이 없음
+        frameData("fd-no-annotation", "frame-1", "pose-2", "sensor-1");
+        // 정상, 다른 egoPose
+        frameData("fd-ok-2", "frame-1", "pose-2", "sensor-1");
+
+        annotation("fa-1", "fd-ok", "instance-1");
+        annotation("fa-2", "fd-ok-2", "instance-2");
+        annotation("fa-3", "fd-ok", "instance-missing");
+        annotation("fa-4", "fd-no-pose", "instance-1");
+        annotation("fa-5", "fd-no-log", "instance-1");
+        annotation("fa-6", "fd-ok", "instance-2");
+        annotation("fa-7", "fd-no-dataset", "instance-2");
+        // frameData 가 없는 annotation
+        annotation("fa-8", "fd-missing", "instance-1");
+
+        DataStorage storage = DataStorage.getInstance();
+        storage.storeLogs(logs);
+        storage.storeDatasets(datasets);
+        storage.storeFrames(frames);
+        storage.storeEgoPoses(egoPoses);
+        storage.storeSensors(sensors);
+        storage.storeInstances(instances);
+        storage.storeFrameDatas(frameData);
+        storage.storeFrameAnnotations(annotations);
+        storage.buildIndexes();
+    }
+
+    @Test
+    public void matchesLegacyJoin() {
+        List<JoinedAnnotationRecord> joined = UuidMatching.join();
+        List<Object[]> expected = legacyUuidPut();
+        assertEquals(expected.size(), joined.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Object[] row = expected.get(i);
+            JoinedAnnotationRecord record = joined.get(i);
+            assertSame(row[0], record.getDataset());
+            assertSame(row[1], record.getEgoPose());
+            assertSame(row[2], record.getSensor());
+            assertSame(row[3], record.getFrame());
+            assertSame(row[4], record.getFrameData());
+            assertSame(row[5], record.getFrameAnnotation());
+            assertSame(row[6], record.getInstance());
+            assertSame(row[7], record.getLog());
+        }
+
+        // fd-ok 의 fa-1, fa-6 (fa-3 은 instance 없음), fd-ok-2 의 fa-2
+        assertEquals(List.of("fa-1", "fa-6", "fa-2"), annotationUuids(joined));
+        assertSame(instances.get(0), joined.get(0).getInstance());
+        assertEquals("fd-ok", joined.get(0).frameDataUuid());
+    }
+
+    @Test
+    public void statsCountProbesPerRelation() {
+        List<JoinedAnnotationRecord> joined = UuidMatching.join();
+        JoinStats stats = UuidMatching.getLastJoinStats();
+        assertEquals(joined.size(), stats.getJoinedRows());
+
+        // frameData 8 건마다 frame / egoPose / sensor 를 한 번씩 조회
+        assertProbes(stats, "frame", 8, 1);
+        assertProbes(stats, "egoPose", 8, 1);
+        assertProbes(stats, "sensor", 8, 1);
+        // 셋 다 있는 frameData 5 건 (fd-ok, fd-no-log, fd-no-dataset, fd-no-annotation, fd-ok-2) 의 dataset
+        assertProbes(stats, "dataset", 5, 1);
+        // dataset 이 있는 4 건의 log
+        assertProbes(stats, "log", 4, 1);
+        // log 까지 있는 3 건의 annotation 목록, fd-no-annotation 은 없음
+        assertProbes(stats, "frameAnnotation.frameData", 3, 1);
+        // 그 annotation 4 건 (fa-1, fa-3, fa-6, fa-2) 의 instance, fa-3 은 없음
+        assertProbes(stats, "instance", 4, 1);
+
+        // build 통계는 인덱스 생성 시 목록 행 수
+        assertEquals(8, relation(stats, "frameAnnotation").getBuildRows());
+        assertEquals(8, relation(stats, "frameData").getBuildRows());
+        assertEquals(3, relation(stats, "instance").getBuildRows());
+        assertEquals(3, relation(stats, "frame.dataset").getBuildRows());
+    }
+
+    @Test
+    public void iteratorHasNextIsIdempotent() {
+        Iterator<JoinedAnnotationRecord> it = UuidMatching.iterator();
+        List<String> seen = new ArrayList<>();
+        while (it.hasNext()) {
+            // 여러 번 호출해도 행을 건너뛰지 않아야 함
+            assertTrue(it.hasNext());
+            assertTrue(it.hasNext());
+            seen.add(uuids.uuidOf(it.next().getFrameAnnotation().getUuid()));
+        }
+        assertFalse(it.hasNext());
+        assertEquals(List.of("fa-1", "fa-6", "fa-2"), seen);
+    }
+
+    @Test
+    public void iteratorNextPastEndThrows() {
+        Iterator<JoinedAnnotationRecord> it = UuidMatching.iterator();
+        for (int i = 0; i < 3; i++) {
+            it.next();
+        }
+        try {
+            it.next();
+            fail("expected NoSuchElementException");
+        } catch (NoSuchElementException expected) {
+            // 끝 이후에는 계속 예외
+        }
+        assertFalse(it.hasNext());
+    }
+
+    @Test
+    public void iteratorReadsFrameDataOnDemand() {
+        CountingList<FrameDataDto> counting = new CountingList<>(frameData);
+        DataStorage storage = DataStorage.getInstance();
+        storage.storeFrameDatas(counting);
+        storage.buildIndexes();
+        counting.gets = 0;
+
+        Iterator<JoinedAnnotationRecord> it = UuidMatching.iterator();
+        assertEquals(0, counting.gets);
+        // fd-ok 의 fa-1, fa-6 은 첫 frameData 만 읽고 만듦
+        assertEquals("fa-1", uuids.uuidOf(it.next().getFrameAnnotation().getUuid()));
+        assertEquals(1, counting.gets);
+        assertEquals("fa-6", uuids.uuidOf(it.next().getFrameAnnotation().getUuid()));
+        assertEquals(1, counting.gets);
+        // fd-ok-2 (마지막) 까지 읽어야 다음 행이 나옴
+        assertEquals("fa-2", uuids.uuidOf(it.next().getFrameAnnotation().getUuid()));
+        assertEquals(frameData.size(), counting.gets);
+    }
+
+    private static void assertProbes(JoinStats stats, String name, long probes, long unmatched) {
+        JoinStats.Relation relation = relation(stats, name);
+        assertEquals(name + " probes", probes, relation.getProbes());
+        assertEquals(name + " unmatched", unmatched, relation.getUnmatched());
+    }
+
+    private static JoinStats.Relation relation(JoinStats stats, String name) {
+        return stats.getRelations().stream().filter(r -> r.getName().equals(name)).findFirst()
+                .orElseThrow(() -> new AssertionError("no relation " + name));
+    }
+
+    private List<String> annotationUuids(List<JoinedAnnotationRecord> joined) {
+        List<String> result = new ArrayList<>();
+        for (JoinedAnnotationRecord record : joined) {
+            result.add(uuids.uuidOf(record.getFrameAnnotation().getUuid()));
+        }
+        return result;
+    }
+
+    // get 호출 수를 세는 목록
+    private static final class CountingList<T> extends AbstractList<T> {
+        private final List<T> delegate;
+        private int gets;
+
+        private CountingList(List<T> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public T get(int index) {
+            gets++;
+            return delegate.get(index);
+        }
+
+        @Override
+        public int size() {
+            return delegate.size();
+        }
+    }
+
+    // ---- 이전 구현 (비교용) ----
+
+    // 이전 UuidMatching.UuidPut 의 조인 순서와 조건 (JSON 문자열 대신 DTO 묶음)
+    private List<Object[]> legacyUuidPut() {
+        Map<Integer, DatasetDto> datasetMap = createMapFromList(datasets);
+        Map<Integer, EgoPoseDto> egoPoseMap = createMapFromList(egoPoses);
+        Map<Integer, FrameDto> frameMap = createMapFromList(frames);
+        Map<Integer, InstanceDto> instanceMap = createMapFromList(instances);
+        Map<Integer, LogDto> logMap = createMapFromList(logs);
+        Map<Integer, SensorDto> sensorMap = createMapFromList(sensors);
+
+        List<Object[]> rows = new ArrayList<>();
+        for (FrameDataDto fd : frameData) {
+            FrameDto frame = frameMap.get(fd.getFrameUuid());
+            EgoPoseDto egoPose = egoPoseMap.get(fd.getEgoPoseUuid());
+            SensorDto sensor = sensorMap.get(fd.getSensorUuid());
+            if (frame != null && egoPose != null && sensor != null) {
+                DatasetDto dataset = datasetMap.get(frame.getDatasetUuid());
+                LogDto log = dataset != null ? logMap.get(dataset.getLogUuid()) : null;
+                for (FrameAnnotationDto fa : annotations) {
+                    if (fa.getFrameDataUuid() != fd.getUuid()) {
+                        continue;
+                    }
+                    InstanceDto instance = instanceMap.get(fa.getInstanceUuid());
+                    if (log != null && instance != null) {
+                        rows.add(new Object[]{dataset, egoPose, sensor, frame, fd, fa, instance, log});
+                    }
+                }
+            }
+        }
+        return rows;
+    }
+
+    // 중복 uuid 는 먼저 나온 record 유지
+    private static <T extends BaseDto> Map<Integer, T> createMapFromList(List<T> list) {
+        Map<Integer, T> map = new HashMap<>();
+        for (T item : list) {
+            map.putIfAbsent(item.getUuid(), item);
+        }
+        return map;
+    }
+
+    // ---- 테스트 데이터 ----
+
+    private void log(String uuid) {
+        LogDto log = new LogDto();
+        log.setUuid(uuids.intern(uuid));
+        logs.add(log);
+    }
+
+    private void dataset(String uuid, String logUuid) {
+        DatasetDto dataset = new DatasetDto();
+        dataset.setUuid(uuids.intern(uuid));
+        dataset.setLogUuid(uuids.intern(logUuid));
+        datasets.add(dataset);
+    }
+
+    private void frame(String uuid, String datasetUuid) {
+        FrameDto frame = new FrameDto();
+        frame.setUuid(uuids.intern(uuid));
+        frame.setDatasetUuid(uuids.intern(datasetUuid));
+        frames.add(frame);
+    }
+
+    private void egoPose(String uuid) {
+        EgoPoseDto egoPose = new EgoPoseDto();
+        egoPose.setUuid(uuids.intern(uuid));
+        egoPoses.add(egoPose);
+    }
+
+    private void sensor(String uuid) {
+        SensorDto sensor = new SensorDto();
+        sensor.setUuid(uuids.intern(uuid));
+        sensors.add(sensor);
+    }
+
+    private void instance(String uuid) {
+        InstanceDto instance = new InstanceDto();
+        instance.setUuid(uuids.intern(uuid));
+        instances.add(instance);
+    }
+
+    private void frameData(String uuid, String frameUuid, String egoPoseUuid, String sensorUuid) {
+        FrameDataDto data = new FrameDataDto();
+        data.setUuid(uuids.intern(uuid));
+        data.setFrameUuid(uuids.intern(frameUuid));
+        data.setEgoPoseUuid(uuids.intern(egoPoseUuid));
+        data.setSensorUuid(uuids.intern(sensorUuid));
+        frameData.add(data);
+    }
+
+    private void annotation(String uuid, String frameDataUuid, String instanceUuid) {
+        FrameAnnotationDto annotation = new FrameAnnotationDto();
+        annotation.setUuid(uuids.intern(uuid));
+        annotation.setFrameDataUuid(uuids.intern(frameDataUuid));
+        annotation.setInstanceUuid(uuids.intern(instanceUuid));
+        annotations.add(annotation);
+    }
+}
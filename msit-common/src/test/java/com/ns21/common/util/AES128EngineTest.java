@@ -0,0 +1,165 @@
+package com.ns21.common.util;
+
+import org.junit.Test;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+/**
+ * packageName    : com.ns21.common.util
+ * fileName       : AES128EngineTest.java
+ * author         : kjg08
+ * date           : 2026-10-18
+ * description    :AES128Engine / AES128 의 암호문과 padding 제거 결과가 호출마다 Cipher 를 만드는 이전 구현과 같은지 확인
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18        kjg08           최초 생성
+ */
+public class AES128EngineTest {
+    // AES128 의 KEYNAME 과 같은 값 (이전 구현 재현용)
+    private static final byte[] KEY = {(byte) 0x2b, (byte) 0x7e, (byte) 0x15, (byte) 0x16, (byte) 0x28, (byte) 0xae, (byte) 0xd2, (byte) 0xa6,
+            (byte) 0xab, (byte) 0xf7, (byte) 0x15, (byte) 0x88, (byte) 0x09, (byte) 0xcf, (byte) 0x4f, (byte) 0x3c};
+
+    private final Random random = new Random(42);
+    private final AES128Engine engine = AES128Engine.forCurrentThread();
+
+    @Test
+    public void encryptMatchesLegacy() throws Exception {
+        // 길이 0~64 로 padding 1~16 바이트 경우를 모두 포함
+        for (int length = 0; length <= 64; length++) {
+            byte[] message = message(length);
+            for (boolean reverse : new boolean[]{false, true}) {
+                byte[] expected = legacyEncrypt(message, reverse);
+                assertEquals(AES128Engine.paddedLength(length), expected.length);
+                assertArrayEquals(expected, engine.encrypt(message, reverse));
+                assertArrayEquals(expected, reverse ? AES128.encryptReverse(message) : AES128.encrypt(message));
+                String hex = ConvertUtil.bytesToHexString(message);
+                assertEquals(ConvertUtil.bytesToHexString(expected), reverse ? AES128.encryptReverse(hex) : AES128.encrypt(hex));
+            }
+        }
+    }
+
+    @Test
+    public void decryptMatchesLegacy() throws Exception {
+        for (int length = 6; length <= 64; length++) {
+            byte[] message = message(length);
+            // i2x seqNo 위치(index 5)의 0xFF 는 padding 으로 보지 않음
+            message[5] = (byte) 0xFF;
+            byte[] reverse = legacyEncrypt(message, true);
+            assertArrayEquals(legacyDecrypt(reverse, true, length), AES128.decryptReverse(reverse, length));
+            assertArrayEquals(message, AES128.decryptReverse(reverse, length));
+
+            byte[] normal = legacyEncrypt(message, false);
+            assertArrayEquals(legacyDecrypt(normal, false, length), AES128.decrypt(normal));
+            assertEquals(ConvertUtil.bytesToHexString(legacyDecrypt(normal, false, length)),
+                    AES128.decrypt(ConvertUtil.bytesToHexString(normal)));
+        }
+    }
+
+    @Test
+    public void buffersEncryptInPlace() throws Exception {
+        for (boolean reverse : new boolean[]{false, true}) {
+            List<byte[]> messages = new ArrayList<>();
+            List<ByteBuffer> buffers = new ArrayList<>();
+            for (int length = 0; length <= 40; length++) {
+                byte[] message = message(length);
+                messages.add(message);
+                // position 이 0 이 아닌 buffer 도 포함
+                int start = length % 3;
+                ByteBuffer buffer = length % 2 == 0
+                        ? ByteBuffer.allocateDirect(start + AES128Engine.paddedLength(length))
+                        : ByteBuffer.allocate(start + AES128Engine.paddedLength(length));
+                buffer.position(start);
+                buffer.put(message).flip().position(start);
+                buffers.add(buffer);
+            }
+            engine.encryptAll(buffers, reverse);
+            for (int i = 0; i < messages.size(); i++) {
+                ByteBuffer buffer = buffers.get(i);
+                byte[] actual = new byte[buffer.remaining()];
+                buffer.get(buffer.position(), actual);
+                assertArrayEquals(legacyEncrypt(messages.get(i), reverse), actual);
+            }
+            engine.decryptAll(buffers);
+            for (int i = 0; i < messages.size(); i++) {
+                ByteBuffer buffer = buffers.get(i);
+                byte[] plain = new byte[messages.get(i).length];
+                buffer.get(buffer.position(), plain);
+                assertArrayEquals(messages.get(i), plain);
+            }
+        }
+    }
+
+    @Test
+    public void overflowLeavesBufferUnchanged() {
+        ByteBuffer buffer = ByteBuffer.allocate(20);
+        buffer.put(message(16)).flip();
+        byte[] before = buffer.array().clone();
+        assertThrows(BufferOverflowException.class, () -> engine.encrypt(buffer, true));
+        assertEquals(0, buffer.position());
+        assertEquals(16, buffer.limit());
+        assertArrayEquals(before, buffer.array());
+    }
+
+    private byte[] message(int length) {
+        byte[] message = new byte[length];
+        random.nextBytes(message);
+        // normal padding 제거가 중간에서 멈추지 않도록 0x00 은 제외
+        for (int i = 0; i < length; i++) {
+            if (message[i] == 0) {
+                message[i] = 1;
+            }
+        }
+        return message;
+    }
+
+    // ---- 이전 구현 (비교용) ----
+
+    private static byte[] legacyEncrypt(byte[] source, boolean reverse) throws Exception {
+        Cipher cipher = Cipher.getInstance(AES128.AES_CBC_NOPADDING);
+        cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(KEY, "AES"), new IvParameterSpec(AES128.IV));
+        int pCount = source.length;
+        int tCount = pCount + (16 - (pCount % 16));
+        byte[] tBytes = new byte[tCount];
+        System.arraycopy(source, 0, tBytes, 0, pCount);
+        for (int rIndex = pCount; rIndex < tCount; rIndex++) {
+            tBytes[rIndex] = reverse ? (byte) 0xFF : 0x00;
+        }
+        return cipher.doFinal(tBytes);
+    }
+
+    private static byte[] legacyDecrypt(byte[] source, boolean reverse, int len) throws Exception {
+        Cipher cipher = Cipher.getInstance(AES128.AES_CBC_NOPADDING);
+        cipher.init(Cipher.DECRYPT_MODE, new SecretKeySpec(KEY, "AES"), new IvParameterSpec(AES128.IV));
+        byte[] pBytes = cipher.doFinal(source);
+        int pCount = pBytes.length;
+        int index = 0;
+        if (reverse) {
+            while (true) {
+                if (index == pCount || pBytes[index] == (byte) 0xFF) {
+                    if (index != 5 && index >= len) {
+                        break;
+                    }
+                }
+                index++;
+            }
+        } else {
+            while (index < pCount && pBytes[index] != 0x00) {
+                index++;
+            }
+        }
+        return Arrays.copyOf(pBytes, index);
+    }
+}
@@ -0,0 +1,81 @@
+package com.ns21.common.util;
+
+import com.ns21.common.enums.j2735.CODER_TYPE;
+import com.oss.asn1.Coder;
+import org.junit.Test;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * packageName    : com.ns21.common.util
+ * fileName       : ASN1CoderFactoryTest.java
+ * author         : kjg08
+ * date           : 2026-10-18
+ * description    :ASN1CoderFactory.getCoder 가 스레드/CODER_TYPE 별로 coder 를 하나씩 만들어 재사용하는지와 hit/miss 집계 확인
+ *                 집계는 JVM 전역이므로 다른 테스트의 영향이 없도록 새 스레드에서 호출하고 증가분만 비교
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18        kjg08           최초 생성
+ */
+public class ASN1CoderFactoryTest {
+
+    @Test
+    public void sameThreadReusesCoderPerType() throws Exception {
+        Coder[] coders = onNewThread(() -> new Coder[]{
+                ASN1CoderFactory.getCoder(CODER_TYPE.BER),
+                ASN1CoderFactory.getCoder(CODER_TYPE.BER),
+                ASN1CoderFactory.getCoder(CODER_TYPE.UPER),
+                ASN1CoderFactory.getCoder(CODER_TYPE.UPER)});
+        assertNotNull(coders[0]);
+        assertSame(coders[0], coders[1]);
+        assertSame(coders[2], coders[3]);
+        // type 마다 다른 coder
+        assertNotSame(coders[0], coders[2]);
+    }
+
+    @Test
+    public void threadsGetTheirOwnCoder() throws Exception {
+        Coder first = onNewThread(() -> ASN1CoderFactory.getCoder(CODER_TYPE.BER));
+        Coder second = onNewThread(() -> ASN1CoderFactory.getCoder(CODER_TYPE.BER));
+        assertNotSame(first, second);
+        // createCoder 는 재사용하지 않고 호출마다 새로 만듦
+        assertNotSame(ASN1CoderFactory.createCoder(CODER_TYPE.BER), ASN1CoderFactory.createCoder(CODER_TYPE.BER));
+    }
+
+    @Test
+    public void countsHitsAndMisses() throws Exception {
+        long hits = ASN1CoderFactory.getHits(CODER_TYPE.JSON);
+        long misses = ASN1CoderFactory.getMisses(CODER_TYPE.JSON);
+        // 스레드마다 첫 호출은 miss, 이후는 hit
+        for (int t = 0; t < 2; t++) {
+            onNewThread(() -> {
+                for (int i = 0; i < 3; i++) {
+                    ASN1CoderFactory.getCoder(CODER_TYPE.JSON);
+                }
+                return null;
+            });
+        }
+        assertEquals(4, ASN1CoderFactory.getHits(CODER_TYPE.JSON) - hits);
+        assertEquals(2, ASN1CoderFactory.getMisses(CODER_TYPE.JSON) - misses);
+        assertTrue(ASN1CoderFactory.report().contains("JSON hit="));
+    }
+
+    // 스레드 전용 coder 가 없는 새 스레드에서 실행
+    private static <T> T onNewThread(Callable<T> task) throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            return executor.submit(task).get();
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
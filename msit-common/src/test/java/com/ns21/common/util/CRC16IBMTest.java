@@ -0,0 +1,166 @@
+package com.ns21.common.util;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * packageName    : com.ns21.common.util
+ * fileName       : CRC16IBMTest.java
+ * author         : kjg08
+ * date           : 2026-10-18
+ * description    :CRC16IBM slicing-by-8 계산이 테이블 없이 비트 단위로 계산한 값과 같은지 확인
+ *                 배열 구간, heap/direct/little endian/slice ByteBuffer, 임의로 나눈 조각의 incremental 계산 포함
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18        kjg08           최초 생성
+ */
+public class CRC16IBMTest {
+    private static final byte[] CHECK = "123456789".getBytes(StandardCharsets.US_ASCII);
+
+    private final Random random = new Random(42);
+
+    @Test
+    public void knownCheckValues() {
+        // REFLECTED 는 CRC-16/ARC, CCITT 는 CRC-16/XMODEM 과 같음
+        assertEquals(0xBB3D, CRC16IBM.computeCRC16(CHECK, true));
+        assertEquals(0x31C3, CRC16IBM.crc16(CHECK));
+        assertEquals(bitwise(CRC16IBM.Variant.NORMAL, CHECK, 0, CHECK.length), CRC16IBM.computeCRC16(CHECK, false));
+        assertArrayEquals(new byte[]{(byte) 0xBB, 0x3D}, CRC16IBM.computeCRC16_short(CHECK, true));
+    }
+
+    @Test
+    public void slicingMatchesBitwise() {
+        byte[] data = new byte[4096];
+        ByteBuffer direct = ByteBuffer.allocateDirect(data.length);
+        ByteBuffer little = ByteBuffer.allocateDirect(data.length).order(ByteOrder.LITTLE_ENDIAN);
+        for (int n = 0; n < 2_000; n++) {
+            random.nextBytes(data);
+            direct.clear().put(data);
+            little.clear().put(data);
+            int offset = random.nextInt(64);
+            // 8 바이트 단위 경계 앞뒤의 짧은 길이와 긴 길이를 모두 포함
+            int length = n < 64 ? n : random.nextInt(n % 10 == 0 ? data.length - offset : 40);
+            // arrayOffset 이 0 이 아닌 heap buffer
+            ByteBuffer slice = ByteBuffer.wrap(data, 3, data.length - 3).slice();
+            int sliceOffset = Math.max(0, offset - 3);
+            for (CRC16IBM.Variant variant : CRC16IBM.Variant.values()) {
+                int expected = bitwise(variant, data, offset, length);
+                String message = variant + " offset " + offset + " length " + length;
+                assertEquals(message, expected, compute(variant, data, offset, length));
+                assertEquals(message, expected, compute(variant, direct, offset, length));
+                assertEquals(message, expected, compute(variant, little, offset, length));
+                assertEquals(message, expected, compute(variant, ByteBuffer.wrap(data), offset, length));
+                assertEquals(message, bitwise(variant, data, 3 + sliceOffset, length), compute(variant, slice, sliceOffset, length));
+            }
+        }
+    }
+
+    @Test
+    public void incrementalMatchesBitwise() {
+        byte[] data = new byte[1500];
+        for (int n = 0; n < 500; n++) {
+            random.nextBytes(data);
+            int offset = random.nextInt(32);
+            int length = random.nextInt(data.length - offset);
+            for (CRC16IBM.Variant variant : CRC16IBM.Variant.values()) {
+                CRC16IBM.Incremental crc = CRC16IBM.incremental(variant);
+                int i = offset;
+                int end = offset + length;
+                while (i < end) {
+                    // 0 바이트 조각, 한 바이트 update, 배열/heap/direct buffer update 를 섞어서 계산
+                    int chunk = Math.min(end - i, random.nextInt(20));
+                    switch (random.nextInt(4)) {
+                        case 0:
+                            for (int j = 0; j < chunk; j++) {
+                                crc.update(data[i + j]);
+                            }
+                            break;
+                        case 1:
+                            crc.update(data, i, chunk);
+                            break;
+                        case 2:
+                            ByteBuffer heap = ByteBuffer.wrap(data, i, chunk);
+                            crc.update(heap);
+                            assertEquals(0, heap.remaining());
+                            break;
+                        default:
+                            ByteBuffer direct = ByteBuffer.allocateDirect(chunk + 5);
+                            direct.position(5);
+                            direct.put(data, i, chunk).position(5);
+                            crc.update(direct);
+                    }
+                    i += chunk;
+                }
+                int expected = bitwise(variant, data, offset, length);
+                assertEquals(variant + " length " + length, expected, crc.getValue());
+                assertEquals(expected, crc.finish());
+                // finish 후에는 처음 상태
+                assertEquals(0, crc.getValue());
+            }
+        }
+    }
+
+    @Test
+    public void resetStartsOver() {
+        CRC16IBM.Incremental crc = CRC16IBM.incremental(CRC16IBM.Variant.REFLECTED);
+        crc.update(new byte[]{1, 2, 3}, 0, 3);
+        crc.reset();
+        crc.update(CHECK, 0, CHECK.length);
+        assertEquals(0xBB3D, crc.finish());
+    }
+
+    private static int compute(CRC16IBM.Variant variant, byte[] bytes, int offset, int length) {
+        return variant == CRC16IBM.Variant.CCITT
+                ? CRC16IBM.crc16(bytes, offset, length)
+                : CRC16IBM.computeCRC16(bytes, offset, length, variant == CRC16IBM.Variant.REFLECTED);
+    }
+
+    private static int compute(CRC16IBM.Variant variant, ByteBuffer buffer, int offset, int length) {
+        return variant == CRC16IBM.Variant.CCITT
+                ? CRC16IBM.crc16(buffer, offset, length)
+                : CRC16IBM.computeCRC16(buffer, offset, length, variant == CRC16IBM.Variant.REFLECTED);
+    }
+
+    // ---- 테이블 없이 비트 단위로 계산 (비교용) ----
+
+    private static int bitwise(CRC16IBM.Variant variant, byte[] bytes, int offset, int length) {
+        int crc = 0;
+        for (int i = offset; i < offset + length; i++) {
+            int b = bytes[i] & 0xFF;
+            switch (variant) {
+                case NORMAL:
+                    // 기존 계산식은 crc 의 하위 바이트로 다항식 0x8005 테이블을 찾고 하위 바이트를 상위로 밀어 올림
+                    crc = ((crc & 0xFF) << 8) ^ msbFirst((crc ^ b) & 0xFF, 0x8005);
+                    break;
+                case REFLECTED:
+                    crc ^= b;
+                    for (int bit = 0; bit < 8; bit++) {
+                        crc = (crc & 1) != 0 ? (crc >>> 1) ^ 0xA001 : crc >>> 1;
+                    }
+                    break;
+                default:
+                    crc ^= b << 8;
+                    for (int bit = 0; bit < 8; bit++) {
+                        crc = (crc & 0x8000) != 0 ? ((crc << 1) ^ 0x1021) & 0xFFFF : (crc << 1) & 0xFFFF;
+                    }
+            }
+        }
+        return crc & 0xFFFF;
+    }
+
+    private static int msbFirst(int index, int polynomial) {
+        int crc = index << 8;
+        for (int bit = 0; bit < 8; bit++) {
+            crc = (crc & 0x8000) != 0 ? ((crc << 1) ^ polynomial) & 0xFFFF : (crc << 1) & 0xFFFF;
+        }
+        return crc;
+    }
+}
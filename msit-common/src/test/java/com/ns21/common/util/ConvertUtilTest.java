@@ -0,0 +1,130 @@
+package com.ns21.common.util;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+/**
+ * packageName    : com.ns21.common.util
+ * fileName       : ConvertUtilTest.java
+ * author         : kjg08
+ * date           : 2026-10-18
+ * description    :ConvertUtil 16진수/primitive 변환 결과가 이전 StringBuffer/ByteBuffer 구현과 같은지 확인
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18        kjg08           최초 생성
+ */
+public class ConvertUtilTest {
+    private final Random random = new Random(42);
+
+    @Test
+    public void hexMatchesLegacy() {
+        for (int length = 0; length < 300; length++) {
+            byte[] bytes = new byte[length];
+            random.nextBytes(bytes);
+            String hex = legacyBytesToHexString(bytes);
+            assertEquals(hex, ConvertUtil.bytesToHexString(bytes));
+            assertArrayEquals(legacyHexStringToBytes(hex), ConvertUtil.hexStringToBytes(hex));
+            assertArrayEquals(legacyHexStringToBytes(hex.toUpperCase()), ConvertUtil.hexStringToBytes(hex.toUpperCase()));
+        }
+        for (int b = 0; b < 256; b++) {
+            assertEquals(legacyBytesToHexString(new byte[]{(byte) b}), ConvertUtil.byteToHexString((byte) b));
+        }
+    }
+
+    @Test
+    public void hexOffsetVariants() {
+        byte[] bytes = new byte[64];
+        random.nextBytes(bytes);
+        String expected = legacyBytesToHexString(Arrays.copyOfRange(bytes, 5, 37));
+        assertEquals(expected, ConvertUtil.bytesToHexString(bytes, 5, 32));
+
+        char[] chars = new char[70];
+        assertEquals(64, ConvertUtil.bytesToHexChars(bytes, 5, 32, chars, 3));
+        assertEquals(expected, new String(chars, 3, 64));
+
+        byte[] out = new byte[40];
+        assertEquals(32, ConvertUtil.hexStringToBytes("zz" + expected, 2, 64, out, 4));
+        assertArrayEquals(Arrays.copyOfRange(bytes, 5, 37), Arrays.copyOfRange(out, 4, 36));
+    }
+
+    @Test
+    public void oddLengthIgnoresLastCharacter() {
+        // 이전 구현과 같이 홀수 길이의 마지막 문자는 무시
+        assertArrayEquals(legacyHexStringToBytes("0aF"), ConvertUtil.hexStringToBytes("0aF"));
+        assertArrayEquals(new byte[0], ConvertUtil.hexStringToBytes("f"));
+    }
+
+    @Test
+    public void rejectsNonHexCharacters() {
+        for (String source : new String[]{"0g", "g0", "+1", "-1", " 1", "é0"}) {
+            assertThrows(NumberFormatException.class, () -> ConvertUtil.hexStringToBytes(source));
+        }
+    }
+
+    @Test
+    public void primitivesMatchLegacy() {
+        for (int i = 0; i < 10_000; i++) {
+            long value = random.nextLong();
+            byte[] bytes = ConvertUtil.longToBytes(value);
+            assertArrayEquals(ByteBuffer.allocate(Long.BYTES).putLong(value).array(), bytes);
+            assertEquals(legacyBytesToLong(bytes), ConvertUtil.bytesToLong(bytes));
+
+            byte[] intBytes = Arrays.copyOf(bytes, Integer.BYTES);
+            assertEquals(legacyBytesToInt(intBytes), ConvertUtil.bytesToInt(intBytes));
+            assertArrayEquals(intBytes, ConvertUtil.intToBytes(ConvertUtil.bytesToInt(intBytes)));
+
+            byte[] shortBytes = Arrays.copyOf(bytes, Short.BYTES);
+            assertEquals(legacyBytesToShort(shortBytes), ConvertUtil.bytesToShort(shortBytes));
+            assertArrayEquals(shortBytes, ConvertUtil.shortToBytes(ConvertUtil.bytesToShort(shortBytes)));
+
+            int offset = i % 5;
+            byte[] buffer = new byte[16];
+            ConvertUtil.putLong(buffer, offset, value);
+            assertEquals(value, ConvertUtil.getLong(buffer, offset));
+            assertEquals(legacyBytesToInt(Arrays.copyOfRange(buffer, offset, offset + 4)), ConvertUtil.getInt(buffer, offset));
+        }
+    }
+
+    // ---- 이전 구현 (비교용) ----
+
+    private static String legacyBytesToHexString(byte[] bytes) {
+        StringBuffer buff = new StringBuffer(bytes.length * 2);
+        for (byte b : bytes) {
+            if (((int) b & 0xff) < 0x10) {
+                buff.append(0);
+            }
+            buff.append(Long.toString((int) b & 0xff, 16));
+        }
+        return buff.toString();
+    }
+
+    private static byte[] legacyHexStringToBytes(String pSource) {
+        StringBuffer buff = new StringBuffer(pSource);
+        int bCount = buff.length() / 2;
+        byte[] bArr = new byte[bCount];
+        for (int bIndex = 0; bIndex < bCount; bIndex++) {
+            bArr[bIndex] = (byte) Long.parseLong(buff.substring(2 * bIndex, (2 * bIndex) + 2), 16);
+        }
+        return bArr;
+    }
+
+    private static short legacyBytesToShort(byte[] bytes) {
+        return ByteBuffer.allocate(Short.BYTES).put(bytes).flip().getShort();
+    }
+
+    private static int legacyBytesToInt(byte[] bytes) {
+        return ByteBuffer.allocate(Integer.BYTES).put(bytes).flip().getInt();
+    }
+
+    private static long legacyBytesToLong(byte[] bytes) {
+        return ByteBuffer.allocate(Long.BYTES).put(bytes).flip().getLong();
+    }
+}
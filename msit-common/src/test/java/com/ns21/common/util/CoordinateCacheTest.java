@@ -0,0 +1,204 @@
+package com.ns21.common.util;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * packageName    : com.ns21.common.util
+ * fileName       : CoordinateCacheTest.java
+ * author         : kjg08
+ * date           : 2026-10-18
+ * description    :CoordinateCache 의 CLOCK 교체 순서, 크기 제한, hit/miss/eviction 집계와
+ *                 CoordinateConverter 캐시 결과가 UtmProjection 직접 변환과 같은지 확인
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18        kjg08           최초 생성
+ * 2026-10-18        kjg08           기본 locale 이 바뀌어도 report 형식이 같은지 확인
+ */
+public class CoordinateCacheTest {
+    private static final int ZONE = 52;
+
+    @After
+    public void restoreConverterCache() {
+        MetaDataConvertUtil.CoordinateConverter.setCacheSize(MetaDataConvertUtil.CoordinateConverter.DEFAULT_CACHE_SIZE);
+    }
+
+    @Test
+    public void clockSkipsReferencedEntries() {
+        // 64 개 미만이면 segment 하나, 최대 항목 수 그대로
+        CoordinateCache cache = new CoordinateCache(4);
+        assertEquals(4, cache.getMaxEntries());
+        for (long k = 1; k <= 4; k++) {
+            cache.putIfAbsent(k, -k, new long[]{k});
+        }
+        assertEquals(0, cache.getEvictions());
+
+        // 1 을 사용한 뒤 5 를 넣으면 1 은 한 번 건너뛰고 사용하지 않은 2 를 교체
+        assertNotNull(cache.get(1, -1));
+        cache.putIfAbsent(5, -5, new long[]{5});
+        assertEquals(1, cache.getEvictions());
+        assertEquals(4, cache.size());
+        assertNull(cache.get(2, -2));
+        assertArrayEquals(new long[]{1}, cache.get(1, -1));
+        assertArrayEquals(new long[]{5}, cache.get(5, -5));
+
+        // get 이 1/5 의 표시를 다시 남겼으므로 다음 교체 대상은 3
+        cache.putIfAbsent(6, -6, new long[]{6});
+        assertNull(cache.get(3, -3));
+        assertNotNull(cache.get(4, -4));
+
+        assertEquals(4, cache.getHits());
+        assertEquals(2, cache.getMisses());
+        assertEquals(2, cache.getEvictions());
+        assertEquals("size=4/4 hit=4 miss=2 eviction=2 hitRate=66.7%", cache.report());
+    }
+
+    @Test
+    public void reportIgnoresDefaultLocale() {
+        CoordinateCache cache = new CoordinateCache(2);
+        cache.putIfAbsent(1, 1, new long[]{1});
+        cache.get(1, 1);
+        cache.get(1, 1);
+        cache.get(2, 2);
+        Locale previous = Locale.getDefault();
+        try {
+            // 소수점이 ',' 인 locale 에서도 '.' 로 출력
+            Locale.setDefault(Locale.GERMANY);
+            assertEquals("size=1/2 hit=2 miss=1 eviction=0 hitRate=66.7%", cache.report());
+        } finally {
+            Locale.setDefault(previous);
+        }
+    }
+
+    @Test
+    public void putIfAbsentKeepsExistingValue() {
+        CoordinateCache cache = new CoordinateCache(2);
+        long[] first = {1};
+        assertSame(first, cache.putIfAbsent(7, 8, first));
+        assertSame(first, cache.putIfAbsent(7, 8, new long[]{2}));
+        // 키 두 개가 모두 같아야 같은 항목
+        assertNull(cache.get(7, 9));
+        assertNull(cache.get(8, 7));
+        assertEquals(1, cache.size());
+        assertEquals(0, cache.getEvictions());
+        // putIfAbsent 는 hit/miss 로 집계하지 않음
+        assertEquals(0, cache.getHits());
+        assertEquals(2, cache.getMisses());
+    }
+
+    @Test
+    public void staysBoundedAcrossSegments() {
+        CoordinateCache cache = new CoordinateCache(1_000);
+        int maxEntries = cache.getMaxEntries();
+        assertTrue(maxEntries >= 1_000 && maxEntries < 1_100);
+        int inserts = 50_000;
+        for (long k = 0; k < inserts; k++) {
+            cache.putIfAbsent(k, k * 31, new long[]{k});
+            assertTrue(cache.size() <= maxEntries);
+        }
+        // 모든 segment 가 찼으므로 넘친 만큼 교체
+        assertEquals(maxEntries, cache.size());
+        assertEquals(inserts - maxEntries, cache.getEvictions());
+        for (long k = inserts - 10; k < inserts; k++) {
+            assertArrayEquals(new long[]{k}, cache.get(k, k * 31));
+        }
+        assertThrows(IllegalArgumentException.class, () -> new CoordinateCache(0));
+    }
+
+    @Test
+    public void concurrentAccessCountsEveryLookup() throws Exception {
+        CoordinateCache cache = new CoordinateCache(512);
+        int threads = 4;
+        int lookups = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                long seed = t;
+                futures.add(executor.submit(() -> {
+                    Random random = new Random(seed);
+                    for (int i = 0; i < lookups; i++) {
+                        long k = random.nextInt(2_000);
+                        long[] value = cache.get(k, -k);
+                        if (value == null) {
+                            value = cache.putIfAbsent(k, -k, new long[]{k});
+                        }
+                        assertEquals(k, value[0]);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals((long) threads * lookups, cache.getHits() + cache.getMisses());
+        assertTrue(cache.size() <= cache.getMaxEntries());
+        assertTrue(cache.getEvictions() > 0);
+    }
+
+    @Test
+    public void converterMatchesDirectProjection() {
+        // 교체가 일어나도록 작은 캐시로 확인
+        MetaDataConvertUtil.CoordinateConverter.setCacheSize(256);
+        Random random = new Random(7);
+        long[] expected = new long[2];
+        for (int i = 0; i < 20_000; i++) {
+            double x = 300_000 + random.nextInt(2_000) * 0.5;
+            double y = 4_100_000 + random.nextInt(2_000) * 0.5;
+            double z = random.nextInt(100) * 0.7;
+            long[] actual = MetaDataConvertUtil.CoordinateConverter.utmToLatLon(x, y, ZONE, z);
+            UtmProjection.zone(ZONE).toLatLon(Math.round(x * 1000) / 1000.0, Math.round(y * 1000) / 1000.0, expected, 0);
+            assertEquals(expected[0], actual[0]);
+            assertEquals(expected[1], actual[1]);
+            assertEquals((long) z, actual[2]);
+        }
+        CoordinateCache cache = MetaDataConvertUtil.CoordinateConverter.getCache();
+        assertTrue(cache.size() <= cache.getMaxEntries());
+        assertTrue(cache.getEvictions() > 0);
+        assertEquals(20_000, cache.getHits() + cache.getMisses());
+    }
+
+    @Test
+    public void converterKeysOnRoundedCoordinates() {
+        MetaDataConvertUtil.CoordinateConverter.setCacheSize(16);
+        long[] first = MetaDataConvertUtil.CoordinateConverter.utmToLatLon(326_865.2701, 4_147_694.5104, ZONE, 49.2);
+        // mm 반올림 좌표와 버림한 고도가 같으면 같은 항목
+        assertSame(first, MetaDataConvertUtil.CoordinateConverter.utmToLatLon(326_865.2699, 4_147_694.5096, ZONE, 49.9));
+        long[] otherElevation = MetaDataConvertUtil.CoordinateConverter.utmToLatLon(326_865.27, 4_147_694.51, ZONE, 50.0);
+        assertEquals(50, otherElevation[2]);
+        assertEquals(first[0], otherElevation[0]);
+
+        CoordinateCache cache = MetaDataConvertUtil.CoordinateConverter.getCache();
+        assertEquals(1, cache.getHits());
+        assertEquals(2, cache.getMisses());
+
+        // packing 범위를 벗어나는 고도는 캐시 없이 변환
+        MetaDataConvertUtil.CoordinateConverter.utmToLatLon(326_865.27, 4_147_694.51, ZONE, 1e7);
+        assertEquals(3, cache.getHits() + cache.getMisses());
+        assertEquals(2, cache.size());
+
+        // setCacheSize 는 내용과 집계를 버림
+        MetaDataConvertUtil.CoordinateConverter.setCacheSize(16);
+        assertEquals(0, MetaDataConvertUtil.CoordinateConverter.getCache().size());
+        assertEquals(0, MetaDataConvertUtil.CoordinateConverter.getCache().getMisses());
+    }
+}
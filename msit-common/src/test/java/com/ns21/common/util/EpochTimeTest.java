@@ -0,0 +1,181 @@
+package com.ns21.common.util;
+
+import org.junit.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+/**
+ * packageName    : com.ns21.common.util
+ * fileName       : EpochTimeTest.java
+ * author         : kjg08
+ * date           : 2026-10-18
+ * description    :EpochTime / MetaDataConvertUtil 의 minuteOfTheYear, utcTime 필드가 이전 Double.parseDouble + ZonedDateTime 구현과 같은지 확인
+ *                 연도/윤일 경계, 음수/소수 timestamp, 직접 파싱하지 않는 형식 포함
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18        kjg08           최초 생성
+ */
+public class EpochTimeTest {
+    private static final long MAX_SECONDS = 1L << 32;
+
+    @Test
+    public void randomTimestampsMatchLegacy() {
+        Random random = new Random(7);
+        for (int i = 0; i < 50_000; i++) {
+            long seconds = (long) (random.nextDouble() * MAX_SECONDS);
+            // 소수 0~9 자리 (7 자리 이상은 Double.parseDouble 경로)
+            check(seconds + fraction(random, random.nextInt(10)));
+        }
+    }
+
+    @Test
+    public void yearAndLeapDayBoundaries() {
+        for (int year = 1970; year < 2106; year++) {
+            long yearStart = epochSecond(year, 1, 1, 0, 0, 0);
+            long feb28 = epochSecond(year, 2, 28, 23, 59, 59);
+            for (long seconds : new long[]{yearStart - 61, yearStart - 1, yearStart, yearStart + 59, feb28, feb28 + 1}) {
+                if (seconds >= 0) {
+                    check(Long.toString(seconds));
+                    check(seconds + ".999999");
+                }
+            }
+        }
+        // 윤년 마지막 분은 527039, 평년은 525599
+        assertEquals(527_039, EpochTime.parse(Long.toString(epochSecond(2024, 12, 31, 23, 59, 59))).getMinuteOfTheYear());
+        assertEquals(525_599, EpochTime.parse(Long.toString(epochSecond(2023, 12, 31, 23, 59, 59))).getMinuteOfTheYear());
+        // 2000 년은 윤년, 2100 년은 평년
+        assertDate(EpochTime.parse(Long.toString(epochSecond(2000, 2, 28, 23, 59, 59) + 1)), 2000, 2, 29);
+        assertDate(EpochTime.parse(Long.toString(epochSecond(2100, 2, 28, 23, 59, 59) + 1)), 2100, 3, 1);
+    }
+
+    @Test
+    public void alternatingYearsIgnoreCachedBounds() {
+        // 최근 연도 캐시가 있어도 연도가 번갈아 바뀌는 입력에서 같은 결과
+        long lastSecondOf1999 = epochSecond(1999, 12, 31, 23, 59, 59);
+        EpochTime time = new EpochTime();
+        for (int i = 0; i < 10; i++) {
+            assertDate(time.set(lastSecondOf1999 * 1_000_000L), 1999, 12, 31);
+            assertEquals(525_599, time.getMinuteOfTheYear());
+            assertDate(time.set((lastSecondOf1999 + 1) * 1_000_000L), 2000, 1, 1);
+            assertEquals(0, time.getMinuteOfTheYear());
+        }
+    }
+
+    @Test
+    public void negativeTimestamps() {
+        // 1970 년 이전: 초는 0 방향으로 버림 (이전 RsaValueCreator 경로), convertTimestampToUtcMap 은 실제 시각이 속한 초
+        for (String timestamp : new String[]{"-1", "-1.5", "-0.25", "-60", "-60.5", "-86400", "-86399.999999",
+                "-31536000", "-31535999.75", "-2208988800", "-2208988799.5", "-1.0000001", "-1.0000000001",
+                "-62135596800", "-1E2", "-1.25e0"}) {
+            check(timestamp);
+        }
+        EpochTime time = EpochTime.parse("-1.25");
+        assertDate(time, 1969, 12, 31);
+        assertEquals(59, time.getSecond());
+        assertEquals(59_250, time.getDSecond());
+        assertEquals(-1, time.getEpochSeconds());
+        assertEquals(-2, EpochTime.floorSeconds(time.getEpochMicros()));
+        assertEquals(58, MetaDataConvertUtil.convertTimestampToUtcMap("-1.25").get("second"));
+    }
+
+    @Test
+    public void fractionalSeconds() {
+        EpochTime time = EpochTime.parse("1662014357.8876");
+        assertEquals(1_662_014_357_887_600L, time.getEpochMicros());
+        assertEquals(1_662_014_357L, time.getEpochSeconds());
+        assertEquals(time.getSecond() * 1000 + 887, time.getDSecond());
+        // 소수점 뒤가 비었으면 직접 파싱 경로가 아니어도 같은 초
+        assertEquals(1_662_014_357L, EpochTime.parse("1662014357.").getEpochSeconds());
+        // 7 자리 이상 소수는 이전 구현과 같이 double 로 파싱하므로 가장 가까운 double 로 올라갈 수 있음
+        assertEquals(1_662_014_358L, EpochTime.parse("1662014357.9999999").getEpochSeconds());
+        assertEquals(999, EpochTime.parse("1662014357.999999").getDSecond() % 1000);
+        assertEquals(0, EpochTime.parse("0.000999").getDSecond());
+    }
+
+    @Test
+    public void slowParseFormats() {
+        // 직접 파싱하지 않는 형식은 Double.parseDouble 결과를 사용
+        for (String timestamp : new String[]{"1662014357.", "1.6620143578876E9", "1662014357.99999999999",
+                "+1662014357.5", "1662014357.1234567", "4294967296.25", "99999999999", "0001662014357.5", "NaN"}) {
+            check(timestamp);
+        }
+        assertEquals(EpochTime.parseEpochMicros("1662014357.887600"), EpochTime.parseEpochMicros("1662014357.8876"));
+    }
+
+    @Test
+    public void rejectsMalformedTimestamps() {
+        for (String timestamp : new String[]{"", "-", ".", "abc", "1662014357.12a", "1662014357..5", "1e400", "-Infinity"}) {
+            assertThrows(timestamp, NumberFormatException.class, () -> EpochTime.parse(timestamp));
+        }
+    }
+
+    // EpochTime 은 이전 RsaValueCreator 경로(버린 초 문자열로 두 메서드 호출)와,
+    // MetaDataConvertUtil 은 같은 문자열을 받은 이전 메서드와 비교
+    private static void check(String timestamp) {
+        String seconds = Long.toString((long) Double.parseDouble(timestamp));
+        int[] expected = legacyUtcFields(seconds);
+        EpochTime actual = EpochTime.parse(timestamp);
+        assertArrayEquals(timestamp, expected, new int[]{actual.getYear(), actual.getMonth(), actual.getDay(),
+                actual.getHour(), actual.getMinute(), actual.getSecond(), actual.getOffset()});
+        assertEquals(timestamp, legacyMinuteOfTheYear(seconds), actual.getMinuteOfTheYear());
+
+        int[] legacyMap = legacyUtcFields(timestamp);
+        Map<String, Object> utcTime = MetaDataConvertUtil.convertTimestampToUtcMap(timestamp);
+        assertArrayEquals(timestamp, legacyMap, new int[]{(Integer) utcTime.get("year"), (Integer) utcTime.get("month"),
+                (Integer) utcTime.get("day"), (Integer) utcTime.get("hour"), (Integer) utcTime.get("minute"),
+                (Integer) utcTime.get("second"), (Integer) utcTime.get("offset")});
+        assertEquals(timestamp, legacyMinuteOfTheYear(timestamp), MetaDataConvertUtil.minuteOfTheYear(timestamp));
+    }
+
+    private static void assertDate(EpochTime time, int year, int month, int day) {
+        assertEquals(year, time.getYear());
+        assertEquals(month, time.getMonth());
+        assertEquals(day, time.getDay());
+    }
+
+    private static long epochSecond(int year, int month, int day, int hour, int minute, int second) {
+        return ZonedDateTime.of(year, month, day, hour, minute, second, 0, ZoneOffset.UTC).toEpochSecond();
+    }
+
+    private static String fraction(Random random, int digits) {
+        if (digits == 0) {
+            return "";
+        }
+        StringBuilder fraction = new StringBuilder(".");
+        for (int i = 0; i < digits; i++) {
+            fraction.append((char) ('0' + random.nextInt(10)));
+        }
+        return fraction.toString();
+    }
+
+    // ---- 이전 구현 (비교용) ----
+
+    // 이전 MetaDataConvertUtil.minuteOfTheYear
+    private static int legacyMinuteOfTheYear(String timestampString) {
+        double timestampDouble = Double.parseDouble(timestampString);
+        Instant instant = Instant.ofEpochSecond((long) timestampDouble);
+        ZonedDateTime zdt = instant.atZone(ZoneId.of("UTC"));
+        ZonedDateTime startOfYear = ZonedDateTime.of(zdt.getYear(), 1, 1, 0, 0, 0, 0, ZoneId.of("UTC"));
+        return (int) (Duration.between(startOfYear, zdt).toMinutes() % 527041);
+    }
+
+    // 이전 MetaDataConvertUtil.convertTimestampToUtcMap 의 값 (Map 대신 배열)
+    private static int[] legacyUtcFields(String timestampString) {
+        long seconds = (long) Double.parseDouble(timestampString);
+        int nanoSeconds = (int) ((Double.parseDouble(timestampString) - seconds) * 1_000_000_000);
+        ZonedDateTime dateTime = Instant.ofEpochSecond(seconds, nanoSeconds).atZone(ZoneOffset.UTC);
+        return new int[]{dateTime.getYear(), dateTime.getMonthValue(), dateTime.getDayOfMonth(), dateTime.getHour(),
+                dateTime.getMinute(), dateTime.getSecond(), dateTime.getOffset().getTotalSeconds()};
+    }
+}
@@ -0,0 +1,113 @@
+package com.ns21.common.util;
+
+import org.junit.Test;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+/**
+ * packageName    : com.ns21.common.util
+ * fileName       : I2xFrameWriterTest.java
+ * author         : kjg08
+ * date           : 2026-10-18
+ * description    :I2xFrameWriter 프레임이 기존 bytesConcat + CRC16IBM + AES128.encryptReverse 조합과 같은지, 복호화하면 원래 평문이 나오는지 확인
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18        kjg08           최초 생성
+ */
+public class I2xFrameWriterTest {
+    private static final byte[] HEADER = {0x49, 0x32, 0x58, 0x01, 0x00};
+    private static final int BATCH = 64;
+
+    private final Random random = new Random(42);
+
+    @Test
+    public void matchesLegacyComposition() throws Exception {
+        for (boolean reversed : new boolean[]{false, true}) {
+            // 길이 0~47 로 padding 1~16 바이트 경우를 모두 포함하고 seqNo 가 255 → 0 으로 넘어가도록 300 건
+            List<byte[]> payloads = new ArrayList<>();
+            for (int i = 0; i < 300; i++) {
+                byte[] payload = new byte[i % 48];
+                random.nextBytes(payload);
+                payloads.add(payload);
+            }
+            I2xFrameWriter writer = new I2xFrameWriter(HEADER, reversed, BATCH * I2xFrameWriter.frameLength(HEADER.length, 48));
+            for (int from = 0; from < payloads.size(); from += BATCH) {
+                List<byte[]> batch = payloads.subList(from, Math.min(payloads.size(), from + BATCH));
+                assertEquals(batch.size(), writer.writeAll(batch));
+                ByteBuffer frames = writer.frames();
+                for (int i = 0; i < batch.size(); i++) {
+                    int seqNo = (from + i) & 0xFF;
+                    byte[] actual = new byte[writer.lengthOf(i)];
+                    frames.get(writer.offsetOf(i), actual);
+                    assertArrayEquals("frame " + (from + i), legacyFrame(batch.get(i), seqNo, reversed), actual);
+                    assertEquals(I2xFrameWriter.frameLength(HEADER.length, batch.get(i).length), actual.length);
+
+                    byte[] plain = ConvertUtil.bytesConcat(HEADER, new byte[]{(byte) seqNo}, batch.get(i));
+                    assertArrayEquals(ConvertUtil.bytesConcat(plain, CRC16IBM.computeCRC16_short(plain, reversed)),
+                            AES128.decryptReverse(actual, plain.length + 2));
+                }
+            }
+            assertEquals(300 & 0xFF, writer.getSeqNo());
+        }
+    }
+
+    @Test
+    public void payloadVariantsMatch() throws Exception {
+        byte[] source = new byte[100];
+        random.nextBytes(source);
+        byte[] payload = Arrays.copyOfRange(source, 10, 73);
+        byte[] expected = legacyFrame(payload, 7, false);
+
+        I2xFrameWriter writer = new I2xFrameWriter(HEADER, false, 4 * expected.length);
+        writer.setSeqNo(7);
+        writer.write(source, 10, 63);
+        writer.setSeqNo(7);
+        ByteBuffer direct = ByteBuffer.allocateDirect(source.length);
+        direct.put(source).position(10).limit(73);
+        writer.write(direct);
+        assertEquals(10, direct.position());
+
+        ByteBuffer frames = writer.frames();
+        assertEquals(2 * expected.length, frames.remaining());
+        for (int i = 0; i < 2; i++) {
+            byte[] actual = new byte[writer.lengthOf(i)];
+            frames.get(writer.offsetOf(i), actual);
+            assertArrayEquals(expected, actual);
+        }
+    }
+
+    @Test
+    public void overflowKeepsState() throws Exception {
+        int frameLength = I2xFrameWriter.frameLength(HEADER.length, 40);
+        I2xFrameWriter writer = new I2xFrameWriter(HEADER, false, frameLength + 10);
+        writer.write(new byte[40]);
+        assertThrows(BufferOverflowException.class, () -> writer.write(new byte[40]));
+        assertEquals(1, writer.frameCount());
+        assertEquals(1, writer.getSeqNo());
+        assertEquals(frameLength, writer.frames().remaining());
+        assertThrows(IndexOutOfBoundsException.class, () -> writer.offsetOf(1));
+
+        // reset 후에도 seqNo 는 이어서 증가
+        writer.reset();
+        writer.write(new byte[40]);
+        byte[] actual = new byte[frameLength];
+        writer.frames().get(actual);
+        assertArrayEquals(legacyFrame(new byte[40], 1, false), actual);
+    }
+
+    // 기존 유틸리티 조합으로 만든 프레임
+    private static byte[] legacyFrame(byte[] payload, int seqNo, boolean reversed) throws Exception {
+        byte[] plain = ConvertUtil.bytesConcat(HEADER, new byte[]{(byte) seqNo}, payload);
+        return AES128.encryptReverse(ConvertUtil.bytesConcat(plain, CRC16IBM.computeCRC16_short(plain, reversed)));
+    }
+}
@@ -0,0 +1,114 @@
+package com.ns21.common.util;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * packageName    : com.ns21.common.util
+ * fileName       : MetaDataConvertUtilTest.java
+ * author         : kjg08
+ * date           : 2026-10-18
+ * description    :quaternion → heading 변환(quaternionToHeading / quaternionToHeadingValue / headingToHex / quaternionToFormattedString)이
+ *                 이전 String.format 구현과 같은지 확인 (반올림 경계 x.5 도, 359.5 → 360 포함)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18        kjg08           최초 생성
+ */
+public class MetaDataConvertUtilTest {
+
+    @Test
+    public void headingToHexMatchesFormat() {
+        for (int heading = 0; heading <= 0xFFFF; heading++) {
+            assertEquals(String.format("%04x", heading).toUpperCase(), MetaDataConvertUtil.headingToHex(heading));
+        }
+        assertEquals("0168", MetaDataConvertUtil.headingToHex(360));
+    }
+
+    @Test
+    public void roundsHalfDegreesUp() {
+        // 359.5 도 이상은 0 으로 돌아가지 않고 360 ("0168"), 이전 구현과 같음
+        assertHeading(359.5, 360, "0168", "0360");
+        assertHeading(359.49, 359, "0167", "0359");
+        assertHeading(359.999999, 360, "0168", "0360");
+        assertHeading(0.5, 1, "0001", "0001");
+        assertHeading(0.49, 0, "0000", "0000");
+        assertHeading(-0.5, 360, "0168", "0360");
+        assertHeading(179.5, 180, "00B4", "0180");
+        assertHeading(-180, 180, "00B4", "0180");
+    }
+
+    @Test
+    public void fullCircleMatchesLegacy() {
+        // -180 ~ 180 도 0.1 도 간격과 반올림 경계 앞뒤의 z 축 회전
+        for (int tenths = -1800; tenths <= 1800; tenths++) {
+            for (double offset : new double[]{0, 1e-9, -1e-9, 1e-12, -1e-12}) {
+                check(zRotation(tenths / 10.0 + offset));
+            }
+        }
+    }
+
+    @Test
+    public void randomQuaternionsMatchLegacy() {
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            double w = random.nextGaussian();
+            double x = random.nextGaussian();
+            double y = random.nextGaussian();
+            double z = random.nextGaussian();
+            double norm = Math.sqrt(w * w + x * x + y * y + z * z);
+            check(new double[]{w / norm, x / norm, y / norm, z / norm});
+        }
+        // rotation 이 없는 경우(NaN)
+        check(new double[]{Double.NaN, Double.NaN, Double.NaN, Double.NaN});
+    }
+
+    private static void assertHeading(double degrees, int value, String hex, String formatted) {
+        double[] q = zRotation(degrees);
+        assertEquals("value " + degrees, value, MetaDataConvertUtil.quaternionToHeadingValue(q[0], q[1], q[2], q[3]));
+        assertEquals("hex " + degrees, hex, MetaDataConvertUtil.quaternionToHeading(List.of(q[0], q[1], q[2], q[3])));
+        assertEquals("formatted " + degrees, formatted, MetaDataConvertUtil.quaternionToFormattedString(List.of(q[1], q[2], q[3], q[0])));
+        check(q);
+    }
+
+    // [w, x, y, z] z 축 회전
+    private static double[] zRotation(double degrees) {
+        double half = Math.toRadians(degrees) / 2;
+        return new double[]{Math.cos(half), 0, 0, Math.sin(half)};
+    }
+
+    private static void check(double[] q) {
+        String expected = legacyQuaternionToHeading(q[0], q[1], q[2], q[3]);
+        String message = q[0] + ", " + q[1] + ", " + q[2] + ", " + q[3];
+        assertEquals(message, expected, MetaDataConvertUtil.quaternionToHeading(q[0], q[1], q[2], q[3]));
+        assertEquals(message, expected, MetaDataConvertUtil.quaternionToHeading(List.of(q[0], q[1], q[2], q[3])));
+        assertEquals(message, Integer.parseInt(expected, 16), MetaDataConvertUtil.quaternionToHeadingValue(q[0], q[1], q[2], q[3]));
+        List<Double> xyzw = List.of(q[1], q[2], q[3], q[0]);
+        assertEquals(message, legacyQuaternionToFormattedString(xyzw), MetaDataConvertUtil.quaternionToFormattedString(xyzw));
+    }
+
+    // ---- 이전 구현 (비교용) ----
+
+    // 이전 MetaDataConvertUtil.quaternionToHeading
+    private static String legacyQuaternionToHeading(double w, double x, double y, double z) {
+        double t0 = 2.0 * (w * z + x * y);
+        double t1 = 1.0 - 2.0 * (y * y + z * z);
+        double yawDegrees = Math.toDegrees(Math.atan2(t0, t1));
+        if (yawDegrees < 0) yawDegrees += 360.0;
+        return String.format("%04x", (int) Math.round(yawDegrees)).toUpperCase();
+    }
+
+    // 이전 MetaDataConvertUtil.quaternionToFormattedString 의 yaw 계산과 포매팅 ([x, y, z, w] 순서)
+    private static String legacyQuaternionToFormattedString(List<Double> quaternion) {
+        double x = quaternion.get(0);
+        double y = quaternion.get(1);
+        double z = quaternion.get(2);
+        double w = quaternion.get(3);
+        double yaw = Math.toDegrees(Math.atan2(2.0 * (w * z + x * y), 1.0 - 2.0 * (y * y + z * z)));
+        return String.format("%04.0f", (yaw + 360) % 360);
+    }
+}
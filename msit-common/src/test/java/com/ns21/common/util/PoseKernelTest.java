@@ -0,0 +1,192 @@
+package com.ns21.common.util;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * packageName    : com.ns21.common.util
+ * fileName       : PoseKernelTest.java
+ * author         : kjg08
+ * date           : 2026-10-18
+ * description    :ScalarPoseKernel 이 UtmProjection / 한 행씩 계산한 yaw 와 같은지, VectorPoseKernel 이 스칼라 결과와 같은지 확인
+ *                 Vector API lane 연산은 마지막 비트가 다를 수 있어 1e-7 도 버림 경계에 걸린 값의 1 차이만 허용
+ *                 테스트는 --add-modules jdk.incubator.vector 로 실행 (msit-common/build.gradle)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18        kjg08           최초 생성
+ * 2026-10-18        kjg08           스칼라 yaw 가 quaternionToHeadingValue 와 같은지 확인
+ */
+public class PoseKernelTest {
+    // lane 수(2/4/8)의 배수가 아닌 길이로 스칼라 꼬리 처리까지 포함
+    private static final int ROWS = 100_003;
+    private static final int ZONE = 52;
+    private static final double YAW_TOLERANCE = 1e-9;
+    // 스칼라 결과와 1 차이가 나도 되는 E7 경계까지의 거리 (1e-6 단위 = 1e-13 도)
+    private static final double E7_BOUNDARY_UNITS = 1e-6;
+
+    private final Random random = new Random(42);
+
+    @Test
+    public void scalarMatchesSingleRowCalculation() {
+        Columns c = new Columns(random, 1_000);
+        UtmProjection projection = UtmProjection.zone(ZONE);
+        long[] lat = new long[c.n];
+        long[] lon = new long[c.n];
+        double[] yaw = new double[c.n];
+        PoseKernels.scalar().utmToLatLon(projection, c.x, c.y, c.n, lat, lon);
+        PoseKernels.scalar().yawDegrees(c.qw, c.qx, c.qy, c.qz, c.n, yaw);
+
+        long[] expected = new long[2];
+        for (int i = 0; i < c.n; i++) {
+            projection.toLatLon(c.x[i], c.y[i], expected, 0);
+            assertEquals(expected[0], lat[i]);
+            assertEquals(expected[1], lon[i]);
+            double heading = Math.toDegrees(Math.atan2(2.0 * (c.qw[i] * c.qz[i] + c.qx[i] * c.qy[i]),
+                    1.0 - 2.0 * (c.qy[i] * c.qy[i] + c.qz[i] * c.qz[i])));
+            assertEquals(heading < 0 ? heading + 360 : heading, yaw[i], 0);
+            // sensor heading 과 같은 계산
+            assertEquals(MetaDataConvertUtil.quaternionToHeadingValue(c.qw[i], c.qx[i], c.qy[i], c.qz[i]),
+                    Math.round(yaw[i]));
+        }
+    }
+
+    @Test
+    public void vectorMatchesScalar() {
+        PoseKernel vector = PoseKernels.vector();
+        assertNotNull("jdk.incubator.vector module is not loaded", vector);
+        assertEquals(vector, PoseKernels.get());
+
+        Columns c = new Columns(random, ROWS);
+        UtmProjection projection = UtmProjection.zone(ZONE);
+        long[] expectedLat = new long[ROWS];
+        long[] expectedLon = new long[ROWS];
+        double[] expectedYaw = new double[ROWS];
+        PoseKernels.scalar().utmToLatLon(projection, c.x, c.y, ROWS, expectedLat, expectedLon);
+        PoseKernels.scalar().yawDegrees(c.qw, c.qx, c.qy, c.qz, ROWS, expectedYaw);
+
+        long[] lat = new long[ROWS];
+        long[] lon = new long[ROWS];
+        double[] yaw = new double[ROWS];
+        vector.utmToLatLon(projection, c.x, c.y, ROWS, lat, lon);
+        vector.yawDegrees(c.qw, c.qx, c.qy, c.qz, ROWS, yaw);
+
+        double[] degrees = new double[2];
+        int mismatches = 0;
+        for (int i = 0; i < ROWS; i++) {
+            if (lat[i] != expectedLat[i] || lon[i] != expectedLon[i]) {
+                projection.toLatLon(c.x[i], c.y[i], degrees, 0);
+                checkBoundary(i, degrees[0], lat[i], expectedLat[i]);
+                checkBoundary(i, degrees[1], lon[i], expectedLon[i]);
+                mismatches++;
+            }
+            if (Double.isNaN(expectedYaw[i])) {
+                assertTrue("row " + i, Double.isNaN(yaw[i]));
+            } else {
+                assertEquals("row " + i, expectedYaw[i], yaw[i], YAW_TOLERANCE);
+                assertTrue("row " + i, yaw[i] >= 0 && yaw[i] < 360);
+            }
+        }
+        assertTrue("E7 mismatches " + mismatches, mismatches < ROWS / 1_000);
+    }
+
+    @Test
+    public void partialColumns() {
+        Columns c = new Columns(random, 40);
+        for (PoseKernel kernel : kernels()) {
+            // n 뒤의 출력은 건드리지 않음
+            for (int n : new int[]{0, 1, 7, 17, 33}) {
+                long[] lat = new long[40];
+                long[] lon = new long[40];
+                double[] yaw = new double[40];
+                kernel.utmToLatLon(UtmProjection.zone(ZONE), c.x, c.y, n, lat, lon);
+                kernel.yawDegrees(c.qw, c.qx, c.qy, c.qz, n, yaw);
+                for (int i = n; i < 40; i++) {
+                    assertEquals(0, lat[i]);
+                    assertEquals(0, lon[i]);
+                    assertEquals(0, yaw[i], 0);
+                }
+            }
+            assertThrows(IndexOutOfBoundsException.class,
+                    () -> kernel.utmToLatLon(UtmProjection.zone(ZONE), c.x, c.y, 41, new long[41], new long[41]));
+            assertThrows(IndexOutOfBoundsException.class,
+                    () -> kernel.yawDegrees(c.qw, c.qx, c.qy, c.qz, 41, new double[41]));
+        }
+    }
+
+    @Test
+    public void yawQuadrants() {
+        // 축 방향 quaternion 은 두 구현 모두 정확히 0 / 90 / 180 / 270 도
+        double half = Math.sqrt(0.5);
+        double[] qw = {1, half, 0, half, 1, half, 0, half};
+        double[] qz = {0, half, 1, -half, 0, half, 1, -half};
+        double[] zero = new double[qw.length];
+        for (PoseKernel kernel : kernels()) {
+            double[] yaw = new double[qw.length];
+            kernel.yawDegrees(qw, zero, zero, qz, qw.length, yaw);
+            assertArrayEquals(kernel.name(), new double[]{0, 90, 180, 270, 0, 90, 180, 270}, yaw, 1e-12);
+        }
+    }
+
+    private static PoseKernel[] kernels() {
+        return PoseKernels.vector() == null
+                ? new PoseKernel[]{PoseKernels.scalar()}
+                : new PoseKernel[]{PoseKernels.scalar(), PoseKernels.vector()};
+    }
+
+    // 스칼라 결과와 다르면 1 차이이고 도 단위 값이 E7 경계 바로 옆인지 확인
+    private static void checkBoundary(int row, double degrees, long actual, long expected) {
+        if (actual == expected) {
+            return;
+        }
+        double e7 = degrees * UtmProjection.DEGREES_TO_E7;
+        String message = "row " + row + ": " + actual + " vs scalar " + expected + " (" + e7 + ")";
+        assertEquals(message, 1, Math.abs(actual - expected));
+        assertTrue(message, Math.abs(e7 - Math.rint(e7)) < E7_BOUNDARY_UNITS);
+    }
+
+    // 한국 52 zone 범위 좌표와 단위 quaternion 열, 100 행에 한 번 rotation 이 없는 행(NaN)
+    private static final class Columns {
+        final int n;
+        final double[] x;
+        final double[] y;
+        final double[] qw;
+        final double[] qx;
+        final double[] qy;
+        final double[] qz;
+
+        Columns(Random random, int n) {
+            this.n = n;
+            x = new double[n];
+            y = new double[n];
+            qw = new double[n];
+            qx = new double[n];
+            qy = new double[n];
+            qz = new double[n];
+            for (int i = 0; i < n; i++) {
+                x[i] = 180_000 + random.nextDouble() * 640_000;
+                y[i] = 3_650_000 + random.nextDouble() * 680_000;
+                if (i % 100 == 99) {
+                    qw[i] = qx[i] = qy[i] = qz[i] = Double.NaN;
+                    continue;
+                }
+                double w = random.nextGaussian();
+                double a = random.nextGaussian() * 0.05;
+                double b = random.nextGaussian() * 0.05;
+                double c = random.nextGaussian();
+                double norm = Math.sqrt(w * w + a * a + b * b + c * c);
+                qw[i] = w / norm;
+                qx[i] = a / norm;
+                qy[i] = b / norm;
+                qz[i] = c / norm;
+            }
+        }
+    }
+}
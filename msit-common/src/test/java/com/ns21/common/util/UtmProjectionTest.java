@@ -0,0 +1,158 @@
+package com.ns21.common.util;
+
+import org.junit.Test;
+import org.osgeo.proj4j.BasicCoordinateTransform;
+import org.osgeo.proj4j.CRSFactory;
+import org.osgeo.proj4j.CoordinateReferenceSystem;
+import org.osgeo.proj4j.ProjCoordinate;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * packageName    : com.ns21.common.util
+ * fileName       : UtmProjectionTest.java
+ * author         : kjg08
+ * date           : 2026-10-18
+ * description    :UtmProjection 정확도 확인 (proj4j EPSG:326xx → EPSG:4326 기준, 한국 51/52 zone)
+ *                 고정 seed 임의 좌표에서 최대 오차 1cm 미만, 1e-7 도 버림 결과가 proj4j 와 다른 경우는 E7 경계에 걸린 값의 1 차이뿐인지 확인
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18        kjg08           최초 생성
+ */
+public class UtmProjectionTest {
+    private static final int[] KOREAN_ZONES = {51, 52};
+    private static final int SAMPLES = 50_000;
+    private static final double METERS_PER_DEGREE = 111_320.0;
+    private static final double TOLERANCE_METERS = 0.01;
+    // proj4j 와 버림 결과가 달라도 되는 E7 경계까지의 거리 (0.01 단위 = 1e-9 도, 약 0.1mm)
+    private static final double E7_BOUNDARY_UNITS = 0.01;
+    private static final double MAX_E7_MISMATCH_RATIO = 0.001;
+
+    private final CRSFactory crsFactory = new CRSFactory();
+    private final CoordinateReferenceSystem latLon = crsFactory.createFromName("EPSG:4326");
+
+    @Test
+    public void matchesProj4jWithinTolerance() {
+        Random random = new Random(42);
+        for (int zone : KOREAN_ZONES) {
+            BasicCoordinateTransform transform = transform(zone);
+            UtmProjection projection = UtmProjection.zone(zone);
+            double maxError = 0;
+            int e7Mismatch = 0;
+            double[] degrees = new double[2];
+            long[] e7 = new long[2];
+            ProjCoordinate source = new ProjCoordinate();
+            ProjCoordinate target = new ProjCoordinate();
+            for (int i = 0; i < SAMPLES; i++) {
+                // 북위 33~39도, 중앙 경선 ±3.5도 범위
+                double x = 180_000 + random.nextDouble() * 640_000;
+                double y = 3_650_000 + random.nextDouble() * 680_000;
+                source.x = x;
+                source.y = y;
+                transform.transform(source, target);
+                projection.toLatLon(x, y, degrees, 0);
+                projection.toLatLon(x, y, e7, 0);
+
+                double dLat = (degrees[0] - target.y) * METERS_PER_DEGREE;
+                double dLon = (degrees[1] - target.x) * METERS_PER_DEGREE * Math.cos(Math.toRadians(target.y));
+                maxError = Math.max(maxError, Math.hypot(dLat, dLon));
+
+                // long 출력은 도 단위 출력을 1e-7 도 단위로 버린 값
+                assertEquals((long) (degrees[0] * 10_000_000), e7[0]);
+                assertEquals((long) (degrees[1] * 10_000_000), e7[1]);
+                e7Mismatch += checkTruncation(zone, target.y, e7[0]);
+                e7Mismatch += checkTruncation(zone, target.x, e7[1]);
+            }
+            assertTrue("zone " + zone + " max error " + maxError + " m", maxError < TOLERANCE_METERS);
+            // 경계에 걸리는 값은 0.02% 정도, 오차가 커지면 비율이 함께 늘어남
+            assertTrue("zone " + zone + " E7 mismatches " + e7Mismatch, e7Mismatch < SAMPLES * MAX_E7_MISMATCH_RATIO);
+        }
+    }
+
+    @Test
+    public void centralMeridianTruncatesToExactDegree() {
+        // proj4j 는 중앙 경선(x = 500000)에서 123.0 대신 122.99999999999999 를 돌려줘 버림하면 1229999999 가 됨
+        // UtmProjection 은 정확히 중앙 경선 값을 돌려주므로 1230000000
+        long[] e7 = new long[2];
+        double[] degrees = new double[2];
+        for (int zone : KOREAN_ZONES) {
+            long centralE7 = (zone * 6L - 183) * 10_000_000;
+            for (double y : new double[]{0, 3_650_000, 4_000_000, 4_330_000}) {
+                UtmProjection.zone(zone).toLatLon(500_000, y, e7, 0);
+                assertEquals("zone " + zone + " y " + y, centralE7, e7[1]);
+
+                UtmProjection.zone(zone).toLatLon(500_000, y, degrees, 0);
+                ProjCoordinate target = new ProjCoordinate();
+                transform(zone).transform(new ProjCoordinate(500_000, y), target);
+                assertEquals(target.y, degrees[0], 1e-9);
+                assertEquals(target.x, degrees[1], 1e-9);
+                assertTrue(Math.abs(centralE7 - (long) (target.x * 10_000_000)) <= 1);
+            }
+            // 적도는 위도 0
+            UtmProjection.zone(zone).toLatLon(500_000, 0, e7, 0);
+            assertEquals(0, e7[0]);
+        }
+    }
+
+    @Test
+    public void columnsMatchSingleConversion() {
+        Random random = new Random(7);
+        int n = 1_000;
+        double[] x = new double[n + 3];
+        double[] y = new double[n + 3];
+        for (int i = 0; i < n; i++) {
+            x[i] = 180_000 + random.nextDouble() * 640_000;
+            y[i] = 3_650_000 + random.nextDouble() * 680_000;
+        }
+        UtmProjection projection = UtmProjection.epsg(32652);
+        assertEquals(52, projection.getZone());
+        double[] lat = new double[n];
+        double[] lon = new double[n];
+        long[] latE7 = new long[n];
+        long[] lonE7 = new long[n];
+        projection.toLatLon(x, y, n, lat, lon);
+        projection.toLatLon(x, y, n, latE7, lonE7);
+
+        double[] expectedDegrees = new double[2];
+        long[] expectedE7 = new long[4];
+        for (int i = 0; i < n; i++) {
+            projection.toLatLon(x[i], y[i], expectedDegrees, 0);
+            projection.toLatLon(x[i], y[i], expectedE7, 2);
+            assertArrayEquals(expectedDegrees, new double[]{lat[i], lon[i]}, 0);
+            assertEquals(expectedE7[2], latE7[i]);
+            assertEquals(expectedE7[3], lonE7[i]);
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> projection.toLatLon(x, y, n + 1, lat, lon));
+    }
+
+    @Test
+    public void rejectsInvalidZones() {
+        assertThrows(IllegalArgumentException.class, () -> UtmProjection.zone(0));
+        assertThrows(IllegalArgumentException.class, () -> UtmProjection.zone(61));
+        assertThrows(IllegalArgumentException.class, () -> UtmProjection.epsg(32700));
+        assertThrows(IndexOutOfBoundsException.class, () -> UtmProjection.zone(51).toLatLon(0, 0, new long[2], 1));
+    }
+
+    // proj4j 값(도)을 버린 결과와 다르면 1 차이이고 proj4j 값이 E7 경계 바로 옆인지 확인, 다르면 1 반환
+    private static int checkTruncation(int zone, double referenceDegrees, long actual) {
+        double reference = referenceDegrees * 10_000_000;
+        long expected = (long) reference;
+        if (actual == expected) {
+            return 0;
+        }
+        String message = "zone " + zone + ": " + actual + " vs proj4j " + reference;
+        assertEquals(message, 1, Math.abs(actual - expected));
+        assertTrue(message, Math.abs(reference - Math.rint(reference)) < E7_BOUNDARY_UNITS);
+        return 1;
+    }
+
+    private BasicCoordinateTransform transform(int zone) {
+        return new BasicCoordinateTransform(crsFactory.createFromName("EPSG:326" + zone), latLon);
+    }
+}
@@ -0,0 +1,131 @@
+package com.ns21.common.util;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * packageName    : com.ns21.common.util
+ * fileName       : VectorPoseKernel.java
+ * author         : kjg08
+ * date           : 2026-10-18
+ * description    :PoseKernel 의 jdk.incubator.vector 구현 (CPU 가 지원하는 가장 넓은 double lane 수로 처리, 남는 행은 스칼라)
+ *                 계산 순서는 UtmProjection / ScalarPoseKernel 과 같지만 sin/cos/atan2 등 lane 연산은 Math 와 마지막 비트가 다를 수 있어
+ *                 1e-7 도 버림, 정수 반올림 경계에 걸린 값은 드물게 스칼라 결과와 1 차이 날 수 있음 (PoseKernelTest 에서 확인)
+ *                 --add-modules jdk.incubator.vector 로 실행할 때만 PoseKernels 가 로드
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18        kjg08           최초 생성
+ * 2026-10-18        kjg08           스칼라 비교를 PoseKernelTest 로 이동
+ * 2026-10-18        kjg08           남는 행의 yaw 를 MetaDataConvertUtil.yawDegrees 로 계산
+ */
+final class VectorPoseKernel implements PoseKernel {
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+    private static final double RADIANS_TO_DEGREES = 180.0 / Math.PI;
+
+    @Override
+    public String name() {
+        return "vector(" + SPECIES.length() + " lanes)";
+    }
+
+    @Override
+    public void utmToLatLon(UtmProjection projection, double[] x, double[] y, int n, long[] outLat, long[] outLon) {
+        checkColumns(n, x.length, y.length, outLat.length, outLon.length);
+        double[] beta = UtmProjection.BETA;
+        double[] delta = UtmProjection.DELTA;
+        double radius = UtmProjection.K0_RECTIFYING_RADIUS;
+        double centralMeridian = projection.centralMeridian();
+
+        int i = 0;
+        int upper = SPECIES.loopBound(n);
+        for (; i < upper; i += SPECIES.length()) {
+            DoubleVector xi = DoubleVector.fromArray(SPECIES, y, i).sub(UtmProjection.FALSE_NORTHING).div(radius);
+            DoubleVector eta = DoubleVector.fromArray(SPECIES, x, i).sub(UtmProjection.FALSE_EASTING).div(radius);
+
+            // ξ' = ξ - Σ β_j sin(2jξ) cosh(2jη), η' = η - Σ β_j cos(2jξ) sinh(2jη)
+            DoubleVector xi2 = xi.mul(2);
+            DoubleVector sin2 = xi2.lanewise(VectorOperators.SIN);
+            DoubleVector cos2 = xi2.lanewise(VectorOperators.COS);
+            DoubleVector exp2 = eta.mul(2).lanewise(VectorOperators.EXP);
+            DoubleVector inverseExp2 = exp2.broadcast(1).div(exp2);
+            DoubleVector sinh2 = exp2.sub(inverseExp2).div(2);
+            DoubleVector cosh2 = exp2.add(inverseExp2).div(2);
+            DoubleVector sin = sin2;
+            DoubleVector cos = cos2;
+            DoubleVector sinh = sinh2;
+            DoubleVector cosh = cosh2;
+            DoubleVector xiPrime = xi;
+            DoubleVector etaPrime = eta;
+            for (int j = 0; j < beta.length; j++) {
+                xiPrime = xiPrime.sub(sin.mul(beta[j]).mul(cosh));
+                etaPrime = etaPrime.sub(cos.mul(beta[j]).mul(sinh));
+                DoubleVector nextSin = sin.mul(cos2).add(cos.mul(sin2));
+                cos = cos.mul(cos2).sub(sin.mul(sin2));
+                sin = nextSin;
+                DoubleVector nextSinh = sinh.mul(cosh2).add(cosh.mul(sinh2));
+                cosh = cosh.mul(cosh2).add(sinh.mul(sinh2));
+                sinh = nextSinh;
+            }
+
+            // 등각위도 χ 에서 위도 φ = χ + Σ δ_j sin(2jχ)
+            DoubleVector expEta = etaPrime.lanewise(VectorOperators.EXP);
+            DoubleVector inverseExpEta = expEta.broadcast(1).div(expEta);
+            DoubleVector sinhEta = expEta.sub(inverseExpEta).div(2);
+            DoubleVector coshEta = expEta.add(inverseExpEta).div(2);
+            DoubleVector sinChi = xiPrime.lanewise(VectorOperators.SIN).div(coshEta);
+            DoubleVector sinChiSquared = sinChi.mul(sinChi);
+            DoubleVector chi = sinChi.lanewise(VectorOperators.ASIN);
+            DoubleVector sinChi2 = sinChi.mul(2).mul(sinChiSquared.neg().add(1).lanewise(VectorOperators.SQRT));
+            DoubleVector cosChi2 = sinChiSquared.mul(2).neg().add(1);
+            sin = sinChi2;
+            cos = cosChi2;
+            DoubleVector latitude = chi;
+            for (int j = 0; j < delta.length; j++) {
+                latitude = latitude.add(sin.mul(delta[j]));
+                DoubleVector nextSin = sin.mul(cosChi2).add(cos.mul(sinChi2));
+                cos = cos.mul(cosChi2).sub(sin.mul(sinChi2));
+                sin = nextSin;
+            }
+            DoubleVector longitude = sinhEta.lanewise(VectorOperators.ATAN2, xiPrime.lanewise(VectorOperators.COS))
+                    .add(centralMeridian);
+
+            ((LongVector) latitude.mul(RADIANS_TO_DEGREES).mul(UtmProjection.DEGREES_TO_E7)
+                    .convert(VectorOperators.D2L, 0)).intoArray(outLat, i);
+            ((LongVector) longitude.mul(RADIANS_TO_DEGREES).mul(UtmProjection.DEGREES_TO_E7)
+                    .convert(VectorOperators.D2L, 0)).intoArray(outLon, i);
+        }
+        for (; i < n; i++) {
+            projection.inverse(x[i], y[i], null, null, outLat, outLon, i, i);
+        }
+    }
+
+    @Override
+    public void yawDegrees(double[] qw, double[] qx, double[] qy, double[] qz, int n, double[] outDegrees) {
+        checkColumns(n, Math.min(qw.length, qx.length), Math.min(qy.length, qz.length), outDegrees.length, n);
+        int i = 0;
+        int upper = SPECIES.loopBound(n);
+        for (; i < upper; i += SPECIES.length()) {
+            DoubleVector w = DoubleVector.fromArray(SPECIES, qw, i);
+            DoubleVector x = DoubleVector.fromArray(SPECIES, qx, i);
+            DoubleVector y = DoubleVector.fromArray(SPECIES, qy, i);
+            DoubleVector z = DoubleVector.fromArray(SPECIES, qz, i);
+            DoubleVector t0 = w.mul(z).add(x.mul(y)).mul(2.0);
+            DoubleVector t1 = y.mul(y).add(z.mul(z)).mul(2.0).neg().add(1.0);
+            DoubleVector degrees = t0.lanewise(VectorOperators.ATAN2, t1).mul(RADIANS_TO_DEGREES);
+            degrees.add(360.0, degrees.lt(0)).intoArray(outDegrees, i);
+        }
+        for (; i < n; i++) {
+            outDegrees[i] = MetaDataConvertUtil.yawDegrees(qw[i], qx[i], qy[i], qz[i]);
+        }
+    }
+
+    private static void checkColumns(int n, int... lengths) {
+        for (int length : lengths) {
+            if (n < 0 || n > length) {
+                throw new IndexOutOfBoundsException("n " + n + " exceeds column length " + length);
+            }
+        }
+    }
+}